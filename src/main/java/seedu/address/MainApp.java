@@ -3,6 +3,13 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,6 +19,7 @@ import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
@@ -35,11 +43,15 @@ import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.addressbook.AddressBookStorage;
+import seedu.address.storage.addressbook.JournalAddressBookStorage;
 import seedu.address.storage.addressbook.XmlAddressBookStorage;
 import seedu.address.storage.expenses.ExpensesListStorage;
+import seedu.address.storage.expenses.JournalExpensesListStorage;
 import seedu.address.storage.expenses.XmlExpensesListStorage;
+import seedu.address.storage.recruitment.JournalRecruitmentListStorage;
 import seedu.address.storage.recruitment.RecruitmentListStorage;
 import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
+import seedu.address.storage.schedule.JournalScheduleListStorage;
 import seedu.address.storage.schedule.ScheduleListStorage;
 import seedu.address.storage.schedule.XmlScheduleListStorage;
 import seedu.address.storage.userpref.JsonUserPrefsStorage;
@@ -54,6 +66,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 0, 0, true);
 
+    private static final int STARTUP_LOADER_THREADS = 4;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -62,7 +76,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected CompletableFuture<Void> remainingListsLoaded;
 
+    private CompletableFuture<ReadOnlyExpensesList> expensesLoad;
+    private CompletableFuture<ReadOnlyScheduleList> scheduleLoad;
+    private CompletableFuture<ReadOnlyRecruitmentList> recruitmentLoad;
 
     @Override
     public void init() throws Exception {
@@ -76,21 +94,32 @@ public class MainApp extends Application {
         userPrefs = initPrefs(userPrefsStorage);
 
         //------------------------------------------------------------------
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ScheduleListStorage scheduleListStorage = new XmlScheduleListStorage(userPrefs.getScheduleListFilePath());
-        ExpensesListStorage expensesListStorage = new XmlExpensesListStorage(userPrefs.getExpensesListFilePath());
-        RecruitmentListStorage recruitmentListStorage = new XmlRecruitmentListStorage(
-                userPrefs.getRecruitmentListFilePath());
+        AddressBookStorage addressBookStorage;
+        ScheduleListStorage scheduleListStorage;
+        ExpensesListStorage expensesListStorage;
+        RecruitmentListStorage recruitmentListStorage;
+        if (userPrefs.isDataJournalEnabled()) {
+            addressBookStorage = new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+            scheduleListStorage = new JournalScheduleListStorage(userPrefs.getScheduleListFilePath());
+            expensesListStorage = new JournalExpensesListStorage(userPrefs.getExpensesListFilePath());
+            recruitmentListStorage = new JournalRecruitmentListStorage(userPrefs.getRecruitmentListFilePath());
+        } else {
+            addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+            scheduleListStorage = new XmlScheduleListStorage(userPrefs.getScheduleListFilePath());
+            expensesListStorage = new XmlExpensesListStorage(userPrefs.getExpensesListFilePath());
+            recruitmentListStorage = new XmlRecruitmentListStorage(userPrefs.getRecruitmentListFilePath());
+        }
 
         storage = new StorageManager(addressBookStorage, expensesListStorage, scheduleListStorage,
-                recruitmentListStorage, userPrefsStorage);
+                recruitmentListStorage, userPrefsStorage, userPrefs.getDataSaveDelay());
 
         //------------------------------------------------------------------
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, Platform::runLater);
+        remainingListsLoaded = initRemainingLists();
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -98,88 +127,150 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}, and
+     * starts loading the other lists of {@code storage}. <br>
+     * The four data files are read concurrently, and only the address book is waited for. The model starts with
+     * empty expenses, schedule and recruitment lists, which {@link #initRemainingLists()} fills in once
+     * {@code logic} exists.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyExpensesList> expensesListOptional;
-        Optional<ReadOnlyScheduleList> scheduleListOptional;
-        Optional<ReadOnlyRecruitmentList> recruitmentListOptional;
+        ExecutorService loader = Executors.newFixedThreadPool(STARTUP_LOADER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletableFuture<ReadOnlyAddressBook> addressBookLoad =
+                loadAsync("address book", () -> readAddressBook(storage), loader);
+        expensesLoad = loadAsync("expenses list", () -> readExpensesList(storage), loader);
+        scheduleLoad = loadAsync("schedule list", () -> readScheduleList(storage), loader);
+        recruitmentLoad = loadAsync("recruitment list", () -> readRecruitmentList(storage), loader);
+        loader.shutdown();
+
+        return new ModelManager(addressBookLoad.join(), new ExpensesList(), new ScheduleList(), new RecruitmentList(),
+                userPrefs);
+    }
+
+    /**
+     * Hands the other lists to the model as their loads finish, on the command thread so that commands entered in
+     * the meantime wait for them. Returns a future that completes once all of them are shown, or completes
+     * exceptionally if any of them failed to load.
+     */
+    private CompletableFuture<Void> initRemainingLists() {
+        return CompletableFuture.allOf(
+                loadRemainingList("expenses list", expensesLoad, Model::loadExpensesList,
+                        storage::disableExpensesListSaving),
+                loadRemainingList("schedule list", scheduleLoad, Model::loadScheduleList,
+                        storage::disableScheduleListSaving),
+                loadRemainingList("recruitment list", recruitmentLoad, Model::loadRecruitmentList,
+                        storage::disableRecruitmentListSaving));
+    }
+
+    /**
+     * Hands the list that {@code load} reads to the model through {@code setList}, on the command thread. <br>
+     * If the list cannot be loaded, the model keeps its empty list, so {@code disableSaving} is run before any
+     * later command can change it, to keep the empty list from being saved over the data file.
+     */
+    private <T> CompletableFuture<Void> loadRemainingList(String name, CompletableFuture<T> load,
+            BiConsumer<Model, T> setList, Runnable disableSaving) {
+        return logic.updateModelAsync(loadedModel -> {
+            try {
+                setList.accept(loadedModel, load.join());
+            } catch (Throwable e) {
+                logger.severe("Failed to load " + name + ", which will not be saved: " + StringUtil.getDetails(e));
+                disableSaving.run();
+                throw e;
+            }
+        });
+    }
 
-        ReadOnlyAddressBook initialData;
-        ReadOnlyExpensesList initialExpenses;
-        ReadOnlyScheduleList initialSchedule;
-        ReadOnlyRecruitmentList initialRecruitment;
+    /**
+     * Runs {@code read} on {@code loader} and logs how long it took.
+     */
+    private static <T> CompletableFuture<T> loadAsync(String name, Supplier<T> read, Executor loader) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            T data = read.get();
+            logger.info("Loaded " + name + " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+            return data;
+        }, loader);
+    }
 
+    /**
+     * Returns the address book of {@code storage}. <br>
+     * The sample address book is returned instead if the file is not found, or an empty address book if errors
+     * occur when reading it.
+     */
+    private static ReadOnlyAddressBook readAddressBook(Storage storage) {
         try {
-            addressBookOptional = storage.readAddressBook();
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-
+            return new AddressBook();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
+            return new AddressBook();
         }
+    }
 
+    /**
+     * Returns the expenses list of {@code storage}, or an empty list if the file is not found or cannot be read.
+     */
+    private static ReadOnlyExpensesList readExpensesList(Storage storage) {
         try {
-            expensesListOptional = storage.readExpensesList();
+            Optional<ReadOnlyExpensesList> expensesListOptional = storage.readExpensesList();
             if (!expensesListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample AddressBook");
-                initialExpenses = new ExpensesList();
-            } else {
-                initialExpenses = expensesListOptional.get();
             }
+            return expensesListOptional.orElseGet(ExpensesList::new);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialExpenses = new ExpensesList();
-
+            return new ExpensesList();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialExpenses = new ExpensesList();
+            return new ExpensesList();
         }
+    }
 
+    /**
+     * Returns the schedule list of {@code storage}, or an empty list if the file is not found or cannot be read.
+     */
+    private static ReadOnlyScheduleList readScheduleList(Storage storage) {
         try {
-            scheduleListOptional = storage.readScheduleList();
+            Optional<ReadOnlyScheduleList> scheduleListOptional = storage.readScheduleList();
             if (!scheduleListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a schedule List");
-                initialSchedule = new ScheduleList();
-            } else {
-                initialSchedule = scheduleListOptional.get();
             }
+            return scheduleListOptional.orElseGet(ScheduleList::new);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty ScheduleList");
-            initialSchedule = new ScheduleList();
-
+            return new ScheduleList();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty ScheduleList");
-            initialSchedule = new ScheduleList();
+            return new ScheduleList();
         }
+    }
 
+    /**
+     * Returns the recruitment list of {@code storage}, or an empty list if the file is not found or cannot be read.
+     */
+    private static ReadOnlyRecruitmentList readRecruitmentList(Storage storage) {
         try {
-            recruitmentListOptional = storage.readRecruitmentList();
+            Optional<ReadOnlyRecruitmentList> recruitmentListOptional = storage.readRecruitmentList();
             if (!recruitmentListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a recruitment List");
-                initialRecruitment = new RecruitmentList();
-            } else {
-                initialRecruitment = recruitmentListOptional.get();
             }
+            return recruitmentListOptional.orElseGet(RecruitmentList::new);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty RecruitmentList");
-            initialRecruitment = new RecruitmentList();
-
+            return new RecruitmentList();
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty RecruitmentList");
-            initialRecruitment = new RecruitmentList();
+            return new RecruitmentList();
         }
-
-        return new ModelManager(initialData, initialExpenses, initialSchedule, initialRecruitment, userPrefs);
     }
 
     private void initLogging(Config config) {
@@ -255,7 +346,7 @@ public class MainApp extends Application {
     }
 
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        EventsCenter.getInstance().registerHandler(this, DispatchPolicy.FX_THREAD);
     }
 
     @Override
@@ -268,6 +359,9 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flush();
+        EventsCenter.getInstance().getDispatchers().forEach(dispatcher -> logger.info("Events " + dispatcher));
+        storage.close();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -1,5 +1,6 @@
 package seedu.address.commons.core;
 
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
 import seedu.address.commons.events.BaseEvent;
 
 /**
@@ -18,8 +19,15 @@ public abstract class ComponentManager {
     }
 
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, DispatchPolicy.SYNCHRONOUS);
+    }
+
+    /**
+     * Registers the class' event handlers to be run as decided by {@code dispatchPolicy}.
+     */
+    public ComponentManager(EventsCenter eventsCenter, DispatchPolicy dispatchPolicy) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, dispatchPolicy);
     }
 
     protected void raise(BaseEvent event) {
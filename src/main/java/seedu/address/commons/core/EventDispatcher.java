@@ -0,0 +1,258 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import javafx.application.Platform;
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Delivers events to the subscribers registered with it, on the thread chosen when it is created.
+ * Events that none of its subscribers handle are dropped when dispatched, without being queued.
+ * Keeps counters of the events waiting to be handled and of the time spent handling events, which
+ * {@link #toString()} reports.
+ */
+public class EventDispatcher {
+
+    private final String name;
+    private final Executor executor;
+    private final Semaphore room;
+    private final EventBus eventBus;
+    private final Map<Object, Set<Class<?>>> subscribedTypes = new IdentityHashMap<>();
+    private final Map<Class<?>, Boolean> isSubscribedCache = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder handledCount = new LongAdder();
+    private final LongAdder handlerNanos = new LongAdder();
+    private volatile Thread dispatchThread;
+
+    private EventDispatcher(String name, Executor executor, Semaphore room) {
+        this.name = requireNonNull(name);
+        this.executor = executor;
+        this.room = room;
+        this.eventBus = new EventBus(name);
+    }
+
+    /**
+     * Returns a dispatcher that delivers each event on the thread posting it, before the post returns.
+     */
+    public static EventDispatcher synchronous(String name) {
+        return new EventDispatcher(name, Runnable::run, null);
+    }
+
+    /**
+     * Returns a dispatcher that delivers events in the order they are posted on a thread of its own.
+     * At most {@code capacity} events wait to be delivered; posting another blocks until there is room, so a
+     * subscriber that cannot keep up slows the posting threads down instead of using up memory. Events posted by
+     * its own subscribers are queued without waiting, as the thread that would make room is the one posting.
+     */
+    public static EventDispatcher onDedicatedThread(String name, int capacity) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        EventDispatcher dispatcher = new EventDispatcher(name, pool, new Semaphore(capacity));
+        pool.setThreadFactory(runnable -> {
+            Thread thread = new Thread(runnable, "events-" + name);
+            thread.setDaemon(true);
+            dispatcher.dispatchThread = thread;
+            return thread;
+        });
+        return dispatcher;
+    }
+
+    /**
+     * Returns a dispatcher that delivers events on the JavaFX Application Thread. An event posted on that thread is
+     * delivered before the post returns.
+     */
+    public static EventDispatcher onFxThread(String name) {
+        return new EventDispatcher(name, task -> {
+            if (Platform.isFxApplicationThread()) {
+                task.run();
+            } else {
+                Platform.runLater(task);
+            }
+        }, null);
+    }
+
+    /**
+     * Registers the handlers of {@code subscriber}, the methods annotated with {@code Subscribe}.
+     */
+    public synchronized void register(Object subscriber) {
+        eventBus.register(subscriber);
+        subscribedTypes.put(subscriber, getSubscribedTypes(subscriber.getClass()));
+        isSubscribedCache.clear();
+    }
+
+    /**
+     * Unregisters the handlers of {@code subscriber}.
+     */
+    public synchronized void unregister(Object subscriber) {
+        if (subscribedTypes.remove(subscriber) == null) {
+            return;
+        }
+        eventBus.unregister(subscriber);
+        isSubscribedCache.clear();
+    }
+
+    public synchronized boolean isRegistered(Object subscriber) {
+        return subscribedTypes.containsKey(subscriber);
+    }
+
+    /**
+     * Returns true if a subscriber of this dispatcher handles events of {@code eventType}.
+     */
+    public boolean hasSubscriberFor(Class<?> eventType) {
+        Boolean isSubscribed = isSubscribedCache.get(eventType);
+        if (isSubscribed == null) {
+            synchronized (this) {
+                isSubscribed = subscribedTypes.values().stream().flatMap(Set::stream)
+                        .anyMatch(type -> type.isAssignableFrom(eventType));
+            }
+            isSubscribedCache.put(eventType, isSubscribed);
+        }
+        return isSubscribed;
+    }
+
+    /**
+     * Returns the event types handled by the methods of {@code subscriberClass} and its superclasses.
+     */
+    private static Set<Class<?>> getSubscribedTypes(Class<?> subscriberClass) {
+        Set<Class<?>> types = new HashSet<>();
+        for (Class<?> c = subscriberClass; c != null; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && method.getParameterCount() == 1) {
+                    types.add(method.getParameterTypes()[0]);
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Delivers {@code event} to the subscribers of its type. Does nothing if there are none.
+     */
+    public void dispatch(BaseEvent event) {
+        if (!hasSubscriberFor(event.getClass())) {
+            return;
+        }
+
+        queueDepth.incrementAndGet();
+        boolean isTakingRoom = room != null && Thread.currentThread() != dispatchThread;
+        if (isTakingRoom) {
+            waitForRoom();
+        }
+        try {
+            executor.execute(() -> {
+                queueDepth.decrementAndGet();
+                if (isTakingRoom) {
+                    room.release();
+                }
+                long start = System.nanoTime();
+                try {
+                    eventBus.post(event);
+                } finally {
+                    handlerNanos.add(System.nanoTime() - start);
+                    handledCount.increment();
+                }
+            });
+        } catch (RejectedExecutionException ree) {
+            // shut down while dispatching, so there is no subscriber left to deliver to
+            queueDepth.decrementAndGet();
+            if (isTakingRoom) {
+                room.release();
+            }
+        }
+    }
+
+    /**
+     * Blocks the calling thread until fewer than the capacity of this dispatcher's queue are waiting.
+     */
+    private void waitForRoom() {
+        try {
+            room.acquire();
+        } catch (InterruptedException ie) {
+            queueDepth.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting to queue an event", ie);
+        }
+    }
+
+    /**
+     * Stops the thread of this dispatcher once the events already dispatched have been delivered. Events
+     * dispatched afterwards are dropped.
+     */
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ExecutorService pool = (ExecutorService) executor;
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Blocks until every event dispatched so far has been delivered.
+     * Returns immediately if called by a subscriber of this dispatcher, which would otherwise wait for itself.
+     */
+    public void awaitDelivery() {
+        if (Thread.currentThread() == dispatchThread) {
+            return;
+        }
+        CountDownLatch delivered = new CountDownLatch(1);
+        try {
+            try {
+                executor.execute(delivered::countDown);
+            } catch (RejectedExecutionException ree) {
+                // shut down, so the thread stops once every event dispatched so far has been delivered
+                ExecutorService pool = (ExecutorService) executor;
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                return;
+            }
+            delivered.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of events dispatched but not yet being delivered.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    public long getHandledCount() {
+        return handledCount.sum();
+    }
+
+    /**
+     * Returns the total time spent delivering events to the subscribers, in {@code unit}.
+     */
+    public long getHandlerTime(TimeUnit unit) {
+        return unit.convert(handlerNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + getHandledCount() + " events handled in " + getHandlerTime(TimeUnit.MILLISECONDS)
+                + " ms, " + getQueueDepth() + " waiting";
+    }
+}
@@ -1,21 +1,44 @@
 package seedu.address.commons.core;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Logger;
 
-import com.google.common.eventbus.EventBus;
-
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ * Each subscriber is registered with a {@link DispatchPolicy}, which decides the thread its handlers run on, so
+ * that slow subscribers such as storage do not hold up the thread posting an event. An event is only passed to the
+ * dispatchers with a subscriber for it, so it never waits behind the queue of a subscriber that ignores it.
  */
 public class EventsCenter {
+
+    /**
+     * Where the handlers of a subscriber are run.
+     */
+    public enum DispatchPolicy {
+        /** On the thread posting the event, before the post returns. */
+        SYNCHRONOUS,
+        /** In posting order, on a thread used by this subscriber only. */
+        DEDICATED_THREAD,
+        /** On the JavaFX Application Thread. */
+        FX_THREAD
+    }
+
+    public static final int DEDICATED_QUEUE_CAPACITY = 1024;
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
-    private final EventBus eventBus;
+
+    private final EventDispatcher synchronousDispatcher = EventDispatcher.synchronous("synchronous");
+    private final List<EventDispatcher> dispatchers = new CopyOnWriteArrayList<>();
+    private final List<EventDispatcher> dedicatedDispatchers = new CopyOnWriteArrayList<>();
+    private EventDispatcher fxThreadDispatcher;
 
     private EventsCenter() {
-        eventBus = new EventBus();
+        dispatchers.add(synchronousDispatcher);
     }
 
     public static EventsCenter getInstance() {
@@ -25,21 +48,90 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Removes every subscriber, stopping the threads of those registered with {@code DEDICATED_THREAD}.
+     */
     public static void clearSubscribers() {
+        if (instance != null) {
+            instance.dedicatedDispatchers.forEach(EventDispatcher::shutdown);
+        }
         instance = null;
     }
 
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        registerHandler(handler, DispatchPolicy.SYNCHRONOUS);
+    }
+
+    /**
+     * Registers the handlers of {@code handler} to be run as decided by {@code policy}.
+     */
+    public synchronized void registerHandler(Object handler, DispatchPolicy policy) {
+        switch (policy) {
+        case SYNCHRONOUS:
+            synchronousDispatcher.register(handler);
+            break;
+        case DEDICATED_THREAD:
+            EventDispatcher dedicatedDispatcher = EventDispatcher.onDedicatedThread(
+                    handler.getClass().getSimpleName(), DEDICATED_QUEUE_CAPACITY);
+            dedicatedDispatcher.register(handler);
+            dispatchers.add(dedicatedDispatcher);
+            dedicatedDispatchers.add(dedicatedDispatcher);
+            break;
+        case FX_THREAD:
+            if (fxThreadDispatcher == null) {
+                fxThreadDispatcher = EventDispatcher.onFxThread("fx");
+                dispatchers.add(fxThreadDispatcher);
+            }
+            fxThreadDispatcher.register(handler);
+            break;
+        default:
+            throw new AssertionError("Unknown dispatch policy: " + policy);
+        }
+    }
+
+    /**
+     * Unregisters the handlers of {@code handler}. If it was registered with {@code DEDICATED_THREAD}, its thread
+     * stops once the events already posted to it have been handled.
+     */
+    public synchronized void unregisterHandler(Object handler) {
+        for (EventDispatcher dispatcher : dispatchers) {
+            if (!dispatcher.isRegistered(handler)) {
+                continue;
+            }
+            if (dedicatedDispatchers.remove(dispatcher)) {
+                dispatchers.remove(dispatcher);
+                dispatcher.shutdown();
+            } else {
+                dispatcher.unregister(handler);
+            }
+        }
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        logger.fine(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        for (EventDispatcher dispatcher : dispatchers) {
+            dispatcher.dispatch(event);
+        }
         return this;
     }
 
+    /**
+     * Blocks until the events posted so far have been handled by the subscribers on dedicated threads.
+     */
+    public void awaitDedicatedHandlers() {
+        for (EventDispatcher dispatcher : dedicatedDispatchers) {
+            dispatcher.awaitDelivery();
+        }
+    }
+
+    /**
+     * Returns the dispatchers of the registered subscribers, whose counters show how long their handlers take.
+     */
+    public List<EventDispatcher> getDispatchers() {
+        return Collections.unmodifiableList(dispatchers);
+    }
+
 }
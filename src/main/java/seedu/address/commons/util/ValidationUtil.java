@@ -0,0 +1,106 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Validates the text of model values.
+ * {@code String#matches(String)} compiles its regex again on every call, so regexes are compiled once by
+ * {@link #compile(String)} instead, and the formats validated for every record loaded (digits, letters and amounts)
+ * are checked by scanning the characters without any regex.
+ */
+public class ValidationUtil {
+
+    private static final int DECIMAL_PLACES = 2;
+
+    /**
+     * Returns a predicate that is true for a string matching the whole of {@code regex}.
+     * The regex is compiled once, when this method is called.
+     */
+    public static Predicate<String> compile(String regex) {
+        requireNonNull(regex);
+        Pattern pattern = Pattern.compile(regex);
+        return test -> pattern.matcher(test).matches();
+    }
+
+    /**
+     * Returns true if {@code test} is {@code minLength} to {@code maxLength} digits 0 to 9.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is {@code minLength} to {@code maxLength} letters A to Z, in either case, and
+     * spaces.
+     */
+    public static boolean isLettersOrSpaces(String test, int minLength, int maxLength) {
+        int length = test.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char character = test.charAt(i);
+            if (!(character >= 'A' && character <= 'Z' || character >= 'a' && character <= 'z' || character == ' ')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is an amount of an optional minus sign, 1 to {@code maxWholeDigits} digits and
+     * optionally a point followed by 1 or 2 digits, e.g. "-10.5".
+     */
+    public static boolean isAmount(String test, int maxWholeDigits) {
+        return isAmount(test, 0, maxWholeDigits);
+    }
+
+    /**
+     * Returns true if {@code test} from {@code fromIndex} onwards is an amount as in {@link #isAmount(String, int)}.
+     */
+    public static boolean isAmount(String test, int fromIndex, int maxWholeDigits) {
+        int length = test.length();
+        int position = fromIndex;
+        if (position < length && test.charAt(position) == '-') {
+            position++;
+        }
+
+        int wholeStart = position;
+        while (position < length && isDigit(test.charAt(position))) {
+            position++;
+        }
+        int wholeDigits = position - wholeStart;
+        if (wholeDigits < 1 || wholeDigits > maxWholeDigits) {
+            return false;
+        }
+        if (position == length) {
+            return true;
+        }
+
+        if (test.charAt(position) != '.') {
+            return false;
+        }
+        int decimalStart = ++position;
+        while (position < length && isDigit(test.charAt(position))) {
+            position++;
+        }
+        int decimalPlaces = position - decimalStart;
+        return position == length && decimalPlaces >= 1 && decimalPlaces <= DECIMAL_PLACES;
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+}
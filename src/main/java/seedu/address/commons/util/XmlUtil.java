@@ -2,20 +2,72 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
 
 /**
  * Helps with reading from and writing to XML files.
+ * The {@code JAXBContext} of each class is created once and reused, as creating one is far slower than using it.
  */
 public class XmlUtil {
 
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final byte[] ELEMENT_INDENT = toUtf8("    ");
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Handles an element read from an xml file.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T, E extends Exception> {
+        /**
+         * Handles {@code element}, which is not used by the reader afterwards.
+         */
+        void handle(T element) throws E;
+    }
+
+    /**
+     * The class of a root element that keeps the elements it holds in a list, which can be replaced before the
+     * elements are read.
+     */
+    public interface ElementContainer<T> {
+        /**
+         * Makes {@code elements} the list that the elements read into this object are added to.
+         */
+        void readElementsInto(List<T> elements);
+    }
+
+    /**
+     * Returns the context of {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,12 +89,51 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
     }
 
+    /**
+     * Reads the file into an object of {@code rootClass}, passing each element that the object would keep in its
+     * list to {@code handler} as soon as the element is read, instead of adding it to the list. Only the element
+     * being handled is held in memory.
+     *
+     * @param file      Points to a valid xml file containing data that match the {@code rootClass}. Cannot be null.
+     * @param rootClass The class corresponding to the root element of the file.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     */
+    public static <T, E extends Exception> void readElementsFromFile(Path file,
+            Class<? extends ElementContainer<T>> rootClass, ElementHandler<? super T, E> handler)
+            throws FileNotFoundException, JAXBException, E {
+
+        requireNonNull(file);
+        requireNonNull(rootClass);
+        requireNonNull(handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        HandlingList<T> elements = new HandlingList<>(handler);
+        Unmarshaller um = getContext(rootClass).createUnmarshaller();
+        um.setListener(new Unmarshaller.Listener() {
+            @Override
+            public void beforeUnmarshal(Object target, Object parent) {
+                if (parent == null && rootClass.isInstance(target)) {
+                    rootClass.cast(target).readElementsInto(elements);
+                }
+            }
+        });
+
+        try {
+            um.unmarshal(file.toFile());
+        } catch (HandlerFailure hf) {
+            throw elements.<E>getFailure(hf);
+        }
+    }
+
     /**
      * Saves the data in the file in xml format.
      *
@@ -61,11 +152,112 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Saves {@code elements} in the file as {@code elementName} elements of a {@code rootName} root element, in the
+     * order {@code elements} returns them. Each element is written as soon as it is returned, one per line, so the
+     * elements need not all exist at the same time.
+     * The elements are written to a temporary file that then replaces the file, so a save that fails part way leaves
+     * the file as it was.
+     *
+     * @param file Points to an existing file. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the file.
+     * @throws JAXBException         Thrown if there is an error during converting an element into xml.
+     */
+    public static <T> void saveElementsToFile(Path file, String rootName, String elementName, Class<T> elementClass,
+            Iterator<? extends T> elements) throws IOException, JAXBException {
+
+        requireNonNull(file);
+        requireNonNull(elementClass);
+        requireNonNull(elements);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        QName elementQName = new QName(elementName);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        boolean isWritten = false;
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                out.write(toUtf8(XML_DECLARATION + "\n<" + rootName + ">\n"));
+                while (elements.hasNext()) {
+                    out.write(ELEMENT_INDENT);
+                    m.marshal(new JAXBElement<>(elementQName, elementClass, elements.next()), out);
+                    out.write('\n');
+                }
+                out.write(toUtf8("</" + rootName + ">\n"));
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            isWritten = true;
+        } finally {
+            if (!isWritten) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+    }
+
+    private static byte[] toUtf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A list that passes the elements added to it to a handler instead of keeping them.
+     */
+    private static class HandlingList<T> extends AbstractList<T> {
+        private final ElementHandler<? super T, ?> handler;
+
+        HandlingList(ElementHandler<? super T, ?> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public boolean add(T element) {
+            try {
+                handler.handle(element);
+            } catch (RuntimeException re) {
+                throw re;
+            } catch (Exception e) {
+                throw new HandlerFailure(e);
+            }
+            return true;
+        }
+
+        @Override
+        public T get(int index) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        /**
+         * Returns the checked exception that the handler threw, which is an {@code E} as the handler can throw no
+         * other checked exception.
+         */
+        @SuppressWarnings("unchecked")
+        <E extends Exception> E getFailure(HandlerFailure failure) {
+            return (E) failure.getCause();
+        }
+    }
+
+    /**
+     * Carries a checked exception thrown by an {@code ElementHandler} out of the unmarshaller.
+     */
+    private static class HandlerFailure extends RuntimeException {
+        HandlerFailure(Exception cause) {
+            super(cause);
+        }
+    }
+
 }
@@ -1,9 +1,13 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.person.Person;
 import seedu.address.model.recruitment.Recruitment;
@@ -22,6 +26,22 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command thread and returns a future of its result.
+     * Commands are executed one at a time, in the order they are given, and the lists returned by this {@code Logic}
+     * are updated before the future completes.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, completed exceptionally with a {@code CommandException} or a
+     *     {@code ParseException} if the command fails.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Runs {@code update} on the model on the command thread, in turn with the commands, and returns a future that
+     * completes once the lists returned by this {@code Logic} show its changes.
+     */
+    CompletableFuture<Void> updateModelAsync(Consumer<Model> update);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Expenses> getFilteredExpensesList();
 
@@ -1,5 +1,10 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,6 +23,9 @@ import seedu.address.model.schedule.Schedule;
 
 /**
  * The main LogicManager of the app.
+ * Commands given to {@link #executeAsync(String)} are executed one at a time on a single command thread, so that a
+ * long command does not hold up the UI thread. The lists given to the UI are copies that are updated through the UI
+ * executor after each command.
  */
 public class LogicManager extends ComponentManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
@@ -25,11 +33,35 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final ExecutorService commandExecutor;
+    private final UiListMirror<Expenses> filteredExpenses;
+    private final UiListMirror<Person> filteredPersons;
+    private final UiListMirror<Schedule> filteredSchedules;
+    private final UiListMirror<Recruitment> filteredRecruitment;
 
+    /**
+     * Creates a {@code LogicManager} whose lists are updated on the thread executing the command.
+     */
     public LogicManager(Model model) {
+        this(model, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code LogicManager} whose lists are updated by running tasks on {@code uiExecutor}.
+     */
+    public LogicManager(Model model, Executor uiExecutor) {
         this.model = model;
         history = new CommandHistory();
         addressBookParser = new AddressBookParser();
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        filteredExpenses = new UiListMirror<>(model.getFilteredExpensesList(), uiExecutor);
+        filteredPersons = new UiListMirror<>(model.getFilteredPersonList(), uiExecutor);
+        filteredSchedules = new UiListMirror<>(model.getFilteredScheduleList(), uiExecutor);
+        filteredRecruitment = new UiListMirror<>(model.getFilteredRecruitmentList(), uiExecutor);
     }
 
     @Override
@@ -40,26 +72,69 @@ public class LogicManager extends ComponentManager implements Logic {
             return command.execute(model, history);
         } finally {
             history.add(commandText);
+            publishLists();
         }
     }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (Throwable e) {
+                // errors such as a failed assertion complete the result too, or the UI would wait for it forever
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<Void> updateModelAsync(Consumer<Model> update) {
+        return CompletableFuture.runAsync(() -> updateModel(update), commandExecutor);
+    }
+
+    /**
+     * Runs {@code update} on the model, then publishes the lists even if it fails part way.
+     */
+    private void updateModel(Consumer<Model> update) {
+        try {
+            update.accept(model);
+        } finally {
+            publishLists();
+        }
+    }
+
+    /**
+     * Hands the changes made to the model lists over to the copies given to the UI.
+     */
+    private void publishLists() {
+        filteredExpenses.publish();
+        filteredPersons.publish();
+        filteredSchedules.publish();
+        filteredRecruitment.publish();
+    }
+
     @Override
     public ObservableList<Expenses> getFilteredExpensesList() {
-        return model.getFilteredExpensesList();
+        return filteredExpenses.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return filteredPersons.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Schedule> getFilteredScheduleList() {
-        return model.getFilteredScheduleList();
+        return filteredSchedules.asUnmodifiableObservableList();
     }
 
     @Override
     public ObservableList<Recruitment> getFilteredRecruitmentList() {
-        return model.getFilteredRecruitmentList(); }
+        return filteredRecruitment.asUnmodifiableObservableList();
+    }
 
     @Override
     public ListElementPointer getHistorySnapshot() {
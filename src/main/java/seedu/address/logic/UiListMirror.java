@@ -0,0 +1,60 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.util.ObservableListAdapter;
+
+/**
+ * A copy of a model list for the UI to observe.
+ * The model list is changed by the thread executing commands, so the UI is given this copy instead, which is only
+ * changed on the UI thread. After each command, {@link #publish()} hands the contents of the model list over to the
+ * UI thread, where only the range of the copy that differs from them is replaced, in a single change.
+ */
+class UiListMirror<T> {
+
+    private final ObservableList<T> source;
+    private final Executor uiExecutor;
+    // only accessed on the UI thread
+    private final List<T> contents;
+    private final ObservableListAdapter<T> mirror;
+
+    // only accessed by the thread changing the source
+    private boolean isSourceChanged;
+
+    /**
+     * Creates a copy of {@code source} that is updated by running tasks on {@code uiExecutor}.
+     */
+    UiListMirror(ObservableList<T> source, Executor uiExecutor) {
+        this.source = source;
+        this.uiExecutor = uiExecutor;
+        contents = new ArrayList<>(source);
+        mirror = new ObservableListAdapter<>(contents);
+        mirror.asUnmodifiableObservableList();
+        source.addListener((ListChangeListener<T>) unused -> isSourceChanged = true);
+    }
+
+    ObservableList<T> asUnmodifiableObservableList() {
+        return mirror.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Replaces the copy with the contents of the source on the UI thread, if the source changed since the last call.
+     * Must be called on the thread changing the source.
+     */
+    void publish() {
+        if (!isSourceChanged) {
+            return;
+        }
+        isSourceChanged = false;
+        List<T> snapshot = new ArrayList<>(source);
+        uiExecutor.execute(() -> {
+            contents.clear();
+            contents.addAll(snapshot);
+            mirror.publish();
+        });
+    }
+}
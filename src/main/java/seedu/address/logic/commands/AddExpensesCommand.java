@@ -8,10 +8,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 import seedu.address.logic.CommandHistory;
@@ -19,7 +15,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
-import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ExpensesAmount;
 import seedu.address.model.expenses.MedicalExpenses;
@@ -27,6 +22,7 @@ import seedu.address.model.expenses.MiscellaneousExpenses;
 import seedu.address.model.expenses.TravelExpenses;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.Money;
 
 /**
  * Adds an expense to the Expenses List.
@@ -53,8 +49,8 @@ public class AddExpensesCommand extends Command {
             + "miscellaneous expenses cannot exceed 999999.99";
     public static final String MESSAGE_EMPLOYEE_ID_NOT_FOUND = "Employee Id not found in CHRS";
 
-    public static final double MAX_EXPENSES_AMOUNT = 999999.99;
-    public static final double MAX_TOTAL_EXPENSES = 9999999.99;
+    public static final Money MAX_EXPENSES_AMOUNT = Money.parse("999999.99");
+    public static final Money MAX_TOTAL_EXPENSES = Money.parse("9999999.99");
 
     private Boolean isNegativeLeftover;
     private Boolean isOverLimit;
@@ -63,35 +59,15 @@ public class AddExpensesCommand extends Command {
     private final EditExpensesDescriptor editExpensesDescriptor;
 
     public AddExpensesCommand(Expenses expenses, EditExpensesDescriptor editExpensesDescriptor) {
-        Expenses toAddFormatExpenses;
-        ExpensesAmount formattedExpenses = null;
-        TravelExpenses formattedTravelExpenses = null;
-        MedicalExpenses formattedMedicalExpenses = null;
-        MiscellaneousExpenses formattedMiscellaneousExpenses = null;
         requireNonNull(expenses);
         requireNonNull(editExpensesDescriptor);
 
-        toAddFormatExpenses = expenses;
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String formatExpenses = toAddFormatExpenses.getExpensesAmount().toString();
-        String formatTravelExpenses = toAddFormatExpenses.getTravelExpenses().toString();
-        String formatMedicalExpenses = toAddFormatExpenses.getMedicalExpenses().toString();
-        String formatMiscellaneousExpenses = toAddFormatExpenses.getMiscellaneousExpenses().toString();
-        try {
-            formattedTravelExpenses = ParserUtil.parseTravelExpenses(
-                    String.valueOf(formatter.format(Double.parseDouble(formatTravelExpenses))));
-            formattedMedicalExpenses = ParserUtil.parseMedicalExpenses(
-                    String.valueOf(formatter.format(Double.parseDouble(formatMedicalExpenses))));
-            formattedMiscellaneousExpenses = ParserUtil.parseMiscellaneousExpenses(
-                    String.valueOf(formatter.format(Double.parseDouble(formatMiscellaneousExpenses))));
-            formattedExpenses = ParserUtil.parseExpensesAmount(
-                    String.valueOf(formatter.format(Double.parseDouble(formatExpenses))));
-        } catch (ParseException pe) {
-            pe.printStackTrace();
-        }
-        EmployeeId addEmployeeId = toAddFormatExpenses.getEmployeeId();
-        toAddExpenses = new Expenses (addEmployeeId, formattedExpenses, formattedTravelExpenses,
-                formattedMedicalExpenses, formattedMiscellaneousExpenses);
+        // the amounts are kept with 2 decimal places
+        toAddExpenses = new Expenses(expenses.getEmployeeId(),
+                new ExpensesAmount(expenses.getExpensesAmount().getAmount().toString()),
+                new TravelExpenses(expenses.getTravelExpenses().getAmount().toString()),
+                new MedicalExpenses(expenses.getMedicalExpenses().getAmount().toString()),
+                new MiscellaneousExpenses(expenses.getMiscellaneousExpenses().getAmount().toString()));
         toCheckEmployeeId = new Person(expenses.getEmployeeId());
         this.editExpensesDescriptor = new EditExpensesDescriptor(editExpensesDescriptor);
         isNegativeLeftover = false;
@@ -104,42 +80,16 @@ public class AddExpensesCommand extends Command {
         if (!model.hasEmployeeId(toCheckEmployeeId)) {
             throw new CommandException(MESSAGE_EMPLOYEE_ID_NOT_FOUND);
         } else if (!model.hasExpenses(toAddExpenses)) {
-            if (Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) < 0
-                || Double.parseDouble(toAddExpenses.getTravelExpenses().toString()) < 0
-                || Double.parseDouble(toAddExpenses.getMedicalExpenses().toString()) < 0
-                || Double.parseDouble(toAddExpenses.getMiscellaneousExpenses().toString()) < 0) {
+            if (hasNegativeAmount(toAddExpenses)) {
                 throw new CommandException(MESSAGE_NEGATIVE_LEFTOVER);
-            } else if (Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) > MAX_TOTAL_EXPENSES
-                || Double.parseDouble(toAddExpenses.getTravelExpenses().toString()) > MAX_EXPENSES_AMOUNT
-                || Double.parseDouble(toAddExpenses.getMedicalExpenses().toString()) > MAX_EXPENSES_AMOUNT
-                || Double.parseDouble(toAddExpenses.getMiscellaneousExpenses().toString()) > MAX_EXPENSES_AMOUNT
-            ) {
+            } else if (hasAmountOverLimit(toAddExpenses)) {
                 throw new CommandException(MESSAGE_VALUE_OVER_LIMIT);
-            } else if (Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) >= 0
-                    && Double.parseDouble(toAddExpenses.getTravelExpenses().toString()) >= 0
-                    && Double.parseDouble(toAddExpenses.getMedicalExpenses().toString()) >= 0
-                    && Double.parseDouble(toAddExpenses.getMiscellaneousExpenses().toString()) >= 0
-                    && Double.parseDouble(toAddExpenses.getExpensesAmount().toString()) <= MAX_TOTAL_EXPENSES
-                    && Double.parseDouble(toAddExpenses.getTravelExpenses().toString()) <= MAX_EXPENSES_AMOUNT
-                    && Double.parseDouble(toAddExpenses.getMedicalExpenses().toString()) <= MAX_EXPENSES_AMOUNT
-                    && Double.parseDouble(toAddExpenses.getMiscellaneousExpenses().toString()) <= MAX_EXPENSES_AMOUNT
-            ) {
-                model.addExpenses(toAddExpenses);
-                model.commitExpensesList();
-                messageToShow = MESSAGE_SUCCESS;
             }
+            model.addExpenses(toAddExpenses);
+            model.commitExpensesList();
+            messageToShow = MESSAGE_SUCCESS;
         } else if (model.hasExpenses(toAddExpenses)) {
-            EmployeeIdExpensesContainsKeywordsPredicate predicatEmployeeId;
-            List<String> employeeIdList = new ArrayList<>();
-            List<Expenses> lastShownListExpenses;
-
-            employeeIdList.add(toCheckEmployeeId.getEmployeeId().value);
-            predicatEmployeeId = new EmployeeIdExpensesContainsKeywordsPredicate(employeeIdList);
-
-            model.updateFilteredExpensesList(predicatEmployeeId);
-            lastShownListExpenses = model.getFilteredExpensesList();
-
-            Expenses expensesToEdit = lastShownListExpenses.get(0);
+            Expenses expensesToEdit = model.getExpensesOf(toCheckEmployeeId.getEmployeeId()).get();
             Expenses editedExpenses = createEditedExpenses(expensesToEdit, editExpensesDescriptor);
 
             if (getIsNegativeLeftover()) {
@@ -189,26 +139,35 @@ public class AddExpensesCommand extends Command {
                 updatedMiscellaneousExpenses);
     }
 
+    /**
+     * Returns true if any amount of {@code expenses} is negative.
+     */
+    private static boolean hasNegativeAmount(Expenses expenses) {
+        return expenses.getExpensesAmount().getAmount().signum() < 0
+                || expenses.getTravelExpenses().getAmount().signum() < 0
+                || expenses.getMedicalExpenses().getAmount().signum() < 0
+                || expenses.getMiscellaneousExpenses().getAmount().signum() < 0;
+    }
+
+    /**
+     * Returns true if any amount of {@code expenses} is over its limit.
+     */
+    private static boolean hasAmountOverLimit(Expenses expenses) {
+        return expenses.getExpensesAmount().getAmount().compareTo(MAX_TOTAL_EXPENSES) > 0
+                || expenses.getTravelExpenses().getAmount().compareTo(MAX_EXPENSES_AMOUNT) > 0
+                || expenses.getMedicalExpenses().getAmount().compareTo(MAX_EXPENSES_AMOUNT) > 0
+                || expenses.getMiscellaneousExpenses().getAmount().compareTo(MAX_EXPENSES_AMOUNT) > 0;
+    }
+
     /**
      * Creates and returns a new String of Expenses with the details of {@code expensesToEdit}
      * edited with {@code editExpensesDescriptor}.
      */
     private String modifyExpensesAmount (Expenses expensesToEdit, EditExpensesDescriptor
             editExpensesDescriptor) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String newExpensesAmount = expensesToEdit.getExpensesAmount().toString();
-        double updateExpensesAmount = Double.parseDouble(newExpensesAmount);
-        String change = editExpensesDescriptor.getExpensesAmount().toString().replaceAll("[^0-9.-]",
-                "");
-        updateExpensesAmount += Double.parseDouble(change);
-        if (updateExpensesAmount < 0) {
-            setIsNegativeLeftover(true);
-        } else if (updateExpensesAmount > MAX_TOTAL_EXPENSES) {
-            setIsOverLimit(true);
-        } else if (updateExpensesAmount >= 0) {
-            newExpensesAmount = String.valueOf(formatter.format(updateExpensesAmount));
-        }
-        return newExpensesAmount;
+        return modifyAmount(expensesToEdit.getExpensesAmount().toString(),
+                expensesToEdit.getExpensesAmount().getAmount(),
+                editExpensesDescriptor.getExpensesAmount().get().getAmount(), MAX_TOTAL_EXPENSES);
     }
 
     /**
@@ -217,20 +176,9 @@ public class AddExpensesCommand extends Command {
      */
     private String modifyTravelExpenses (Expenses expensesToEdit, EditExpensesDescriptor
             editExpensesDescriptor) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String newTravelExpenses = expensesToEdit.getTravelExpenses().toString();
-        double updateTravelExpenses = Double.parseDouble(newTravelExpenses);
-        String change = editExpensesDescriptor.getTravelExpenses().toString().replaceAll("[^0-9.-]",
-                "");
-        updateTravelExpenses += Double.parseDouble(change);
-        if (updateTravelExpenses < 0) {
-            setIsNegativeLeftover(true);
-        } else if (updateTravelExpenses > MAX_EXPENSES_AMOUNT) {
-            setIsOverLimit(true);
-        } else if (updateTravelExpenses >= 0) {
-            newTravelExpenses = String.valueOf(formatter.format(updateTravelExpenses));
-        }
-        return newTravelExpenses;
+        return modifyAmount(expensesToEdit.getTravelExpenses().toString(),
+                expensesToEdit.getTravelExpenses().getAmount(),
+                editExpensesDescriptor.getTravelExpenses().get().getAmount(), MAX_EXPENSES_AMOUNT);
     }
 
     /**
@@ -239,20 +187,9 @@ public class AddExpensesCommand extends Command {
      */
     private String modifyMedicalExpenses (Expenses expensesToEdit, EditExpensesDescriptor
             editExpensesDescriptor) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String newMedicalExpenses = expensesToEdit.getMedicalExpenses().toString();
-        double updateMedicalExpenses = Double.parseDouble(newMedicalExpenses);
-        String change = editExpensesDescriptor.getMedicalExpenses().toString().replaceAll("[^0-9.-]",
-                "");
-        updateMedicalExpenses += Double.parseDouble(change);
-        if (updateMedicalExpenses < 0) {
-            setIsNegativeLeftover(true);
-        } else if (updateMedicalExpenses > MAX_EXPENSES_AMOUNT) {
-            setIsOverLimit(true);
-        } else if (updateMedicalExpenses >= 0) {
-            newMedicalExpenses = String.valueOf(formatter.format(updateMedicalExpenses));
-        }
-        return newMedicalExpenses;
+        return modifyAmount(expensesToEdit.getMedicalExpenses().toString(),
+                expensesToEdit.getMedicalExpenses().getAmount(),
+                editExpensesDescriptor.getMedicalExpenses().get().getAmount(), MAX_EXPENSES_AMOUNT);
     }
 
     /**
@@ -261,20 +198,25 @@ public class AddExpensesCommand extends Command {
      */
     private String modifyMiscellaneousExpenses (Expenses expensesToEdit, EditExpensesDescriptor
             editExpensesDescriptor) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String newMiscellaneousExpenses = expensesToEdit.getMiscellaneousExpenses().toString();
-        double updateMiscellaneousExpenses = Double.parseDouble(newMiscellaneousExpenses);
-        String change = editExpensesDescriptor.getMiscellaneousExpenses().toString().replaceAll("[^0-9.-]",
-                "");
-        updateMiscellaneousExpenses += Double.parseDouble(change);
-        if (updateMiscellaneousExpenses < 0) {
+        return modifyAmount(expensesToEdit.getMiscellaneousExpenses().toString(),
+                expensesToEdit.getMiscellaneousExpenses().getAmount(),
+                editExpensesDescriptor.getMiscellaneousExpenses().get().getAmount(), MAX_EXPENSES_AMOUNT);
+    }
+
+    /**
+     * Returns {@code current} plus {@code change} with 2 decimal places. If the sum is negative or over
+     * {@code limit}, it is recorded and {@code currentText} is returned instead.
+     */
+    private String modifyAmount(String currentText, Money current, Money change, Money limit) {
+        Money updated = current.plus(change);
+        if (updated.signum() < 0) {
             setIsNegativeLeftover(true);
-        } else if (updateMiscellaneousExpenses > MAX_EXPENSES_AMOUNT) {
+        } else if (updated.compareTo(limit) > 0) {
             setIsOverLimit(true);
-        } else if (updateMiscellaneousExpenses >= 0) {
-            newMiscellaneousExpenses = String.valueOf(formatter.format(updateMiscellaneousExpenses));
+        } else {
+            return updated.toString();
         }
-        return newMiscellaneousExpenses;
+        return currentText;
     }
 
     @Override
@@ -328,10 +270,10 @@ public class AddExpensesCommand extends Command {
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return (Double.parseDouble(expensesAmount.toString()) != 0
-                    || Double.parseDouble(travelExpenses.toString()) != 0
-                    || Double.parseDouble(medicalExpenses.toString()) != 0
-                    || Double.parseDouble(miscellaneousExpenses.toString()) != 0);
+            return (expensesAmount.getAmount().signum() != 0
+                    || travelExpenses.getAmount().signum() != 0
+                    || medicalExpenses.getAmount().signum() != 0
+                    || miscellaneousExpenses.getAmount().signum() != 0);
         }
 
         public void setExpensesAmount(ExpensesAmount expensesAmount) {
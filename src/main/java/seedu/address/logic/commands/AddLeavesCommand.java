@@ -3,7 +3,9 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Multimap;
@@ -16,6 +18,7 @@ import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.DateComparator;
+import seedu.address.model.schedule.DateSet;
 import seedu.address.model.schedule.EmployeeIdComparator;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.Type;
@@ -77,6 +80,9 @@ public class AddLeavesCommand extends Command {
      * <p>
      *     Each date specified by the user will be checked with every observable employee for the possibility
      *     of scheduling leave. No schedules will be created if existing work or leave is found on that date.
+     *     The dates are checked for each employee at once, as set operations between the dates specified and
+     *     the dates on which the employee already has work or leave, and the new schedules of all the employees
+     *     are added to the schedule list in one change.
      * </p>
      * @param model {@code Model} which the command will operate on the model.
      * @param history {@code CommandHistory} which the command history will be added.
@@ -85,11 +91,10 @@ public class AddLeavesCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        Type leave = new Type(Type.LEAVE);
-        Type work = new Type(Type.WORK);
+        Type leave = Type.of(Type.LEAVE);
+        Type work = Type.of(Type.WORK);
         Multimap<EmployeeId, Date> employeeIdMapToWorks = TreeMultimap.create(
                 new EmployeeIdComparator(), new DateComparator());
-        boolean commit = false;
 
         //model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         if (model.getFilteredPersonList().size() == 0) {
@@ -97,20 +102,21 @@ public class AddLeavesCommand extends Command {
                     FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD));
         }
 
-        for (Date date : setOfDates) {
-            for (Person person : model.getFilteredPersonList()) {
-                Schedule toWorkSchedule = new Schedule(person.getEmployeeId(), work, date);
-                Schedule toLeaveSchedule = new Schedule(person.getEmployeeId(), leave, date);
-
-                if (model.hasSchedule(toWorkSchedule)) {
-                    employeeIdMapToWorks.put(person.getEmployeeId(), date);
-
-                } else if (!model.hasSchedule(toLeaveSchedule)) {
-                    model.addSchedule(toLeaveSchedule);
-                    commit = true;
-                }
+        DateSet datesToSchedule = DateSet.of(setOfDates);
+        List<Schedule> leavesToAdd = new ArrayList<>();
+        for (Person person : model.getFilteredPersonList()) {
+            EmployeeId employeeId = person.getEmployeeId();
+            DateSet workDates = datesToSchedule.intersect(model.getScheduledDates(employeeId, work));
+            DateSet leaveDates = datesToSchedule.minus(workDates)
+                    .minus(model.getScheduledDates(employeeId, leave));
+
+            employeeIdMapToWorks.putAll(employeeId, workDates.toDates());
+            for (Date date : leaveDates.toDates()) {
+                leavesToAdd.add(new Schedule(employeeId, leave, date));
             }
         }
+        boolean commit = !leavesToAdd.isEmpty();
+        model.addSchedules(leavesToAdd);
 
         String textFeedbackToUser = getUserInteractionFeedback(employeeIdMapToWorks, commit, setOfDates);
         if (!commit) {
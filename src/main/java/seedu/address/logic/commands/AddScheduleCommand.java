@@ -71,8 +71,8 @@ public class AddScheduleCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
 
         Type type = toAddSchedule.getType();
-        Type work = new Type(Type.WORK);
-        Type leave = new Type(Type.LEAVE);
+        Type work = Type.of(Type.WORK);
+        Type leave = Type.of(Type.LEAVE);
 
         if (!model.hasEmployeeId(toCheckEmployeeId)) {
             throw new CommandException(MESSAGE_EMPLOYEE_ID_NOT_FOUND);
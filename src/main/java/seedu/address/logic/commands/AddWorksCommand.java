@@ -3,7 +3,9 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Multimap;
@@ -16,6 +18,7 @@ import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.DateComparator;
+import seedu.address.model.schedule.DateSet;
 import seedu.address.model.schedule.EmployeeIdComparator;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.Type;
@@ -74,6 +77,9 @@ public class AddWorksCommand extends Command {
      * <p>
      *     Each date specified by the user will be checked with every observable employee for the possibility
      *     of scheduling work. No schedules will be created if existing work or leave is found on that date.
+     *     The dates are checked for each employee at once, as set operations between the dates specified and
+     *     the dates on which the employee already has work or leave, and the new schedules of all the employees
+     *     are added to the schedule list in one change.
      * </p>
      * @param model {@code Model} which the command will operate on the model.
      * @param history {@code CommandHistory} which the command history will be added.
@@ -82,11 +88,10 @@ public class AddWorksCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        Type work = new Type(Type.WORK);
-        Type leave = new Type(Type.LEAVE);
+        Type work = Type.of(Type.WORK);
+        Type leave = Type.of(Type.LEAVE);
         Multimap<EmployeeId, Date> employeeIdMapToLeaves = TreeMultimap.create(
                 new EmployeeIdComparator(), new DateComparator());
-        boolean commit = false;
 
         //model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         if (model.getFilteredPersonList().size() == 0) {
@@ -94,18 +99,22 @@ public class AddWorksCommand extends Command {
                     FindCommand.COMMAND_WORD, ListCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD));
         }
 
-        for (Date date :setOfDates) {
-            for (Person person : model.getFilteredPersonList()) {
-                Schedule toAddSchedule = new Schedule(person.getEmployeeId(), work , date);
-                Schedule hasLeaveSchedule = new Schedule(person.getEmployeeId(), leave , date);
-                if (model.hasSchedule(hasLeaveSchedule)) {
-                    employeeIdMapToLeaves.put(person.getEmployeeId(), date);
-                } else if (!model.hasSchedule(toAddSchedule)) {
-                    commit = true;
-                    model.addSchedule(toAddSchedule);
-                }
+        DateSet datesToSchedule = DateSet.of(setOfDates);
+        List<Schedule> worksToAdd = new ArrayList<>();
+        for (Person person : model.getFilteredPersonList()) {
+            EmployeeId employeeId = person.getEmployeeId();
+            DateSet leaveDates = datesToSchedule.intersect(model.getScheduledDates(employeeId, leave));
+            DateSet workDates = datesToSchedule.minus(leaveDates)
+                    .minus(model.getScheduledDates(employeeId, work));
+
+            employeeIdMapToLeaves.putAll(employeeId, leaveDates.toDates());
+            for (Date date : workDates.toDates()) {
+                worksToAdd.add(new Schedule(employeeId, work, date));
             }
         }
+        boolean commit = !worksToAdd.isEmpty();
+        model.addSchedules(worksToAdd);
+
         String textFeedbackToUser = getUserInteractionFeedback(employeeIdMapToLeaves, commit, setOfDates);
         if (!commit) {
             throw new CommandException(textFeedbackToUser);
@@ -3,21 +3,12 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMPLOYEEID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_YEAR;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
-
-import java.util.ArrayList;
-import java.util.List;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
-import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
-import seedu.address.model.schedule.Schedule;
-import seedu.address.model.schedule.Type;
 import seedu.address.model.schedule.Year;
 
 /**
@@ -67,8 +58,8 @@ public class CalculateLeavesCommand extends Command {
     /**
      * CalculateLeavesCommand execution.
      * <p>
-     *     Calculates total number of leaves scheduled for an employee
-     *     for the entire specified year in the schedule list.
+     *     Looks up the total number of leaves scheduled for an employee
+     *     for the entire specified year, which the model keeps counted.
      * </p>
      * @param model {@code Model} which the command will operate on the model.
      * @param history {@code CommandHistory} which the command history will be added.
@@ -77,32 +68,15 @@ public class CalculateLeavesCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        int numLeaves = 0;
-
         if (!model.hasEmployeeId(toCheckEmployeeId)) {
             throw new CommandException(MESSAGE_EMPLOYEE_ID_NOT_FOUND);
         }
 
-        List<String> employeeIdList = new ArrayList<>();
-        employeeIdList.add(employeeId.value);
-        EmployeeIdScheduleContainsKeywordsPredicate employeeIdPredicate =
-                new EmployeeIdScheduleContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredScheduleList(employeeIdPredicate);
-
-        if (model.getFilteredScheduleList().size() == 0) {
+        if (model.getSchedulesOf(employeeId).isEmpty()) {
             throw new CommandException(MESSAGE_NO_SCHEDULE_FOUND);
         }
 
-        for (Schedule schedule : model.getFilteredScheduleList()) {
-            if (schedule.getScheduleYear().equals(year.toString())
-                    && schedule.getType().toString().equals(Type.LEAVE)) {
-                numLeaves++;
-            }
-        }
-
-        model.updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
+        int numLeaves = model.getLeaveCount(employeeId, year);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, employeeId, year, numLeaves));
     }
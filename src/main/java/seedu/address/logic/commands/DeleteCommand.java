@@ -4,9 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.Messages;
@@ -15,11 +15,9 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelTypes;
-import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.expenses.Expenses;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
-import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
-import seedu.address.model.schedule.Schedule;
 
 /**
  * The {@code DeleteCommand} class is used for deleting a person identified using it's
@@ -66,14 +64,20 @@ public class DeleteCommand extends Command {
 
         Set<ModelTypes> set = new HashSet<>();
         set.add(ModelTypes.ADDRESS_BOOK);
-        model.deletePerson(personToDelete);
 
-        if (deleteAllSchedulesFromPerson(model, personToDelete)) {
-            set.add(ModelTypes.SCHEDULES_LIST);
-        }
+        model.startBatch();
+        try {
+            model.deletePerson(personToDelete);
+
+            if (deleteAllSchedulesFromPerson(model, personToDelete)) {
+                set.add(ModelTypes.SCHEDULES_LIST);
+            }
 
-        if (deleteAllExpensesFromPerson (model, personToDelete)) {
-            set.add(ModelTypes.EXPENSES_LIST);
+            if (deleteAllExpensesFromPerson (model, personToDelete)) {
+                set.add(ModelTypes.EXPENSES_LIST);
+            }
+        } finally {
+            model.endBatch();
         }
 
         model.commitMultipleLists(set);
@@ -99,60 +103,40 @@ public class DeleteCommand extends Command {
     /**
      * Deletes all expenses related to person
      * <p>
-     *     Runs a O(n) loop on the expenses list to delete all expenses containing
-     *     the employee id of the person to delete.
+     *     Looks up the expenses of the person to delete by employee id, so the rest of the
+     *     expenses list is not scanned.
      * </p>
      * @param model which the command will operate on the model.
      * @param personToDelete Person to delete from the address book
      * @return True if at least 1 expenses is deleted
      */
     public boolean deleteAllExpensesFromPerson (Model model, Person personToDelete) {
-        EmployeeIdExpensesContainsKeywordsPredicate predicatEmployeeId;
-        List<String> employeeIdList = new ArrayList<>();
-        List<Expenses> lastShownListExpenses;
-
-        employeeIdList.add(personToDelete.getEmployeeId().value);
-        predicatEmployeeId = new EmployeeIdExpensesContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredExpensesList(predicatEmployeeId);
-        lastShownListExpenses = model.getFilteredExpensesList();
-        if (lastShownListExpenses.size() == 0) {
+        Optional<Expenses> expensesToDelete = model.getExpensesOf(personToDelete.getEmployeeId());
+        if (!expensesToDelete.isPresent()) {
             return false;
         }
 
-        while (lastShownListExpenses.size() != 0) {
-            Expenses expenseToDelete = lastShownListExpenses.get(0);
-            model.deleteExpenses(expenseToDelete);
-        }
+        model.deleteExpenses(expensesToDelete.get());
         return true;
     }
 
     /**
      * Deletes all schedules related to person
      * <p>
-     *     Runs a O(n) loop on the schedule list to delete all schedules containing
-     *     the employee id of the person to delete
+     *     Removes the schedules containing the employee id of the person to delete in one step,
+     *     using the employee id index of the schedule list.
      * </p>
      * @param model which the command will operate on the model.
      * @param personToDelete Person to delete from the address book
-     * @return True if at least 1 expenses is deleted
+     * @return True if at least 1 schedule is deleted
      */
     public boolean deleteAllSchedulesFromPerson (Model model, Person personToDelete) {
-        EmployeeIdScheduleContainsKeywordsPredicate predicatEmployeeId;
-        List<String> employeeIdList = new ArrayList<>();
-        List<Schedule> lastShownListSchedule;
-
-        employeeIdList.add(personToDelete.getEmployeeId().value);
-        predicatEmployeeId = new EmployeeIdScheduleContainsKeywordsPredicate(employeeIdList);
-        model.updateFilteredScheduleList(predicatEmployeeId);
-        lastShownListSchedule = model.getFilteredScheduleList();
-        if (lastShownListSchedule.size() == 0) {
+        EmployeeId employeeId = personToDelete.getEmployeeId();
+        if (model.getSchedulesOf(employeeId).isEmpty()) {
             return false;
         }
 
-        while (lastShownListSchedule.size() != 0) {
-            Schedule scheduleToDelete = lastShownListSchedule.get(0);
-            model.deleteSchedule(scheduleToDelete);
-        }
+        model.removeAllSchedulesOf(employeeId);
         return true;
     }
 }
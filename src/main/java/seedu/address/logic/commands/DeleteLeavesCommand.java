@@ -3,13 +3,17 @@ package seedu.address.logic.commands;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_DATE;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.DateSet;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.Type;
 
@@ -57,6 +61,8 @@ public class DeleteLeavesCommand extends Command {
      * <p>
      *     Each date specified by the user will be checked with every observable employee for the possibility
      *     of deleting leave. Leave schedule will be deleted if found on that date.
+     *     The dates are checked for each employee at once, as the intersection between the dates specified and
+     *     the dates on which the employee has leave, and the schedules found are deleted in one change.
      * </p>
      * @param model {@code Model} which the command will operate on the model.
      * @param history {@code CommandHistory} which the command history will be added.
@@ -65,21 +71,22 @@ public class DeleteLeavesCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        Type leave = new Type(Type.LEAVE);
-        boolean commit = false;
+        Type leave = Type.of(Type.LEAVE);
 
         if (model.getFilteredPersonList().size() == 0) {
             throw new CommandException(MESSAGE_NO_PERSON_FOUND);
         }
-        for (Date date : setOfDates) {
-            for (Person person : model.getFilteredPersonList()) {
-                Schedule toDeleteSchedule = new Schedule(person.getEmployeeId(), leave , date);
-                if (model.hasSchedule(toDeleteSchedule)) {
-                    model.deleteSchedule(toDeleteSchedule);
-                    commit = true;
-                }
+
+        DateSet datesToDelete = DateSet.of(setOfDates);
+        List<Schedule> leavesToDelete = new ArrayList<>();
+        for (Person person : model.getFilteredPersonList()) {
+            EmployeeId employeeId = person.getEmployeeId();
+            for (Date date : datesToDelete.intersect(model.getScheduledDates(employeeId, leave)).toDates()) {
+                leavesToDelete.add(new Schedule(employeeId, leave, date));
             }
         }
+        boolean commit = !leavesToDelete.isEmpty();
+        model.deleteSchedules(leavesToDelete);
 
         if (!commit) {
             throw new CommandException(String.format(MESSAGE_PERSON_ALL_DELETED_LEAVE, setOfDates));
@@ -1,27 +1,38 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BONUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPARTMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+
+import com.google.common.collect.Range;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.person.DepartmentContainsKeywordsPredicate;
+import seedu.address.model.person.EmployeeIdInSetPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PositionContainsKeywordsPredicate;
 import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
+import seedu.address.model.util.Money;
 
 /**
  * Filters and lists all persons in address book whose department and/or position contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * The persons can also be filtered by a range of salary and/or bonus, and limited to the highest paid persons of each
+ * department. These are answered through the sorted salary and bonus indexes of the address book.
  * The list is sorted either in ascending or descending name order based on the user's input
  */
 public class FilterCommand extends Command {
@@ -29,19 +40,28 @@ public class FilterCommand extends Command {
     public static final String COMMAND_WORD = "filter";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters all persons whose department or position "
-            + "contain any of the specified keywords (case-insensitive) and displays them as a sorted list in either "
-            + "ascending or descending order with index numbers.\nParameters: ORDER " + PREFIX_DEPARTMENT
-            + "DEPARTMENT AND/OR " + PREFIX_POSITION + "POSITION\n"
+            + "contain any of the specified keywords (case-insensitive) and/or whose salary or bonus is within the "
+            + "specified range, and displays them as a sorted list in either ascending or descending order with index "
+            + "numbers. The highest paid persons of each department can be kept with " + PREFIX_TOP + ".\n"
+            + "Parameters: ORDER [" + PREFIX_DEPARTMENT + "DEPARTMENT] [" + PREFIX_POSITION + "POSITION] ["
+            + PREFIX_SALARY + "MIN-MAX] [" + PREFIX_BONUS + "MIN-MAX] [" + PREFIX_TOP + "NUMBER]\n"
             + "Example: " + COMMAND_WORD + " dsc " + PREFIX_DEPARTMENT + "Human Resource" + " "
-            + PREFIX_POSITION + "Intern";
+            + PREFIX_POSITION + "Intern\n"
+            + "Example: " + COMMAND_WORD + " asc " + PREFIX_SALARY + "3000-6000 " + PREFIX_TOP + "2";
 
     public static final String ASCENDING = "asc";
     public static final String DESCENDING = "dsc";
 
+    public static final int NO_LIMIT = 0;
+
     private final String sortOrder;
     private DepartmentContainsKeywordsPredicate departmentPredicate;
     private PositionContainsKeywordsPredicate positionPredicate;
 
+    private Range<Money> salaryRange = Range.all();
+    private Range<Money> bonusRange = Range.all();
+    private int limitPerDepartment = NO_LIMIT;
+
     private boolean isDepartmentPrefixPresent;
     private boolean isPositionPrefixPresent;
 
@@ -76,10 +96,22 @@ public class FilterCommand extends Command {
         this.positionPredicate = positionPredicate;
     }
 
+    public void setSalaryRange(Range<Money> salaryRange) {
+        this.salaryRange = salaryRange;
+    }
+
+    public void setBonusRange(Range<Money> bonusRange) {
+        this.bonusRange = bonusRange;
+    }
+
+    public void setLimitPerDepartment(int limitPerDepartment) {
+        this.limitPerDepartment = limitPerDepartment;
+    }
+
     /**
      * Execution of the command will be carried out after the checks for the presence of department and position
      * prefixes are completed. The command will filter the person, schedule and expenses list to only show employees of
-     * the input department(s) and/or position(s).
+     * the input department(s) and/or position(s), within the input salary and bonus ranges.
      * @param model The actual model
      * @param history The actual history
      */
@@ -89,13 +121,18 @@ public class FilterCommand extends Command {
         String allAvailableDepartments = listAvailableDepartments(model);
         String allAvailablePositions = listAvailablePositions(model);
 
+        Predicate<Person> predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
         if (isDepartmentPrefixPresent && !isPositionPrefixPresent) {
-            model.updateFilteredPersonList(departmentPredicate, sortOrder);
+            predicate = departmentPredicate;
         } else if (isPositionPrefixPresent && !isDepartmentPrefixPresent) {
-            model.updateFilteredPersonList(positionPredicate, sortOrder);
+            predicate = positionPredicate;
         } else if (isDepartmentPrefixPresent && isPositionPrefixPresent) {
-            model.updateFilteredPersonList(departmentPredicate.and(positionPredicate), sortOrder);
+            predicate = departmentPredicate.and(positionPredicate);
         }
+        if (!salaryRange.equals(Range.all()) || !bonusRange.equals(Range.all()) || limitPerDepartment != NO_LIMIT) {
+            predicate = findPaidPersons(model, predicate)::contains;
+        }
+        model.updateFilteredPersonList(predicate, sortOrder);
 
         EmployeeIdExpensesContainsKeywordsPredicate expensesPredicate = generateEmployeeIdExpensesPredicate(model);
         EmployeeIdScheduleContainsKeywordsPredicate schedulePredicate = generateEmployeeIdSchedulePredicate(model);
@@ -105,6 +142,36 @@ public class FilterCommand extends Command {
         return new CommandResult(feedbackToUser(model, allAvailableDepartments, allAvailablePositions));
     }
 
+    /**
+     * Finds the persons matching {@code predicate} within the salary and bonus ranges through the salary or bonus
+     * index, keeping only the highest paid persons of each department if a limit is set. With a limit, only the
+     * salaries of the departments being filtered by are walked.
+     * @param model The actual model
+     * @param predicate The predicate of the department(s) and position(s) to filter by
+     * @return the matching persons, compared by identity.
+     */
+    private Set<Person> findPaidPersons(Model model, Predicate<Person> predicate) {
+        Predicate<Person> matchesAll = predicate
+                .and(person -> salaryRange.contains(person.getSalary().getAmount()))
+                .and(person -> bonusRange.contains(person.getBonus().getAmount()));
+
+        Collection<Person> candidates;
+        if (limitPerDepartment != NO_LIMIT) {
+            Predicate<String> departmentFilter = isDepartmentPrefixPresent
+                    ? departmentPredicate::matchesDepartment
+                    : unused -> true;
+            candidates = model.findHighestPaidPersons(salaryRange, departmentFilter, matchesAll, limitPerDepartment);
+        } else if (!salaryRange.equals(Range.all())) {
+            candidates = model.findPersonsBySalary(salaryRange);
+        } else {
+            candidates = model.findPersonsByBonus(bonusRange);
+        }
+
+        Set<Person> paidPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.stream().filter(matchesAll).forEach(paidPersons::add);
+        return paidPersons;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -112,47 +179,37 @@ public class FilterCommand extends Command {
                 && (departmentPredicate.and(positionPredicate).equals(((FilterCommand) other)
                 .departmentPredicate.and(positionPredicate))
                 || (departmentPredicate.equals(((FilterCommand) other).departmentPredicate))
-                || (positionPredicate.equals(((FilterCommand) other).positionPredicate)))); // state check
+                || (positionPredicate.equals(((FilterCommand) other).positionPredicate)))
+                && salaryRange.equals(((FilterCommand) other).salaryRange)
+                && bonusRange.equals(((FilterCommand) other).bonusRange)
+                && limitPerDepartment == ((FilterCommand) other).limitPerDepartment); // state check
     }
 
     /**
      * Creates and returns a {@code String} that holds all the currently available departments to filter by
-     * in the Address Book.
+     * in the Address Book, with the number of employees in each of them.
      * @param model The actual model
      */
     public String listAvailableDepartments(Model model) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        Set<String> allDepartments = new HashSet<>();
-
-        for (Person department : getFullList) {
-            allDepartments.add(department.getDepartment().toString().toUpperCase());
-        }
-
-        String availableDepartments = String.join(", ", allDepartments);
-
-        return "\nAvailable Departments: " + availableDepartments;
+        return "\nAvailable Departments: " + listWithHeadcounts(model.getDepartmentCounts());
     }
 
     /**
      * Creates and returns a {@code String} that holds all the currently available positions to filter by
-     * in the Address Book.
+     * in the Address Book, with the number of employees in each of them.
      * @param model The actual model
      */
     public String listAvailablePositions(Model model) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        Set<String> allPositions = new HashSet<>();
-
-        for (Person position : getFullList) {
-            allPositions.add(position.getPosition().toString().toUpperCase());
-        }
-
-        String availablePositions = String.join(", ", allPositions);
+        return "\nAvailable Positions: " + listWithHeadcounts(model.getPositionCounts());
+    }
 
-        return "\nAvailable Positions: " + availablePositions;
+    /**
+     * Joins the departments or positions in {@code counts}, each followed by its number of employees.
+     */
+    private static String listWithHeadcounts(Map<String, Integer> counts) {
+        StringJoiner joiner = new StringJoiner(", ");
+        counts.forEach((value, count) -> joiner.add(value + " (" + count + ")"));
+        return joiner.toString();
     }
 
     /**
@@ -161,14 +218,8 @@ public class FilterCommand extends Command {
      * @param model The actual model
      */
     public EmployeeIdExpensesContainsKeywordsPredicate generateEmployeeIdExpensesPredicate(Model model) {
-        List<Person> getFilteredList = model.getFilteredPersonList();
-        List<String> matchedEmployeeIds = new ArrayList<>();
-
-        for (Person person : getFilteredList) {
-            matchedEmployeeIds.add(person.getEmployeeId().value);
-        }
-
-        return new EmployeeIdExpensesContainsKeywordsPredicate(matchedEmployeeIds);
+        return new EmployeeIdExpensesContainsKeywordsPredicate(
+                EmployeeIdInSetPredicate.employeeIdsOf(model.getFilteredPersonList()));
     }
 
     /**
@@ -177,14 +228,8 @@ public class FilterCommand extends Command {
      * @param model The actual model
      */
     public EmployeeIdScheduleContainsKeywordsPredicate generateEmployeeIdSchedulePredicate(Model model) {
-        List<Person> getFilteredList = model.getFilteredPersonList();
-        List<String> matchedEmployeeIds = new ArrayList<>();
-
-        for (Person person : getFilteredList) {
-            matchedEmployeeIds.add(person.getEmployeeId().value);
-        }
-
-        return new EmployeeIdScheduleContainsKeywordsPredicate(matchedEmployeeIds);
+        return new EmployeeIdScheduleContainsKeywordsPredicate(
+                EmployeeIdInSetPredicate.employeeIdsOf(model.getFilteredPersonList()));
     }
 
     /**
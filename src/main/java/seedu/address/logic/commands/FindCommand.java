@@ -1,10 +1,11 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
@@ -12,8 +13,8 @@ import seedu.address.model.Model;
 import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.EmployeeIdContainsKeywordsPredicate;
+import seedu.address.model.person.EmployeeIdInSetPredicate;
 import seedu.address.model.person.Name;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
 
@@ -36,7 +37,7 @@ public class FindCommand extends Command {
 
     private final String keyword;
     private EmployeeIdContainsKeywordsPredicate employeeIdPredicate;
-    private NameContainsKeywordsPredicate namePredicate;
+    private Predicate<Person> namePredicate;
     private boolean isInputName;
     private boolean isInputEmployeeId;
 
@@ -98,14 +99,8 @@ public class FindCommand extends Command {
      * @param model The actual model
      */
     public EmployeeIdExpensesContainsKeywordsPredicate generateEmployeeIdExpensesPredicate(Model model) {
-        List<Person> getFilteredList = model.getFilteredPersonList();
-        List<String> matchedEmployeeIds = new ArrayList<>();
-
-        for (Person person : getFilteredList) {
-            matchedEmployeeIds.add(person.getEmployeeId().value);
-        }
-
-        return new EmployeeIdExpensesContainsKeywordsPredicate(matchedEmployeeIds);
+        return new EmployeeIdExpensesContainsKeywordsPredicate(
+                EmployeeIdInSetPredicate.employeeIdsOf(model.getFilteredPersonList()));
     }
 
 
@@ -115,34 +110,20 @@ public class FindCommand extends Command {
      * @param model The actual model
      */
     public EmployeeIdScheduleContainsKeywordsPredicate generateEmployeeIdSchedulePredicate(Model model) {
-        List<Person> getFilteredList = model.getFilteredPersonList();
-        List<String> matchedEmployeeIds = new ArrayList<>();
-
-        for (Person person : getFilteredList) {
-            matchedEmployeeIds.add(person.getEmployeeId().value);
-        }
-
-        return new EmployeeIdScheduleContainsKeywordsPredicate(matchedEmployeeIds);
+        return new EmployeeIdScheduleContainsKeywordsPredicate(
+                EmployeeIdInSetPredicate.employeeIdsOf(model.getFilteredPersonList()));
     }
 
     /**
-     * Creates and returns a {@code NameContainsKeywordsPredicate} that holds all the name(s) that contains
-     * the input keyword.
+     * Creates and returns a predicate that matches the persons whose name contains the input keyword.
+     * The persons are looked up in the name index of the address book, so the whole person list is not searched,
+     * and the predicate only checks whether a person is one of them.
      * @param model The actual model
      * @param keyword The user's input
      */
-    public NameContainsKeywordsPredicate generateNamesPredicate (Model model, String keyword) {
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-
-        List<Person> getFullList = model.getFilteredPersonList();
-        List<String> matchingNames = new ArrayList<>();
-
-        for (Person name : getFullList) {
-            if (name.getName().fullName.toLowerCase().contains(keyword.toLowerCase())) {
-                matchingNames.add(name.getName().fullName);
-            }
-        }
-
-        return new NameContainsKeywordsPredicate(matchingNames);
+    public Predicate<Person> generateNamesPredicate(Model model, String keyword) {
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingPersons.addAll(model.findPersonsByName(keyword));
+        return matchingPersons::contains;
     }
 }
@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE_YEAR;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.schedule.EmployeeIdComparator;
+import seedu.address.model.schedule.Year;
+
+/**
+ * The {@code LeaveReportCommand} class is used for reporting the
+ * total number of leaves scheduled by every employee given a specified year.
+ *
+ * @see seedu.address.logic.parser.LeaveReportCommandParser class for the parser.
+ */
+public class LeaveReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "leaveReport";
+    public static final String COMMAND_ALIAS = "lr";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reports total leaves scheduled for the year by every employee "
+            + "by specifying the year. "
+            + "\nParameters: "
+            + PREFIX_SCHEDULE_YEAR + "YYYY"
+            + "\nExample: "
+            + COMMAND_WORD + " "
+            + PREFIX_SCHEDULE_YEAR + "2019";
+
+    public static final String MESSAGE_SUCCESS = "Number of leaves scheduled in year %1$s:";
+    public static final String MESSAGE_EMPLOYEE_LEAVES = "Employee Id: %1$s Leaves: %2$s";
+
+    public static final String MESSAGE_NO_LEAVES_FOUND = "No leaves found for any employee in that year!";
+
+    private final Year year;
+
+    /**
+     * LeaveReportCommand
+     * @param year  Year to report leaves taken by the employees
+     */
+    public LeaveReportCommand(Year year) {
+        requireNonNull(year);
+        this.year = year;
+    }
+
+    /**
+     * LeaveReportCommand execution.
+     * <p>
+     *     Lists the total number of leaves scheduled for the specified year by every
+     *     employee with leave, in order of employee id. The leaves are counted on the snapshot of the model
+     *     published by the last commit, so the report is consistent even if the model changes meanwhile,
+     *     and later reports read the same counts until the schedules change.
+     * </p>
+     * @param model {@code Model} which the command will operate on the model.
+     * @param history {@code CommandHistory} which the command history will be added.
+     * @return CommandResult, String success feedback to the user.
+     * @throws CommandException  String failure feedback to the user if error in execution.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        Map<EmployeeId, Integer> leaveCounts = new TreeMap<>(new EmployeeIdComparator());
+        leaveCounts.putAll(model.getSnapshot().getLeaveCounts(year));
+
+        if (leaveCounts.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_LEAVES_FOUND);
+        }
+
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUCCESS, year));
+        for (Map.Entry<EmployeeId, Integer> leaveCount : leaveCounts.entrySet()) {
+            report.append("\n").append(String.format(MESSAGE_EMPLOYEE_LEAVES, leaveCount.getKey(),
+                    leaveCount.getValue()));
+        }
+        return new CommandResult(report.toString());
+    }
+
+    /**
+     * Compares if both objects are equal.
+     * @param other similar object type to be compared with.
+     * @return Boolean, True if both objects are equal based on the defined conditions.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LeaveReportCommand // instanceof handles nulls
+                && year.equals(((LeaveReportCommand) other).year));
+    }
+}
@@ -5,12 +5,13 @@ import static seedu.address.commons.core.Messages.MESSAGE_MODIFIED_PAY_OVERVIEW;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BONUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.logic.CommandHistory;
@@ -30,6 +31,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.Position;
 import seedu.address.model.person.Salary;
 import seedu.address.model.person.tag.Tag;
+import seedu.address.model.util.Money;
 
 /**
  *  Modify the salary and bonus of an employee's in CHRS
@@ -61,9 +63,9 @@ public class ModifyAllPayCommand extends Command {
             + " AND/OR "
             + PREFIX_BONUS
             + " must be provided";
-    private static final double LIMIT = 0.0;
-    private static final double PERCENT = 100.0;
-    private static final String OUTPUT_FORMAT = "#0.00";
+    private static final Money LIMIT = Money.ZERO;
+    private static final int PARALLEL_THRESHOLD = 1024;
+
     private final ModSalaryDescriptor modSalaryDescriptor;
 
     /**
@@ -80,103 +82,92 @@ public class ModifyAllPayCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException, ParseException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-        List<Person> modifiedList = new ArrayList<>();
-        List<Person> newList = new ArrayList<>();
-
-        for (Person person : lastShownList) {
-            Person modifiedPerson = createModifiedPerson(person, modSalaryDescriptor);
-
-            newList.add(person);
-            modifiedList.add(modifiedPerson);
-        }
-
-        for (int i = 0; i < newList.size(); i++) {
-            model.updatePerson(newList.get(i), modifiedList.get(i));
-        }
+        List<Person> lastShownList = new ArrayList<>(model.getFilteredPersonList());
+        Map<Person, Person> modifiedPersons = createModifiedPersons(lastShownList, modSalaryDescriptor);
 
+        model.updatePersons(modifiedPersons);
         model.commitAddressBook();
         return new CommandResult(String.format(MESSAGE_MODIFIED_PAY_OVERVIEW, lastShownList.size()));
     }
 
     /**
-     * Creates and returns a boolean with the details of {@code salary}
-     */
-    private static boolean isNegative (double salary) {
-        return salary <= LIMIT;
-    }
-    /**
-     * Creates and returns a new String of Salary with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
+     * Creates and returns the {@code Person}s in {@code persons} edited with {@code modSalaryDescriptor}, keyed by the
+     * person each is edited from. Every person is edited before any failure is reported, in parallel on the common
+     * fork-join pool once there are at least {@code PARALLEL_THRESHOLD} persons.
+     * @throws CommandException or ParseException of the first person in {@code persons} that cannot be edited.
      */
-    private static double addSalaryAmount (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor) {
-        String newSalary = personToEdit.getSalary().toString();
-        double payOut = Double.parseDouble(newSalary);
-        String change = modSalaryDescriptor.getSalary().toString().replaceAll("[^0-9.-]", "");
-        payOut += Double.parseDouble(change);
+    private static Map<Person, Person> createModifiedPersons(List<Person> persons,
+            ModSalaryDescriptor modSalaryDescriptor) throws CommandException, ParseException {
+        Person[] modifiedPersons = new Person[persons.size()];
+        Exception[] failures = new Exception[persons.size()];
+        IntStream indices = IntStream.range(0, persons.size());
+        if (persons.size() >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                modifiedPersons[i] = createModifiedPerson(persons.get(i), modSalaryDescriptor);
+            } catch (CommandException | ParseException e) {
+                failures[i] = e;
+            }
+        });
 
-        return payOut;
+        Map<Person, Person> modifiedPersonsByTarget = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (failures[i] instanceof CommandException) {
+                throw (CommandException) failures[i];
+            }
+            if (failures[i] instanceof ParseException) {
+                throw (ParseException) failures[i];
+            }
+            modifiedPersonsByTarget.put(persons.get(i), modifiedPersons[i]);
+        }
+        return modifiedPersonsByTarget;
     }
 
     /**
-     * Creates and returns a new String of Salary with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
+     * Creates and returns a boolean with the details of {@code salary}
      */
-    private static double modifySalaryPercent (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor) {
-        String newSalary = personToEdit.getSalary().toString();
-        double payOut = Double.parseDouble(newSalary);
-        String change = modSalaryDescriptor.getSalary().toString().replaceAll("[^0-9.-]", "");
-        payOut += Math.abs(payOut) * (Double.parseDouble(change) / PERCENT);
-
-        return payOut;
+    private static boolean isNegative (Money salary) {
+        return salary.compareTo(LIMIT) <= 0;
     }
 
     /**
-     * Creates and returns a new String of Salary with the functions modifySalaryPercent and addSalaryAmount
-     * details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
+     * Creates and returns the salary of {@code personToEdit} modified by the amount or the percentage in
+     * {@code modSalaryDescriptor}.
      */
-    private static String typeOfSalaryMod (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor)
+    private static Money typeOfSalaryMod (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor)
         throws CommandException {
-        String newSalary = personToEdit.getSalary().toString();
-        NumberFormat formatter = new DecimalFormat(OUTPUT_FORMAT);
-        double payOut = Double.parseDouble(newSalary);
-
-        if (!modSalaryDescriptor.getSalary().equals(Optional.empty())) {
-            String change = modSalaryDescriptor.getSalary().toString();
-            char type = change.charAt(9);
+        Money payOut = personToEdit.getSalary().getAmount();
 
-            if (type == '%') {
-                payOut = modifySalaryPercent(personToEdit, modSalaryDescriptor);
+        if (modSalaryDescriptor.getSalary().isPresent()) {
+            Salary change = modSalaryDescriptor.getSalary().get();
+            if (change.isPercentage()) {
+                // the percentage is kept as an amount, so its cents are hundredths of a percent
+                payOut = payOut.plusPercent(change.getAmount().toCents());
             } else {
-                payOut = addSalaryAmount(personToEdit, modSalaryDescriptor);
+                payOut = payOut.plus(change.getAmount());
             }
         }
-
         if (isNegative(payOut)) {
             throw new CommandException(MESSAGE_NEGATIVE_PAY);
         }
 
-        newSalary = String.valueOf(formatter.format(payOut));
-
-        return newSalary;
+        return payOut;
     }
 
     /**
-     * Creates and returns a new String value of Bonus with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
+     * Creates and returns the Bonus of {@code personToEdit}, or the months of {@code newSalary} in
+     * {@code modSalaryDescriptor} if it modifies the bonus.
      */
-    private static String modifyBonusMonth (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor,
-                                            Salary newSalary) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String bonus = personToEdit.getBonus().toString();
-        double currentSalary = Double.parseDouble(newSalary.toString());
-        if (!modSalaryDescriptor.getBonus().equals(Optional.empty())) {
-            String bonusMonth = modSalaryDescriptor.getBonus().toString().replaceAll("[^0-9.]", "");
-            double payOut = currentSalary * Double.parseDouble(bonusMonth);
-            bonus = String.valueOf(formatter.format(payOut));
+    private static Bonus modifyBonusMonth (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor,
+                                           Money newSalary) throws ParseException {
+        if (!modSalaryDescriptor.getBonus().isPresent()) {
+            return personToEdit.getBonus();
         }
-        return bonus;
+        // the number of months is kept as an amount, so its cents are hundredths of a month
+        long hundredthsOfMonths = modSalaryDescriptor.getBonus().get().getAmount().toCents();
+        return ParserUtil.parseBonus(newSalary.times(hundredthsOfMonths).toString());
     }
 
     /**
@@ -195,8 +186,9 @@ public class ModifyAllPayCommand extends Command {
         Department updatedDepartment = personToEdit.getDepartment();
         Position updatedPosition = personToEdit.getPosition();
         Address updatedAddress = personToEdit.getAddress();
-        Salary updatedSalary = ParserUtil.parseSalary(typeOfSalaryMod(personToEdit, modSalaryDescriptor));
-        Bonus updatedBonus = ParserUtil.parseBonus(modifyBonusMonth(personToEdit, modSalaryDescriptor, updatedSalary));
+        Money updatedSalaryAmount = typeOfSalaryMod(personToEdit, modSalaryDescriptor);
+        Salary updatedSalary = ParserUtil.parseSalary(updatedSalaryAmount.toString());
+        Bonus updatedBonus = modifyBonusMonth(personToEdit, modSalaryDescriptor, updatedSalaryAmount);
         Set<Tag> updatedTags = personToEdit.getTags();
 
         return new Person(updatedEmployeeId, updatedName, updatedDateOfBirth, updatedPhone, updatedEmail,
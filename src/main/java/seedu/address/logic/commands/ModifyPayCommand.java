@@ -1,13 +1,10 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-
 import static seedu.address.logic.parser.CliSyntax.PREFIX_BONUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -32,6 +29,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.Position;
 import seedu.address.model.person.Salary;
 import seedu.address.model.person.tag.Tag;
+import seedu.address.model.util.Money;
 
 
 /**
@@ -65,9 +63,7 @@ public class ModifyPayCommand extends Command {
             + " AND/OR "
             + PREFIX_BONUS
             + " must be provided";
-    private static final double LIMIT = 0.0;
-    private static final double PERCENT = 100.0;
-    private static final String OUTPUT_FORMAT = "#0.00";
+    private static final Money LIMIT = Money.ZERO;
     private final Index index;
     private final ModSalaryDescriptor modSalaryDescriptor;
 
@@ -105,80 +101,46 @@ public class ModifyPayCommand extends Command {
     /**
      * Creates and returns a boolean with the details of {@code salary}
      */
-    private static boolean isNegative (double salary) {
-        return salary <= LIMIT;
-    }
-    /**
-     * Creates and returns a new String of Salary with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
-     */
-    private static double addSalaryAmount (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor) {
-        String newSalary = personToEdit.getSalary().toString();
-        double payOut = Double.parseDouble(newSalary);
-        String change = modSalaryDescriptor.getSalary().toString().replaceAll("[^0-9.-]", "");
-        payOut += Double.parseDouble(change);
-
-        return payOut;
+    private static boolean isNegative (Money salary) {
+        return salary.compareTo(LIMIT) <= 0;
     }
 
     /**
-     * Creates and returns a new String of Salary with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
+     * Creates and returns the salary of {@code personToEdit} modified by the amount or the percentage in
+     * {@code modSalaryDescriptor}.
      */
-    private static double modifySalaryPercent (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor) {
-        String newSalary = personToEdit.getSalary().toString();
-        double payOut = Double.parseDouble(newSalary);
-        String change = modSalaryDescriptor.getSalary().toString().replaceAll("[^0-9.-]", "");
-        payOut += Math.abs(payOut) * (Double.parseDouble(change) / PERCENT);
-
-        return payOut;
-    }
-
-    /**
-     * Creates and returns a new String of Salary with the functions modifySalaryPercent and addSalaryAmount
-     * details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
-     */
-    private static String typeOfSalaryMod (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor)
+    private static Money typeOfSalaryMod (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor)
         throws CommandException {
-        String newSalary = personToEdit.getSalary().toString();
-        NumberFormat formatter = new DecimalFormat(OUTPUT_FORMAT);
-        double payOut = Double.parseDouble(newSalary);
+        Money payOut = personToEdit.getSalary().getAmount();
 
-        if (!modSalaryDescriptor.getSalary().equals(Optional.empty())) {
-            String change = modSalaryDescriptor.getSalary().toString();
-            char type = change.charAt(9);
-
-            if (type == '%') {
-                payOut = modifySalaryPercent(personToEdit, modSalaryDescriptor);
+        if (modSalaryDescriptor.getSalary().isPresent()) {
+            Salary change = modSalaryDescriptor.getSalary().get();
+            if (change.isPercentage()) {
+                // the percentage is kept as an amount, so its cents are hundredths of a percent
+                payOut = payOut.plusPercent(change.getAmount().toCents());
             } else {
-                payOut = addSalaryAmount(personToEdit, modSalaryDescriptor);
+                payOut = payOut.plus(change.getAmount());
             }
         }
         if (isNegative(payOut)) {
             throw new CommandException(MESSAGE_NEGATIVE_PAY);
         }
 
-        newSalary = String.valueOf(formatter.format(payOut));
-
-        return newSalary;
+        return payOut;
     }
 
     /**
-     * Creates and returns a new String value of Bonus with the details of {@code personToEdit}
-     * edited with {@code modSalaryDescriptor}.
+     * Creates and returns the Bonus of {@code personToEdit}, or the months of {@code newSalary} in
+     * {@code modSalaryDescriptor} if it modifies the bonus.
      */
-    private static String modifyBonusMonth (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor,
-                                            Salary newSalary) {
-        NumberFormat formatter = new DecimalFormat("#0.00");
-        String bonus = personToEdit.getBonus().toString();
-        double currentSalary = Double.parseDouble(newSalary.toString());
-        if (!modSalaryDescriptor.getBonus().equals(Optional.empty())) {
-            String bonusMonth = modSalaryDescriptor.getBonus().toString().replaceAll("[^0-9.]", "");
-            double payOut = currentSalary * Double.parseDouble(bonusMonth);
-            bonus = String.valueOf(formatter.format(payOut));
+    private static Bonus modifyBonusMonth (Person personToEdit, ModSalaryDescriptor modSalaryDescriptor,
+                                           Money newSalary) throws ParseException {
+        if (!modSalaryDescriptor.getBonus().isPresent()) {
+            return personToEdit.getBonus();
         }
-        return bonus;
+        // the number of months is kept as an amount, so its cents are hundredths of a month
+        long hundredthsOfMonths = modSalaryDescriptor.getBonus().get().getAmount().toCents();
+        return ParserUtil.parseBonus(newSalary.times(hundredthsOfMonths).toString());
     }
 
     /**
@@ -197,8 +159,9 @@ public class ModifyPayCommand extends Command {
         Department updatedDepartment = personToEdit.getDepartment();
         Position updatedPosition = personToEdit.getPosition();
         Address updatedAddress = personToEdit.getAddress();
-        Salary updatedSalary = ParserUtil.parseSalary(typeOfSalaryMod(personToEdit, modSalaryDescriptor));
-        Bonus updatedBonus = ParserUtil.parseBonus(modifyBonusMonth(personToEdit, modSalaryDescriptor, updatedSalary));
+        Money updatedSalaryAmount = typeOfSalaryMod(personToEdit, modSalaryDescriptor);
+        Salary updatedSalary = ParserUtil.parseSalary(updatedSalaryAmount.toString());
+        Bonus updatedBonus = modifyBonusMonth(personToEdit, modSalaryDescriptor, updatedSalaryAmount);
 
         Set<Tag> updatedTags = personToEdit.getTags();
 
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
+import seedu.address.model.person.EmployeeIdInSetPredicate;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryPlan;
+import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
+
+/**
+ * Lists all persons in the address book that satisfy every condition of a query, sorted by a field.
+ * The query is answered through the most selective index available; in explain mode the plan chosen is shown
+ * instead of being run.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+    public static final String COMMAND_ALIAS = "q";
+    public static final String EXPLAIN = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons satisfying every condition given, "
+            + "sorted by the field given in ascending or descending order, then by name.\n"
+            + "Parameters: [" + EXPLAIN + "] FIELD OPERATOR VALUE [and FIELD OPERATOR VALUE]... "
+            + "[sort FIELD [asc|dsc]]\n"
+            + "Fields: id, name, department, position, salary, bonus, dob\n"
+            + "Operators: = (equals), ~ (contains), <, <=, >, >= (salary, bonus and dob only)\n"
+            + "Put a VALUE containing the words and or sort in double quotes, e.g. "
+            + "department=\"Research and Development\"\n"
+            + "Example: " + COMMAND_WORD + " department=Finance and salary>5000 and dob<1980 sort bonus dsc";
+
+    private final PersonQuery query;
+    private final boolean isExplain;
+
+    /**
+     * @param query The query to answer.
+     * @param isExplain True if the plan to answer the query is shown instead of being run.
+     */
+    public QueryCommand(PersonQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        QueryPlan plan = model.planPersonQuery(query);
+        if (isExplain) {
+            return new CommandResult(plan.explain());
+        }
+
+        model.updateFilteredPersonList(plan.execute(), query.getComparator());
+        model.updateFilteredExpensesList(new EmployeeIdExpensesContainsKeywordsPredicate(
+                EmployeeIdInSetPredicate.employeeIdsOf(model.getFilteredPersonList())));
+        model.updateFilteredScheduleList(new EmployeeIdScheduleContainsKeywordsPredicate(
+                EmployeeIdInSetPredicate.employeeIdsOf(model.getFilteredPersonList())));
+
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCommand // instanceof handles nulls
+                && query.equals(((QueryCommand) other).query)
+                && isExplain == ((QueryCommand) other).isExplain); // state check
+    }
+}
@@ -6,8 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICAL_EXPENSES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MISCELLANEOUS_EXPENSES;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TRAVEL_EXPENSES;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
 import java.util.StringTokenizer;
 
 import seedu.address.logic.commands.AddExpensesCommand;
@@ -19,6 +17,7 @@ import seedu.address.model.expenses.MedicalExpenses;
 import seedu.address.model.expenses.MiscellaneousExpenses;
 import seedu.address.model.expenses.TravelExpenses;
 import seedu.address.model.person.EmployeeId;
+import seedu.address.model.util.Money;
 
 /**
  * Parses input arguments and creates a new AddExpensesCommand object
@@ -30,7 +29,6 @@ public class AddExpensesCommandParser implements Parser<AddExpensesCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddExpensesCommand parse(String args) throws ParseException {
-        NumberFormat formatter = new DecimalFormat("#0.00");
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_EMPLOYEEID, PREFIX_TRAVEL_EXPENSES,
                         PREFIX_MEDICAL_EXPENSES, PREFIX_MISCELLANEOUS_EXPENSES);
@@ -72,10 +70,9 @@ public class AddExpensesCommandParser implements Parser<AddExpensesCommand> {
                     PREFIX_MISCELLANEOUS_EXPENSES).get());
         }
 
-        double sumOfExpenses = Double.parseDouble((travelExpenses).toString())
-                + Double.parseDouble((medicalExpenses).toString())
-                + Double.parseDouble((miscellaneousExpenses).toString());
-        expensesAmount = ParserUtil.parseExpensesAmount(String.valueOf(formatter.format(sumOfExpenses)));
+        Money sumOfExpenses = travelExpenses.getAmount().plus(medicalExpenses.getAmount())
+                .plus(miscellaneousExpenses.getAmount());
+        expensesAmount = ParserUtil.parseExpensesAmount(sumOfExpenses.toString());
 
 
         Expenses expenses = new Expenses (employeeId, expensesAmount, travelExpenses, medicalExpenses,
@@ -37,7 +37,7 @@ public class AddLeavesCommandParser implements Parser<AddLeavesCommand> {
 
         Set<Date> datePastSet = new HashSet<>();
         for (Date date: dateSet) {
-            if (Date.isBeforeTodayDate(date.value)) {
+            if (Date.isBeforeTodayDate(date.toString())) {
                 datePastSet.add(date);
             }
         }
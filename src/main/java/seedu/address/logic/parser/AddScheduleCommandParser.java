@@ -55,7 +55,7 @@ public class AddScheduleCommandParser implements Parser <AddScheduleCommand> {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/YYYY");
         String todayDate = localDate.format(formatter);
 
-        if (Date.isBeforeTodayDate(date.value)) {
+        if (Date.isBeforeTodayDate(date.toString())) {
             throw new ParseException(String.format(MESSAGE_DATE_OF_SCHEDULE_BEFORE_TODAY_DATE, date, todayDate));
         }
 
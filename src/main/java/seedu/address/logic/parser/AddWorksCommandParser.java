@@ -36,7 +36,7 @@ public class AddWorksCommandParser implements Parser<AddWorksCommand> {
 
         Set<Date> datePastSet = new HashSet<>();
         for (Date date: dateSet) {
-            if (Date.isBeforeTodayDate(date.value)) {
+            if (Date.isBeforeTodayDate(date.toString())) {
                 datePastSet.add(date);
             }
         }
@@ -31,9 +31,11 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.LeaveReportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ModifyAllPayCommand;
 import seedu.address.logic.commands.ModifyPayCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveExpensesCommand;
 import seedu.address.logic.commands.SelectCommand;
@@ -162,6 +164,10 @@ public class AddressBookParser {
         case CalculateLeavesCommand.COMMAND_WORD:
             return new CalculateLeavesCommandParser().parse(arguments);
 
+        case LeaveReportCommand.COMMAND_ALIAS:
+        case LeaveReportCommand.COMMAND_WORD:
+            return new LeaveReportCommandParser().parse(arguments);
+
         case SelectExpensesCommand.COMMAND_WORD:
         case SelectExpensesCommand.COMMAND_ALIAS:
             return new SelectExpensesCommandParser().parse(arguments);
@@ -193,6 +199,10 @@ public class AddressBookParser {
         case FilterCommand.COMMAND_WORD:
             return new FilterCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+        case QueryCommand.COMMAND_ALIAS:
+            return new QueryCommandParser().parse(arguments);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND + greeting.getGreeting() + GREETING_MESSAGE_NONEWLINE);
         }
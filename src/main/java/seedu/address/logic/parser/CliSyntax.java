@@ -17,6 +17,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_SALARY = new Prefix("s/");
     public static final Prefix PREFIX_BONUS = new Prefix("b/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 
     public static final Prefix PREFIX_EXPENSES_AMOUNT = new Prefix("ex/");
     public static final Prefix PREFIX_TRAVEL_EXPENSES = new Prefix("tra/");
@@ -2,12 +2,20 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BONUS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DEPARTMENT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Range;
 
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,16 +23,28 @@ import seedu.address.model.person.Department;
 import seedu.address.model.person.DepartmentContainsKeywordsPredicate;
 import seedu.address.model.person.Position;
 import seedu.address.model.person.PositionContainsKeywordsPredicate;
+import seedu.address.model.util.Money;
 
 /**
  * Parses input arguments and creates a new FilterCommand object
  */
 public class FilterCommandParser implements Parser<FilterCommand> {
 
+    public static final String MESSAGE_RANGE_CONSTRAINTS = "Salary and bonus ranges should be given as MIN-MAX, "
+            + "where MIN or MAX can be left out for a range without that bound, and MIN should not be more than MAX. "
+            + "Amounts should only contain numbers, with at most 2 decimal places.";
+    public static final String MESSAGE_LIMIT_CONSTRAINTS = "The number of employees to keep from each department "
+            + "should be a positive integer.";
+
     private static final List<String> ACCEPTED_ORDERS = new ArrayList<>(Arrays.asList(FilterCommand.ASCENDING,
             FilterCommand.DESCENDING));
     private static final String DEPARTMENT_KEYWORD_VALIDATION_REGEX = "[A-Za-z ]{1,30}";
     private static final String POSITION_KEYWORD_VALIDATION_REGEX = "[A-Za-z ]{1,30}";
+    private static final Pattern RANGE_FORMAT = Pattern.compile(
+            "(?<min>[0-9]{1,9}([.][0-9]{1,2})?)?\\s*-\\s*(?<max>[0-9]{1,9}([.][0-9]{1,2})?)?");
+    private static final String LIMIT_VALIDATION_REGEX = "0*[1-9][0-9]{0,8}";
+    private static final Prefix[] FILTER_PREFIXES = {PREFIX_DEPARTMENT, PREFIX_POSITION, PREFIX_SALARY, PREFIX_BONUS,
+        PREFIX_TOP};
     private static final int INDEX_ONE = 0;
 
     /**
@@ -43,11 +63,11 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                 .asList(departmentKeywords)), new PositionContainsKeywordsPredicate(Arrays.asList(positionKeywords)),
                 sortOrder);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DEPARTMENT, PREFIX_POSITION);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, FILTER_PREFIXES);
 
-        if (trimmedArgs.isEmpty() || (!argMultimap.getValue(PREFIX_DEPARTMENT).isPresent()
-                && !argMultimap.getValue(PREFIX_POSITION).isPresent()) || !didPrefixesAppearOnlyOnce(trimmedArgs)
-                || !ACCEPTED_ORDERS.contains(sortOrder)) {
+        if (trimmedArgs.isEmpty() || Arrays.stream(FILTER_PREFIXES)
+                .noneMatch(prefix -> argMultimap.getValue(prefix).isPresent())
+                || !didPrefixesAppearOnlyOnce(trimmedArgs) || !ACCEPTED_ORDERS.contains(sortOrder)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
 
@@ -65,9 +85,58 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             throw new ParseException(Position.MESSAGE_POSITION_KEYWORD_CONSTRAINTS);
         }
 
+        if (argMultimap.getValue(PREFIX_SALARY).isPresent()) {
+            filterCommand.setSalaryRange(parseRange(argMultimap.getValue(PREFIX_SALARY).get()));
+        }
+        if (argMultimap.getValue(PREFIX_BONUS).isPresent()) {
+            filterCommand.setBonusRange(parseRange(argMultimap.getValue(PREFIX_BONUS).get()));
+        }
+        if (argMultimap.getValue(PREFIX_TOP).isPresent()) {
+            filterCommand.setLimitPerDepartment(parseLimit(argMultimap.getValue(PREFIX_TOP).get()));
+        }
+
         return filterCommand;
     }
 
+    /**
+     * Parses a range of salary or bonus written as MIN-MAX, where either bound can be left out.
+     * @param range The user's input for the range
+     * @throws ParseException if the range is not written as MIN-MAX, has no bound, or MIN is more than MAX
+     */
+    public Range<Money> parseRange(String range) throws ParseException {
+        Matcher matcher = RANGE_FORMAT.matcher(range.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(MESSAGE_RANGE_CONSTRAINTS);
+        }
+
+        Optional<Money> min = Optional.ofNullable(matcher.group("min")).map(Money::parse);
+        Optional<Money> max = Optional.ofNullable(matcher.group("max")).map(Money::parse);
+        if (min.isPresent() && max.isPresent()) {
+            if (min.get().compareTo(max.get()) > 0) {
+                throw new ParseException(MESSAGE_RANGE_CONSTRAINTS);
+            }
+            return Range.closed(min.get(), max.get());
+        } else if (min.isPresent()) {
+            return Range.atLeast(min.get());
+        } else if (max.isPresent()) {
+            return Range.atMost(max.get());
+        }
+        throw new ParseException(MESSAGE_RANGE_CONSTRAINTS);
+    }
+
+    /**
+     * Parses the number of highest paid employees to keep from each department.
+     * @param limit The user's input for the number of employees
+     * @throws ParseException if the number is not a positive integer
+     */
+    public int parseLimit(String limit) throws ParseException {
+        String trimmedLimit = limit.trim();
+        if (!trimmedLimit.matches(LIMIT_VALIDATION_REGEX)) {
+            throw new ParseException(MESSAGE_LIMIT_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
     /**
      * Process the department keyword(s) from the user that are to be searched.
      * @param argMultimap The user input that has been tokenized based on the prefixes
@@ -149,14 +218,17 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     }
 
     /**
-     * Check whether department and position prefix appeared more than once within the argument.
+     * Check whether any of the department, position, salary, bonus and top prefixes appeared more than once within
+     * the argument.
      * @param argument The user's input
      */
     public boolean didPrefixesAppearOnlyOnce(String argument) {
-        String departmentPrefix = " " + PREFIX_DEPARTMENT.toString();
-        String positionPrefix = " " + PREFIX_POSITION.toString();
-
-        return argument.indexOf(departmentPrefix) == argument.lastIndexOf(departmentPrefix)
-                && argument.indexOf(positionPrefix) == argument.lastIndexOf(positionPrefix);
+        for (Prefix prefix : FILTER_PREFIXES) {
+            String spacedPrefix = " " + prefix.toString();
+            if (argument.indexOf(spacedPrefix) != argument.lastIndexOf(spacedPrefix)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
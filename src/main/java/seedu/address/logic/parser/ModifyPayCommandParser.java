@@ -10,12 +10,13 @@ import seedu.address.logic.commands.ModifyPayCommand;
 import seedu.address.logic.commands.ModifyPayCommand.ModSalaryDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Bonus;
+import seedu.address.model.util.Money;
 
 /**
  * Parses input arguments and creates a new EditCommand object
  */
 public class ModifyPayCommandParser implements Parser<ModifyPayCommand> {
-    private static final double BONUS_UPPER_LIMIT = 24.0;
+    private static final Money BONUS_UPPER_LIMIT = Money.parse("24");
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -47,9 +48,7 @@ public class ModifyPayCommandParser implements Parser<ModifyPayCommand> {
         if (argMultimap.getValue(PREFIX_BONUS).isPresent()) {
             Bonus bonusInput = ParserUtil.parseBonus(argMultimap.getValue(PREFIX_BONUS).get());
 
-            double bonus = Double.parseDouble(argMultimap.getValue(PREFIX_BONUS).get());
-
-            if (bonus > BONUS_UPPER_LIMIT) {
+            if (bonusInput.getAmount().compareTo(BONUS_UPPER_LIMIT) > 0) {
                 throw new ParseException(Bonus.MESSAGE_BONUS_CONSTRAINTS);
             }
 
@@ -165,7 +165,7 @@ public class ParserUtil {
         if (!Type.isValidType(trimmedStatus)) {
             throw new ParseException(Type.MESSAGE_TYPE_CONSTRAINTS);
         }
-        return new Type(trimmedStatus);
+        return Type.of(trimmedStatus);
     }
 
     /**
@@ -255,7 +255,7 @@ public class ParserUtil {
         if (!Department.isValidDepartment(trimmedDepartment)) {
             throw new ParseException(Department.MESSAGE_DEPARTMENT_CONSTRAINTS);
         }
-        return new Department(trimmedDepartment);
+        return Department.of(trimmedDepartment);
     }
 
     /**
@@ -270,7 +270,7 @@ public class ParserUtil {
         if (!Position.isValidPosition(trimmedPosition)) {
             throw new ParseException(Position.MESSAGE_POSITION_CONSTRAINTS);
         }
-        return new Position(trimmedPosition);
+        return Position.of(trimmedPosition);
     }
 
     /**
@@ -315,7 +315,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -0,0 +1,145 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryCondition;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.model.person.query.QueryOperator;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ * A query is a list of conditions joined by {@code and}, optionally followed by a sort clause, such as
+ * {@code department=Finance and salary>5000 sort bonus dsc}. Keywords are case insensitive.
+ * A value may be put in double quotes, such as {@code department="Research and Development"}, so that the words
+ * {@code and} and {@code sort} within it are not taken as keywords of the query.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown field: %1$s";
+    public static final String MESSAGE_UNSUPPORTED_OPERATOR = "Field %1$s cannot be compared with %2$s";
+    public static final String MESSAGE_INVALID_VALUE = "Invalid value for field %1$s: %2$s";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted value is not closed: %1$s";
+
+    private static final Pattern EXPLAIN_FORMAT =
+            Pattern.compile("(?i)" + QueryCommand.EXPLAIN + "\\s+(?<query>.+)");
+    private static final Pattern SORT_FORMAT =
+            Pattern.compile("(?i)(?<conditions>.+?)\\s+sort\\s+(?<field>\\w+)(\\s+(?<order>asc|dsc))?");
+    private static final Pattern CONDITION_FORMAT =
+            Pattern.compile("(?<field>\\w+)\\s*(?<operator><=|>=|=|~|<|>)\\s*(?<value>.+)");
+    private static final Pattern CONDITION_SEPARATOR = Pattern.compile("(?i)\\s+and\\s+");
+    private static final Pattern QUOTED_VALUE = Pattern.compile("\"(?<value>[^\"]*)\"");
+    private static final char QUOTE = '"';
+    private static final char QUOTED_CHARACTER_MASK = '_';
+    private static final String DESCENDING = "dsc";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String queryText = args.trim();
+
+        boolean isExplain = false;
+        Matcher explainMatcher = EXPLAIN_FORMAT.matcher(queryText);
+        if (explainMatcher.matches()) {
+            isExplain = true;
+            queryText = explainMatcher.group("query");
+        }
+
+        // the keywords are looked for in the masked text, and the parts they separate are taken from the query text
+        String maskedText = maskQuotedValues(queryText);
+        QueryField sortField = null;
+        boolean isDescending = false;
+        Matcher sortMatcher = SORT_FORMAT.matcher(maskedText);
+        if (sortMatcher.matches()) {
+            int conditionsEnd = sortMatcher.end("conditions");
+            queryText = queryText.substring(0, conditionsEnd);
+            maskedText = maskedText.substring(0, conditionsEnd);
+            sortField = parseField(sortMatcher.group("field"));
+            isDescending = DESCENDING.equalsIgnoreCase(sortMatcher.group("order"));
+        }
+
+        if (queryText.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        List<QueryCondition> conditions = new ArrayList<>();
+        Matcher separatorMatcher = CONDITION_SEPARATOR.matcher(maskedText);
+        int conditionStart = 0;
+        while (separatorMatcher.find()) {
+            conditions.add(parseCondition(queryText.substring(conditionStart, separatorMatcher.start()).trim()));
+            conditionStart = separatorMatcher.end();
+        }
+        conditions.add(parseCondition(queryText.substring(conditionStart).trim()));
+
+        return new QueryCommand(new PersonQuery(conditions, sortField, isDescending), isExplain);
+    }
+
+    /**
+     * Parses a condition such as {@code salary > 5000}.
+     * @throws ParseException if the condition is not of a known field, operator and valid value.
+     */
+    private static QueryCondition parseCondition(String conditionText) throws ParseException {
+        Matcher matcher = CONDITION_FORMAT.matcher(conditionText);
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        QueryField field = parseField(matcher.group("field"));
+        QueryOperator operator = QueryOperator.fromSymbol(matcher.group("operator")).get();
+        String value = matcher.group("value").trim();
+        Matcher quotedValueMatcher = QUOTED_VALUE.matcher(value);
+        if (quotedValueMatcher.matches()) {
+            value = quotedValueMatcher.group("value");
+        }
+        if (!field.supports(operator)) {
+            throw new ParseException(String.format(MESSAGE_UNSUPPORTED_OPERATOR, field, operator));
+        }
+        if (!field.isValidValue(value)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_VALUE, field, value));
+        }
+        return new QueryCondition(field, operator, value);
+    }
+
+    /**
+     * Returns {@code queryText} with the characters within each pair of double quotes masked, so that the keywords
+     * of the query are only found outside of quoted values. The masked text has the same length as
+     * {@code queryText}, so a position in one is the same position in the other.
+     * @throws ParseException if a double quote is not closed.
+     */
+    private static String maskQuotedValues(String queryText) throws ParseException {
+        StringBuilder maskedText = new StringBuilder(queryText);
+        Matcher matcher = QUOTED_VALUE.matcher(queryText);
+        int unquotedStart = 0;
+        while (matcher.find()) {
+            for (int i = matcher.start("value"); i < matcher.end("value"); i++) {
+                maskedText.setCharAt(i, QUOTED_CHARACTER_MASK);
+            }
+            unquotedStart = matcher.end();
+        }
+        int unclosedQuoteIndex = queryText.indexOf(QUOTE, unquotedStart);
+        if (unclosedQuoteIndex >= 0) {
+            throw new ParseException(String.format(MESSAGE_UNCLOSED_QUOTE, queryText.substring(unclosedQuoteIndex)));
+        }
+        return maskedText.toString();
+    }
+
+    /**
+     * Parses the name of a field.
+     * @throws ParseException if there is no field of that name.
+     */
+    private static QueryField parseField(String fieldText) throws ParseException {
+        return QueryField.fromKeyword(fieldText)
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, fieldText)));
+    }
+}
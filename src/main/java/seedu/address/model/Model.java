@@ -1,18 +1,31 @@
 package seedu.address.model;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import com.google.common.collect.Range;
+
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryPlan;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.schedule.DateSet;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
+import seedu.address.model.util.Money;
 
 /**
  * The API of the Model component.
@@ -34,16 +47,20 @@ public interface Model {
     boolean canRedoModel();
     boolean canUndoModel();
 
-    /** Get the last or next commit storage type  */
-    Set<ModelTypes> getNextCommitType();
-    Set<ModelTypes> getLastCommitType();
-
     /** Clears existing backing model and replaces with the provided new data. */
     void resetAddressBookData(ReadOnlyAddressBook newData);
     void resetDataExpenses(ReadOnlyExpensesList newData);
     void resetScheduleListData(ReadOnlyScheduleList newData);
     void resetRecruitmentListData(ReadOnlyRecruitmentList newData);
 
+    /**
+     * Replaces a list with the data loaded for it when the app starts, which may finish after the model is created.
+     * Unlike the methods above, this cannot be undone and raises no change event, as the data is already saved.
+     */
+    void loadExpensesList(ReadOnlyExpensesList loadedData);
+    void loadScheduleList(ReadOnlyScheduleList loadedData);
+    void loadRecruitmentList(ReadOnlyRecruitmentList loadedData);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
     ReadOnlyExpensesList getExpensesList();
@@ -88,6 +105,105 @@ public interface Model {
     void updateSchedule(Schedule target, Schedule editedSchedule);
     void updateRecruitment(Recruitment target, Recruitment editedSchedule);
 
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with the person it maps to, as one change.
+     * Every key must exist in the address book, and the edited address book must not contain duplicate persons.
+     * The address book is left unchanged if any of these checks fails.
+     */
+    void updatePersons(Map<Person, Person> editedPersons);
+
+    /**
+     * Returns the persons in the address book whose name contains {@code keyword}, ignoring case.
+     * The filtered person list is not taken into account.
+     */
+    List<Person> findPersonsByName(String keyword);
+
+    /**
+     * Returns the number of persons in each department of the address book, in alphabetical order of department
+     * in upper case. The filtered person list is not taken into account.
+     */
+    Map<String, Integer> getDepartmentCounts();
+
+    /**
+     * Returns the number of persons in each position of the address book, in alphabetical order of position
+     * in upper case. The filtered person list is not taken into account.
+     */
+    Map<String, Integer> getPositionCounts();
+
+    /**
+     * Returns the number of persons in {@code position} of {@code department}, both ignoring case.
+     */
+    int getHeadcount(String department, String position);
+
+    /**
+     * Returns the persons in the address book with a salary within {@code range}, from the lowest salary to the
+     * highest. The filtered person list is not taken into account.
+     */
+    List<Person> findPersonsBySalary(Range<Money> range);
+
+    /**
+     * Returns the persons in the address book with a bonus within {@code range}, from the lowest bonus to the highest.
+     * The filtered person list is not taken into account.
+     */
+    List<Person> findPersonsByBonus(Range<Money> range);
+
+    /**
+     * Returns the persons in the address book matching {@code predicate} with the highest salaries within
+     * {@code salaryRange} in each department accepted by {@code departmentFilter}, at most {@code limitPerDepartment}
+     * of them per department, from the highest salary to the lowest. The filtered person list is not taken into
+     * account. The departments are passed to {@code departmentFilter} in upper case.
+     */
+    List<Person> findHighestPaidPersons(Range<Money> salaryRange, Predicate<String> departmentFilter,
+                                        Predicate<Person> predicate, int limitPerDepartment);
+
+    /**
+     * Returns the plan to answer {@code query} on the persons of the address book.
+     */
+    QueryPlan planPersonQuery(PersonQuery query);
+
+    /**
+     * Returns an unmodifiable view of the schedules of the employee with {@code employeeId}.
+     */
+    List<Schedule> getSchedulesOf(EmployeeId employeeId);
+
+    /**
+     * Deletes all schedules of the employee with {@code employeeId}.
+     */
+    void removeAllSchedulesOf(EmployeeId employeeId);
+
+    /**
+     * Adds all of {@code schedules} in one change of the schedule list.
+     * None of {@code schedules} may already exist in the schedule list.
+     */
+    void addSchedules(List<Schedule> schedules);
+
+    /**
+     * Deletes all of {@code schedules} in one change of the schedule list.
+     * Each of {@code schedules} must exist in the schedule list.
+     */
+    void deleteSchedules(List<Schedule> schedules);
+
+    /**
+     * Returns the dates on which the employee with {@code employeeId} has schedules of {@code type}.
+     */
+    DateSet getScheduledDates(EmployeeId employeeId, Type type);
+
+    /**
+     * Returns the number of leaves the employee with {@code employeeId} has scheduled in {@code year}.
+     */
+    int getLeaveCount(EmployeeId employeeId, Year year);
+
+    /**
+     * Returns the number of leaves each employee has scheduled in {@code year}.
+     * Employees without leave in {@code year} are left out.
+     */
+    Map<EmployeeId, Integer> getLeaveCounts(Year year);
+
+    /**
+     * Returns the expenses of the employee with {@code employeeId}, if any.
+     */
+    Optional<Expenses> getExpensesOf(EmployeeId employeeId);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Expenses> getFilteredExpensesList();
     ObservableList<Person> getFilteredPersonList();
@@ -102,45 +218,31 @@ public interface Model {
     void updateFilteredExpensesList(Predicate<Expenses> predicate);
     void updateFilteredPersonList(Predicate<Person> predicate);
     void updateFilteredPersonList(Predicate<Person> predicate, String sortOrder);
-    void updateFilteredScheduleList(Predicate<Schedule> predicate);
-    void updateFilteredRecruitmentList(Predicate<Recruitment> predicate);
 
     /**
-     * Returns true if the model has previous address book states to restore.
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and sorts the persons
+     * in the order of {@code comparator}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
      */
-    boolean canUndoAddressBook();
-    boolean canUndoExpensesList();
-    boolean canUndoScheduleList();
-    boolean canUndoRecruitmentList();
-
-    /**
-     * Returns true if the model has undone address book states to restore.
-     */
-    boolean canRedoAddressBook();
-    boolean canRedoExpensesList();
-    boolean canRedoScheduleList();
-    boolean canRedoRecruitmentList();
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+    void updateFilteredScheduleList(Predicate<Schedule> predicate);
+    void updateFilteredRecruitmentList(Predicate<Recruitment> predicate);
 
     /**
-     * Restores the model's address book to its previous state.
+     * Reverts the changes made since the last commit, then reverts the changes saved by the last commit.
+     * Only the records that were changed are restored.
      */
-    void undoAddressBook();
-    void undoExpensesList();
-    void undoScheduleList();
-    void undoRecruitmentList();
-    void undoModelList();
+    void undoModel();
 
     /**
-     * Restores the model's address book to its previously undone state.
+     * Reverts the changes made since the last commit, then reapplies the changes saved by the last undone commit.
      */
-    void redoAddressBook();
-    void redoExpensesList();
-    void redoScheduleList();
-    void redoRecruitmentList();
-    void redoModelList();
+    void redoModel();
 
     /**
-     * Saves the current address book state for undo/redo.
+     * Saves the changes made since the last commit as one step for undo/redo.
+     * The lists a command changes are tracked as it changes them, so the methods below are equivalent, and only
+     * document which lists the calling command changes.
      */
     void commitAddressBook();
     void commitExpensesList();
@@ -148,4 +250,24 @@ public interface Model {
     void commitRecruitmentPostList();
     void commitMultipleLists(Set<ModelTypes> stack);
 
+    /**
+     * Starts a batch of mutations.
+     * Until the matching {@code endBatch()}, mutated lists are not re-sorted, their filters are not reset and
+     * no change events are raised. Batches can be nested.
+     */
+    void startBatch();
+
+    /**
+     * Ends the batch started by the matching {@code startBatch()}.
+     * When the outermost batch ends, every list mutated in it is sorted, has its filter refreshed and raises its
+     * change event exactly once.
+     */
+    void endBatch();
+
+    /**
+     * Returns the snapshot of the model published by the last commit, undo or redo.
+     * Unlike the other methods, this can be called from any thread.
+     */
+    ModelSnapshot getSnapshot();
+
 }
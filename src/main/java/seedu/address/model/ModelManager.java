@@ -3,10 +3,19 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import com.google.common.collect.Range;
+
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -18,20 +27,24 @@ import seedu.address.commons.events.model.RecruitmentListChangedEvent;
 import seedu.address.commons.events.model.ScheduleListChangedEvent;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
-import seedu.address.model.addressbook.VersionedAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ExpensesList;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
-import seedu.address.model.expenses.VersionedExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryPlan;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.recruitment.RecruitmentList;
-import seedu.address.model.recruitment.VersionedRecruitmentList;
+import seedu.address.model.schedule.DateSet;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleList;
-import seedu.address.model.schedule.VersionedScheduleList;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
+import seedu.address.model.util.Money;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -41,14 +54,24 @@ public class ModelManager extends ComponentManager implements Model {
     private static final String ASCENDING_ORDER = "asc";
 
     private final VersionedModelList versionedModelList;
-    private final VersionedAddressBook versionedAddressBook;
-    private final VersionedExpensesList versionedExpensesList;
-    private final VersionedScheduleList versionedScheduleList;
-    private final VersionedRecruitmentList versionedRecruitmentList;
+    private final AddressBook addressBook;
+    private final ExpensesList expensesList;
+    private final ScheduleList scheduleList;
+    private final RecruitmentList recruitmentList;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Expenses> filteredExpenses;
     private final FilteredList<Schedule> filteredSchedules;
     private final FilteredList<Recruitment> filteredRecruitment;
+    private final Set<ModelTypes> batchModifiedLists = EnumSet.noneOf(ModelTypes.class);
+    private final Set<ModelTypes> batchFilterResetLists = EnumSet.noneOf(ModelTypes.class);
+    private int batchDepth;
+
+    // the lists as of their last change event, published together as the next snapshot
+    private PersistentList<Person> latestPersons;
+    private PersistentList<Expenses> latestExpenses;
+    private PersistentList<Schedule> latestSchedules;
+    private PersistentList<Recruitment> latestRecruitment;
+    private volatile ModelSnapshot snapshot;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -62,94 +85,238 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
-        versionedExpensesList = new VersionedExpensesList(expensesList);
-        versionedScheduleList = new VersionedScheduleList(scheduleList);
-        versionedRecruitmentList = new VersionedRecruitmentList(recruitmentList);
-        filteredExpenses = new FilteredList<>(versionedExpensesList.getExpensesRequestList());
-        filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
-        filteredSchedules = new FilteredList<>(versionedScheduleList.getScheduleList());
-        filteredRecruitment = new FilteredList<>(versionedRecruitmentList.getRecruitmentList());
+        this.addressBook = new AddressBook(addressBook);
+        this.expensesList = new ExpensesList(expensesList);
+        this.scheduleList = new ScheduleList(scheduleList);
+        this.recruitmentList = new RecruitmentList(recruitmentList);
+        filteredExpenses = new FilteredList<>(this.expensesList.getExpensesRequestList());
+        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredSchedules = new FilteredList<>(this.scheduleList.getScheduleList());
+        filteredRecruitment = new FilteredList<>(this.recruitmentList.getRecruitmentList());
         versionedModelList = new VersionedModelList();
-
+        latestPersons = PersistentList.of(this.addressBook.getPersonList());
+        latestExpenses = PersistentList.of(this.expensesList.getExpensesRequestList());
+        latestSchedules = PersistentList.of(this.scheduleList.getScheduleList());
+        latestRecruitment = PersistentList.of(this.recruitmentList.getRecruitmentList());
+        snapshot = new ModelSnapshot(0, latestPersons, latestExpenses, latestSchedules, latestRecruitment);
     }
 
     public ModelManager() {
         this(new AddressBook(), new ExpensesList(), new ScheduleList(), new RecruitmentList(), new UserPrefs());
     }
 
+    @Override
     public boolean canRedoModel() {
         return versionedModelList.canRedoStorage();
     }
+
+    @Override
     public boolean canUndoModel() {
         return versionedModelList.canUndoStorage();
     }
-    public Set<ModelTypes> getNextCommitType() {
-        return versionedModelList.getNextCommitType();
-    }
-    public Set<ModelTypes> getLastCommitType() {
-        return versionedModelList.getLastCommitType();
-    }
 
     //-----------------------------------------------------------------------------
     @Override
     public void resetAddressBookData(ReadOnlyAddressBook newData) {
-        versionedAddressBook.resetData(newData);
+        AddressBook oldData = new AddressBook(addressBook);
+        addressBook.resetData(newData);
+        AddressBook resetData = new AddressBook(addressBook);
+        Runnable undoAction = () -> addressBook.resetData(oldData);
+        Runnable redoAction = () -> addressBook.resetData(resetData);
+        versionedModelList.record(ModelTypes.ADDRESS_BOOK, undoAction, redoAction);
         indicateAddressBookChanged();
     }
 
     @Override
     public void resetDataExpenses(ReadOnlyExpensesList newData) {
-        versionedExpensesList.resetData(newData);
+        ExpensesList oldData = new ExpensesList(expensesList);
+        expensesList.resetData(newData);
+        ExpensesList resetData = new ExpensesList(expensesList);
+        Runnable undoAction = () -> expensesList.resetData(oldData);
+        Runnable redoAction = () -> expensesList.resetData(resetData);
+        versionedModelList.record(ModelTypes.EXPENSES_LIST, undoAction, redoAction);
         indicateExpensesListChanged();
     }
 
     @Override
     public void resetScheduleListData(ReadOnlyScheduleList newData) {
-        versionedScheduleList.resetData(newData);
+        ScheduleList oldData = new ScheduleList(scheduleList);
+        scheduleList.resetData(newData);
+        ScheduleList resetData = new ScheduleList(scheduleList);
+        Runnable undoAction = () -> scheduleList.resetData(oldData);
+        Runnable redoAction = () -> scheduleList.resetData(resetData);
+        versionedModelList.record(ModelTypes.SCHEDULES_LIST, undoAction, redoAction);
         indicateScheduleListChanged();
     }
 
     @Override
     public void resetRecruitmentListData(ReadOnlyRecruitmentList newData) {
-        versionedRecruitmentList.resetData(newData);
+        RecruitmentList oldData = new RecruitmentList(recruitmentList);
+        recruitmentList.resetData(newData);
+        RecruitmentList resetData = new RecruitmentList(recruitmentList);
+        Runnable undoAction = () -> recruitmentList.resetData(oldData);
+        Runnable redoAction = () -> recruitmentList.resetData(resetData);
+        versionedModelList.record(ModelTypes.RECRUITMENT_LIST, undoAction, redoAction);
         indicateRecruitmentListChanged();
     }
 
+    @Override
+    public void loadExpensesList(ReadOnlyExpensesList loadedData) {
+        expensesList.resetData(loadedData);
+        refreshList(ModelTypes.EXPENSES_LIST, true);
+        latestExpenses = latestExpenses.update(expensesList.getExpensesRequestList());
+        publishSnapshot();
+    }
+
+    @Override
+    public void loadScheduleList(ReadOnlyScheduleList loadedData) {
+        scheduleList.resetData(loadedData);
+        refreshList(ModelTypes.SCHEDULES_LIST, true);
+        latestSchedules = latestSchedules.update(scheduleList.getScheduleList());
+        publishSnapshot();
+    }
+
+    @Override
+    public void loadRecruitmentList(ReadOnlyRecruitmentList loadedData) {
+        recruitmentList.resetData(loadedData);
+        refreshList(ModelTypes.RECRUITMENT_LIST, true);
+        latestRecruitment = latestRecruitment.update(recruitmentList.getRecruitmentList());
+        publishSnapshot();
+    }
+
     //-----------------------------------------------------------------------------
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return versionedAddressBook;
+        return addressBook;
     }
 
     @Override
     public ReadOnlyExpensesList getExpensesList() {
-        return versionedExpensesList; }
+        return expensesList; }
 
     @Override
     public ReadOnlyScheduleList getScheduleList() {
-        return versionedScheduleList; }
+        return scheduleList; }
 
     @Override
     public ReadOnlyRecruitmentList getRecruitmentList() {
-        return versionedRecruitmentList; }
+        return recruitmentList; }
 
     //-----------------------------------------------------------------------------
 
-    /** Raises an event to indicate the model has changed */
+    /**
+     * Raises an event to indicate the model has changed.
+     * The event carries an immutable copy of the changed list, which shares its unchanged elements with the copy
+     * made at the previous change, so that the list can be saved on another thread.
+     */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(versionedAddressBook));
+        PersistentList<Person> persons = latestPersons.update(addressBook.getPersonList());
+        latestPersons = persons;
+        raise(new AddressBookChangedEvent(() -> asReadOnlyList(persons)));
     }
 
     private void indicateExpensesListChanged() {
-        raise(new ExpensesListChangedEvent(versionedExpensesList)); }
+        PersistentList<Expenses> expenses = latestExpenses.update(expensesList.getExpensesRequestList());
+        latestExpenses = expenses;
+        raise(new ExpensesListChangedEvent(() -> asReadOnlyList(expenses)));
+    }
 
     private void indicateScheduleListChanged() {
-        raise(new ScheduleListChangedEvent(versionedScheduleList));
+        PersistentList<Schedule> schedules = latestSchedules.update(scheduleList.getScheduleList());
+        latestSchedules = schedules;
+        raise(new ScheduleListChangedEvent(() -> asReadOnlyList(schedules)));
     }
 
     private void indicateRecruitmentListChanged() {
-        raise(new RecruitmentListChangedEvent(versionedRecruitmentList));
+        PersistentList<Recruitment> recruitment = latestRecruitment.update(recruitmentList.getRecruitmentList());
+        latestRecruitment = recruitment;
+        raise(new RecruitmentListChangedEvent(() -> asReadOnlyList(recruitment)));
+    }
+
+    private static <T> ObservableList<T> asReadOnlyList(PersistentList<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(list));
+    }
+
+    /**
+     * Sorts the list of {@code type}, resets its filter to show all if {@code isFilterReset} and raises its
+     * change event. Inside a batch, all of these are deferred to the end of the batch.
+     */
+    private void indicateListModified(ModelTypes type, boolean isFilterReset) {
+        if (isInBatch()) {
+            batchModifiedLists.add(type);
+            if (isFilterReset) {
+                batchFilterResetLists.add(type);
+            }
+            return;
+        }
+        refreshList(type, isFilterReset);
+        indicateListChanged(type);
+    }
+
+    /**
+     * Resets the filter of the list of {@code type} to show all, or defers it to the end of the batch.
+     */
+    private void resetFilter(ModelTypes type) {
+        if (isInBatch()) {
+            batchFilterResetLists.add(type);
+            return;
+        }
+        refreshList(type, true);
+    }
+
+    /**
+     * Sorts the list of {@code type} and resets its filter to show all if {@code isFilterReset}.
+     */
+    private void refreshList(ModelTypes type, boolean isFilterReset) {
+        switch (type) {
+        case ADDRESS_BOOK:
+            addressBook.sortEmployeesBy(ASCENDING_ORDER);
+            if (isFilterReset) {
+                filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+            }
+            break;
+        case EXPENSES_LIST:
+            expensesList.sortExpensesBy();
+            if (isFilterReset) {
+                filteredExpenses.setPredicate(PREDICATE_SHOW_ALL_EXPENSES);
+            }
+            break;
+        case SCHEDULES_LIST:
+            scheduleList.sortSchedulesBy();
+            if (isFilterReset) {
+                filteredSchedules.setPredicate(PREDICATE_SHOW_ALL_SCHEDULES);
+            }
+            break;
+        case RECRUITMENT_LIST:
+            if (isFilterReset) {
+                filteredRecruitment.setPredicate(PREDICATE_SHOW_ALL_RECRUITMENT);
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown model type: " + type);
+        }
+    }
+
+    /**
+     * Raises the change event of the list of {@code type}.
+     */
+    private void indicateListChanged(ModelTypes type) {
+        switch (type) {
+        case ADDRESS_BOOK:
+            indicateAddressBookChanged();
+            break;
+        case EXPENSES_LIST:
+            indicateExpensesListChanged();
+            break;
+        case SCHEDULES_LIST:
+            indicateScheduleListChanged();
+            break;
+        case RECRUITMENT_LIST:
+            indicateRecruitmentListChanged();
+            break;
+        default:
+            throw new AssertionError("Unknown model type: " + type);
+        }
     }
 
 
@@ -157,370 +324,465 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public boolean hasExpenses(Expenses expenses) {
         requireNonNull(expenses);
-        return versionedExpensesList.hasExpenses(expenses);
+        return expensesList.hasExpenses(expenses);
     }
 
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return versionedAddressBook.hasPerson(person);
+        return addressBook.hasPerson(person);
     }
 
     @Override
     public boolean hasPerson(Person person, Predicate<Person> predicate) {
         requireAllNonNull(person, predicate);
-        final FilteredList<Person> dummyFilteredPersons =
-                new FilteredList<>(versionedAddressBook.getPersonList());
-        dummyFilteredPersons.setPredicate(predicate);
-        return versionedAddressBook.hasPerson(person, getFilteredPersonList(dummyFilteredPersons));
+        return addressBook.hasPerson(person, predicate);
     }
 
     @Override
     public boolean hasEmployeeId(Person person) {
         requireNonNull(person);
-        return versionedAddressBook.hasEmployeeId(person);
+        return addressBook.hasEmployeeId(person);
     }
 
     @Override
     public boolean hasSchedule(Schedule target) {
         requireNonNull(target);
-        return versionedScheduleList.hasSchedule(target);
+        return scheduleList.hasSchedule(target);
     }
 
     @Override
     public boolean hasRecruitment(Recruitment target) {
         requireNonNull(target);
-        return versionedRecruitmentList.hasRecruitment(target);
+        return recruitmentList.hasRecruitment(target);
     }
 
     //-----------------------------------------------------------------------------
     @Override
     public void deleteExpenses(Expenses target) {
-        versionedExpensesList.removeExpenses(target);
-        versionedExpensesList.sortExpensesBy();
-        indicateExpensesListChanged();
+        expensesList.removeExpenses(target);
+        Runnable undoAction = () -> expensesList.addExpenses(target);
+        Runnable redoAction = () -> expensesList.removeExpenses(target);
+        versionedModelList.record(ModelTypes.EXPENSES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.EXPENSES_LIST, false);
     }
 
     @Override
     public void deletePerson(Person target) {
-        versionedAddressBook.removePerson(target);
-        versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
-        indicateAddressBookChanged();
+        addressBook.removePerson(target);
+        Runnable undoAction = () -> addressBook.addPerson(target);
+        Runnable redoAction = () -> addressBook.removePerson(target);
+        versionedModelList.record(ModelTypes.ADDRESS_BOOK, undoAction, redoAction);
+        indicateListModified(ModelTypes.ADDRESS_BOOK, false);
     }
 
     @Override
     public void deleteSchedule(Schedule target) {
-        versionedScheduleList.removeSchedule(target);
-        versionedScheduleList.sortSchedulesBy();
-        indicateScheduleListChanged();
+        scheduleList.removeSchedule(target);
+        Runnable undoAction = () -> scheduleList.addSchedule(target);
+        Runnable redoAction = () -> scheduleList.removeSchedule(target);
+        versionedModelList.record(ModelTypes.SCHEDULES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.SCHEDULES_LIST, false);
     }
 
     @Override
     public void deleteRecruitmentPost(Recruitment target) {
-        versionedRecruitmentList.removeRecruitment(target);
-        indicateRecruitmentListChanged();
+        recruitmentList.removeRecruitment(target);
+        Runnable undoAction = () -> recruitmentList.addRecruitment(target);
+        Runnable redoAction = () -> recruitmentList.removeRecruitment(target);
+        versionedModelList.record(ModelTypes.RECRUITMENT_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.RECRUITMENT_LIST, false);
     }
 
 
     //-----------------------------------------------------------------------------
     @Override
     public void addExpenses(Expenses expenses) {
-        versionedExpensesList.addExpenses(expenses);
-        updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
-        versionedExpensesList.sortExpensesBy();
-        indicateExpensesListChanged();
+        expensesList.addExpenses(expenses);
+        Runnable undoAction = () -> expensesList.removeExpenses(expenses);
+        Runnable redoAction = () -> expensesList.addExpenses(expenses);
+        versionedModelList.record(ModelTypes.EXPENSES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.EXPENSES_LIST, true);
     }
 
 
     @Override
     public void addPerson(Person person) {
-        versionedAddressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
-        updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
-        updateFilteredRecruitmentList(PREDICATE_SHOW_ALL_RECRUITMENT);
-        versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
-        indicateAddressBookChanged();
+        addressBook.addPerson(person);
+        Runnable undoAction = () -> addressBook.removePerson(person);
+        Runnable redoAction = () -> addressBook.addPerson(person);
+        versionedModelList.record(ModelTypes.ADDRESS_BOOK, undoAction, redoAction);
+        resetFilter(ModelTypes.EXPENSES_LIST);
+        resetFilter(ModelTypes.SCHEDULES_LIST);
+        resetFilter(ModelTypes.RECRUITMENT_LIST);
+        indicateListModified(ModelTypes.ADDRESS_BOOK, true);
     }
 
     @Override
     public void addSchedule(Schedule schedule) {
-        versionedScheduleList.addSchedule(schedule);
-        updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
-        versionedScheduleList.sortSchedulesBy();
-        indicateScheduleListChanged();
+        scheduleList.addSchedule(schedule);
+        Runnable undoAction = () -> scheduleList.removeSchedule(schedule);
+        Runnable redoAction = () -> scheduleList.addSchedule(schedule);
+        versionedModelList.record(ModelTypes.SCHEDULES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.SCHEDULES_LIST, true);
     }
 
     @Override
     public void addRecruitment(Recruitment recruitment) {
-        versionedRecruitmentList.addRecruitment(recruitment);
-        updateFilteredRecruitmentList(PREDICATE_SHOW_ALL_RECRUITMENT);
-        indicateRecruitmentListChanged();
+        recruitmentList.addRecruitment(recruitment);
+        Runnable undoAction = () -> recruitmentList.removeRecruitment(recruitment);
+        Runnable redoAction = () -> recruitmentList.addRecruitment(recruitment);
+        versionedModelList.record(ModelTypes.RECRUITMENT_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.RECRUITMENT_LIST, true);
     }
 
     //-----------------------------------------------------------------------------
     @Override
     public void updateExpenses(Expenses target, Expenses editedExpenses) {
         requireAllNonNull(target, editedExpenses);
-        versionedExpensesList.updateExpenses(target, editedExpenses);
-        versionedExpensesList.sortExpensesBy();
-        indicateExpensesListChanged();
+        expensesList.updateExpenses(target, editedExpenses);
+        Runnable undoAction = () -> expensesList.updateExpenses(editedExpenses, target);
+        Runnable redoAction = () -> expensesList.updateExpenses(target, editedExpenses);
+        versionedModelList.record(ModelTypes.EXPENSES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.EXPENSES_LIST, false);
     }
 
     @Override
     public void updatePerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
-        versionedAddressBook.updatePerson(target, editedPerson);
-        versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
-        indicateAddressBookChanged();
+        addressBook.updatePerson(target, editedPerson);
+        Runnable undoAction = () -> addressBook.updatePerson(editedPerson, target);
+        Runnable redoAction = () -> addressBook.updatePerson(target, editedPerson);
+        versionedModelList.record(ModelTypes.ADDRESS_BOOK, undoAction, redoAction);
+        indicateListModified(ModelTypes.ADDRESS_BOOK, false);
     }
 
     @Override
     public void updateSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
-        versionedScheduleList.updateSchedule(target, editedSchedule);
-        versionedScheduleList.sortSchedulesBy();
-        indicateScheduleListChanged();
+        scheduleList.updateSchedule(target, editedSchedule);
+        Runnable undoAction = () -> scheduleList.updateSchedule(editedSchedule, target);
+        Runnable redoAction = () -> scheduleList.updateSchedule(target, editedSchedule);
+        versionedModelList.record(ModelTypes.SCHEDULES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.SCHEDULES_LIST, false);
     }
 
     @Override
     public void updateRecruitment(Recruitment target, Recruitment editedRecruitment) {
         requireAllNonNull(target, editedRecruitment);
 
-        versionedRecruitmentList.updateRecruitment(target, editedRecruitment);
-        indicateRecruitmentListChanged();
+        recruitmentList.updateRecruitment(target, editedRecruitment);
+        Runnable undoAction = () -> recruitmentList.updateRecruitment(editedRecruitment, target);
+        Runnable redoAction = () -> recruitmentList.updateRecruitment(target, editedRecruitment);
+        versionedModelList.record(ModelTypes.RECRUITMENT_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.RECRUITMENT_LIST, false);
     }
 
-    //=========== Filtered Person List Accessors =============================================================
-
-    /**
-     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
-     */
     @Override
-    public ObservableList<Expenses> getFilteredExpensesList() {
-        return FXCollections.unmodifiableObservableList(filteredExpenses);
+    public void updatePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        Map<Person, Person> updatedPersons = new HashMap<>(editedPersons);
+        addressBook.updatePersons(updatedPersons);
+        Map<Person, Person> originalPersons = new HashMap<>();
+        updatedPersons.forEach((target, editedPerson) -> originalPersons.put(editedPerson, target));
+        Runnable undoAction = () -> addressBook.updatePersons(originalPersons);
+        Runnable redoAction = () -> addressBook.updatePersons(updatedPersons);
+        versionedModelList.record(ModelTypes.ADDRESS_BOOK, undoAction, redoAction);
+        indicateListModified(ModelTypes.ADDRESS_BOOK, false);
     }
 
+    //-----------------------------------------------------------------------------
     @Override
-    public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+    public List<Person> findPersonsByName(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.findPersonsByName(keyword);
     }
 
     @Override
-    public ObservableList<Person> getFilteredPersonList(FilteredList<Person> dummyFilteredPersons) {
-        return FXCollections.unmodifiableObservableList(dummyFilteredPersons);
+    public Map<String, Integer> getDepartmentCounts() {
+        return addressBook.getDepartmentCounts();
     }
 
     @Override
-    public ObservableList<Schedule> getFilteredScheduleList() {
-        return FXCollections.unmodifiableObservableList(filteredSchedules);
+    public Map<String, Integer> getPositionCounts() {
+        return addressBook.getPositionCounts();
     }
 
     @Override
-    public ObservableList<Recruitment> getFilteredRecruitmentList() {
-        return FXCollections.unmodifiableObservableList(filteredRecruitment);
+    public int getHeadcount(String department, String position) {
+        requireAllNonNull(department, position);
+        return addressBook.getHeadcount(department, position);
     }
 
-    //=========== Filtered Person List Accessors =============================================================
     @Override
-    public void updateFilteredExpensesList(Predicate<Expenses> predicate) {
-        requireNonNull(predicate);
-        versionedExpensesList.sortExpensesBy();
-        filteredExpenses.setPredicate(predicate);
+    public List<Person> findPersonsBySalary(Range<Money> range) {
+        requireNonNull(range);
+        return addressBook.findPersonsBySalary(range);
     }
 
     @Override
-    public void updateFilteredPersonList(Predicate<Person> predicate) {
-        requireNonNull(predicate);
-        versionedAddressBook.sortEmployeesBy(ASCENDING_ORDER);
-        filteredPersons.setPredicate(predicate);
+    public List<Person> findPersonsByBonus(Range<Money> range) {
+        requireNonNull(range);
+        return addressBook.findPersonsByBonus(range);
     }
 
     @Override
-    public void updateFilteredPersonList(Predicate<Person> predicate, String sortOrder) {
-        requireNonNull(predicate);
-        versionedAddressBook.sortEmployeesBy(sortOrder);
-        filteredPersons.setPredicate(predicate);
+    public List<Person> findHighestPaidPersons(Range<Money> salaryRange, Predicate<String> departmentFilter,
+                                               Predicate<Person> predicate, int limitPerDepartment) {
+        requireAllNonNull(salaryRange, departmentFilter, predicate);
+        return addressBook.findHighestPaidPersons(salaryRange, departmentFilter, predicate, limitPerDepartment);
     }
 
     @Override
-    public void updateFilteredScheduleList(Predicate<Schedule> predicate) {
-        requireNonNull(predicate);
-        versionedScheduleList.sortSchedulesBy();
-        filteredSchedules.setPredicate(predicate);
+    public QueryPlan planPersonQuery(PersonQuery query) {
+        requireNonNull(query);
+        return addressBook.planQuery(query);
     }
 
     @Override
-    public void updateFilteredRecruitmentList(Predicate<Recruitment> predicate) {
-        requireNonNull(predicate);
-        filteredRecruitment.setPredicate(predicate);
+    public List<Schedule> getSchedulesOf(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return scheduleList.getSchedulesOf(employeeId);
     }
 
-
-    //=========== Undo =================================================================================
-
     @Override
-    public boolean canUndoAddressBook() {
-        return versionedAddressBook.canUndo();
+    public void removeAllSchedulesOf(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        List<Schedule> removedSchedules = scheduleList.removeAllSchedulesOf(employeeId);
+        if (removedSchedules.isEmpty()) {
+            return;
+        }
+        Runnable undoAction = () -> removedSchedules.forEach(scheduleList::addSchedule);
+        Runnable redoAction = () -> scheduleList.removeAllSchedulesOf(employeeId);
+        versionedModelList.record(ModelTypes.SCHEDULES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.SCHEDULES_LIST, false);
     }
 
     @Override
-    public boolean canUndoExpensesList() {
-        return versionedExpensesList.canUndo();
+    public void addSchedules(List<Schedule> schedules) {
+        requireAllNonNull(schedules);
+        if (schedules.isEmpty()) {
+            return;
+        }
+        List<Schedule> addedSchedules = new ArrayList<>(schedules);
+        scheduleList.addSchedules(addedSchedules);
+        Runnable undoAction = () -> scheduleList.removeSchedules(addedSchedules);
+        Runnable redoAction = () -> scheduleList.addSchedules(addedSchedules);
+        versionedModelList.record(ModelTypes.SCHEDULES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.SCHEDULES_LIST, true);
     }
 
     @Override
-    public boolean canUndoScheduleList() {
-        return versionedScheduleList.canUndo();
+    public void deleteSchedules(List<Schedule> schedules) {
+        requireAllNonNull(schedules);
+        if (schedules.isEmpty()) {
+            return;
+        }
+        List<Schedule> deletedSchedules = new ArrayList<>(schedules);
+        scheduleList.removeSchedules(deletedSchedules);
+        Runnable undoAction = () -> scheduleList.addSchedules(deletedSchedules);
+        Runnable redoAction = () -> scheduleList.removeSchedules(deletedSchedules);
+        versionedModelList.record(ModelTypes.SCHEDULES_LIST, undoAction, redoAction);
+        indicateListModified(ModelTypes.SCHEDULES_LIST, false);
     }
 
     @Override
-    public boolean canUndoRecruitmentList() {
-        return versionedRecruitmentList.canUndo();
+    public DateSet getScheduledDates(EmployeeId employeeId, Type type) {
+        requireAllNonNull(employeeId, type);
+        return scheduleList.getScheduledDates(employeeId, type);
     }
 
-    //=========== Redo =================================================================================
     @Override
-    public boolean canRedoAddressBook() {
-        return versionedAddressBook.canRedo();
+    public int getLeaveCount(EmployeeId employeeId, Year year) {
+        requireAllNonNull(employeeId, year);
+        return scheduleList.getLeaveCount(employeeId, year);
     }
 
     @Override
-    public boolean canRedoExpensesList() {
-        return versionedExpensesList.canRedo();
+    public Map<EmployeeId, Integer> getLeaveCounts(Year year) {
+        requireNonNull(year);
+        return scheduleList.getLeaveCounts(year);
     }
 
     @Override
-    public boolean canRedoScheduleList() {
-        return versionedScheduleList.canRedo();
+    public Optional<Expenses> getExpensesOf(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return expensesList.getExpensesOf(employeeId);
     }
 
+    //=========== Filtered Person List Accessors =============================================================
+
+    /**
+     * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
+     * {@code addressBook}
+     */
     @Override
-    public boolean canRedoRecruitmentList() {
-        return versionedRecruitmentList.canRedo();
+    public ObservableList<Expenses> getFilteredExpensesList() {
+        return FXCollections.unmodifiableObservableList(filteredExpenses);
     }
 
-    //-----------------------------------------------------------------------------
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return FXCollections.unmodifiableObservableList(filteredPersons);
+    }
 
     @Override
-    public void undoAddressBook() {
-        versionedAddressBook.undo();
-        indicateAddressBookChanged();
+    public ObservableList<Person> getFilteredPersonList(FilteredList<Person> dummyFilteredPersons) {
+        return FXCollections.unmodifiableObservableList(dummyFilteredPersons);
     }
 
     @Override
-    public void undoExpensesList() {
-        versionedExpensesList.undo();
-        indicateExpensesListChanged();
+    public ObservableList<Schedule> getFilteredScheduleList() {
+        return FXCollections.unmodifiableObservableList(filteredSchedules);
     }
 
     @Override
-    public void undoScheduleList() {
-        versionedScheduleList.undo();
-        indicateScheduleListChanged();
+    public ObservableList<Recruitment> getFilteredRecruitmentList() {
+        return FXCollections.unmodifiableObservableList(filteredRecruitment);
     }
 
+    //=========== Filtered Person List Accessors =============================================================
     @Override
-    public void undoRecruitmentList() {
-        versionedRecruitmentList.undo();
-        indicateRecruitmentListChanged();
+    public void updateFilteredExpensesList(Predicate<Expenses> predicate) {
+        requireNonNull(predicate);
+        expensesList.sortExpensesBy();
+        filteredExpenses.setPredicate(predicate);
     }
 
     @Override
-    public void undoModelList() {
-        versionedModelList.undo();
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        addressBook.sortEmployeesBy(ASCENDING_ORDER);
+        filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, String sortOrder) {
+        requireNonNull(predicate);
+        addressBook.sortEmployeesBy(sortOrder);
+        filteredPersons.setPredicate(predicate);
+    }
 
-    //-----------------------------------------------------------------------------
     @Override
-    public void redoAddressBook() {
-        versionedAddressBook.redo();
-        indicateAddressBookChanged();
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        addressBook.sortEmployeesBy(comparator);
+        filteredPersons.setPredicate(predicate);
     }
 
     @Override
-    public void redoExpensesList() {
-        versionedExpensesList.redo();
-        indicateExpensesListChanged();
+    public void updateFilteredScheduleList(Predicate<Schedule> predicate) {
+        requireNonNull(predicate);
+        scheduleList.sortSchedulesBy();
+        filteredSchedules.setPredicate(predicate);
     }
 
     @Override
-    public void redoScheduleList() {
-        versionedScheduleList.redo();
-        indicateScheduleListChanged();
+    public void updateFilteredRecruitmentList(Predicate<Recruitment> predicate) {
+        requireNonNull(predicate);
+        filteredRecruitment.setPredicate(predicate);
     }
 
+
+    //=========== Undo/Redo ============================================================================
+
     @Override
-    public void redoRecruitmentList() {
-        versionedRecruitmentList.redo();
-        indicateRecruitmentListChanged();
+    public void undoModel() {
+        refreshRestoredLists(versionedModelList.undo());
+        publishSnapshot();
     }
 
     @Override
-    public void redoModelList() {
-        versionedModelList.redo();
+    public void redoModel() {
+        refreshRestoredLists(versionedModelList.redo());
+        publishSnapshot();
     }
 
-    //-----------------------------------------------------------------------------
     /**
-     * Commits the address book storage and sets the last commit storage type
+     * Sorts the lists of {@code types}, resets their filters to show all and raises their change events.
      */
+    private void refreshRestoredLists(Set<ModelTypes> types) {
+        for (ModelTypes type : types) {
+            refreshList(type, true);
+            indicateListChanged(type);
+        }
+    }
+
+    //-----------------------------------------------------------------------------
     @Override
     public void commitAddressBook() {
-        versionedAddressBook.commit();
-        versionedModelList.add(ModelTypes.ADDRESS_BOOK);
+        versionedModelList.commit();
+        publishSnapshot();
     }
 
-    /**
-     * Commits the expenses list storage and sets the last commit storage type
-     */
+    @Override
     public void commitExpensesList() {
-        versionedExpensesList.commit();
-        versionedModelList.add(ModelTypes.EXPENSES_LIST);
+        versionedModelList.commit();
+        publishSnapshot();
     }
 
-    /**
-     * Commits the schedule list storage and sets the last commit storage type
-     */
+    @Override
     public void commitScheduleList() {
-        versionedScheduleList.commit();
-        versionedModelList.add(ModelTypes.SCHEDULES_LIST);
+        versionedModelList.commit();
+        publishSnapshot();
     }
 
-    /**
-     * Commits the recruitment list storage and sets the last commit storage type
-     */
+    @Override
     public void commitRecruitmentPostList() {
-        versionedRecruitmentList.commit();
-        versionedModelList.add(ModelTypes.RECRUITMENT_LIST);
+        versionedModelList.commit();
+        publishSnapshot();
+    }
+
+    @Override
+    public void commitMultipleLists(Set<ModelTypes> set) {
+        versionedModelList.commit();
+        publishSnapshot();
     }
 
     /**
-     * Commits the multiple storages list and sets the commit storage type
+     * Publishes the lists as of their last change events as the next snapshot.
+     * Lists changed in a batch that has not ended are published as they were before the batch.
      */
-    public void commitMultipleLists(Set<ModelTypes> set) {
+    private void publishSnapshot() {
+        snapshot = snapshot.next(latestPersons, latestExpenses, latestSchedules, latestRecruitment);
+    }
 
-        for (ModelTypes myModel : set) {
-            switch(myModel) {
-            case SCHEDULES_LIST:
-                versionedScheduleList.commit();
-                break;
-            case EXPENSES_LIST:
-                versionedExpensesList.commit();
-                break;
-            case RECRUITMENT_LIST:
-                versionedRecruitmentList.commit();
-                break;
-            case ADDRESS_BOOK:
-                versionedAddressBook.commit();
-                break;
-            default:
-                break;
-            }
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    //=========== Batch ================================================================================
+
+    @Override
+    public void startBatch() {
+        batchDepth++;
+    }
+
+    @Override
+    public void endBatch() {
+        if (!isInBatch()) {
+            throw new IllegalStateException("No batch has been started.");
+        }
+        batchDepth--;
+        if (isInBatch()) {
+            return;
         }
-        versionedModelList.addMultiple(set);
+
+        Set<ModelTypes> refreshedLists = EnumSet.copyOf(batchModifiedLists);
+        refreshedLists.addAll(batchFilterResetLists);
+        for (ModelTypes type : refreshedLists) {
+            refreshList(type, batchFilterResetLists.contains(type));
+        }
+        for (ModelTypes type : batchModifiedLists) {
+            indicateListChanged(type);
+        }
+        batchModifiedLists.clear();
+        batchFilterResetLists.clear();
+    }
+
+    private boolean isInBatch() {
+        return batchDepth > 0;
     }
 
     //-----------------------------------------------------------------------------
@@ -539,13 +801,13 @@ public class ModelManager extends ComponentManager implements Model {
 
         // state check
         ModelManager other = (ModelManager) obj;
-        return versionedAddressBook.equals(other.versionedAddressBook)
+        return addressBook.equals(other.addressBook)
                 && filteredPersons.equals(other.filteredPersons)
-                && versionedRecruitmentList.equals(other.versionedRecruitmentList)
+                && recruitmentList.equals(other.recruitmentList)
                 && filteredRecruitment.equals(other.filteredRecruitment)
-                && versionedScheduleList.equals(other.versionedScheduleList)
+                && scheduleList.equals(other.scheduleList)
                 && filteredSchedules.equals(other.filteredSchedules)
-                && versionedExpensesList.equals(other.versionedExpensesList)
+                && expensesList.equals(other.expensesList)
                 && filteredExpenses.equals(other.filteredExpenses);
     }
 
@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Person;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.schedule.LeaveCounts;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Year;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * An immutable view of all the lists of the model as they were at one commit.
+ * A snapshot never changes after it is published, so any thread can read it while commands go on changing the
+ * model. Lists that were not changed between two snapshots are shared by them.
+ *
+ * Reports that go through whole lists read a snapshot rather than the model. The leaves of a snapshot are counted
+ * the first time they are asked for, and the counts are shared with the later snapshots until the schedules change.
+ */
+public final class ModelSnapshot {
+
+    private final long version;
+    private final PersistentList<Person> persons;
+    private final PersistentList<Expenses> expenses;
+    private final PersistentList<Schedule> schedules;
+    private final PersistentList<Recruitment> recruitment;
+    private final Supplier<LeaveCounts> leaveCounts;
+
+    ModelSnapshot(long version, PersistentList<Person> persons, PersistentList<Expenses> expenses,
+                  PersistentList<Schedule> schedules, PersistentList<Recruitment> recruitment) {
+        this(version, persons, expenses, schedules, recruitment, Suppliers.memoize(() -> LeaveCounts.of(schedules)));
+    }
+
+    private ModelSnapshot(long version, PersistentList<Person> persons, PersistentList<Expenses> expenses,
+                          PersistentList<Schedule> schedules, PersistentList<Recruitment> recruitment,
+                          Supplier<LeaveCounts> leaveCounts) {
+        requireAllNonNull(persons, expenses, schedules, recruitment);
+        this.version = version;
+        this.persons = persons;
+        this.expenses = expenses;
+        this.schedules = schedules;
+        this.recruitment = recruitment;
+        this.leaveCounts = leaveCounts;
+    }
+
+    /**
+     * Returns the snapshot following this one, of the given lists.
+     */
+    ModelSnapshot next(PersistentList<Person> persons, PersistentList<Expenses> expenses,
+                       PersistentList<Schedule> schedules, PersistentList<Recruitment> recruitment) {
+        if (schedules != this.schedules) {
+            return new ModelSnapshot(version + 1, persons, expenses, schedules, recruitment);
+        }
+        return new ModelSnapshot(version + 1, persons, expenses, schedules, recruitment, leaveCounts);
+    }
+
+    /**
+     * Returns the number of snapshots published before this one. A later snapshot has a greater version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    public List<Expenses> getExpenses() {
+        return expenses;
+    }
+
+    public List<Schedule> getSchedules() {
+        return schedules;
+    }
+
+    public List<Recruitment> getRecruitment() {
+        return recruitment;
+    }
+
+    /**
+     * Returns the number of leaves each employee has scheduled in {@code year}, leaving out employees without
+     * leave in {@code year}.
+     */
+    public Map<EmployeeId, Integer> getLeaveCounts(Year year) {
+        requireNonNull(year);
+        return leaveCounts.get().getLeaveCounts(Integer.parseInt(year.value));
+    }
+
+    @Override
+    public String toString() {
+        return "Snapshot " + version + ": " + persons.size() + " persons, " + expenses.size() + " expenses, "
+                + schedules.size() + " schedules, " + recruitment.size() + " recruitment posts";
+    }
+}
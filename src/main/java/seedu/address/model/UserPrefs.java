@@ -18,6 +18,8 @@ public class UserPrefs {
     private Path expensesListFilePath = Paths.get("data" , "expenses.xml");
     private Path scheduleListFilePath = Paths.get("data" , "schedulelist.xml");
     private Path recruitmentListFilePath = Paths.get("data" , "recruitmentlist.xml");
+    private long dataSaveDelay = 300;
+    private boolean isDataJournalEnabled = false;
 
     public UserPrefs() {
         setGuiSettings(1200, 500, 0, 0);
@@ -60,6 +62,27 @@ public class UserPrefs {
         this.recruitmentListFilePath = recruitmentListFilePath;
     }
 
+    /**
+     * Returns the milliseconds to wait for further changes to a data file before saving it.
+     */
+    public long getDataSaveDelay() {
+        return dataSaveDelay;
+    }
+    public void setDataSaveDelay(long dataSaveDelay) {
+        this.dataSaveDelay = dataSaveDelay;
+    }
+
+    /**
+     * Returns true if data files are saved as a snapshot plus a journal of later changes,
+     * instead of being rewritten in full on every save.
+     */
+    public boolean isDataJournalEnabled() {
+        return isDataJournalEnabled;
+    }
+    public void setDataJournalEnabled(boolean isDataJournalEnabled) {
+        this.isDataJournalEnabled = isDataJournalEnabled;
+    }
+
     //-----------------------------------------------
     @Override
     public boolean equals(Object other) {
@@ -1,12 +1,18 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
 /**
- * {@code VersionedModelList} keeps track of a list of models committed defined in ModelTypes.java.
+ * {@code VersionedModelList} keeps the undo/redo history of all the models defined in ModelTypes.java as a single
+ * journal of changes.
+ * Every change to a model is recorded together with the action that reverts it, and the changes made by a command
+ * are grouped into one entry when the command commits. Undoing a command therefore only reverts the records that
+ * the command changed, whichever models they belong to, instead of restoring whole copies of the models.
  */
 
 public class VersionedModelList {
@@ -14,101 +20,130 @@ public class VersionedModelList {
             "Current state pointer at start of storage list in all Storages, unable to redo.";
     public static final String MESSAGE_NO_UNDOABLE_STATE_EXCEPTION =
             "Current state pointer at start of storage list in all Storages, unable to undo.";
-    private boolean hasUndo;
+
+    private final List<List<Change>> committedChanges;
+    private List<Change> uncommittedChanges;
     private int currentStatePointer;
-    private List<Set<ModelTypes>> modelTypesStateList;
 
     public VersionedModelList() {
+        committedChanges = new ArrayList<>();
+        uncommittedChanges = new ArrayList<>();
         currentStatePointer = 0;
-        modelTypesStateList = new ArrayList<>();
-        hasUndo = false;
     }
 
     //-----------------------------------------------------------------------------
 
     /**
-     *  Undo Versioned Model List
+     * Records a change made to the model of {@code type}.
+     * @param undoAction reverts the change.
+     * @param redoAction makes the change again after it has been reverted.
+     */
+    public void record(ModelTypes type, Runnable undoAction, Runnable redoAction) {
+        requireAllNonNull(type, undoAction, redoAction);
+        uncommittedChanges.add(new Change(type, undoAction, redoAction));
+    }
+
+    /**
+     * Saves the changes recorded since the last commit as one entry of the history.
+     * Undone entries are removed from the history.
+     */
+    public void commit() {
+        committedChanges.subList(currentStatePointer, committedChanges.size()).clear();
+        committedChanges.add(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+        currentStatePointer = committedChanges.size();
+    }
+
+    /**
+     * Reverts the uncommitted changes and the changes of the last committed entry.
+     * @return the types of the models that were changed.
      */
-    public void undo() {
+    public Set<ModelTypes> undo() {
         if (!canUndoStorage()) {
             throw new NoUndoableStateException();
         }
-        hasUndo = true;
+        Set<ModelTypes> changedTypes = discardUncommittedChanges();
         currentStatePointer--;
+        changedTypes.addAll(revert(committedChanges.get(currentStatePointer)));
+        return changedTypes;
     }
 
     /**
-     *  Redo Versioned Model List
+     * Reverts the uncommitted changes and reapplies the changes of the last undone entry.
+     * @return the types of the models that were changed.
      */
-    public void redo() {
+    public Set<ModelTypes> redo() {
         if (!canRedoStorage()) {
             throw new NoRedoableStateException();
         }
-        hasUndo = false;
+        Set<ModelTypes> changedTypes = discardUncommittedChanges();
+        changedTypes.addAll(reapply(committedChanges.get(currentStatePointer)));
         currentStatePointer++;
+        return changedTypes;
     }
 
     /**
-     * Add to the list to keep track of which model is committed.
-     * @param type of storage model committed
+     * Returns true if {@code redo()} has states to redo in any of the model.
      */
-    public void add (ModelTypes type) {
-        Set<ModelTypes> set = new HashSet<>();
-        set.add(type);
-        modelTypesStateList.add(set);
-        if (hasUndo) {
-            modelTypesStateList.remove(currentStatePointer);
-            hasUndo = false;
-        }
-        currentStatePointer = modelTypesStateList.size();
+    public boolean canRedoStorage() {
+        return currentStatePointer < committedChanges.size();
     }
 
     /**
-     * Add to the list to keep track of which model is committed.
-     * @param set of the types of storage models committed
+     * Returns true if {@code undo()} has states to undo in any of the model.
      */
-    public void addMultiple (Set<ModelTypes> set) {
-        modelTypesStateList.add(set);
-        if (hasUndo) {
-            modelTypesStateList.remove(currentStatePointer);
-            hasUndo = false;
-        }
-        currentStatePointer = modelTypesStateList.size();
+    public boolean canUndoStorage() {
+        return currentStatePointer > 0;
     }
 
     /**
-     *  Used to check which model was last committed with a command.
-     *  Important for undo and redo class.
+     * Reverts and forgets the changes recorded since the last commit.
      */
-    public Set<ModelTypes> getLastCommitType () {
-        if (!canUndoStorage()) {
-            throw new NoUndoableStateException();
-        }
-        return modelTypesStateList.get(currentStatePointer - 1);
+    private Set<ModelTypes> discardUncommittedChanges() {
+        Set<ModelTypes> changedTypes = revert(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+        return changedTypes;
     }
 
-    public Set<ModelTypes> getNextCommitType () {
-        if (!canRedoStorage()) {
-            throw new NoRedoableStateException();
+    /**
+     * Reverts {@code changes}, latest change first.
+     */
+    private static Set<ModelTypes> revert(List<Change> changes) {
+        Set<ModelTypes> changedTypes = EnumSet.noneOf(ModelTypes.class);
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undoAction.run();
+            changedTypes.add(changes.get(i).type);
         }
-        return modelTypesStateList.get(currentStatePointer);
+        return changedTypes;
     }
 
     /**
-     * Returns true if {@code redo()} has states to redo in any of the model.
+     * Makes {@code changes} again, earliest change first.
      */
-    public boolean canRedoStorage() {
-        return currentStatePointer < modelTypesStateList.size();
+    private static Set<ModelTypes> reapply(List<Change> changes) {
+        Set<ModelTypes> changedTypes = EnumSet.noneOf(ModelTypes.class);
+        for (Change change : changes) {
+            change.redoAction.run();
+            changedTypes.add(change.type);
+        }
+        return changedTypes;
     }
 
     /**
-     * Returns true if {@code undo()} has states to undo in any of the model.
+     * A change recorded in the journal.
      */
-    public boolean canUndoStorage() {
-        return currentStatePointer > 0;
+    private static class Change {
+        private final ModelTypes type;
+        private final Runnable undoAction;
+        private final Runnable redoAction;
+
+        Change(ModelTypes type, Runnable undoAction, Runnable redoAction) {
+            this.type = type;
+            this.undoAction = undoAction;
+            this.redoAction = redoAction;
+        }
     }
 
-
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -2,11 +2,20 @@ package seedu.address.model.addressbook;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import com.google.common.collect.Range;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryPlan;
+import seedu.address.model.person.query.QueryPlanner;
+import seedu.address.model.util.Money;
 
 /**
  * Wraps all data at the address-book level
@@ -76,6 +85,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person, filteredPersonList);
     }
 
+    /**
+     * Returns true if a person with the same identity as {@code person} exists among the persons in the address book
+     * that match {@code predicate}.
+     */
+    public boolean hasPerson(Person person, Predicate<Person> predicate) {
+        requireNonNull(person);
+        requireNonNull(predicate);
+        return persons.contains(person, predicate);
+    }
+
 
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
@@ -85,6 +104,69 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.containsEmployeeId(person);
     }
 
+    /**
+     * Returns the persons in the address book whose name contains {@code keyword}, ignoring case.
+     */
+    public List<Person> findPersonsByName(String keyword) {
+        requireNonNull(keyword);
+        return persons.findByName(keyword);
+    }
+
+    /**
+     * Returns the number of persons in each department, in alphabetical order of department in upper case.
+     */
+    public Map<String, Integer> getDepartmentCounts() {
+        return persons.getDepartmentCounts();
+    }
+
+    /**
+     * Returns the number of persons in each position, in alphabetical order of position in upper case.
+     */
+    public Map<String, Integer> getPositionCounts() {
+        return persons.getPositionCounts();
+    }
+
+    /**
+     * Returns the number of persons in {@code position} of {@code department}, both ignoring case.
+     */
+    public int getHeadcount(String department, String position) {
+        return persons.getHeadcount(department, position);
+    }
+
+    /**
+     * Returns the persons in the address book with a salary within {@code range}, from the lowest salary to the
+     * highest.
+     */
+    public List<Person> findPersonsBySalary(Range<Money> range) {
+        requireNonNull(range);
+        return persons.findBySalary(range);
+    }
+
+    /**
+     * Returns the persons in the address book with a bonus within {@code range}, from the lowest bonus to the highest.
+     */
+    public List<Person> findPersonsByBonus(Range<Money> range) {
+        requireNonNull(range);
+        return persons.findByBonus(range);
+    }
+
+    /**
+     * Returns the persons matching {@code predicate} with the highest salaries within {@code salaryRange} in each
+     * department accepted by {@code departmentFilter}, at most {@code limitPerDepartment} of them per department.
+     */
+    public List<Person> findHighestPaidPersons(Range<Money> salaryRange, Predicate<String> departmentFilter,
+                                               Predicate<Person> predicate, int limitPerDepartment) {
+        return persons.findHighestPaid(salaryRange, departmentFilter, predicate, limitPerDepartment);
+    }
+
+    /**
+     * Returns the plan to answer {@code query} on the persons of the address book.
+     */
+    public QueryPlan planQuery(PersonQuery query) {
+        requireNonNull(query);
+        return new QueryPlanner(persons).plan(query);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -103,6 +185,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with the person it maps to.
+     * Every key must exist in the address book, and the edited address book must not contain duplicate persons.
+     * Nothing is replaced if any of these checks fails.
+     */
+    public void updatePersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        persons.setPersons(editedPersons);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -119,6 +211,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.sortByName(sortOrder);
     }
 
+    /**
+     * Sort Employees within CHRS in the order of {@code comparator}.
+     */
+    public void sortEmployeesBy(Comparator<Person> comparator) {
+        persons.sortBy(comparator);
+    }
+
     //// util methods
 
     @Override
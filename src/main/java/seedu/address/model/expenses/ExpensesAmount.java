@@ -3,6 +3,9 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.util.Money;
+
 /**
  * Represents a Person's Expenses Amount in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidExpensesAmount(String)}
@@ -11,9 +14,11 @@ public class ExpensesAmount {
 
     public static final String MESSAGE_EXPENSES_AMOUNT_CONSTRAINTS =
             "Expenses Amount should only contain numbers, and it should be at least 1 digits long";
-    public static final String EMPLOYE_EXPENSES_AMOUNT_VALIDATION_REGEX = "[-]?[0-9]+([.][0-9]{1,2})?";
+    public static final String EMPLOYE_EXPENSES_AMOUNT_VALIDATION_REGEX = "[-]?[0-9]{1,16}([.][0-9]{1,2})?";
+    private static final int MAX_WHOLE_DIGITS = 16;
 
     public final String expensesAmount;
+    private final Money amount;
 
     /**
      * Constructs a {@code ExpensesAmount}.
@@ -24,13 +29,18 @@ public class ExpensesAmount {
         requireNonNull(expensesAmount);
         checkArgument(isValidExpensesAmount(expensesAmount), MESSAGE_EXPENSES_AMOUNT_CONSTRAINTS);
         this.expensesAmount = expensesAmount;
+        amount = Money.parse(expensesAmount);
     }
 
     /**
      * Returns true if a given string is a valid Expenses Amount.
      */
     public static boolean isValidExpensesAmount(String test) {
-        return test.matches(EMPLOYE_EXPENSES_AMOUNT_VALIDATION_REGEX);
+        return ValidationUtil.isAmount(test, MAX_WHOLE_DIGITS);
+    }
+
+    public Money getAmount() {
+        return amount;
     }
 
     @Override
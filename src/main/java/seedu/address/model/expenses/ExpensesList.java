@@ -3,8 +3,10 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.EmployeeId;
 
 /**
  * Wraps all data at the address-book level
@@ -92,6 +94,13 @@ public class ExpensesList implements ReadOnlyExpensesList {
         multiExpenses.remove(key);
     }
 
+    /**
+     * Returns the expenses of the employee with {@code employeeId}, if any.
+     */
+    public Optional<Expenses> getExpensesOf(EmployeeId employeeId) {
+        return multiExpenses.getExpensesOf(employeeId);
+    }
+
     /**
      * Sort Expenses within CHRS by employeeId
      */
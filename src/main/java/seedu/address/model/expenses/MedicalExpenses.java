@@ -3,6 +3,9 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.util.Money;
+
 /**
  * Represents a Person's Medical Expenses in the expenses list.
  * Guarantees: immutable; is valid as declared in {@link #isValidMedicalExpenses(String)}
@@ -13,8 +16,10 @@ public class MedicalExpenses {
             "Medical Expenses should only contain numbers, maximum of 6 whole numbers and 2 decimal points and "
                     + "minimum 1 digit long";
     public static final String EMPLOYEE_MEDICAL_EXPENSES_VALIDATION_REGEX = "[-]?[0-9]{1,6}+([.][0-9]{1,2})?";
+    private static final int MAX_WHOLE_DIGITS = 6;
 
     public final String medicalExpenses;
+    private final Money amount;
 
     /**
      * Constructs a {@code ExpensesAmount}.
@@ -25,13 +30,18 @@ public class MedicalExpenses {
         requireNonNull(medicalExpenses);
         checkArgument(isValidMedicalExpenses(medicalExpenses), MESSAGE_MEDICAL_EXPENSES_CONSTRAINTS);
         this.medicalExpenses = medicalExpenses;
+        amount = Money.parse(medicalExpenses);
     }
 
     /**
      * Returns true if a given string is a valid Expenses Amount.
      */
     public static boolean isValidMedicalExpenses(String test) {
-        return test.matches(EMPLOYEE_MEDICAL_EXPENSES_VALIDATION_REGEX);
+        return ValidationUtil.isAmount(test, MAX_WHOLE_DIGITS);
+    }
+
+    public Money getAmount() {
+        return amount;
     }
 
     @Override
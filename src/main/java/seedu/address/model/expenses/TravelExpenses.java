@@ -3,6 +3,9 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.util.Money;
+
 /**
  * Represents a Person's Travel Expenses in the expenses list
  * Guarantees: immutable; is valid as declared in {@link #isValidTravelExpenses(String)}
@@ -13,8 +16,10 @@ public class TravelExpenses {
             "Travel Expenses should only contain numbers, maximum of 6 whole numbers and 2 decimal points and "
                     + "minimum 1 digit long";
     public static final String EMPLOYEE_TRAVEL_EXPENSES_VALIDATION_REGEX = "[-]?[0-9]{1,6}+([.][0-9]{1,2})?";
+    private static final int MAX_WHOLE_DIGITS = 6;
 
     public final String travelExpenses;
+    private final Money amount;
 
     /**
      * Constructs a {@code TravelExpenses}.
@@ -25,13 +30,18 @@ public class TravelExpenses {
         requireNonNull(travelExpenses);
         checkArgument(isValidTravelExpenses(travelExpenses), MESSAGE_TRAVEL_EXPENSES_CONSTRAINTS);
         this.travelExpenses = travelExpenses;
+        amount = Money.parse(travelExpenses);
     }
 
     /**
      * Returns true if a given string is a valid Travel Expenses.
      */
     public static boolean isValidTravelExpenses(String test) {
-        return test.matches(EMPLOYEE_TRAVEL_EXPENSES_VALIDATION_REGEX);
+        return ValidationUtil.isAmount(test, MAX_WHOLE_DIGITS);
+    }
+
+    public Money getAmount() {
+        return amount;
     }
 
     @Override
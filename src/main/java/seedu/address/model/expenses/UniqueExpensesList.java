@@ -3,15 +3,19 @@ package seedu.address.model.expenses;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.expenses.exceptions.DuplicateExpensesException;
 import seedu.address.model.expenses.exceptions.ExpensesNotFoundException;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.util.ObservableListAdapter;
 
 /**
  * A list of expenses that enforces uniqueness between its elements and does not allow nulls.
@@ -22,18 +26,23 @@ import seedu.address.model.expenses.exceptions.ExpensesNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * As an employee has at most one expenses, the expenses are also indexed by employee id, so the expenses of an
+ * employee are found without scanning the whole list.
+ *
  * @see Expenses#isSameExpensesRequest(Expenses)
  */
 public class UniqueExpensesList implements Iterable<Expenses> {
 
-    private final ObservableList<Expenses> internalExpensesList = FXCollections.observableArrayList();
+    private final List<Expenses> internalExpensesList = new ArrayList<>();
+    private final ObservableListAdapter<Expenses> observableList = new ObservableListAdapter<>(internalExpensesList);
+    private final Map<EmployeeId, Expenses> byEmployeeId = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent expenses as the given argument.
      */
     public boolean contains(Expenses toCheck) {
         requireNonNull(toCheck);
-        return internalExpensesList.stream().anyMatch(toCheck::isSameExpensesRequest);
+        return byEmployeeId.containsKey(toCheck.getEmployeeId());
     }
 
     /**
@@ -46,6 +55,8 @@ public class UniqueExpensesList implements Iterable<Expenses> {
             throw new DuplicateExpensesException();
         }
         internalExpensesList.add(toAdd);
+        byEmployeeId.put(toAdd.getEmployeeId(), toAdd);
+        observableList.publish();
     }
 
     /**
@@ -66,6 +77,9 @@ public class UniqueExpensesList implements Iterable<Expenses> {
         }
 
         internalExpensesList.set(index, editedExpenses);
+        byEmployeeId.remove(target.getEmployeeId());
+        byEmployeeId.put(editedExpenses.getEmployeeId(), editedExpenses);
+        observableList.publish();
     }
 
     /**
@@ -77,11 +91,25 @@ public class UniqueExpensesList implements Iterable<Expenses> {
         if (!internalExpensesList.remove(toRemove)) {
             throw new ExpensesNotFoundException();
         }
+        byEmployeeId.remove(toRemove.getEmployeeId());
+        observableList.publish();
+    }
+
+    /**
+     * Returns the expenses of the employee with {@code employeeId}, if any.
+     */
+    public Optional<Expenses> getExpensesOf(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return Optional.ofNullable(byEmployeeId.get(employeeId));
     }
 
     public void setMultiExpenses(UniqueExpensesList replacement) {
         requireNonNull(replacement);
-        internalExpensesList.setAll(replacement.internalExpensesList);
+        internalExpensesList.clear();
+        internalExpensesList.addAll(replacement.internalExpensesList);
+        byEmployeeId.clear();
+        byEmployeeId.putAll(replacement.byEmployeeId);
+        observableList.publish();
     }
 
     /**
@@ -90,11 +118,18 @@ public class UniqueExpensesList implements Iterable<Expenses> {
      */
     public void setMultiExpenses(List<Expenses> multiExpenses) {
         requireAllNonNull(multiExpenses);
-        if (!multiExpensesAreUnique(multiExpenses)) {
-            throw new DuplicateExpensesException();
+        Map<EmployeeId, Expenses> replacementIndex = new HashMap<>();
+        for (Expenses expenses : multiExpenses) {
+            if (replacementIndex.put(expenses.getEmployeeId(), expenses) != null) {
+                throw new DuplicateExpensesException();
+            }
         }
 
-        internalExpensesList.setAll(multiExpenses);
+        internalExpensesList.clear();
+        internalExpensesList.addAll(multiExpenses);
+        byEmployeeId.clear();
+        byEmployeeId.putAll(replacementIndex);
+        observableList.publish();
     }
 
     //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
@@ -109,14 +144,15 @@ public class UniqueExpensesList implements Iterable<Expenses> {
             }
         };
 
-        Collections.sort(internalExpensesList, expensesComparator);
+        internalExpensesList.sort(expensesComparator);
+        observableList.publish();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the expenses as an unmodifiable {@code ObservableList}, which is updated after every change.
      */
     public ObservableList<Expenses> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalExpensesList);
+        return observableList.asUnmodifiableObservableList();
     }
 
     @Override
@@ -135,19 +171,4 @@ public class UniqueExpensesList implements Iterable<Expenses> {
     public int hashCode() {
         return internalExpensesList.hashCode();
     }
-
-    /**
-     * Returns true if {@code multiExpenses} contains only unique expenses.
-     */
-    private boolean multiExpensesAreUnique(List<Expenses> multiExpenses) {
-        for (int i = 0; i < multiExpenses.size() - 1; i++) {
-            for (int j = i + 1; j < multiExpenses.size(); j++) {
-                if (multiExpenses.get(i).isSameExpensesRequest(multiExpenses.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
-
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.util.Money;
+
 /**
  * Represents a Person's Bonus in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidBonus(String)}
@@ -13,7 +18,9 @@ public class Bonus {
                     + " and it should not be blank";
     public static final String BONUS_VALIDATION_REGEX = "(([0-9]{1,7}([.][0-9]{1,2})?)|(1[0-9]{7}([.][0-9]{1,2})?)"
             + "|(2[0-3]([0-9]{1,6})([.][0-9]{1,2})?))";
+    private static final Predicate<String> BONUS_VALIDATOR = ValidationUtil.compile(BONUS_VALIDATION_REGEX);
     public final String value;
+    private final Money amount;
 
     /**
      * Constructs a {@code bonus}.
@@ -25,13 +32,18 @@ public class Bonus {
         requireNonNull(bonus);
         checkArgument(isValidBonus(bonus), MESSAGE_BONUS_CONSTRAINTS);
         value = bonus;
+        amount = Money.parse(bonus);
     }
 
     /**
      * Returns true if a given string is a valid bonus.
      */
     public static boolean isValidBonus(String test) {
-        return test.matches(BONUS_VALIDATION_REGEX);
+        return BONUS_VALIDATOR.test(test);
+    }
+
+    public Money getAmount() {
+        return amount;
     }
 
     @Override
@@ -6,6 +6,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Person's date of birth in the address book.
@@ -19,6 +22,8 @@ public class DateOfBirth {
     public static final String MESSAGE_DATEOFBIRTH_CONSTRAINTS_DEFAULT =
             "Date of Birth should only be integers in the format of DD/MM/YYYY, it should not be blank and within "
                     + "01/01/1900 to 31/12/2002";
+    private static final Predicate<String> DATEOFBIRTH_VALIDATOR =
+            ValidationUtil.compile(DATEOFBIRTH_VALIDATION_REGEX);
     private static final String MESSAGE_DATE_INVALID_FEB_DATE_LEAPYEAR =
             "There are only 29 days in February on a leap year ";
     private static final String MESSAGE_DATE_INVALID_FEB_DATE_NONLEAPYEAR =
@@ -84,7 +89,7 @@ public class DateOfBirth {
         String month;
         String year;
 
-        if (test.matches(DATEOFBIRTH_VALIDATION_REGEX)) {
+        if (DATEOFBIRTH_VALIDATOR.test(test)) {
             String[] date = test.split("/");
 
             day = date[INDEX_DAY];
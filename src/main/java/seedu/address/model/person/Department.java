@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's department in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDepartment(String)}
@@ -14,6 +19,11 @@ public class Department {
     public static final String MESSAGE_DEPARTMENT_KEYWORD_CONSTRAINTS =
             "Department only contains alphabets and spaces, please ensure input parameter(s) are relevant";
     public static final String DEPARTMENT_VALIDATION_REGEX = "[A-Za-z ]{2,30}";
+    private static final int MIN_LENGTH = 2;
+    private static final int MAX_LENGTH = 30;
+
+    private static final Interner<Department> INTERNER = Interners.newWeakInterner();
+
     public final String value;
 
     /**
@@ -28,11 +38,22 @@ public class Department {
         value = department;
     }
 
+    /**
+     * Returns the {@code Department} of {@code department}.
+     * A company has only a few departments, so every person in a department shares one canonical instance
+     * instead of keeping a copy of its own.
+     *
+     * @throws IllegalArgumentException if {@code department} is not valid.
+     */
+    public static Department of(String department) {
+        return INTERNER.intern(new Department(department));
+    }
+
     /**
      * Returns true if a given string is a valid department.
      */
     public static boolean isValidDepartment(String test) {
-        return test.matches(DEPARTMENT_VALIDATION_REGEX);
+        return ValidationUtil.isLettersOrSpaces(test, MIN_LENGTH, MAX_LENGTH);
     }
 
     @Override
@@ -15,8 +15,15 @@ public class DepartmentContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
+        return matchesDepartment(person.getDepartment().value);
+    }
+
+    /**
+     * Returns true if {@code department} matches any of the keywords, ignoring case.
+     */
+    public boolean matchesDepartment(String department) {
         return keywords.stream()
-                .anyMatch(keyword -> person.getDepartment().value.toLowerCase().contains(keyword.toLowerCase()));
+                .anyMatch(keyword -> department.toLowerCase().contains(keyword.toLowerCase()));
     }
 
     @Override
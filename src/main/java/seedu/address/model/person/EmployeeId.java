@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's employeeId in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmployeeId(String)}
@@ -12,6 +14,8 @@ public class EmployeeId {
     public static final String MESSAGE_EMPLOYEEID_CONSTRAINTS =
             "Employee Ids should only contain a 6 digit number, and it should not be blank";
     public static final String EMPLOYEEID_VALIDATION_REGEX = "[0-9]{6}";
+    private static final int LENGTH = 6;
+
     public final String value;
 
     /**
@@ -30,7 +34,7 @@ public class EmployeeId {
      * Returns true if a given string is a valid employee id.
      */
     public static boolean isValidEmployeeId(String test) {
-        return test.matches(EMPLOYEEID_VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, LENGTH, LENGTH);
     }
 
     @Override
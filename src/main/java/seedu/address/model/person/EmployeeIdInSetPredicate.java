@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that the {@code EmployeeId} of a record of an employee, such as a schedule or an expenses, matches any of the
+ * Id given.
+ * The Ids are kept in a hash set, so a test takes the same time however many Ids are given, and narrowing a list of
+ * records down to the records of a list of persons takes time linear in the sizes of both lists.
+ *
+ * @param <T> type of the records tested.
+ */
+public class EmployeeIdInSetPredicate<T> implements Predicate<T> {
+    private final List<String> keywords;
+    private final Set<String> employeeIds;
+    private final Function<? super T, EmployeeId> employeeIdOf;
+
+    /**
+     * @param keywords Ids to match.
+     * @param employeeIdOf returns the {@code EmployeeId} of a record.
+     */
+    public EmployeeIdInSetPredicate(List<String> keywords, Function<? super T, EmployeeId> employeeIdOf) {
+        requireAllNonNull(keywords, employeeIdOf);
+        this.keywords = keywords;
+        this.employeeIds = keywords.stream().map(String::trim).collect(Collectors.toSet());
+        this.employeeIdOf = employeeIdOf;
+    }
+
+    /**
+     * Returns the Ids of {@code persons}, in order.
+     */
+    public static List<String> employeeIdsOf(List<Person> persons) {
+        return persons.stream().map(person -> person.getEmployeeId().value).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean test(T record) {
+        return employeeIds.contains(employeeIdOf.apply(record).value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // handles nulls and subclasses
+                && keywords.equals(((EmployeeIdInSetPredicate<?>) other).keywords)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+}
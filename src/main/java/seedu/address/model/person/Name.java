@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -14,6 +16,7 @@ public class Name {
             + "should at least be 3 characters long";
 
     public static final String NAME_VALIDATION_REGEX = "[A-Za-z ]{3,}";
+    private static final int MIN_LENGTH = 3;
 
     public final String fullName;
 
@@ -32,7 +35,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return ValidationUtil.isLettersOrSpaces(test, MIN_LENGTH, Integer.MAX_VALUE);
     }
 
 
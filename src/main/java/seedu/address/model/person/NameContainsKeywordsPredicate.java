@@ -1,22 +1,26 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keyword(s) given.
+ * Tests that a {@code Person}'s {@code Name} matches any of the keyword(s) given, ignoring case.
+ * The keywords are kept in a hash set, so a test takes the same time however many keywords are given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final Set<String> lowerCaseKeywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).collect(Collectors.toSet());
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> person.getName().fullName.equalsIgnoreCase(keyword));
+        return lowerCaseKeywords.contains(person.getName().fullName.toLowerCase());
     }
 
     @Override
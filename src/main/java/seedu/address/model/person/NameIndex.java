@@ -0,0 +1,105 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * An inverted index from the trigrams (substrings of 3 characters) of the persons' names to the persons.
+ * A name containing a keyword contains every trigram of the keyword, so only the persons holding the rarest trigram
+ * of the keyword have to be compared with it, instead of every person.
+ * Names and keywords are compared ignoring case.
+ */
+class NameIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final SetMultimap<String, Person> byGram = HashMultimap.create();
+    private final Map<Person, String> lowerCaseNames = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        String lowerCaseName = person.getName().fullName.toLowerCase();
+        lowerCaseNames.put(person, lowerCaseName);
+        for (String gram : gramsOf(lowerCaseName)) {
+            byGram.put(gram, person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        String lowerCaseName = lowerCaseNames.remove(person);
+        if (lowerCaseName == null) {
+            return;
+        }
+        for (String gram : gramsOf(lowerCaseName)) {
+            byGram.remove(gram, person);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with those of {@code replacement}.
+     */
+    void setAll(NameIndex replacement) {
+        byGram.clear();
+        lowerCaseNames.clear();
+        byGram.putAll(replacement.byGram);
+        lowerCaseNames.putAll(replacement.lowerCaseNames);
+    }
+
+    /**
+     * Returns the persons whose name contains {@code keyword}, ignoring case.
+     * Keywords shorter than a trigram are compared with every name.
+     */
+    List<Person> find(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        return candidatesOf(lowerCaseKeyword).stream()
+                .filter(person -> lowerCaseNames.get(person).contains(lowerCaseKeyword))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of persons whose name has to be compared with {@code keyword} to find the names containing
+     * it, which is at least the number of names containing it.
+     */
+    int countCandidates(String keyword) {
+        return candidatesOf(keyword.toLowerCase()).size();
+    }
+
+    /**
+     * Returns the persons holding the rarest trigram of {@code lowerCaseKeyword}, or every person if it is shorter
+     * than a trigram.
+     */
+    private Collection<Person> candidatesOf(String lowerCaseKeyword) {
+        Collection<Person> candidates = lowerCaseNames.keySet();
+        for (String gram : gramsOf(lowerCaseKeyword)) {
+            Set<Person> persons = byGram.get(gram);
+            if (persons.size() < candidates.size()) {
+                candidates = persons;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}.
+     */
+    private static Set<String> gramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
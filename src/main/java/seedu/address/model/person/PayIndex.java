@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.collect.SortedMultiset;
+import com.google.common.collect.TreeMultiset;
+
+import seedu.address.model.util.Money;
+
+/**
+ * A sorted index from an amount of pay (such as the salary or the bonus) to the persons paid that amount.
+ * The persons paid within a range of amounts are found by a search in the sorted amounts followed by a walk over the
+ * amounts in the range only, instead of comparing the amount of every person. The amounts are also kept in a
+ * {@code TreeMultiset}, a balanced tree that knows the number of amounts under each node, so the persons paid within
+ * a range are counted in logarithmic time without walking the range.
+ */
+class PayIndex {
+
+    private final NavigableMap<Money, Set<Person>> byAmount = new TreeMap<>();
+    private final TreeMultiset<Money> amounts = TreeMultiset.create();
+    private final Function<Person, Money> amountOf;
+
+    /**
+     * Creates an index of the amounts returned by {@code amountOf}.
+     */
+    PayIndex(Function<Person, Money> amountOf) {
+        this.amountOf = amountOf;
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        Money amount = amountOf.apply(person);
+        if (byAmount.computeIfAbsent(amount, unused -> new LinkedHashSet<>()).add(person)) {
+            amounts.add(amount);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        Money amount = amountOf.apply(person);
+        byAmount.computeIfPresent(amount, (unused, persons) -> {
+            if (persons.remove(person)) {
+                amounts.remove(amount);
+            }
+            return persons.isEmpty() ? null : persons;
+        });
+    }
+
+    boolean isEmpty() {
+        return byAmount.isEmpty();
+    }
+
+    /**
+     * Replaces the contents of the index with those of {@code replacement}.
+     */
+    void setAll(PayIndex replacement) {
+        byAmount.clear();
+        replacement.byAmount.forEach((amount, persons) -> byAmount.put(amount, new LinkedHashSet<>(persons)));
+        amounts.clear();
+        amounts.addAll(replacement.amounts);
+    }
+
+    /**
+     * Returns the persons paid an amount within {@code range}, from the lowest amount to the highest.
+     */
+    List<Person> find(Range<Money> range) {
+        return amountsWithin(range).values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of persons paid an amount within {@code range}.
+     */
+    int count(Range<Money> range) {
+        SortedMultiset<Money> counted = amounts;
+        if (range.hasLowerBound()) {
+            counted = counted.tailMultiset(range.lowerEndpoint(), range.lowerBoundType());
+        }
+        if (range.hasUpperBound()) {
+            counted = counted.headMultiset(range.upperEndpoint(), range.upperBoundType());
+        }
+        return counted.size();
+    }
+
+    /**
+     * Returns the persons paid an amount within {@code range}, from the highest amount to the lowest.
+     * The persons are only looked up as the stream is consumed.
+     */
+    Stream<Person> streamDescending(Range<Money> range) {
+        return amountsWithin(range).descendingMap().values().stream().flatMap(Set::stream);
+    }
+
+    /**
+     * Returns a view of the amounts within {@code range}.
+     */
+    private NavigableMap<Money, Set<Person>> amountsWithin(Range<Money> range) {
+        NavigableMap<Money, Set<Person>> amounts = byAmount;
+        if (range.hasLowerBound()) {
+            amounts = amounts.tailMap(range.lowerEndpoint(), range.lowerBoundType() == BoundType.CLOSED);
+        }
+        if (range.hasUpperBound()) {
+            amounts = amounts.headMap(range.upperEndpoint(), range.upperBoundType() == BoundType.CLOSED);
+        }
+        return amounts;
+    }
+}
@@ -61,8 +61,8 @@ public class Person {
         this.dateOfBirth = new DateOfBirth(sample.SAMPLE_DATEOFBIRTH.toString());
         this.phone = new Phone(sample.SAMPLE_PHONE.toString());
         this.email = new Email(sample.SAMPLE_EMAIL.toString());
-        this.department = new Department(sample.SAMPLE_DEPARTMENT.toString());
-        this.position = new Position(sample.SAMPLE_POSITION.toString());
+        this.department = sample.SAMPLE_DEPARTMENT;
+        this.position = sample.SAMPLE_POSITION;
         this.address = new Address(sample.SAMPLE_ADDRESS.toString());
         this.salary = new Salary(sample.SAMPLE_SALARY.toString());
         this.bonus = new Bonus(sample.SAMPLE_BONUS.toString());
@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+
+/**
+ * The persons in each department and in each position, and the number of persons in each position of each
+ * department.
+ * Departments and positions are compared ignoring case, and are kept in upper case.
+ */
+class PersonFacets {
+
+    private final SetMultimap<String, Person> byDepartment = HashMultimap.create();
+    private final SetMultimap<String, Person> byPosition = HashMultimap.create();
+    private final Map<String, Map<String, Integer>> positionCountsByDepartment = new HashMap<>();
+
+    /**
+     * Adds {@code person} to its department and position.
+     */
+    void add(Person person) {
+        String department = keyOf(person.getDepartment().value);
+        String position = keyOf(person.getPosition().value);
+        byDepartment.put(department, person);
+        byPosition.put(position, person);
+        positionCountsByDepartment.computeIfAbsent(department, unused -> new HashMap<>())
+                .merge(position, 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code person} from its department and position.
+     */
+    void remove(Person person) {
+        String department = keyOf(person.getDepartment().value);
+        String position = keyOf(person.getPosition().value);
+        byDepartment.remove(department, person);
+        byPosition.remove(position, person);
+        Map<String, Integer> positionCounts = positionCountsByDepartment.get(department);
+        if (positionCounts != null) {
+            positionCounts.computeIfPresent(position, (unused, count) -> count == 1 ? null : count - 1);
+            if (positionCounts.isEmpty()) {
+                positionCountsByDepartment.remove(department);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents with those of {@code replacement}.
+     */
+    void setAll(PersonFacets replacement) {
+        byDepartment.clear();
+        byPosition.clear();
+        positionCountsByDepartment.clear();
+        byDepartment.putAll(replacement.byDepartment);
+        byPosition.putAll(replacement.byPosition);
+        replacement.positionCountsByDepartment.forEach((department, counts) ->
+                positionCountsByDepartment.put(department, new HashMap<>(counts)));
+    }
+
+    /**
+     * Returns the number of persons in each department, in alphabetical order of department.
+     */
+    SortedMap<String, Integer> getDepartmentCounts() {
+        return countsOf(byDepartment);
+    }
+
+    /**
+     * Returns the number of persons in each position, in alphabetical order of position.
+     */
+    SortedMap<String, Integer> getPositionCounts() {
+        return countsOf(byPosition);
+    }
+
+    /**
+     * Returns the number of persons in {@code position} of {@code department}.
+     */
+    int getHeadcount(String department, String position) {
+        return positionCountsByDepartment.getOrDefault(keyOf(department), Collections.emptyMap())
+                .getOrDefault(keyOf(position), 0);
+    }
+
+    Set<Person> getPersonsInDepartment(String department) {
+        return Collections.unmodifiableSet(byDepartment.get(keyOf(department)));
+    }
+
+    Set<Person> getPersonsInPosition(String position) {
+        return Collections.unmodifiableSet(byPosition.get(keyOf(position)));
+    }
+
+    private static String keyOf(String departmentOrPosition) {
+        return departmentOrPosition.toUpperCase();
+    }
+
+    /**
+     * Returns the number of persons under each key of {@code persons}, in alphabetical order of key.
+     */
+    private static SortedMap<String, Integer> countsOf(SetMultimap<String, Person> persons) {
+        SortedMap<String, Integer> counts = new TreeMap<>();
+        persons.asMap().forEach((key, personsOfKey) -> counts.put(key, personsOfKey.size()));
+        return counts;
+    }
+}
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's Position in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPosition(String)}
@@ -14,6 +19,11 @@ public class Position {
     public static final String MESSAGE_POSITION_KEYWORD_CONSTRAINTS =
             "Position only contains alphabets and spaces, please ensure input parameter(s) are relevant";
     public static final String POSITION_VALIDATION_REGEX = "[A-Za-z ]{2,30}";
+    private static final int MIN_LENGTH = 2;
+    private static final int MAX_LENGTH = 30;
+
+    private static final Interner<Position> INTERNER = Interners.newWeakInterner();
+
     public final String value;
 
     /**
@@ -28,11 +38,20 @@ public class Position {
         value = position;
     }
 
+    /**
+     * Returns the canonical {@code Position} of {@code position}, which is shared by every person holding it.
+     *
+     * @throws IllegalArgumentException if {@code position} is not valid.
+     */
+    public static Position of(String position) {
+        return INTERNER.intern(new Position(position));
+    }
+
     /**
      * Returns true if a given string is a valid position.
      */
     public static boolean isValidPosition(String test) {
-        return test.matches(POSITION_VALIDATION_REGEX);
+        return ValidationUtil.isLettersOrSpaces(test, MIN_LENGTH, MAX_LENGTH);
     }
 
     @Override
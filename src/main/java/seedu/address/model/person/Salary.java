@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.util.Money;
+
 /**
  * Represents a Person's Salary in the address book.
+ * A salary starting with % is a percentage change of a salary rather than an amount.
  * Guarantees: immutable; is valid as declared in {@link #isValidSalary(String)}
  */
 public class Salary {
@@ -12,7 +16,12 @@ public class Salary {
             "Salary should only contain numbers, and it should not be blank. Only a maximum of 6 whole numbers and "
                     + "2 decimal place are allowed. (Max Salary store value is 999999.99)\n";
     public static final String SALARY_VALIDATION_REGEX = "[%]?[-]?[0-9]{1,6}([.][0-9]{1,2})?";
+    private static final String PERCENTAGE_SIGN = "%";
+    private static final int MAX_WHOLE_DIGITS = 6;
+
     public final String value;
+    private final Money amount;
+    private final boolean isPercentage;
 
     /**
      * Constructs a {@code salary}.
@@ -24,13 +33,27 @@ public class Salary {
         requireNonNull(salary);
         checkArgument(isValidSalary(salary), MESSAGE_SALARY_CONSTRAINTS);
         value = salary;
+        isPercentage = salary.startsWith(PERCENTAGE_SIGN);
+        amount = Money.parse(isPercentage ? salary.substring(PERCENTAGE_SIGN.length()) : salary);
     }
 
     /**
      * Returns true if a given string is a valid salary.
      */
     public static boolean isValidSalary(String test) {
-        return test.matches(SALARY_VALIDATION_REGEX);
+        int amountStart = test.startsWith(PERCENTAGE_SIGN) ? PERCENTAGE_SIGN.length() : 0;
+        return ValidationUtil.isAmount(test, amountStart, MAX_WHOLE_DIGITS);
+    }
+
+    /**
+     * Returns the amount of the salary, or the percentage of a percentage change, e.g. 10.50 for %10.5.
+     */
+    public Money getAmount() {
+        return amount;
+    }
+
+    public boolean isPercentage() {
+        return isPercentage;
     }
 
     @Override
@@ -3,16 +3,29 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Range;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.Money;
+import seedu.address.model.util.ObservableListAdapter;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -23,18 +36,43 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Every identity field used by {@code Person#isSamePerson(Person)} and the employee id are kept in hash indexes,
+ * so identity checks are constant-time lookups instead of scans over the whole list. The names are kept in a
+ * {@code NameIndex} so that persons can be found by part of their name without comparing it with every name, and
+ * the number of persons in each department and position is kept in {@code PersonFacets}. The salaries and bonuses
+ * are kept in sorted {@code PayIndex}es, so that the persons paid within a range are found without a full scan, and
+ * the salaries of each department are also kept in a {@code PayIndex} of their own.
+ * The persons themselves are kept in a plain list, which is only published as an {@code ObservableList} once
+ * something asks to observe it.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    /**
+     * Orders persons by name, ignoring case.
+     */
+    public static final Comparator<Person> NAME_ORDER = (personA, personB) ->
+            personA.getName().fullName.compareToIgnoreCase(personB.getName().fullName);
+
+    private static final Comparator<Person> REVERSE_NAME_ORDER = NAME_ORDER.reversed();
+
+    private static final Comparator<Person> HIGHEST_SALARY_ORDER = Comparator
+            .comparing((Person person) -> person.getSalary().getAmount()).reversed()
+            .thenComparing(NAME_ORDER);
+
+    private final List<Person> internalList = new ArrayList<>();
+    private final ObservableListAdapter<Person> observableList = new ObservableListAdapter<>(internalList);
+    private final PersonIndex index = new PersonIndex();
+
+    /** The order the list was last sorted in, or null if a person has been put out of that order since. */
+    private Comparator<Person> sortedOrder;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
-        requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return contains(toCheck, unused -> true);
     }
 
     /**
@@ -47,12 +85,24 @@ public class UniquePersonList implements Iterable<Person> {
         return filteredPersonList.stream().anyMatch(toCheck::isSamePerson);
     }
 
+    /**
+     * Returns true if the list contains an equivalent person as the given argument among the persons
+     * matching {@code predicate}.
+     */
+    public boolean contains(Person toCheck, Predicate<Person> predicate) {
+        requireAllNonNull(toCheck, predicate);
+        Optional<Person> samePerson = index.findSamePerson(toCheck, predicate);
+
+        // isSamePerson is still called on the match as it records which identity field is duplicated
+        return samePerson.isPresent() && toCheck.isSamePerson(samePerson.get());
+    }
+
     /**
      * Returns true if the list contains an equivalent employeeId as the given person's employeeId.
      */
     public boolean containsEmployeeId(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEmployeeId);
+        return index.containsEmployeeId(toCheck.getEmployeeId());
     }
 
 
@@ -66,6 +116,9 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index.add(toAdd);
+        checkSortedOrderAt(internalList.size() - 1);
+        observableList.publish();
     }
 
     /**
@@ -86,6 +139,10 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        this.index.remove(target);
+        this.index.add(editedPerson);
+        checkSortedOrderAt(index);
+        observableList.publish();
     }
 
     /**
@@ -97,11 +154,17 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        index.remove(toRemove);
+        observableList.publish();
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.clear();
+        internalList.addAll(replacement.internalList);
+        index.setAll(replacement.index);
+        sortedOrder = replacement.sortedOrder;
+        observableList.publish();
     }
 
     /**
@@ -110,11 +173,165 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        PersonIndex replacementIndex = new PersonIndex();
+        for (Person person : persons) {
+            if (replacementIndex.findSamePerson(person, unused -> true).isPresent()) {
+                throw new DuplicatePersonException();
+            }
+            replacementIndex.add(person);
         }
 
-        internalList.setAll(persons);
+        internalList.clear();
+        internalList.addAll(persons);
+        index.setAll(replacementIndex);
+        sortedOrder = null;
+        observableList.publish();
+    }
+
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with the person it maps to, in one pass over the
+     * list. Every key must exist in the list, and the edited list must not contain duplicate persons.
+     * Nothing is replaced if any of these checks fails.
+     */
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+        List<Person> persons = new ArrayList<>(internalList.size());
+        int replacedCount = 0;
+        for (Person person : internalList) {
+            Person editedPerson = editedPersons.get(person);
+            if (editedPerson != null) {
+                replacedCount++;
+            }
+            persons.add(editedPerson == null ? person : editedPerson);
+        }
+        if (replacedCount != editedPersons.size()) {
+            throw new PersonNotFoundException();
+        }
+
+        setPersons(persons);
+    }
+
+    /**
+     * Returns the persons whose name contains {@code keyword}, ignoring case, in no particular order.
+     */
+    public List<Person> findByName(String keyword) {
+        requireNonNull(keyword);
+        return index.findByName(keyword);
+    }
+
+    /**
+     * Returns the number of persons whose name is compared with {@code keyword} by {@link #findByName(String)}.
+     */
+    public int countNameCandidates(String keyword) {
+        requireNonNull(keyword);
+        return index.byName.countCandidates(keyword);
+    }
+
+    /**
+     * Returns the persons with {@code employeeId}.
+     */
+    public List<Person> findByEmployeeId(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return Collections.unmodifiableList(index.byEmployeeId.get(employeeId));
+    }
+
+    /**
+     * Returns the persons in {@code department}, ignoring case.
+     */
+    public Set<Person> findByDepartment(String department) {
+        requireNonNull(department);
+        return index.facets.getPersonsInDepartment(department);
+    }
+
+    /**
+     * Returns the persons in {@code position}, ignoring case.
+     */
+    public Set<Person> findByPosition(String position) {
+        requireNonNull(position);
+        return index.facets.getPersonsInPosition(position);
+    }
+
+    /**
+     * Returns the persons with a salary within {@code range}, from the lowest salary to the highest.
+     */
+    public List<Person> findBySalary(Range<Money> range) {
+        requireNonNull(range);
+        return index.bySalary.find(range);
+    }
+
+    /**
+     * Returns the number of persons with a salary within {@code range}.
+     */
+    public int countBySalary(Range<Money> range) {
+        requireNonNull(range);
+        return index.bySalary.count(range);
+    }
+
+    /**
+     * Returns the persons with a bonus within {@code range}, from the lowest bonus to the highest.
+     */
+    public List<Person> findByBonus(Range<Money> range) {
+        requireNonNull(range);
+        return index.byBonus.find(range);
+    }
+
+    /**
+     * Returns the number of persons with a bonus within {@code range}.
+     */
+    public int countByBonus(Range<Money> range) {
+        requireNonNull(range);
+        return index.byBonus.count(range);
+    }
+
+    /**
+     * Returns the persons with the highest salaries within {@code salaryRange} in each department accepted by
+     * {@code departmentFilter}, at most {@code limitPerDepartment} of them per department, among the persons matching
+     * {@code predicate}. The persons are returned from the highest salary to the lowest, then by name.
+     * Each department has a salary index of its own, so only the departments accepted by {@code departmentFilter} are
+     * walked, each from its highest salary down only until it has {@code limitPerDepartment} persons.
+     * @param departmentFilter tests the departments, in upper case.
+     */
+    public List<Person> findHighestPaid(Range<Money> salaryRange, Predicate<String> departmentFilter,
+                                        Predicate<Person> predicate, int limitPerDepartment) {
+        requireAllNonNull(salaryRange, departmentFilter, predicate);
+        List<Person> highestPaid = new ArrayList<>();
+        index.salaryByDepartment.forEach((department, salaries) -> {
+            if (departmentFilter.test(department)) {
+                salaries.streamDescending(salaryRange).filter(predicate).limit(limitPerDepartment)
+                        .forEach(highestPaid::add);
+            }
+        });
+        highestPaid.sort(HIGHEST_SALARY_ORDER);
+        return highestPaid;
+    }
+
+    /**
+     * Returns the number of persons in the list.
+     */
+    public int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns the number of persons in each department, in alphabetical order of department in upper case.
+     */
+    public Map<String, Integer> getDepartmentCounts() {
+        return index.facets.getDepartmentCounts();
+    }
+
+    /**
+     * Returns the number of persons in each position, in alphabetical order of position in upper case.
+     */
+    public Map<String, Integer> getPositionCounts() {
+        return index.facets.getPositionCounts();
+    }
+
+    /**
+     * Returns the number of persons in {@code position} of {@code department}, both ignoring case.
+     */
+    public int getHeadcount(String department, String position) {
+        requireAllNonNull(department, position);
+        return index.facets.getHeadcount(department, position);
     }
 
     //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
@@ -123,19 +340,12 @@ public class UniquePersonList implements Iterable<Person> {
      * @param order The sort order input by the user (either ascending or descending)
      */
     public void sortByName(String order) {
-        Comparator <Person> nameComparator = new Comparator<Person>() {
-            @Override
-            public int compare(Person personA, Person personB) {
-                return personA.getName().fullName.compareToIgnoreCase(personB.getName().fullName);
-            }
-        };
-
         switch (order) {
         case FilterCommand.ASCENDING:
-            Collections.sort(internalList, nameComparator);
+            sortBy(NAME_ORDER);
             break;
         case FilterCommand.DESCENDING:
-            Collections.sort(internalList, Collections.reverseOrder(nameComparator));
+            sortBy(REVERSE_NAME_ORDER);
             break;
         default:
             throw new AssertionError("Invalid parameter for order entered");
@@ -143,10 +353,42 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Sorts PersonList in the order of {@code comparator}.
+     * Nothing is done if the list has not changed since it was last sorted by the same comparator.
+     */
+    public void sortBy(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        if (comparator == sortedOrder) {
+            return;
+        }
+        internalList.sort(comparator);
+        sortedOrder = comparator;
+        observableList.publish();
+    }
+
+    /**
+     * Forgets the order the list was last sorted in, unless the person at {@code position} is still in that order
+     * with the persons next to it.
+     */
+    private void checkSortedOrderAt(int position) {
+        if (sortedOrder == null) {
+            return;
+        }
+        Person person = internalList.get(position);
+        boolean isAfterPrevious = position == 0
+                || sortedOrder.compare(internalList.get(position - 1), person) <= 0;
+        boolean isBeforeNext = position == internalList.size() - 1
+                || sortedOrder.compare(person, internalList.get(position + 1)) <= 0;
+        if (!isAfterPrevious || !isBeforeNext) {
+            sortedOrder = null;
+        }
+    }
+
+    /**
+     * Returns the persons as an unmodifiable {@code ObservableList}, which is updated after every change.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+        return observableList.asUnmodifiableObservableList();
     }
 
     @Override
@@ -167,16 +409,149 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Hash indexes over the identity fields of the persons in a {@code UniquePersonList}.
+     * Each key maps to a list so that the index stays correct even if the list holds persons sharing a key.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static class PersonIndex {
+        private final ListMultimap<EmployeeId, Person> byEmployeeId = ArrayListMultimap.create();
+        private final ListMultimap<String, Person> byEmail = ArrayListMultimap.create();
+        private final ListMultimap<Phone, Person> byPhone = ArrayListMultimap.create();
+        private final ListMultimap<NameAndDateOfBirth, Person> byNameAndDateOfBirth = ArrayListMultimap.create();
+        private final NameIndex byName = new NameIndex();
+        private final PersonFacets facets = new PersonFacets();
+        private final PayIndex bySalary = new PayIndex(PersonIndex::salaryOf);
+        private final PayIndex byBonus = new PayIndex(person -> person.getBonus().getAmount());
+        private final SortedMap<String, PayIndex> salaryByDepartment = new TreeMap<>();
+
+        /**
+         * Adds {@code person} to every index.
+         */
+        void add(Person person) {
+            if (person.getEmployeeId() != null) {
+                byEmployeeId.put(person.getEmployeeId(), person);
+            }
+            byEmail.put(emailKey(person), person);
+            byPhone.put(person.getPhone(), person);
+            byNameAndDateOfBirth.put(new NameAndDateOfBirth(person), person);
+            byName.add(person);
+            facets.add(person);
+            bySalary.add(person);
+            byBonus.add(person);
+            salaryByDepartment.computeIfAbsent(departmentKey(person), unused -> new PayIndex(PersonIndex::salaryOf))
+                    .add(person);
+        }
+
+        /**
+         * Removes {@code person} from every index.
+         */
+        void remove(Person person) {
+            if (person.getEmployeeId() != null) {
+                byEmployeeId.remove(person.getEmployeeId(), person);
+            }
+            byEmail.remove(emailKey(person), person);
+            byPhone.remove(person.getPhone(), person);
+            byNameAndDateOfBirth.remove(new NameAndDateOfBirth(person), person);
+            byName.remove(person);
+            facets.remove(person);
+            bySalary.remove(person);
+            byBonus.remove(person);
+            salaryByDepartment.computeIfPresent(departmentKey(person), (unused, salaries) -> {
+                salaries.remove(person);
+                return salaries.isEmpty() ? null : salaries;
+            });
+        }
+
+        /**
+         * Replaces the contents of every index with those of {@code replacement}.
+         */
+        void setAll(PersonIndex replacement) {
+            byEmployeeId.clear();
+            byEmail.clear();
+            byPhone.clear();
+            byNameAndDateOfBirth.clear();
+            byEmployeeId.putAll(replacement.byEmployeeId);
+            byEmail.putAll(replacement.byEmail);
+            byPhone.putAll(replacement.byPhone);
+            byNameAndDateOfBirth.putAll(replacement.byNameAndDateOfBirth);
+            byName.setAll(replacement.byName);
+            facets.setAll(replacement.facets);
+            bySalary.setAll(replacement.bySalary);
+            byBonus.setAll(replacement.byBonus);
+            salaryByDepartment.clear();
+            replacement.salaryByDepartment.forEach((department, salaries) -> {
+                PayIndex copy = new PayIndex(PersonIndex::salaryOf);
+                copy.setAll(salaries);
+                salaryByDepartment.put(department, copy);
+            });
+        }
+
+        boolean containsEmployeeId(EmployeeId employeeId) {
+            return byEmployeeId.containsKey(employeeId);
+        }
+
+        List<Person> findByName(String keyword) {
+            return byName.find(keyword);
+        }
+
+        /**
+         * Returns a person matching {@code predicate} that has the same identity as {@code toCheck}.
+         * Matches on email are preferred over matches on phone, which are preferred over name and date of birth.
+         */
+        Optional<Person> findSamePerson(Person toCheck, Predicate<Person> predicate) {
+            Optional<Person> match = byEmail.get(emailKey(toCheck)).stream().filter(predicate).findFirst();
+            if (!match.isPresent()) {
+                match = byPhone.get(toCheck.getPhone()).stream().filter(predicate).findFirst();
             }
+            if (!match.isPresent()) {
+                match = byNameAndDateOfBirth.get(new NameAndDateOfBirth(toCheck)).stream()
+                        .filter(predicate).findFirst();
+            }
+            return match;
+        }
+
+        private static Money salaryOf(Person person) {
+            return person.getSalary().getAmount();
+        }
+
+        /**
+         * Departments are compared ignoring case, so they are indexed in upper case.
+         */
+        private static String departmentKey(Person person) {
+            return person.getDepartment().value.toUpperCase();
+        }
+
+        /**
+         * Emails are compared ignoring case, so they are indexed in lower case.
+         */
+        private static String emailKey(Person person) {
+            return person.getEmail().value.toLowerCase();
+        }
+    }
+
+    /**
+     * Composite index key of a person's name and date of birth.
+     */
+    private static class NameAndDateOfBirth {
+        private final String name;
+        private final DateOfBirth dateOfBirth;
+
+        NameAndDateOfBirth(Person person) {
+            // names are compared ignoring case
+            name = person.getName().fullName.toLowerCase();
+            dateOfBirth = person.getDateOfBirth();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof NameAndDateOfBirth // instanceof handles nulls
+                    && name.equals(((NameAndDateOfBirth) other).name)
+                    && dateOfBirth.equals(((NameAndDateOfBirth) other).dateOfBirth));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, dateOfBirth);
         }
-        return true;
     }
 }
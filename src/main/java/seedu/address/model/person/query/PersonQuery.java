@@ -0,0 +1,88 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Tests that a {@code Person} satisfies every one of a list of {@code QueryCondition}s, and orders the persons that
+ * do by a field, then by name.
+ */
+public class PersonQuery implements Predicate<Person> {
+    private final List<QueryCondition> conditions;
+    private final QueryField sortField;
+    private final boolean isDescending;
+
+    /**
+     * @param conditions The conditions to satisfy; at least one.
+     * @param sortField The field to sort by, or {@code null} to sort by name only.
+     * @param isDescending True if the persons are sorted in descending order of {@code sortField}.
+     */
+    public PersonQuery(List<QueryCondition> conditions, QueryField sortField, boolean isDescending) {
+        requireAllNonNull(conditions);
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("A query needs at least one condition");
+        }
+        this.conditions = Collections.unmodifiableList(new ArrayList<>(conditions));
+        this.sortField = sortField;
+        this.isDescending = isDescending;
+    }
+
+    public List<QueryCondition> getConditions() {
+        return conditions;
+    }
+
+    public Optional<QueryField> getSortField() {
+        return Optional.ofNullable(sortField);
+    }
+
+    /**
+     * Returns the order of the persons matching this query.
+     */
+    public Comparator<Person> getComparator() {
+        if (sortField == null) {
+            return UniquePersonList.NAME_ORDER;
+        }
+        Comparator<Person> fieldOrder = sortField.comparator();
+        return (isDescending ? fieldOrder.reversed() : fieldOrder).thenComparing(UniquePersonList.NAME_ORDER);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return conditions.stream().allMatch(condition -> condition.test(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonQuery // instanceof handles nulls
+                && conditions.equals(((PersonQuery) other).conditions)
+                && sortField == ((PersonQuery) other).sortField
+                && isDescending == ((PersonQuery) other).isDescending); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(conditions, sortField, isDescending);
+    }
+
+    @Override
+    public String toString() {
+        String conditionsText = conditions.stream().map(QueryCondition::toString)
+                .collect(Collectors.joining(" and "));
+        if (sortField == null) {
+            return conditionsText;
+        }
+        return conditionsText + " sort " + sortField + (isDescending ? " dsc" : " asc");
+    }
+}
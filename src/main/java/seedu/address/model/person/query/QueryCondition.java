@@ -0,0 +1,110 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.Money;
+
+/**
+ * Tests that a field of a {@code Person} compares with a value as given by an operator, such as
+ * {@code salary > 5000}.
+ * Text is compared ignoring case, and a date may be a whole year, so that {@code dob < 1980} means born before 1980.
+ */
+public class QueryCondition implements Predicate<Person> {
+    public static final String MESSAGE_CONDITION_CONSTRAINTS =
+            "The operator must be supported by the field and the value must be valid for the field";
+
+    private final QueryField field;
+    private final QueryOperator operator;
+    private final String value;
+    private final Money amount;
+    private final LocalDate firstDay;
+    private final LocalDate lastDay;
+
+    /**
+     * @param field A field that supports {@code operator}.
+     * @param value A valid value of {@code field}.
+     */
+    public QueryCondition(QueryField field, QueryOperator operator, String value) {
+        requireAllNonNull(field, operator, value);
+        checkArgument(field.supports(operator) && field.isValidValue(value), MESSAGE_CONDITION_CONSTRAINTS);
+        this.field = field;
+        this.operator = operator;
+        this.value = value;
+        // parsed once here rather than for every person tested
+        amount = field.getKind() == QueryField.Kind.NUMBER ? Money.parse(value) : null;
+        firstDay = field.getKind() == QueryField.Kind.DATE ? QueryField.firstDayOf(value) : null;
+        lastDay = field.getKind() == QueryField.Kind.DATE ? QueryField.lastDayOf(value) : null;
+    }
+
+    public QueryField getField() {
+        return field;
+    }
+
+    public QueryOperator getOperator() {
+        return operator;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        switch (field.getKind()) {
+        case NUMBER:
+            return operator.isSatisfiedBy(field.amountOf(person).compareTo(amount));
+        case DATE:
+            return testDate(QueryField.toDate(field.valueOf(person)));
+        default:
+            String fieldValue = field.valueOf(person);
+            return operator == QueryOperator.CONTAINS
+                    ? fieldValue.toLowerCase().contains(value.toLowerCase())
+                    : fieldValue.equalsIgnoreCase(value);
+        }
+    }
+
+    /**
+     * Returns true if {@code date} compares with the days written as the value as given by the operator.
+     */
+    private boolean testDate(LocalDate date) {
+        switch (operator) {
+        case EQUAL:
+            return !date.isBefore(firstDay) && !date.isAfter(lastDay);
+        case LESS:
+            return date.isBefore(firstDay);
+        case LESS_OR_EQUAL:
+            return !date.isAfter(lastDay);
+        case GREATER:
+            return date.isAfter(lastDay);
+        case GREATER_OR_EQUAL:
+            return !date.isBefore(firstDay);
+        default:
+            throw new AssertionError("Operator " + operator + " does not order dates");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof QueryCondition // instanceof handles nulls
+                && field == ((QueryCondition) other).field
+                && operator == ((QueryCondition) other).operator
+                && value.equalsIgnoreCase(((QueryCondition) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, operator, value.toLowerCase());
+    }
+
+    @Override
+    public String toString() {
+        return field + " " + operator + " " + value;
+    }
+}
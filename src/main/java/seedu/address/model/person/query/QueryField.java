@@ -0,0 +1,161 @@
+package seedu.address.model.person.query;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ValidationUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.Money;
+
+/**
+ * The fields of a person that a {@code PersonQuery} can compare and sort by.
+ */
+public enum QueryField {
+    ID("id", Kind.ID, person -> person.getEmployeeId().value),
+    NAME("name", Kind.TEXT, person -> person.getName().fullName),
+    DEPARTMENT("department", Kind.TEXT, person -> person.getDepartment().value),
+    POSITION("position", Kind.TEXT, person -> person.getPosition().value),
+    SALARY("salary", person -> person.getSalary().value, person -> person.getSalary().getAmount()),
+    BONUS("bonus", person -> person.getBonus().value, person -> person.getBonus().getAmount()),
+    DOB("dob", Kind.DATE, person -> person.getDateOfBirth().value);
+
+    /**
+     * How the values of a field are compared.
+     */
+    enum Kind {
+        ID(EnumSet.of(QueryOperator.EQUAL), "[0-9]{6}"),
+        TEXT(EnumSet.of(QueryOperator.EQUAL, QueryOperator.CONTAINS), "[A-Za-z ]+"),
+        NUMBER(EnumSet.of(QueryOperator.EQUAL, QueryOperator.LESS, QueryOperator.LESS_OR_EQUAL,
+                QueryOperator.GREATER, QueryOperator.GREATER_OR_EQUAL), "[0-9]{1,9}([.][0-9]{1,2})?"),
+        DATE(NUMBER.operators, "([0-9]{1,2}/[0-9]{1,2}/)?[0-9]{4}");
+
+        private final Set<QueryOperator> operators;
+        private final Predicate<String> validator;
+
+        Kind(Set<QueryOperator> operators, String validationRegex) {
+            this.operators = operators;
+            this.validator = ValidationUtil.compile(validationRegex);
+        }
+    }
+
+    private final String keyword;
+    private final Kind kind;
+    private final Function<Person, String> valueOf;
+    private final Function<Person, Money> amountOf;
+
+    QueryField(String keyword, Kind kind, Function<Person, String> valueOf) {
+        this.keyword = keyword;
+        this.kind = kind;
+        this.valueOf = valueOf;
+        this.amountOf = person -> {
+            throw new UnsupportedOperationException("Field " + keyword + " is not a number");
+        };
+    }
+
+    /**
+     * Creates a number field, whose values are compared as the amounts {@code amountOf} returns.
+     */
+    QueryField(String keyword, Function<Person, String> valueOf, Function<Person, Money> amountOf) {
+        this.keyword = keyword;
+        this.kind = Kind.NUMBER;
+        this.valueOf = valueOf;
+        this.amountOf = amountOf;
+    }
+
+    /**
+     * Returns the field named {@code keyword}, ignoring case, if any.
+     */
+    public static Optional<QueryField> fromKeyword(String keyword) {
+        return Arrays.stream(values()).filter(field -> field.keyword.equalsIgnoreCase(keyword)).findFirst();
+    }
+
+    /**
+     * Returns true if values of this field can be compared with {@code operator}.
+     */
+    public boolean supports(QueryOperator operator) {
+        return kind.operators.contains(operator);
+    }
+
+    /**
+     * Returns true if {@code value} can be compared with values of this field.
+     * Dates are written as DD/MM/YYYY, or as YYYY for a whole year.
+     */
+    public boolean isValidValue(String value) {
+        if (!kind.validator.test(value)) {
+            return false;
+        }
+        if (kind != Kind.DATE) {
+            return true;
+        }
+        try {
+            firstDayOf(value);
+            return true;
+        } catch (DateTimeException dte) {
+            return false;
+        }
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    String valueOf(Person person) {
+        return valueOf.apply(person);
+    }
+
+    /**
+     * Returns the value of this field of {@code person} as an amount, if this is a number field.
+     */
+    Money amountOf(Person person) {
+        return amountOf.apply(person);
+    }
+
+    /**
+     * Returns the order of persons by this field, ascending.
+     */
+    public Comparator<Person> comparator() {
+        switch (kind) {
+        case NUMBER:
+            return Comparator.comparing(amountOf);
+        case DATE:
+            return Comparator.comparing(person -> toDate(valueOf(person)));
+        default:
+            return Comparator.comparing(this::valueOf, String.CASE_INSENSITIVE_ORDER);
+        }
+    }
+
+    /**
+     * Returns the first day written as {@code value}, which is either a date or a year.
+     */
+    static LocalDate firstDayOf(String value) {
+        return value.contains("/") ? toDate(value) : LocalDate.of(Integer.parseInt(value), 1, 1);
+    }
+
+    /**
+     * Returns the last day written as {@code value}, which is either a date or a year.
+     */
+    static LocalDate lastDayOf(String value) {
+        return value.contains("/") ? toDate(value) : LocalDate.of(Integer.parseInt(value), 12, 31);
+    }
+
+    /**
+     * Returns the date written as {@code value} in DD/MM/YYYY.
+     */
+    static LocalDate toDate(String value) {
+        String[] dayMonthYear = value.split("/");
+        return LocalDate.of(Integer.parseInt(dayMonthYear[2]), Integer.parseInt(dayMonthYear[1]),
+                Integer.parseInt(dayMonthYear[0]));
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
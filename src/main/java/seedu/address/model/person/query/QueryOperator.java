@@ -0,0 +1,55 @@
+package seedu.address.model.person.query;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The comparisons a {@code QueryCondition} can make between a field of a person and a value.
+ */
+public enum QueryOperator {
+    EQUAL("="),
+    CONTAINS("~"),
+    LESS("<"),
+    LESS_OR_EQUAL("<="),
+    GREATER(">"),
+    GREATER_OR_EQUAL(">=");
+
+    private final String symbol;
+
+    QueryOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Returns the operator written as {@code symbol}, if any.
+     */
+    public static Optional<QueryOperator> fromSymbol(String symbol) {
+        return Arrays.stream(values()).filter(operator -> operator.symbol.equals(symbol)).findFirst();
+    }
+
+    /**
+     * Returns true if a comparison of {@code difference}, the sign of a field compared with a value, satisfies
+     * this operator. Only defined for the ordering operators and {@code EQUAL}.
+     */
+    boolean isSatisfiedBy(int difference) {
+        switch (this) {
+        case EQUAL:
+            return difference == 0;
+        case LESS:
+            return difference < 0;
+        case LESS_OR_EQUAL:
+            return difference <= 0;
+        case GREATER:
+            return difference > 0;
+        case GREATER_OR_EQUAL:
+            return difference >= 0;
+        default:
+            throw new AssertionError("Operator " + this + " does not order values");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The way a {@code PersonQuery} is answered: the access path chosen to find the candidate persons, which are then
+ * tested against every condition of the query.
+ */
+public class QueryPlan {
+    private final PersonQuery query;
+    private final List<AccessPath> consideredPaths;
+    private final AccessPath chosenPath;
+
+    /**
+     * @param consideredPaths The access paths that could answer {@code query}, including {@code chosenPath}.
+     */
+    QueryPlan(PersonQuery query, List<AccessPath> consideredPaths, AccessPath chosenPath) {
+        requireAllNonNull(query, consideredPaths, chosenPath);
+        this.query = query;
+        this.consideredPaths = consideredPaths;
+        this.chosenPath = chosenPath;
+    }
+
+    public PersonQuery getQuery() {
+        return query;
+    }
+
+    public AccessPath getChosenPath() {
+        return chosenPath;
+    }
+
+    /**
+     * Runs the plan and returns a predicate that holds for exactly the persons matching the query.
+     * The persons matching are found when the plan is run, so the predicate does not see later changes to the
+     * persons, unless the plan is a full scan.
+     */
+    public Predicate<Person> execute() {
+        if (chosenPath.isFullScan()) {
+            return query;
+        }
+
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : chosenPath.findCandidates()) {
+            if (query.test(person)) {
+                matchingPersons.add(person);
+            }
+        }
+        return matchingPersons::contains;
+    }
+
+    /**
+     * Returns a description of the plan, listing every access path considered with its estimated number of rows.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder("Plan for query: ").append(query).append("\n")
+                .append("Access paths considered (estimated rows):\n");
+        for (AccessPath path : consideredPaths) {
+            builder.append(path == chosenPath ? "* " : "  ").append(path).append("\n");
+        }
+        builder.append("Filter: every condition of the query\n")
+                .append("Order: ").append(query.getSortField().map(field -> field + ", then ").orElse(""))
+                .append("name");
+        return builder.toString();
+    }
+
+    /**
+     * A way of finding the candidate persons for a query, with the number of persons it is estimated to find.
+     */
+    public static class AccessPath {
+        private final String description;
+        private final int estimatedRows;
+        private final Supplier<Collection<Person>> candidates;
+
+        /**
+         * @param candidates Finds the candidates, or is {@code null} if the path scans every person.
+         */
+        AccessPath(String description, int estimatedRows, Supplier<Collection<Person>> candidates) {
+            this.description = description;
+            this.estimatedRows = estimatedRows;
+            this.candidates = candidates;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public int getEstimatedRows() {
+            return estimatedRows;
+        }
+
+        public boolean isFullScan() {
+            return candidates == null;
+        }
+
+        Collection<Person> findCandidates() {
+            return candidates.get();
+        }
+
+        @Override
+        public String toString() {
+            return description + " (" + estimatedRows + ")";
+        }
+    }
+}
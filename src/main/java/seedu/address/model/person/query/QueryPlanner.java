@@ -0,0 +1,183 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.Range;
+
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.Money;
+
+/**
+ * Chooses how to answer a {@code PersonQuery} on a {@code UniquePersonList}.
+ * Every condition that an index of the list can answer gives an access path: the hash index of employee ids, the
+ * name index, the department and position facets and the sorted indexes of salaries and bonuses, which answer all
+ * the bounds on their field together as one range. The access path estimated to find the fewest persons is
+ * chosen, falling back to a full scan when no condition can be answered by an index.
+ */
+public class QueryPlanner {
+    public static final String FULL_SCAN = "full scan";
+
+    private final UniquePersonList persons;
+
+    public QueryPlanner(UniquePersonList persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the plan to answer {@code query}.
+     */
+    public QueryPlan plan(PersonQuery query) {
+        requireNonNull(query);
+        List<QueryPlan.AccessPath> paths = new ArrayList<>();
+        for (QueryCondition condition : query.getConditions()) {
+            accessPathOf(condition).ifPresent(paths::add);
+        }
+        headcountPathOf(query).ifPresent(paths::add);
+        rangePathOf(query, QueryField.SALARY, persons::countBySalary, persons::findBySalary).ifPresent(paths::add);
+        rangePathOf(query, QueryField.BONUS, persons::countByBonus, persons::findByBonus).ifPresent(paths::add);
+        paths.add(new QueryPlan.AccessPath(FULL_SCAN, persons.size(), null));
+
+        // the full scan is last, so an index is preferred when the estimates are equal
+        QueryPlan.AccessPath chosenPath = paths.stream()
+                .min(Comparator.comparingInt(QueryPlan.AccessPath::getEstimatedRows)).get();
+        return new QueryPlan(query, paths, chosenPath);
+    }
+
+    /**
+     * Returns the access path answering {@code condition} through an index, if any.
+     */
+    private Optional<QueryPlan.AccessPath> accessPathOf(QueryCondition condition) {
+        String value = condition.getValue();
+        boolean isEqual = condition.getOperator() == QueryOperator.EQUAL;
+        switch (condition.getField()) {
+        case ID:
+            EmployeeId employeeId = new EmployeeId(value);
+            return Optional.of(new QueryPlan.AccessPath("hash lookup on " + condition,
+                    persons.findByEmployeeId(employeeId).size(), () -> persons.findByEmployeeId(employeeId)));
+        case NAME:
+            return Optional.of(new QueryPlan.AccessPath("name index on " + condition,
+                    persons.countNameCandidates(value), () -> persons.findByName(value)));
+        case DEPARTMENT:
+            return isEqual
+                    ? Optional.of(new QueryPlan.AccessPath("facet lookup on " + condition,
+                            persons.findByDepartment(value).size(), () -> persons.findByDepartment(value)))
+                    : Optional.empty();
+        case POSITION:
+            return isEqual
+                    ? Optional.of(new QueryPlan.AccessPath("facet lookup on " + condition,
+                            persons.findByPosition(value).size(), () -> persons.findByPosition(value)))
+                    : Optional.empty();
+        default:
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the access path through the headcount of a position in a department, if {@code query} asks for
+     * both. Its candidates are the persons of the smaller of the two facets.
+     */
+    private Optional<QueryPlan.AccessPath> headcountPathOf(PersonQuery query) {
+        Optional<QueryCondition> department = findEqualCondition(query, QueryField.DEPARTMENT);
+        Optional<QueryCondition> position = findEqualCondition(query, QueryField.POSITION);
+        if (!department.isPresent() || !position.isPresent()) {
+            return Optional.empty();
+        }
+
+        String departmentValue = department.get().getValue();
+        String positionValue = position.get().getValue();
+        return Optional.of(new QueryPlan.AccessPath("facet lookup on " + department.get() + " and " + position.get(),
+                persons.getHeadcount(departmentValue, positionValue), () -> smallerOf(
+                        persons.findByDepartment(departmentValue), persons.findByPosition(positionValue))));
+    }
+
+    /**
+     * Returns the access path through the sorted index of {@code field}, if {@code query} bounds it.
+     * @param counter counts the persons within a range of the index.
+     * @param finder finds the persons within a range of the index.
+     */
+    private static Optional<QueryPlan.AccessPath> rangePathOf(PersonQuery query, QueryField field,
+            ToIntFunction<Range<Money>> counter, Function<Range<Money>, List<Person>> finder) {
+        List<QueryCondition> bounds = query.getConditions().stream()
+                .filter(condition -> condition.getField() == field)
+                .collect(Collectors.toList());
+        if (bounds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String description = "range scan on " + bounds.stream().map(QueryCondition::toString)
+                .collect(Collectors.joining(" and "));
+        Optional<Range<Money>> range = rangeOf(bounds);
+        if (!range.isPresent()) {
+            return Optional.of(new QueryPlan.AccessPath(description, 0, Collections::emptyList));
+        }
+        return Optional.of(new QueryPlan.AccessPath(description, counter.applyAsInt(range.get()), () ->
+                finder.apply(range.get())));
+    }
+
+    /**
+     * Returns the range of amounts satisfying every condition in {@code bounds}, or an empty {@code Optional} if
+     * the conditions contradict each other.
+     */
+    private static Optional<Range<Money>> rangeOf(List<QueryCondition> bounds) {
+        Range<Money> range = Range.all();
+        for (QueryCondition bound : bounds) {
+            Range<Money> boundRange = rangeOf(bound);
+            if (!range.isConnected(boundRange)) {
+                return Optional.empty();
+            }
+            range = range.intersection(boundRange);
+        }
+        return Optional.of(range);
+    }
+
+    /**
+     * Returns the range of amounts satisfying {@code bound}.
+     */
+    private static Range<Money> rangeOf(QueryCondition bound) {
+        Money amount = Money.parse(bound.getValue());
+        switch (bound.getOperator()) {
+        case EQUAL:
+            return Range.singleton(amount);
+        case LESS:
+            return Range.lessThan(amount);
+        case LESS_OR_EQUAL:
+            return Range.atMost(amount);
+        case GREATER:
+            return Range.greaterThan(amount);
+        case GREATER_OR_EQUAL:
+            return Range.atLeast(amount);
+        default:
+            throw new AssertionError("Amounts are not compared with " + bound.getOperator());
+        }
+    }
+
+    /**
+     * Returns the smaller of {@code first} and {@code second}.
+     */
+    private static Collection<Person> smallerOf(Collection<Person> first, Collection<Person> second) {
+        return first.size() <= second.size() ? first : second;
+    }
+
+    /**
+     * Returns the first condition of {@code query} that {@code field} equals a value, if any.
+     */
+    private static Optional<QueryCondition> findEqualCondition(PersonQuery query, QueryField field) {
+        return query.getConditions().stream()
+                .filter(condition -> condition.getField() == field
+                        && condition.getOperator() == QueryOperator.EQUAL)
+                .findFirst();
+    }
+}
@@ -3,6 +3,13 @@ package seedu.address.model.person.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Predicate;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,6 +18,9 @@ public class Tag {
 
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Predicate<String> TAG_VALIDATOR = ValidationUtil.compile(TAG_VALIDATION_REGEX);
+
+    private static final Interner<Tag> INTERNER = Interners.newWeakInterner();
 
     public final String tagName;
 
@@ -25,11 +35,20 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}, which is shared by every person with the tag.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not valid.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return TAG_VALIDATOR.test(test);
     }
 
     @Override
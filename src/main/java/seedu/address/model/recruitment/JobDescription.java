@@ -2,6 +2,10 @@ package seedu.address.model.recruitment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a RecruitmentPost's remark in the address book.
  * Guarantees: immutable; is always valid
@@ -19,6 +23,8 @@ public class JobDescription {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String JOB_DESCRIPTION_VALIDATION_REGEX = "[a-zA-Z ,.'’]{1,200}";
+    private static final Predicate<String> JOB_DESCRIPTION_VALIDATOR =
+            ValidationUtil.compile(JOB_DESCRIPTION_VALIDATION_REGEX);
 
 
     public final String value;
@@ -36,7 +42,7 @@ public class JobDescription {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidJobDescription(String test) {
-        return test.matches(JOB_DESCRIPTION_VALIDATION_REGEX);
+        return JOB_DESCRIPTION_VALIDATOR.test(test);
     }
 
     @Override
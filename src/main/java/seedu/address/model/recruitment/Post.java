@@ -2,6 +2,10 @@ package seedu.address.model.recruitment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a RecruitmentPost's remark in the address book.
  * Guarantees: immutable; is always valid
@@ -18,6 +22,7 @@ public class Post {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String POST_VALIDATION_REGEX = "[a-zA-Z ]{1,20}";
+    private static final Predicate<String> POST_VALIDATOR = ValidationUtil.compile(POST_VALIDATION_REGEX);
 
 
     public final String value;
@@ -35,7 +40,7 @@ public class Post {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidPost(String test) {
-        return test.matches(POST_VALIDATION_REGEX);
+        return POST_VALIDATOR.test(test);
     }
 
     @Override
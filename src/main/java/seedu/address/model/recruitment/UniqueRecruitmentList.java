@@ -3,13 +3,14 @@ package seedu.address.model.recruitment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.recruitment.exceptions.DuplicateRecruitmentException;
 import seedu.address.model.recruitment.exceptions.RecruitmentNotFoundException;
+import seedu.address.model.util.ObservableListAdapter;
 
 /**
  * A list of recruitmentPost that enforces uniqueness between its elements and does not allow nulls.
@@ -28,7 +29,8 @@ import seedu.address.model.recruitment.exceptions.RecruitmentNotFoundException;
  */
 public class UniqueRecruitmentList implements Iterable<Recruitment> {
 
-    private final ObservableList<Recruitment> internalList = FXCollections.observableArrayList();
+    private final List<Recruitment> internalList = new ArrayList<>();
+    private final ObservableListAdapter<Recruitment> observableList = new ObservableListAdapter<>(internalList);
 
     /**
      * Returns true if the list contains an equivalent recruitment as the given argument.
@@ -48,6 +50,7 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
             throw new DuplicateRecruitmentException();
         }
         internalList.add(toAddRecruitment);
+        observableList.publish();
     }
 
     /**
@@ -69,6 +72,7 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
         }
 
         internalList.set(index, editedRecruitment);
+        observableList.publish();
     }
 
     /**
@@ -80,11 +84,14 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
         if (!internalList.remove(toRemove)) {
             throw new RecruitmentNotFoundException();
         }
+        observableList.publish();
     }
 
     public void setRecruitments(UniqueRecruitmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.clear();
+        internalList.addAll(replacement.internalList);
+        observableList.publish();
     }
 
     /**
@@ -97,14 +104,16 @@ public class UniqueRecruitmentList implements Iterable<Recruitment> {
             throw new DuplicateRecruitmentException();
         }
 
-        internalList.setAll(recruitments);
+        internalList.clear();
+        internalList.addAll(recruitments);
+        observableList.publish();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the recruitment posts as an unmodifiable {@code ObservableList}, which is updated after every change.
      */
     public ObservableList<Recruitment> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+        return observableList.asUnmodifiableObservableList();
     }
 
     @Override
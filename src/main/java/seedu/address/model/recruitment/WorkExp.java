@@ -3,6 +3,10 @@ package seedu.address.model.recruitment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a RecruitmentPost's minimal working experience in the address book.
  * Guarantees: immutable; is always valid
@@ -13,6 +17,8 @@ public class WorkExp {
             "Working Experience should only contain integers with length of at least 1 digit long"
                     + "And the range of the working experience is from 0 to 30";
     public static final String EMPLOYEE_WORK_EXP_VALIDATION_REGEX = "^(0?[0-9]|[12][0-9]|30)";
+    private static final Predicate<String> EMPLOYEE_WORK_EXP_VALIDATOR =
+            ValidationUtil.compile(EMPLOYEE_WORK_EXP_VALIDATION_REGEX);
 
     public final String workExp;
 
@@ -31,7 +37,7 @@ public class WorkExp {
      * Returns true if a given string is a valid Working Experience.
      */
     public static boolean isValidWorkExp(String test) {
-        return test.matches(EMPLOYEE_WORK_EXP_VALIDATION_REGEX);
+        return EMPLOYEE_WORK_EXP_VALIDATOR.test(test);
     }
 
     @Override
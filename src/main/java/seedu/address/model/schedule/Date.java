@@ -5,9 +5,14 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Schedule's date in the Schedule list.
+ * The date is stored as a number of days from 01/01/1970, so dates are compared without parsing; its
+ * DD/MM/YYYY form is only built when it is first asked for.
  * Guarantees: immutable; is valid as declared in {@link #Date(String)}
  */
 public class Date {
@@ -23,6 +28,8 @@ public class Date {
             "Date of schedule %1$s should not be before today's date %2$s. "
                     + "\nScheduling for past dates is not allowed! ";
 
+    private static final Predicate<String> DATE_VALIDATOR = ValidationUtil.compile(DATE_VALIDATION_REGEX);
+
     private static final String MESSAGE_DATE_INVALID_FEB_DATE =
             "29, 30 and 31 are invalid dates of February ";
     private static final String MESSAGE_DATE_INVALID_FEB_DATE_LEAP_YEAR =
@@ -31,9 +38,13 @@ public class Date {
     private static final String MESSAGE_DATE_INVALID_MONTH_DATE =
             "april, june, sep, nov does not have 31 days";
 
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
     private static String dateConstraintsError = MESSAGE_DATE_CONSTRAINTS_DEFAULT;
 
-    public final String value;
+    private final int epochDay;
+    private final int year;
+    private String value;
 
     /**
      * Constructs a {@code date}.
@@ -43,8 +54,33 @@ public class Date {
     public Date(String date) {
         requireNonNull(date);
         checkArgument(isValidScheduleDate(date), dateConstraintsError);
-        date = formatDate(date);
-        value = date;
+        String[] dayMonthYear = date.split("/");
+        year = Integer.parseInt(dayMonthYear[2]);
+        epochDay = (int) LocalDate.of(year, Integer.parseInt(dayMonthYear[1]), Integer.parseInt(dayMonthYear[0]))
+                .toEpochDay();
+    }
+
+    private Date(LocalDate date) {
+        epochDay = (int) date.toEpochDay();
+        year = date.getYear();
+    }
+
+    /**
+     * Returns the date that is {@code epochDay} days after 01/01/1970.
+     */
+    public static Date ofEpochDay(long epochDay) {
+        return new Date(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Returns the number of days from 01/01/1970 to this date.
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    public int getYear() {
+        return year;
     }
 
     public static void setDateConstraintsError(String error) {
@@ -62,9 +98,8 @@ public class Date {
      */
     public static boolean isBeforeTodayDate (String inputDate) {
         inputDate = formatDate(inputDate);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
         LocalDate todayDate = LocalDate.now();
-        LocalDate toLocalInputDate = LocalDate.parse(inputDate, formatter);
+        LocalDate toLocalInputDate = LocalDate.parse(inputDate, FORMATTER);
         if (toLocalInputDate.isBefore(todayDate)) {
             dateConstraintsError = String.format(MESSAGE_DATE_OF_SCHEDULE_BEFORE_TODAY_DATE, inputDate, todayDate());
             return true;
@@ -77,8 +112,7 @@ public class Date {
      * @return String, today's date.
      */
     public static String todayDate () {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_PATTERN);
-        return formatter.format(LocalDate.now());
+        return FORMATTER.format(LocalDate.now());
     }
 
     /**
@@ -87,17 +121,15 @@ public class Date {
      * @return String, date padded with 0's if necessary for day and month.
      */
     public static String formatDate (String inputDate) {
-        String day;
-        String month;
-        String year;
-
         String[] date = inputDate.split("/");
+        return padToTwoDigits(date[0]) + "/" + padToTwoDigits(date[1]) + "/" + date[2];
+    }
 
-        day = String.format("%02d", Integer.parseInt(date[0]));
-        month = String.format("%02d", Integer.parseInt(date[1]));
-        year = date[2];
-
-        return String.format(day + "/" + month + "/" + year);
+    /**
+     * Adds a leading 0 to a day or month of a single digit.
+     */
+    private static String padToTwoDigits(String dayOrMonth) {
+        return dayOrMonth.length() == 1 ? "0" + dayOrMonth : dayOrMonth;
     }
 
     /**
@@ -110,7 +142,7 @@ public class Date {
         String month;
         String year;
 
-        if (inputDate.matches(DATE_VALIDATION_REGEX)) {
+        if (DATE_VALIDATOR.test(inputDate)) {
             inputDate = formatDate(inputDate);
             String[] date = inputDate.split("/");
 
@@ -156,6 +188,9 @@ public class Date {
 
     @Override
     public String toString() {
+        if (value == null) {
+            value = FORMATTER.format(LocalDate.ofEpochDay(epochDay));
+        }
         return value;
     }
 
@@ -163,12 +198,12 @@ public class Date {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Date // instanceof handles nulls
-                && value.equals(((Date) other).value)); // state check
+                && epochDay == ((Date) other).epochDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(epochDay);
     }
 
 }
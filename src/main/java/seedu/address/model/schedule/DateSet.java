@@ -0,0 +1,125 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An immutable set of schedule dates, stored as a bitset with one bit per day.
+ * Set operations between {@code DateSet}s work on whole words of days at a time.
+ */
+public final class DateSet {
+
+    /** Schedule dates are no earlier than 01/01/2000, so days are counted from there. */
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+
+    private static final DateSet EMPTY = new DateSet(new BitSet());
+
+    private final BitSet days;
+
+    private DateSet(BitSet days) {
+        this.days = days;
+    }
+
+    /**
+     * Returns an empty set.
+     */
+    public static DateSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set of {@code dates}.
+     */
+    public static DateSet of(Collection<Date> dates) {
+        requireNonNull(dates);
+        BitSet days = new BitSet();
+        for (Date date : dates) {
+            days.set(toIndex(date));
+        }
+        return new DateSet(days);
+    }
+
+    /**
+     * Returns a set of the dates in {@code days}, where bit {@code i} stands for the {@code i}-th day after
+     * 01/01/2000. {@code days} must not be modified afterwards.
+     */
+    static DateSet wrap(BitSet days) {
+        return new DateSet(days);
+    }
+
+    /**
+     * Returns the index of the bit standing for {@code date}.
+     */
+    static int toIndex(Date date) {
+        return (int) (date.toEpochDay() - FIRST_EPOCH_DAY);
+    }
+
+    /**
+     * Returns true if {@code date} is in this set.
+     */
+    public boolean contains(Date date) {
+        requireNonNull(date);
+        return days.get(toIndex(date));
+    }
+
+    public boolean isEmpty() {
+        return days.isEmpty();
+    }
+
+    public int size() {
+        return days.cardinality();
+    }
+
+    /**
+     * Returns the dates in both this set and {@code other}.
+     */
+    public DateSet intersect(DateSet other) {
+        requireNonNull(other);
+        BitSet result = (BitSet) days.clone();
+        result.and(other.days);
+        return new DateSet(result);
+    }
+
+    /**
+     * Returns the dates in this set that are not in {@code other}.
+     */
+    public DateSet minus(DateSet other) {
+        requireNonNull(other);
+        BitSet result = (BitSet) days.clone();
+        result.andNot(other.days);
+        return new DateSet(result);
+    }
+
+    /**
+     * Returns the dates in this set, in ascending order.
+     */
+    public List<Date> toDates() {
+        List<Date> dates = new ArrayList<>(size());
+        for (int i = days.nextSetBit(0); i >= 0; i = days.nextSetBit(i + 1)) {
+            dates.add(Date.ofEpochDay(FIRST_EPOCH_DAY + i));
+        }
+        return dates;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DateSet // instanceof handles nulls
+                && days.equals(((DateSet) other).days));
+    }
+
+    @Override
+    public int hashCode() {
+        return days.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toDates().toString();
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.schedule;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * Counts the leaves each employee has scheduled in each year.
+ * The counts are updated as leave schedules are added and removed, so they are read without going through the
+ * schedules.
+ */
+public class LeaveCounts {
+
+    private final Map<Integer, Map<EmployeeId, Integer>> countsByYear = new HashMap<>();
+
+    /**
+     * Returns the counts of the leaves in {@code schedules}.
+     */
+    public static LeaveCounts of(Collection<Schedule> schedules) {
+        LeaveCounts leaveCounts = new LeaveCounts();
+        schedules.forEach(leaveCounts::add);
+        return leaveCounts;
+    }
+
+    /**
+     * Counts {@code schedule} if it is a leave.
+     */
+    void add(Schedule schedule) {
+        if (isLeave(schedule)) {
+            countsByYear.computeIfAbsent(schedule.getScheduleDate().getYear(), unused -> new HashMap<>())
+                    .merge(schedule.getEmployeeId(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Stops counting {@code schedule} if it is a leave.
+     */
+    void remove(Schedule schedule) {
+        Map<EmployeeId, Integer> counts = countsByYear.get(schedule.getScheduleDate().getYear());
+        if (!isLeave(schedule) || counts == null) {
+            return;
+        }
+        counts.computeIfPresent(schedule.getEmployeeId(), (unused, count) -> count == 1 ? null : count - 1);
+        if (counts.isEmpty()) {
+            countsByYear.remove(schedule.getScheduleDate().getYear());
+        }
+    }
+
+    /**
+     * Resets every count to 0.
+     */
+    void clear() {
+        countsByYear.clear();
+    }
+
+    /**
+     * Returns the number of leaves the employee with {@code employeeId} has scheduled in {@code year}.
+     */
+    public int getLeaveCount(EmployeeId employeeId, int year) {
+        return getLeaveCounts(year).getOrDefault(employeeId, 0);
+    }
+
+    /**
+     * Returns the number of leaves each employee has scheduled in {@code year}.
+     * Employees without leave in {@code year} are left out.
+     */
+    public Map<EmployeeId, Integer> getLeaveCounts(int year) {
+        return Collections.unmodifiableMap(countsByYear.getOrDefault(year, Collections.emptyMap()));
+    }
+
+    private static boolean isLeave(Schedule schedule) {
+        return Type.LEAVE.equals(schedule.getType().value);
+    }
+}
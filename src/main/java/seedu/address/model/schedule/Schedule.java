@@ -37,10 +37,7 @@ public class Schedule {
     }
 
     public String getScheduleYear() {
-        String year;
-        String[] date = getScheduleDate().toString().split("/");
-        year = date[2];
-        return year;
+        return String.valueOf(date.getYear());
     }
 
     /**
@@ -3,16 +3,22 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.EmployeeId;
 
 /**
  * Wraps all data at the schedule-list level
  * Duplicates are not allowed (by .isSameSchedule comparison)
+ * The days on which each employee has work or leave, and the number of leaves each employee has in each year,
+ * are also tracked, so checking whether an employee has a schedule on a day and counting leaves take constant time.
  */
 public class ScheduleList implements ReadOnlyScheduleList {
 
     private final UniqueScheduleList schedules;
+    private final ScheduleOccupancy occupancy;
+    private final LeaveCounts leaveCounts;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -23,6 +29,8 @@ public class ScheduleList implements ReadOnlyScheduleList {
      */
     {
         schedules = new UniqueScheduleList();
+        occupancy = new ScheduleOccupancy();
+        leaveCounts = new LeaveCounts();
     }
 
     public ScheduleList() {}
@@ -43,6 +51,9 @@ public class ScheduleList implements ReadOnlyScheduleList {
      */
     public void setSchedules(List<Schedule> schedules) {
         this.schedules.setSchedules(schedules);
+        occupancy.clear();
+        leaveCounts.clear();
+        schedules.forEach(this::track);
     }
 
     /**
@@ -60,7 +71,7 @@ public class ScheduleList implements ReadOnlyScheduleList {
      */
     public boolean hasSchedule(Schedule schedule) {
         requireNonNull(schedule);
-        return schedules.contains(schedule);
+        return occupancy.contains(schedule);
     }
 
     /**
@@ -69,6 +80,16 @@ public class ScheduleList implements ReadOnlyScheduleList {
      */
     public void addSchedule(Schedule schedule) {
         schedules.add(schedule);
+        track(schedule);
+    }
+
+    /**
+     * Adds all of {@code schedules} to the schedule list at once.
+     * None of the schedules may already exist in the schedule list.
+     */
+    public void addSchedules(List<Schedule> schedules) {
+        this.schedules.addAll(schedules);
+        schedules.forEach(this::track);
     }
 
     /**
@@ -78,6 +99,8 @@ public class ScheduleList implements ReadOnlyScheduleList {
     public void updateSchedule(Schedule schedule, Schedule editedSchedule) {
         requireNonNull(editedSchedule);
         schedules.setSchedule(schedule, editedSchedule);
+        untrack(schedule);
+        track(editedSchedule);
     }
 
     /**
@@ -86,6 +109,60 @@ public class ScheduleList implements ReadOnlyScheduleList {
      */
     public void removeSchedule(Schedule key) {
         schedules.remove(key);
+        untrack(key);
+    }
+
+    /**
+     * Removes all of {@code keys} from this {@code ScheduleList} at once.
+     * Each of {@code keys} must exist in the schedule list.
+     */
+    public void removeSchedules(List<Schedule> keys) {
+        schedules.removeAll(keys);
+        keys.forEach(this::untrack);
+    }
+
+    /**
+     * Removes all schedules of the employee with {@code employeeId} from this {@code ScheduleList}.
+     * @return the removed schedules.
+     */
+    public List<Schedule> removeAllSchedulesOf(EmployeeId employeeId) {
+        List<Schedule> removedSchedules = schedules.removeAll(employeeId);
+        removedSchedules.forEach(this::untrack);
+        return removedSchedules;
+    }
+
+    /**
+     * Returns an unmodifiable view of the schedules of the employee with {@code employeeId}.
+     */
+    public List<Schedule> getSchedulesOf(EmployeeId employeeId) {
+        return schedules.getSchedulesOf(employeeId);
+    }
+
+    /**
+     * Returns the dates on which the employee with {@code employeeId} has schedules of {@code type}.
+     */
+    public DateSet getScheduledDates(EmployeeId employeeId, Type type) {
+        requireNonNull(employeeId);
+        requireNonNull(type);
+        return occupancy.getDateSet(employeeId, type);
+    }
+
+    /**
+     * Returns the number of leaves the employee with {@code employeeId} has scheduled in {@code year}.
+     */
+    public int getLeaveCount(EmployeeId employeeId, Year year) {
+        requireNonNull(employeeId);
+        requireNonNull(year);
+        return leaveCounts.getLeaveCount(employeeId, Integer.parseInt(year.value));
+    }
+
+    /**
+     * Returns the number of leaves each employee has scheduled in {@code year}, leaving out employees without
+     * leave in {@code year}.
+     */
+    public Map<EmployeeId, Integer> getLeaveCounts(Year year) {
+        requireNonNull(year);
+        return leaveCounts.getLeaveCounts(Integer.parseInt(year.value));
     }
 
     /**
@@ -95,6 +172,22 @@ public class ScheduleList implements ReadOnlyScheduleList {
         schedules.sortByEmployeeId();
     }
 
+    /**
+     * Adds {@code schedule} to the occupied days and the leave counts.
+     */
+    private void track(Schedule schedule) {
+        occupancy.add(schedule);
+        leaveCounts.add(schedule);
+    }
+
+    /**
+     * Removes {@code schedule} from the occupied days and the leave counts.
+     */
+    private void untrack(Schedule schedule) {
+        occupancy.remove(schedule);
+        leaveCounts.remove(schedule);
+    }
+
     //// util methods
 
     @Override
@@ -0,0 +1,68 @@
+package seedu.address.model.schedule;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * Tracks the days on which each employee has work and leave scheduled, as one bitset of days per employee and
+ * schedule type.
+ */
+class ScheduleOccupancy {
+
+    private final Map<Type, Map<EmployeeId, BitSet>> daysByType = new HashMap<>();
+
+    /**
+     * Marks the day of {@code schedule} as occupied.
+     */
+    void add(Schedule schedule) {
+        daysByType.computeIfAbsent(schedule.getType(), unused -> new HashMap<>())
+                .computeIfAbsent(schedule.getEmployeeId(), unused -> new BitSet())
+                .set(DateSet.toIndex(schedule.getScheduleDate()));
+    }
+
+    /**
+     * Marks the day of {@code schedule} as free.
+     */
+    void remove(Schedule schedule) {
+        Map<EmployeeId, BitSet> daysByEmployee = daysByType.get(schedule.getType());
+        BitSet days = daysByEmployee == null ? null : daysByEmployee.get(schedule.getEmployeeId());
+        if (days == null) {
+            return;
+        }
+        days.clear(DateSet.toIndex(schedule.getScheduleDate()));
+        if (days.isEmpty()) {
+            daysByEmployee.remove(schedule.getEmployeeId());
+        }
+    }
+
+    /**
+     * Marks every day as free.
+     */
+    void clear() {
+        daysByType.clear();
+    }
+
+    /**
+     * Returns true if the employee of {@code schedule} has a schedule of the same type on the same day.
+     */
+    boolean contains(Schedule schedule) {
+        BitSet days = getDays(schedule.getEmployeeId(), schedule.getType());
+        return days != null && days.get(DateSet.toIndex(schedule.getScheduleDate()));
+    }
+
+    /**
+     * Returns the days on which the employee with {@code employeeId} has schedules of {@code type}.
+     */
+    DateSet getDateSet(EmployeeId employeeId, Type type) {
+        BitSet days = getDays(employeeId, type);
+        return days == null ? DateSet.empty() : DateSet.wrap((BitSet) days.clone());
+    }
+
+    private BitSet getDays(EmployeeId employeeId, Type type) {
+        Map<EmployeeId, BitSet> daysByEmployee = daysByType.get(type);
+        return daysByEmployee == null ? null : daysByEmployee.get(employeeId);
+    }
+}
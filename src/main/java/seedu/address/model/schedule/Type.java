@@ -2,6 +2,9 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * Represents a Schedule's type in the address book.
  * Guarantees: immutable; is always valid
@@ -18,6 +21,7 @@ public class Type {
     public static final String LEAVE = "LEAVE";
     public static final String WORK = "WORK";
 
+    private static final Interner<Type> INTERNER = Interners.newWeakInterner();
 
     public final String value;
     public Type(String type) {
@@ -25,6 +29,15 @@ public class Type {
         checkArgument(isValidType(type.toUpperCase()), MESSAGE_TYPE_CONSTRAINTS);
         value = type.toUpperCase();
     }
+
+    /**
+     * Returns one of the two canonical schedule types, WORK or LEAVE, whatever the case of {@code type}.
+     *
+     * @throws IllegalArgumentException if {@code type} is not valid.
+     */
+    public static Type of(String type) {
+        return INTERNER.intern(new Type(type));
+    }
     @Override
     public String toString() {
         return value;
@@ -36,7 +49,8 @@ public class Type {
      * @return Boolean, true if matches.
      */
     public static boolean isValidType(String type) {
-        return type.toUpperCase().matches(TYPE_VALIDATION_REGEX);
+        requireNonNull(type);
+        return WORK.equalsIgnoreCase(type) || LEAVE.equalsIgnoreCase(type);
     }
 
     /**
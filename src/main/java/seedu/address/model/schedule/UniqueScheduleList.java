@@ -3,15 +3,23 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
+import seedu.address.model.util.ObservableListAdapter;
 
 /**
  * A list of schedules that enforces uniqueness between its elements and does not allow nulls.
@@ -23,18 +31,26 @@ import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The schedules are also indexed by employee id, so the schedules of one employee are found and removed without
+ * scanning the schedules of every other employee.
+ *
  * @see Schedule#isSameSchedule(Schedule)
  */
 public class UniqueScheduleList implements Iterable<Schedule> {
 
-    private final ObservableList<Schedule> internalList = FXCollections.observableArrayList();
+    private static final Comparator<Schedule> EMPLOYEE_ID_ORDER = (scheduleA, scheduleB) ->
+            scheduleA.getEmployeeId().value.compareTo(scheduleB.getEmployeeId().value);
+
+    private final List<Schedule> internalList = new ArrayList<>();
+    private final ObservableListAdapter<Schedule> observableList = new ObservableListAdapter<>(internalList);
+    private final ListMultimap<EmployeeId, Schedule> byEmployeeId = ArrayListMultimap.create();
 
     /**
      * Returns true if the list contains an equivalent schedule as the given argument.
      */
     public boolean contains(Schedule toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSchedule);
+        return byEmployeeId.get(toCheck.getEmployeeId()).stream().anyMatch(toCheck::isSameSchedule);
     }
 
     /**
@@ -47,6 +63,29 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
         internalList.add(toAddSchedule);
+        byEmployeeId.put(toAddSchedule.getEmployeeId(), toAddSchedule);
+        observableList.publish();
+    }
+
+    /**
+     * Adds all of {@code toAddSchedules} to the list at once.
+     * None of the schedules may already exist in the list, and {@code toAddSchedules} must not contain duplicate
+     * schedules. The list is left unchanged if either is violated.
+     */
+    public void addAll(List<Schedule> toAddSchedules) {
+        requireAllNonNull(toAddSchedules);
+        ListMultimap<EmployeeId, Schedule> added = ArrayListMultimap.create();
+        for (Schedule schedule : toAddSchedules) {
+            if (contains(schedule)
+                    || added.get(schedule.getEmployeeId()).stream().anyMatch(schedule::isSameSchedule)) {
+                throw new DuplicateScheduleException();
+            }
+            added.put(schedule.getEmployeeId(), schedule);
+        }
+
+        internalList.addAll(toAddSchedules);
+        byEmployeeId.putAll(added);
+        observableList.publish();
     }
 
     /**
@@ -67,6 +106,9 @@ public class UniqueScheduleList implements Iterable<Schedule> {
         }
 
         internalList.set(index, editedSchedule);
+        byEmployeeId.remove(target.getEmployeeId(), target);
+        byEmployeeId.put(editedSchedule.getEmployeeId(), editedSchedule);
+        observableList.publish();
     }
 
     /**
@@ -78,11 +120,64 @@ public class UniqueScheduleList implements Iterable<Schedule> {
         if (!internalList.remove(toRemove)) {
             throw new ScheduleNotFoundException();
         }
+        byEmployeeId.remove(toRemove.getEmployeeId(), toRemove);
+        observableList.publish();
+    }
+
+    /**
+     * Removes all schedules of the employee with {@code employeeId} from the list.
+     * @return the removed schedules.
+     */
+    public List<Schedule> removeAll(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        List<Schedule> removedSchedules = byEmployeeId.removeAll(employeeId);
+        if (!removedSchedules.isEmpty()) {
+            internalList.removeAll(new HashSet<>(removedSchedules));
+            observableList.publish();
+        }
+        return removedSchedules;
+    }
+
+    /**
+     * Removes the equivalents of all of {@code toRemoveSchedules} from the list in a single pass over it.
+     * Each of the schedules must exist in the list; the list is left unchanged otherwise.
+     */
+    public void removeAll(List<Schedule> toRemoveSchedules) {
+        requireAllNonNull(toRemoveSchedules);
+        // the schedules are found through the index of their employee and then removed by identity, as
+        // Schedule#hashCode does not hash the employee id and would put the schedules of a day in one bucket
+        Set<Schedule> removedSchedules = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Schedule toRemove : toRemoveSchedules) {
+            Schedule removed = byEmployeeId.get(toRemove.getEmployeeId()).stream()
+                    .filter(schedule -> schedule.equals(toRemove) && !removedSchedules.contains(schedule))
+                    .findFirst()
+                    .orElseThrow(ScheduleNotFoundException::new);
+            removedSchedules.add(removed);
+        }
+        if (removedSchedules.isEmpty()) {
+            return;
+        }
+
+        removedSchedules.forEach(removed -> byEmployeeId.remove(removed.getEmployeeId(), removed));
+        internalList.removeIf(removedSchedules::contains);
+        observableList.publish();
+    }
+
+    /**
+     * Returns an unmodifiable view of the schedules of the employee with {@code employeeId}.
+     */
+    public List<Schedule> getSchedulesOf(EmployeeId employeeId) {
+        requireNonNull(employeeId);
+        return Collections.unmodifiableList(byEmployeeId.get(employeeId));
     }
 
     public void setSchedules(UniqueScheduleList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        internalList.clear();
+        internalList.addAll(replacement.internalList);
+        byEmployeeId.clear();
+        byEmployeeId.putAll(replacement.byEmployeeId);
+        observableList.publish();
     }
 
     /**
@@ -91,11 +186,19 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void setSchedules(List<Schedule> schedules) {
         requireAllNonNull(schedules);
-        if (!schedulesAreUnique(schedules)) {
-            throw new DuplicateScheduleException();
+        ListMultimap<EmployeeId, Schedule> replacementIndex = ArrayListMultimap.create();
+        for (Schedule schedule : schedules) {
+            if (replacementIndex.get(schedule.getEmployeeId()).stream().anyMatch(schedule::isSameSchedule)) {
+                throw new DuplicateScheduleException();
+            }
+            replacementIndex.put(schedule.getEmployeeId(), schedule);
         }
 
-        internalList.setAll(schedules);
+        internalList.clear();
+        internalList.addAll(schedules);
+        byEmployeeId.clear();
+        byEmployeeId.putAll(replacementIndex);
+        observableList.publish();
     }
 
     //Reused from https://github.com/CS2103JAN2018-F14-B1/main/pull/57 with minor modifications
@@ -103,21 +206,15 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      * Sorts ScheduleList by employeeId in ascending order
      */
     public void sortByEmployeeId() {
-        Comparator<Schedule> scheduleComparator = new Comparator<Schedule>() {
-            @Override
-            public int compare(Schedule scheduleA, Schedule scheduleB) {
-                return scheduleA.getEmployeeId().value.compareTo(scheduleB.getEmployeeId().value);
-            }
-        };
-
-        Collections.sort(internalList, scheduleComparator);
+        internalList.sort(EMPLOYEE_ID_ORDER);
+        observableList.publish();
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the schedules as an unmodifiable {@code ObservableList}, which is updated after every change.
      */
     public ObservableList<Schedule> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+        return observableList.asUnmodifiableObservableList();
     }
 
     @Override
@@ -136,18 +233,4 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code schedules} contains only unique schedules.
-     */
-    private boolean schedulesAreUnique(List<Schedule> schedules) {
-        for (int i = 0; i < schedules.size() - 1; i++) {
-            for (int j = i + 1; j < schedules.size(); j++) {
-                if (schedules.get(i).isSameSchedule(schedules.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
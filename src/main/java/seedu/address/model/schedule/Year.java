@@ -1,9 +1,12 @@
 package seedu.address.model.schedule;
 
 import static java.util.Objects.requireNonNull;
-
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Schedule's year in the schedule List.
  * Guarantees: immutable; is valid as declared in {@link #isValidYear(String)}
@@ -12,6 +15,7 @@ public class Year {
     public static final String MESSAGE_YEAR_CONSTRAINTS =
             "Year should only be integers between 2000 to 2099";
     public static final String YEAR_VALIDATION_REGEX = "^(20)\\d\\d$";
+    private static final Predicate<String> YEAR_VALIDATOR = ValidationUtil.compile(YEAR_VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -31,7 +35,7 @@ public class Year {
      * @return Boolean, true if matches.
      */
     public static boolean isValidYear(String year) {
-        return year.matches(YEAR_VALIDATION_REGEX);
+        return YEAR_VALIDATOR.test(year);
     }
 
     @Override
@@ -0,0 +1,170 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An amount of money, kept as a whole number of cents.
+ * Amounts are added, subtracted and scaled in whole cents, without going through text or floating point, so a
+ * sequence of pay changes gives the same amount whatever the order of rounding. Scaling rounds half away from zero
+ * to the nearest cent.
+ * Guarantees: immutable
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int DECIMAL_PLACES = 2;
+    private static final long HUNDRED = 100;
+    private static final long TEN_THOUSAND = 10000;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount of {@code cents} cents.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns the amount written in {@code amount}, e.g. 10.50 for "10.5".
+     * @throws NumberFormatException if {@code amount} is not written as in {@link #parseHundredths(String)}.
+     */
+    public static Money parse(String amount) {
+        return ofCents(parseHundredths(amount));
+    }
+
+    /**
+     * Returns the number of hundredths in {@code number}, written as an optional minus sign, digits and at most 2
+     * decimal places, e.g. 1050 for "10.5". The number is read without creating any intermediate object.
+     * @throws NumberFormatException if {@code number} is not written so, or has too many digits for a {@code long}.
+     */
+    public static long parseHundredths(String number) {
+        requireNonNull(number);
+        int length = number.length();
+        boolean isNegative = length > 0 && number.charAt(0) == '-';
+        int position = isNegative ? 1 : 0;
+        try {
+            long units = 0;
+            int digitsStart = position;
+            while (position < length && isDigit(number.charAt(position))) {
+                units = Math.addExact(Math.multiplyExact(units, 10), number.charAt(position) - '0');
+                position++;
+            }
+            boolean hasUnits = position > digitsStart;
+
+            long hundredths = 0;
+            int decimalPlaces = 0;
+            boolean hasPoint = position < length && number.charAt(position) == '.';
+            if (hasPoint) {
+                position++;
+                while (position < length && decimalPlaces < DECIMAL_PLACES
+                        && isDigit(number.charAt(position))) {
+                    hundredths = hundredths * 10 + number.charAt(position) - '0';
+                    decimalPlaces++;
+                    position++;
+                }
+            }
+            if (!hasUnits || position != length || (hasPoint && decimalPlaces == 0)) {
+                throw new NumberFormatException("Not an amount: " + number);
+            }
+            for (; decimalPlaces < DECIMAL_PLACES; decimalPlaces++) {
+                hundredths *= 10;
+            }
+
+            long total = Math.addExact(Math.multiplyExact(units, HUNDRED), hundredths);
+            return isNegative ? -total : total;
+        } catch (ArithmeticException ae) {
+            throw new NumberFormatException("Amount too large: " + number);
+        }
+    }
+
+    public long toCents() {
+        return cents;
+    }
+
+    /**
+     * Returns this amount plus {@code other}.
+     */
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount minus {@code other}.
+     */
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Returns this amount multiplied by {@code hundredths} / 100, e.g. twice this amount for 200.
+     */
+    public Money times(long hundredths) {
+        return ofCents(divideRounded(Math.multiplyExact(cents, hundredths), HUNDRED));
+    }
+
+    /**
+     * Returns this amount raised by {@code hundredthsOfPercent} / 100 percent of its size, e.g. by 10.5% for 1050.
+     * A negative percentage lowers the amount.
+     */
+    public Money plusPercent(long hundredthsOfPercent) {
+        long change = divideRounded(Math.multiplyExact(Math.abs(cents), hundredthsOfPercent), TEN_THOUSAND);
+        return ofCents(Math.addExact(cents, change));
+    }
+
+    /**
+     * Returns -1, 0 or 1 as this amount is negative, zero or positive.
+     */
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    /**
+     * Returns {@code dividend} / {@code divisor}, rounded half away from zero.
+     * {@code divisor} must be positive.
+     */
+    private static long divideRounded(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * Returns the amount with 2 decimal places, e.g. "10.50".
+     */
+    @Override
+    public String toString() {
+        long absoluteCents = Math.abs(cents);
+        long fraction = absoluteCents % HUNDRED;
+        return (cents < 0 ? "-" : "") + absoluteCents / HUNDRED + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Money // instanceof handles nulls
+                && cents == ((Money) other).cents); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * Publishes the contents of a plain list as an unmodifiable {@code ObservableList}.
+ * The model keeps its records in plain lists, and only the UI needs to observe them, so the observable list is
+ * created when it is first asked for. Until then, changing the plain list does no JavaFX work at all.
+ *
+ * After the plain list is changed, {@link #publish()} brings the observable list up to date with one change event
+ * covering only the range that differs, however many operations made the changes. Sorting a list after adding one
+ * element to it is published as that one element being added, not as a permutation of the whole list.
+ */
+public class ObservableListAdapter<T> {
+
+    private final List<T> source;
+    private PublishedList<T> publishedList;
+
+    public ObservableListAdapter(List<T> source) {
+        this.source = requireNonNull(source);
+    }
+
+    /**
+     * Returns the unmodifiable observable list, as of the last {@link #publish()}.
+     */
+    public ObservableList<T> asUnmodifiableObservableList() {
+        if (publishedList == null) {
+            publishedList = new PublishedList<>(source);
+        }
+        return publishedList;
+    }
+
+    /**
+     * Brings the observable list up to date with the plain list, if the observable list has been created.
+     */
+    public void publish() {
+        if (publishedList != null) {
+            publishedList.update(source);
+        }
+    }
+
+    /**
+     * An unmodifiable observable list holding its own copy of the elements, so that the elements it removes can be
+     * reported after the plain list has changed.
+     */
+    private static class PublishedList<T> extends ObservableListBase<T> {
+
+        private final List<T> elements;
+
+        PublishedList(List<T> source) {
+            elements = new ArrayList<>(source);
+        }
+
+        @Override
+        public T get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        /**
+         * Replaces the elements between the common prefix and suffix of this list and {@code source}, the only
+         * elements that can differ, and fires the replacement as one change.
+         */
+        void update(List<T> source) {
+            int prefixLength = PersistentList.commonPrefixLength(elements, source);
+            if (prefixLength == elements.size() && prefixLength == source.size()) {
+                return;
+            }
+            int suffixLength = PersistentList.commonSuffixLength(elements, source, prefixLength);
+
+            List<T> replacedRange = elements.subList(prefixLength, elements.size() - suffixLength);
+            List<T> removed = new ArrayList<>(replacedRange);
+            replacedRange.clear();
+            int addedCount = source.size() - suffixLength - prefixLength;
+            replacedRange.addAll(source.subList(prefixLength, prefixLength + addedCount));
+
+            beginChange();
+            if (!removed.isEmpty()) {
+                nextRemove(prefixLength, removed);
+            }
+            if (addedCount > 0) {
+                nextAdd(prefixLength, prefixLength + addedCount);
+            }
+            endChange();
+        }
+    }
+}
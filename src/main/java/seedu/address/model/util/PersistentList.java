@@ -0,0 +1,352 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure between versions.
+ * The elements are kept in a balanced binary tree, so a new version that differs from an old one in {@code k}
+ * consecutive elements is derived in O(k + log n) time and only allocates O(k + log n) new nodes; every other node
+ * is shared with the old version.
+ * Does not allow nulls.
+ *
+ * @param <E> type of the list elements.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in order.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(build(elements.toArray(), 0, elements.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root, false);
+    }
+
+    /**
+     * Returns an iterator over the elements from the last to the first.
+     */
+    public Iterator<E> descendingIterator() {
+        return new InOrderIterator<>(root, true);
+    }
+
+    /**
+     * Returns a version of this list with the elements from {@code fromIndex} (inclusive) to {@code toIndex}
+     * (exclusive) replaced by {@code replacement}.
+     */
+    public PersistentList<E> splice(int fromIndex, int toIndex, List<? extends E> replacement) {
+        requireNonNull(replacement);
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size());
+        }
+
+        Split<E> head = split(root, fromIndex);
+        Split<E> tail = split(head.right, toIndex - fromIndex);
+        Node<E> middle = build(replacement.toArray(), 0, replacement.size());
+        return new PersistentList<>(concat(concat(head.left, middle), tail.right));
+    }
+
+    /**
+     * Returns a version of this list with the same elements as {@code target}.
+     * The returned version shares every element of the common prefix and suffix of the two lists with this one, so
+     * it only allocates O(k + log n) new nodes for the {@code k} elements that changed in between. Finding the
+     * common prefix and suffix still compares up to every element of the two lists, which costs O(n) reference
+     * comparisons but no allocation; as the lists of the model are array lists, changing them costs as much.
+     */
+    public PersistentList<E> update(List<? extends E> target) {
+        requireNonNull(target);
+        int prefixLength = commonPrefixLength(this, target);
+        int suffixLength = commonSuffixLength(this, target, prefixLength);
+        if (prefixLength + suffixLength == size() && size() == target.size()) {
+            return this;
+        }
+
+        return splice(prefixLength, size() - suffixLength,
+                target.subList(prefixLength, target.size() - suffixLength));
+    }
+
+    /**
+     * Returns the number of leading positions at which {@code first} and {@code second} hold the same objects.
+     */
+    public static int commonPrefixLength(List<?> first, List<?> second) {
+        Iterator<?> firstIterator = first.iterator();
+        Iterator<?> secondIterator = second.iterator();
+        int length = 0;
+        while (firstIterator.hasNext() && secondIterator.hasNext() && firstIterator.next() == secondIterator.next()) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of trailing positions at which {@code first} and {@code second} hold the same objects,
+     * not counting the first {@code prefixLength} positions of either list.
+     */
+    public static int commonSuffixLength(List<?> first, List<?> second, int prefixLength) {
+        int maxLength = Math.min(first.size(), second.size()) - prefixLength;
+        Iterator<?> firstIterator = reverseIteratorOf(first);
+        Iterator<?> secondIterator = reverseIteratorOf(second);
+        int length = 0;
+        while (length < maxLength && firstIterator.next() == secondIterator.next()) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns an iterator over the elements of {@code list} from the last to the first, which walks a
+     * {@code PersistentList} in order instead of looking each element up from the root.
+     */
+    private static Iterator<?> reverseIteratorOf(List<?> list) {
+        if (list instanceof PersistentList) {
+            return ((PersistentList<?>) list).descendingIterator();
+        }
+        ListIterator<?> iterator = list.listIterator(list.size());
+        return new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public Object next() {
+                return iterator.previous();
+            }
+        };
+    }
+
+    //=========== Tree operations =====================================================================
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Returns a balanced tree of {@code elements} from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), (E) requireNonNull(elements[mid]), build(elements, mid + 1, to));
+    }
+
+    /**
+     * Returns a balanced tree of the elements of {@code left}, then {@code value}, then the elements of
+     * {@code right}. {@code left} and {@code right} must be balanced.
+     */
+    private static <E> Node<E> join(Node<E> left, E value, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            return joinRight(left, value, right);
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            return joinLeft(left, value, right);
+        }
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * Joins {@code right} into the right spine of the taller {@code left}.
+     */
+    private static <E> Node<E> joinRight(Node<E> left, E value, Node<E> right) {
+        Node<E> spine = left.right;
+        if (heightOf(spine) <= heightOf(right) + 1) {
+            Node<E> joined = new Node<>(spine, value, right);
+            if (heightOf(joined) <= heightOf(left.left) + 1) {
+                return new Node<>(left.left, left.value, joined);
+            }
+            return rotateLeft(new Node<>(left.left, left.value, rotateRight(joined)));
+        }
+
+        Node<E> joined = joinRight(spine, value, right);
+        Node<E> result = new Node<>(left.left, left.value, joined);
+        return heightOf(joined) <= heightOf(left.left) + 1 ? result : rotateLeft(result);
+    }
+
+    /**
+     * Joins {@code left} into the left spine of the taller {@code right}.
+     */
+    private static <E> Node<E> joinLeft(Node<E> left, E value, Node<E> right) {
+        Node<E> spine = right.left;
+        if (heightOf(spine) <= heightOf(left) + 1) {
+            Node<E> joined = new Node<>(left, value, spine);
+            if (heightOf(joined) <= heightOf(right.right) + 1) {
+                return new Node<>(joined, right.value, right.right);
+            }
+            return rotateRight(new Node<>(rotateLeft(joined), right.value, right.right));
+        }
+
+        Node<E> joined = joinLeft(left, value, spine);
+        Node<E> result = new Node<>(joined, right.value, right.right);
+        return heightOf(joined) <= heightOf(right.right) + 1 ? result : rotateRight(result);
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        return new Node<>(new Node<>(node.left, node.value, right.left), right.value, right.right);
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        return new Node<>(left.left, left.value, new Node<>(left.right, node.value, node.right));
+    }
+
+    /**
+     * Splits {@code node} into a tree of its first {@code count} elements and a tree of the rest.
+     */
+    private static <E> Split<E> split(Node<E> node, int count) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Split<E> split = split(node.left, count);
+            return new Split<>(split.left, join(split.right, node.value, node.right));
+        }
+        Split<E> split = split(node.right, count - leftSize - 1);
+        return new Split<>(join(node.left, node.value, split.left), split.right);
+    }
+
+    /**
+     * Returns a balanced tree of the elements of {@code left} followed by the elements of {@code right}.
+     */
+    private static <E> Node<E> concat(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        Split<E> rest = split(left, left.size - 1);
+        return join(rest.left, rest.right.value, right);
+    }
+
+    /**
+     * A node of a balanced (AVL) tree, holding the size and height of its subtree.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * The two trees a tree is split into.
+     */
+    private static final class Split<E> {
+        private final Node<E> left;
+        private final Node<E> right;
+
+        Split(Node<E> left, Node<E> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, or in reverse order if descending.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> pendingNodes = new ArrayDeque<>();
+        private final boolean isDescending;
+
+        InOrderIterator(Node<E> root, boolean isDescending) {
+            this.isDescending = isDescending;
+            pushSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pendingNodes.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = pendingNodes.pop();
+            pushSpine(isDescending ? node.left : node.right);
+            return node.value;
+        }
+
+        /**
+         * Queues {@code node} and its chain of left children, or of right children if descending.
+         */
+        private void pushSpine(Node<E> node) {
+            for (Node<E> current = node; current != null; current = isDescending ? current.right : current.left) {
+                pendingNodes.push(current);
+            }
+        }
+    }
+}
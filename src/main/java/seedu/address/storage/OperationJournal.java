@@ -0,0 +1,268 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Keeps a list of elements in a data file as a full snapshot plus an append-only journal of the elements added
+ * and removed since that snapshot was written.
+ * Each save appends one line per changed element instead of rewriting the whole data file, so the data written by
+ * a save depends on the size of the change rather than the size of the list. Once the journal grows past
+ * {@code compactionThreshold} bytes, the snapshot is rewritten and the journal is discarded.
+ * Compaction runs on the thread that saves, which in {@link StorageManager} is the background storage thread.
+ *
+ * An element is recorded as its serialized form, and changing an element is journaled as the removal of its old
+ * form followed by the addition of its new form. Replaying a journal treats the list as a set of records, so
+ * replaying operations that are already part of the snapshot (e.g. after a compaction was interrupted before the
+ * journal could be deleted) does not change the result.
+ *
+ * The record of every element saved is kept until the element leaves the list, so a save only serializes the
+ * elements added since the last save. The other elements are matched to their records by identity, which relies
+ * on the elements being immutable, so the rest of a save is one hash lookup per element.
+ *
+ * @param <T> type of the list elements.
+ */
+public class OperationJournal<T> {
+
+    /** Journal size in bytes above which the snapshot is rewritten. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(OperationJournal.class);
+
+    private static final char ADD = '+';
+    private static final char REMOVE = '-';
+    private static final char RECORD_SEPARATOR = '\n';
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final RecordConverter<T> converter;
+    private final long compactionThreshold;
+
+    /** Data file whose snapshot and journal together hold {@code savedRecords}, or null if no such file. */
+    private Path trackedFile;
+    /** The record of each element last read or saved, keyed by the element itself rather than an equal one. */
+    private Map<T, String> savedRecords = new IdentityHashMap<>();
+
+    public OperationJournal(RecordConverter<T> converter, long compactionThreshold) {
+        requireNonNull(converter);
+        this.converter = converter;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal kept alongside {@code dataFile}.
+     */
+    public static Path getJournalFilePath(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the elements of {@code snapshot}, the list read from {@code dataFile}, with the changes recorded in
+     * the journal of {@code dataFile} applied.
+     * Returns {@code Optional.empty()} if there is neither a snapshot nor a journal.
+     * A last journal line without a record separator was cut short while being written. It is ignored, and cut off
+     * the journal so that the next save does not append to it.
+     * @throws DataConversionException if the journal or an element in it is not in the expected format.
+     */
+    public synchronized Optional<List<T>> read(Path dataFile, Optional<? extends List<T>> snapshot)
+            throws DataConversionException, IOException {
+        requireNonNull(dataFile);
+        requireNonNull(snapshot);
+
+        Path journalFile = getJournalFilePath(dataFile);
+        if (!snapshot.isPresent() && !Files.exists(journalFile)) {
+            return Optional.empty();
+        }
+
+        // elements added by the journal are only converted from their records once the journal is replayed
+        Map<String, T> elementsByRecord = new LinkedHashMap<>();
+        if (snapshot.isPresent()) {
+            for (T element : snapshot.get()) {
+                elementsByRecord.put(converter.toRecord(element), element);
+            }
+        }
+        if (Files.exists(journalFile)) {
+            replay(elementsByRecord, readCompleteLines(journalFile));
+        }
+
+        List<T> elements = new ArrayList<>(elementsByRecord.size());
+        Map<T, String> records = new IdentityHashMap<>(elementsByRecord.size());
+        try {
+            for (Map.Entry<String, T> entry : elementsByRecord.entrySet()) {
+                T element = entry.getValue() != null ? entry.getValue() : converter.fromRecord(entry.getKey());
+                elements.add(element);
+                records.put(element, entry.getKey());
+            }
+        } catch (JsonProcessingException | IllegalValueException e) {
+            logger.info("Illegal values found in " + journalFile + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        trackedFile = dataFile;
+        savedRecords = records;
+        return Optional.of(elements);
+    }
+
+    /**
+     * Saves {@code elements} to {@code dataFile} by journaling the changes since they were last read or saved.
+     * If there is no snapshot of those elements to journal against, or the journal has grown too large,
+     * {@code snapshotWriter} is used to write a new snapshot instead.
+     */
+    public synchronized void save(Path dataFile, List<T> elements, SnapshotWriter snapshotWriter)
+            throws IOException {
+        requireNonNull(dataFile);
+        requireNonNull(elements);
+        requireNonNull(snapshotWriter);
+
+        StringBuilder additions = new StringBuilder();
+        Map<T, String> records = new IdentityHashMap<>(elements.size());
+        for (T element : elements) {
+            String record = savedRecords.get(element);
+            if (record == null) {
+                record = converter.toRecord(element);
+                additions.append(ADD).append(record).append(RECORD_SEPARATOR);
+            }
+            records.put(element, record);
+        }
+
+        if (!dataFile.equals(trackedFile) || !Files.exists(dataFile)) {
+            compact(dataFile, records, snapshotWriter);
+            return;
+        }
+
+        Path journalFile = getJournalFilePath(dataFile);
+        String changes = getRemovals(savedRecords, records) + additions;
+        if (!changes.isEmpty()) {
+            try {
+                Files.write(journalFile, changes.getBytes(UTF_8), StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND);
+            } catch (IOException ioe) {
+                // the journal may end in a partial record, so only a new snapshot can be trusted after this
+                trackedFile = null;
+                throw ioe;
+            }
+        }
+        savedRecords = records;
+
+        if (Files.exists(journalFile) && Files.size(journalFile) > compactionThreshold) {
+            compact(dataFile, records, snapshotWriter);
+        }
+    }
+
+    /**
+     * Replaces the snapshot in {@code dataFile} with {@code records} and discards its journal.
+     * The snapshot is written to a temporary file first so that a failed write leaves the old snapshot intact.
+     */
+    private void compact(Path dataFile, Map<T, String> records, SnapshotWriter snapshotWriter) throws IOException {
+        logger.fine("Writing snapshot of " + records.size() + " records to " + dataFile);
+        trackedFile = null;
+
+        Path tempFile = dataFile.resolveSibling(dataFile.getFileName() + TEMP_FILE_SUFFIX);
+        snapshotWriter.write(tempFile);
+        Files.move(tempFile, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(getJournalFilePath(dataFile));
+
+        trackedFile = dataFile;
+        savedRecords = records;
+    }
+
+    /**
+     * Returns the journal lines that remove the elements of {@code oldRecords} missing from {@code newRecords}.
+     * They are journaled before the additions so that a changed element is never present twice during replay.
+     */
+    private static <T> String getRemovals(Map<T, String> oldRecords, Map<T, String> newRecords) {
+        StringBuilder removals = new StringBuilder();
+        for (Map.Entry<T, String> entry : oldRecords.entrySet()) {
+            if (!newRecords.containsKey(entry.getKey())) {
+                removals.append(REMOVE).append(entry.getValue()).append(RECORD_SEPARATOR);
+            }
+        }
+        return removals.toString();
+    }
+
+    /**
+     * Returns the lines of {@code journalFile} that end in a record separator, truncating the file after the last
+     * of them if it holds anything more.
+     */
+    private static String readCompleteLines(Path journalFile) throws IOException {
+        byte[] journal = Files.readAllBytes(journalFile);
+        int length = journal.length;
+        while (length > 0 && journal[length - 1] != RECORD_SEPARATOR) {
+            length--;
+        }
+
+        if (length < journal.length) {
+            logger.warning("Discarding partially written record at the end of " + journalFile);
+            try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+                channel.truncate(length);
+            }
+        }
+        return new String(journal, 0, length, UTF_8);
+    }
+
+    /**
+     * Applies the operations in {@code journal}, whose every line ends in a record separator, to the records that
+     * are the keys of {@code elementsByRecord}. Records added by the journal map to null.
+     */
+    private static <T> void replay(Map<String, T> elementsByRecord, String journal) throws DataConversionException {
+        int start = 0;
+        int end;
+        while ((end = journal.indexOf(RECORD_SEPARATOR, start)) >= 0) {
+            String line = journal.substring(start, end);
+            start = end + 1;
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String record = line.substring(1);
+            switch (line.charAt(0)) {
+            case ADD:
+                elementsByRecord.putIfAbsent(record, null);
+                break;
+            case REMOVE:
+                elementsByRecord.remove(record);
+                break;
+            default:
+                throw new DataConversionException(new IllegalValueException("Unknown journal operation: " + line));
+            }
+        }
+    }
+
+    /**
+     * Converts list elements to and from the single line records kept in a journal.
+     */
+    public interface RecordConverter<T> {
+        String toRecord(T element) throws IOException;
+
+        T fromRecord(String record) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a full snapshot of the list to a file.
+     */
+    @FunctionalInterface
+    public interface SnapshotWriter {
+        void write(Path filePath) throws IOException;
+    }
+}
@@ -70,14 +70,14 @@ public interface Storage extends AddressBookStorage, ExpensesListStorage, Recrui
     void saveRecruitmentList(ReadOnlyRecruitmentList scheduleList) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Address Book to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
 
     /**
-     * Saves the current version of the Expenses List to the hard disk.
+     * Saves the current version of the Expenses List to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
@@ -87,4 +87,30 @@ public interface Storage extends AddressBookStorage, ExpensesListStorage, Recrui
     void handleScheduleListChangedEvent(ScheduleListChangedEvent abce);
 
     void handleRecruitmentListChangedEvent(RecruitmentListChangedEvent abce);
+
+    /**
+     * Stops saving the Expenses List, leaving its data file as it is.
+     */
+    void disableExpensesListSaving();
+
+    /**
+     * Stops saving the Schedule List, leaving its data file as it is.
+     */
+    void disableScheduleListSaving();
+
+    /**
+     * Stops saving the Recruitment List, leaving its data file as it is.
+     */
+    void disableRecruitmentListSaving();
+
+    /**
+     * Writes all changes that are still waiting to be saved, and blocks until they are written.
+     */
+    void flush();
+
+    /**
+     * Writes all changes that are still waiting to be saved, then stops the threads saving them and stops
+     * handling model change events.
+     */
+    void close();
 }
@@ -8,6 +8,8 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ExpensesListChangedEvent;
@@ -28,6 +30,9 @@ import seedu.address.storage.userpref.UserPrefsStorage;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Changes to the model are saved in the background by a {@code WriteBehindSaver} per data file.
+ * The change events are handled on a thread of their own, so saving never holds up the command being executed.
+ * The change events raised by the model carry immutable copies of the changed lists, so they are saved as they are.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -37,18 +42,79 @@ public class StorageManager extends ComponentManager implements Storage {
     private ScheduleListStorage scheduleListStorage;
     private RecruitmentListStorage recruitmentListStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final WriteBehindSaver<ReadOnlyAddressBook> addressBookSaver;
+    private final WriteBehindSaver<ReadOnlyExpensesList> expensesListSaver;
+    private final WriteBehindSaver<ReadOnlyScheduleList> scheduleListSaver;
+    private final WriteBehindSaver<ReadOnlyRecruitmentList> recruitmentListSaver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, ExpensesListStorage expensesListStorage,
                           ScheduleListStorage scheduleListStorage,
                           RecruitmentListStorage recruitmentListStorage,
                           UserPrefsStorage userPrefsStorage) {
-        super();
+        this(addressBookStorage, expensesListStorage, scheduleListStorage, recruitmentListStorage, userPrefsStorage,
+                0);
+    }
+
+    /**
+     * @param saveDelay milliseconds to wait for further changes to a data file before saving it.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, ExpensesListStorage expensesListStorage,
+                          ScheduleListStorage scheduleListStorage,
+                          RecruitmentListStorage recruitmentListStorage,
+                          UserPrefsStorage userPrefsStorage, long saveDelay) {
+        super(EventsCenter.getInstance(), DispatchPolicy.DEDICATED_THREAD);
         this.addressBookStorage = addressBookStorage;
         this.expensesListStorage = expensesListStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.scheduleListStorage = scheduleListStorage;
         this.recruitmentListStorage = recruitmentListStorage;
+        this.addressBookSaver = new WriteBehindSaver<>("addressbook", saveDelay,
+                this::saveAddressBook, this::indicateDataSavingException);
+        this.expensesListSaver = new WriteBehindSaver<>("expenses", saveDelay,
+                this::saveExpensesList, this::indicateDataSavingException);
+        this.scheduleListSaver = new WriteBehindSaver<>("schedule", saveDelay,
+                this::saveScheduleList, this::indicateDataSavingException);
+        this.recruitmentListSaver = new WriteBehindSaver<>("recruitment", saveDelay,
+                this::saveRecruitmentList, this::indicateDataSavingException);
+    }
+
+    @Override
+    public void flush() {
+        eventsCenter.awaitDedicatedHandlers();
+        addressBookSaver.flush();
+        expensesListSaver.flush();
+        scheduleListSaver.flush();
+        recruitmentListSaver.flush();
+    }
+
+    @Override
+    public void disableExpensesListSaving() {
+        expensesListSaver.disable();
+    }
+
+    @Override
+    public void disableScheduleListSaving() {
+        scheduleListSaver.disable();
+    }
+
+    @Override
+    public void disableRecruitmentListSaving() {
+        recruitmentListSaver.disable();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        eventsCenter.unregisterHandler(this);
+        addressBookSaver.close();
+        expensesListSaver.close();
+        scheduleListSaver.close();
+        recruitmentListSaver.close();
+    }
+
+    private void indicateDataSavingException(IOException e) {
+        raise(new DataSavingExceptionEvent(e));
     }
 
     // ================ UserPrefs methods ==============================
@@ -103,11 +169,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        addressBookSaver.save(event.data);
     }
 
     // ================ ExpensesList methods ==============================
@@ -137,11 +199,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleExpensesListChangedEvent(ExpensesListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveExpensesList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        expensesListSaver.save(event.data);
     }
 
 
@@ -175,11 +233,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleRecruitmentListChangedEvent(RecruitmentListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveRecruitmentList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        recruitmentListSaver.save(event.data);
     }
 
     // ================ ScheduleList methods ==============================
@@ -216,12 +270,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleScheduleListChangedEvent(ScheduleListChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-
-        try {
-            saveScheduleList(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        scheduleListSaver.save(event.data);
     }
 
 }
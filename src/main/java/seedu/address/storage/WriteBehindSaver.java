@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Saves data on a dedicated background thread.
+ * Saves requested within {@code saveDelay} milliseconds of each other are coalesced into a single save of the
+ * latest data, so a burst of changes costs one write instead of one write per change.
+ *
+ * @param <T> type of the data to save. Data passed to {@link #save(Object)} must not change afterwards.
+ */
+public class WriteBehindSaver<T> {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final String name;
+    private final long saveDelay;
+    private final DataSaver<T> saver;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledExecutorService executor;
+
+    private T pendingData;
+    private boolean isSaveScheduled;
+    private boolean isDisabled;
+
+    /**
+     * @param name name of the data saved, used to name the background thread.
+     * @param saveDelay milliseconds to wait for more changes before saving.
+     * @param saver writes the data.
+     * @param failureHandler is notified on the background thread of every failed save.
+     */
+    public WriteBehindSaver(String name, long saveDelay, DataSaver<T> saver, Consumer<IOException> failureHandler) {
+        requireNonNull(name);
+        requireNonNull(saver);
+        requireNonNull(failureHandler);
+        this.name = name;
+        this.saveDelay = saveDelay;
+        this.saver = saver;
+        this.failureHandler = failureHandler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code data} to be saved, replacing any data that is still waiting to be saved.
+     * Does nothing once this saver is disabled.
+     */
+    public synchronized void save(T data) {
+        requireNonNull(data);
+        if (isDisabled) {
+            return;
+        }
+        pendingData = data;
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::savePendingData, saveDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Discards any data that is still waiting to be saved, and ignores all data passed to {@link #save(Object)}
+     * afterwards, so that the data file is left as it is.
+     */
+    public synchronized void disable() {
+        logger.warning("Stopped saving " + name);
+        isDisabled = true;
+        pendingData = null;
+    }
+
+    /**
+     * Saves any data that is still waiting to be saved, and blocks until it has been written.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::savePendingData).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException("Failed to flush " + name, ee.getCause());
+        }
+    }
+
+    /**
+     * Saves any data that is still waiting to be saved, then stops the background thread.
+     * Data must not be passed to {@link #save(Object)} afterwards.
+     */
+    public void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    /**
+     * Saves the data waiting to be saved, if any. Only runs on the background thread.
+     */
+    private void savePendingData() {
+        T data;
+        synchronized (this) {
+            data = pendingData;
+            pendingData = null;
+            isSaveScheduled = false;
+        }
+
+        if (data == null) {
+            return;
+        }
+
+        try {
+            saver.save(data);
+        } catch (IOException e) {
+            logger.warning("Failed to save " + name + ": " + e.getMessage());
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes data to its storage.
+     */
+    @FunctionalInterface
+    public interface DataSaver<T> {
+        void save(T data) throws IOException;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.storage.addressbook;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.addressbook.XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.OperationJournal;
+import seedu.address.storage.OperationJournal.RecordConverter;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as an xml snapshot plus a journal of the changes
+ * made since the snapshot was written.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    private static final RecordConverter<Person> PERSON_CONVERTER = new RecordConverter<Person>() {
+        @Override
+        public String toRecord(Person person) throws IOException {
+            return JsonUtil.toCompactJsonString(new XmlAdaptedPerson(person));
+        }
+
+        @Override
+        public Person fromRecord(String record) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(record, XmlAdaptedPerson.class).toModelType();
+        }
+    };
+
+    private final XmlAddressBookStorage snapshotStorage;
+    private final OperationJournal<Person> journal;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, OperationJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        snapshotStorage = new XmlAddressBookStorage(filePath);
+        journal = new OperationJournal<>(PERSON_CONVERTER, compactionThreshold);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Person>> persons = journal.read(filePath,
+                snapshotStorage.readAddressBook(filePath).map(ReadOnlyAddressBook::getPersonList));
+        if (!persons.isPresent()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons.get()) {
+            if (addressBook.hasPerson(person)) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_DUPLICATE_PERSON));
+            }
+            addressBook.addPerson(person);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        journal.save(filePath, addressBook.getPersonList(),
+            snapshotFile -> snapshotStorage.saveAddressBook(addressBook, snapshotFile));
+    }
+
+}
@@ -162,7 +162,7 @@ public class XmlAdaptedPerson {
         if (!Department.isValidDepartment(department)) {
             throw new IllegalValueException(Department.MESSAGE_DEPARTMENT_CONSTRAINTS);
         }
-        final Department modelDepartment = new Department(department);
+        final Department modelDepartment = Department.of(department);
 
         if (position == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -171,7 +171,7 @@ public class XmlAdaptedPerson {
         if (!Position.isValidPosition(position)) {
             throw new IllegalValueException(Position.MESSAGE_POSITION_CONSTRAINTS);
         }
-        final Position modelPosition = new Position(position);
+        final Position modelPosition = Position.of(position);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -1,40 +1,52 @@
 package seedu.address.storage.addressbook;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.commons.util.XmlUtil.ElementHandler;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlAddressBookFileStorage {
 
     /**
-     * Saves the given addressbook data to the specified file.
+     * Saves the given address book data to the specified file, converting one person at a time.
      */
-    public static void saveDataToFile(Path file, XmlSerializableAddressBook addressBook)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            XmlUtil.saveElementsToFile(file, XmlSerializableAddressBook.ROOT_ELEMENT,
+                    XmlSerializableAddressBook.PERSON_ELEMENT, XmlAdaptedPerson.class,
+                    addressBook.getPersonList().stream().map(XmlAdaptedPerson::new).iterator());
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns address book in the file or an empty address book
+     * Returns the address book in the file, converting each person as soon as it is read.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableAddressBook loadDataFromSaveFile(Path file) throws DataConversionException,
-            FileNotFoundException {
+    public static AddressBook loadDataFromSaveFile(Path file)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        ElementHandler<XmlAdaptedPerson, IllegalValueException> handler =
+            adapted -> XmlSerializableAddressBook.addToAddressBook(addressBook, adapted);
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
+            XmlUtil.readElementsFromFile(file, XmlSerializableAddressBook.class, handler);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return addressBook;
     }
 
-
 }
@@ -8,6 +8,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil.ElementContainer;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -15,12 +16,14 @@ import seedu.address.model.person.Person;
 /**
  * An Immutable AddressBook that is serializable to XML format
  */
-@XmlRootElement(name = "addressbook")
-public class XmlSerializableAddressBook {
+@XmlRootElement(name = XmlSerializableAddressBook.ROOT_ELEMENT)
+public class XmlSerializableAddressBook implements ElementContainer<XmlAdaptedPerson> {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String ROOT_ELEMENT = "addressbook";
+    public static final String PERSON_ELEMENT = "persons";
 
-    @XmlElement
+    @XmlElement(name = PERSON_ELEMENT)
     private List<XmlAdaptedPerson> persons;
 
     /**
@@ -48,15 +51,31 @@ public class XmlSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (XmlAdaptedPerson p : persons) {
-            Person person = p.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addToAddressBook(addressBook, p);
         }
         return addressBook;
     }
 
+    /**
+     * Converts {@code adaptedPerson} and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code adaptedPerson}, or
+     * {@code addressBook} already contains it.
+     */
+    static void addToAddressBook(AddressBook addressBook, XmlAdaptedPerson adaptedPerson)
+            throws IllegalValueException {
+        Person person = adaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    @Override
+    public void readElementsInto(List<XmlAdaptedPerson> elements) {
+        persons = elements;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,95 @@
+package seedu.address.storage.expenses;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.expenses.XmlSerializableExpensesList.MESSAGE_DUPLICATE_EXPENSES;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.expenses.Expenses;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.storage.OperationJournal;
+import seedu.address.storage.OperationJournal.RecordConverter;
+
+/**
+ * A class to access ExpensesList data stored on the hard disk as an xml snapshot plus a journal of the changes
+ * made since the snapshot was written.
+ */
+public class JournalExpensesListStorage implements ExpensesListStorage {
+
+    private static final RecordConverter<Expenses> EXPENSES_CONVERTER = new RecordConverter<Expenses>() {
+        @Override
+        public String toRecord(Expenses expenses) throws IOException {
+            return JsonUtil.toCompactJsonString(new XmlAdaptedExpenses(expenses));
+        }
+
+        @Override
+        public Expenses fromRecord(String record) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(record, XmlAdaptedExpenses.class).toModelType();
+        }
+    };
+
+    private final XmlExpensesListStorage snapshotStorage;
+    private final OperationJournal<Expenses> journal;
+
+    public JournalExpensesListStorage(Path filePath) {
+        this(filePath, OperationJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalExpensesListStorage(Path filePath, long compactionThreshold) {
+        snapshotStorage = new XmlExpensesListStorage(filePath);
+        journal = new OperationJournal<>(EXPENSES_CONVERTER, compactionThreshold);
+    }
+
+    @Override
+    public Path getExpensesListFilePath() {
+        return snapshotStorage.getExpensesListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyExpensesList> readExpensesList() throws DataConversionException, IOException {
+        return readExpensesList(getExpensesListFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyExpensesList> readExpensesList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Expenses>> multiExpenses = journal.read(filePath,
+                snapshotStorage.readExpensesList(filePath).map(ReadOnlyExpensesList::getExpensesRequestList));
+        if (!multiExpenses.isPresent()) {
+            return Optional.empty();
+        }
+
+        ExpensesList expensesList = new ExpensesList();
+        for (Expenses expenses : multiExpenses.get()) {
+            if (expensesList.hasExpenses(expenses)) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_DUPLICATE_EXPENSES));
+            }
+            expensesList.addExpenses(expenses);
+        }
+        return Optional.of(expensesList);
+    }
+
+    @Override
+    public void saveExpensesList(ReadOnlyExpensesList expensesList) throws IOException {
+        saveExpensesList(expensesList, getExpensesListFilePath());
+    }
+
+    @Override
+    public void saveExpensesList(ReadOnlyExpensesList expensesList, Path filePath) throws IOException {
+        requireNonNull(expensesList);
+        requireNonNull(filePath);
+
+        journal.save(filePath, expensesList.getExpensesRequestList(),
+            snapshotFile -> snapshotStorage.saveExpensesList(expensesList, snapshotFile));
+    }
+
+}
@@ -1,38 +1,52 @@
 package seedu.address.storage.expenses;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.commons.util.XmlUtil.ElementHandler;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlExpensesFileStorage {
+
     /**
-     * Saves the given expenses list data to the specified file.
+     * Saves the given expenses list data to the specified file, converting one expenses at a time.
      */
-    public static void saveDataToFile(Path file, XmlSerializableExpensesList expensesList)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, ReadOnlyExpensesList expensesList) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, expensesList);
+            XmlUtil.saveElementsToFile(file, XmlSerializableExpensesList.ROOT_ELEMENT,
+                    XmlSerializableExpensesList.EXPENSES_ELEMENT, XmlAdaptedExpenses.class,
+                    expensesList.getExpensesRequestList().stream().map(XmlAdaptedExpenses::new).iterator());
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns expenses list in the file or an empty expenses list
+     * Returns the expenses list in the file, converting each expenses as soon as it is read.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableExpensesList loadDataFromExpensesSaveFile(Path file) throws DataConversionException,
-            FileNotFoundException {
+    public static ExpensesList loadDataFromExpensesSaveFile(Path file)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        ExpensesList expensesList = new ExpensesList();
+        ElementHandler<XmlAdaptedExpenses, IllegalValueException> handler =
+            adapted -> XmlSerializableExpensesList.addToExpensesList(expensesList, adapted);
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableExpensesList.class);
+            XmlUtil.readElementsFromFile(file, XmlSerializableExpensesList.class, handler);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return expensesList;
     }
+
 }
@@ -51,9 +51,8 @@ public class XmlExpensesListStorage implements ExpensesListStorage {
             return Optional.empty();
         }
 
-        XmlSerializableExpensesList xmlExpensesList = XmlExpensesFileStorage.loadDataFromExpensesSaveFile(filePath);
         try {
-            return Optional.of(xmlExpensesList.toModelType());
+            return Optional.of(XmlExpensesFileStorage.loadDataFromExpensesSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +73,7 @@ public class XmlExpensesListStorage implements ExpensesListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlExpensesFileStorage.saveDataToFile(filePath, new XmlSerializableExpensesList(expensesList));
+        XmlExpensesFileStorage.saveDataToFile(filePath, expensesList);
     }
 
 }
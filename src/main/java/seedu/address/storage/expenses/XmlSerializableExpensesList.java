@@ -8,6 +8,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil.ElementContainer;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ExpensesList;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
@@ -15,12 +16,14 @@ import seedu.address.model.expenses.ReadOnlyExpensesList;
 /**
  * An Immutable ExpensesList that is serializable to XML format
  */
-@XmlRootElement(name = "expenseslist")
-public class XmlSerializableExpensesList {
+@XmlRootElement(name = XmlSerializableExpensesList.ROOT_ELEMENT)
+public class XmlSerializableExpensesList implements ElementContainer<XmlAdaptedExpenses> {
 
     public static final String MESSAGE_DUPLICATE_EXPENSES = "Expenses list contains duplicate expenses).";
+    public static final String ROOT_ELEMENT = "expenseslist";
+    public static final String EXPENSES_ELEMENT = "multiExpenses";
 
-    @XmlElement
+    @XmlElement(name = EXPENSES_ELEMENT)
     private List<XmlAdaptedExpenses> multiExpenses;
 
     /**
@@ -49,15 +52,31 @@ public class XmlSerializableExpensesList {
     public ExpensesList toModelType() throws IllegalValueException {
         ExpensesList expensesList = new ExpensesList();
         for (XmlAdaptedExpenses e : multiExpenses) {
-            Expenses expenses = e.toModelType();
-            if (expensesList.hasExpenses(expenses)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EXPENSES);
-            }
-            expensesList.addExpenses(expenses);
+            addToExpensesList(expensesList, e);
         }
         return expensesList;
     }
 
+    /**
+     * Converts {@code adaptedExpenses} and adds it to {@code expensesList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code adaptedExpenses}, or
+     * {@code expensesList} already contains it.
+     */
+    static void addToExpensesList(ExpensesList expensesList, XmlAdaptedExpenses adaptedExpenses)
+            throws IllegalValueException {
+        Expenses expenses = adaptedExpenses.toModelType();
+        if (expensesList.hasExpenses(expenses)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EXPENSES);
+        }
+        expensesList.addExpenses(expenses);
+    }
+
+    @Override
+    public void readElementsInto(List<XmlAdaptedExpenses> elements) {
+        multiExpenses = elements;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,95 @@
+package seedu.address.storage.recruitment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.recruitment.XmlSerializableRecruitmentList.MESSAGE_DUPLICATE_RECRUITMENT;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.storage.OperationJournal;
+import seedu.address.storage.OperationJournal.RecordConverter;
+
+/**
+ * A class to access RecruitmentList data stored on the hard disk as an xml snapshot plus a journal of the changes
+ * made since the snapshot was written.
+ */
+public class JournalRecruitmentListStorage implements RecruitmentListStorage {
+
+    private static final RecordConverter<Recruitment> RECRUITMENT_CONVERTER = new RecordConverter<Recruitment>() {
+        @Override
+        public String toRecord(Recruitment recruitment) throws IOException {
+            return JsonUtil.toCompactJsonString(new XmlAdaptedRecruitment(recruitment));
+        }
+
+        @Override
+        public Recruitment fromRecord(String record) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(record, XmlAdaptedRecruitment.class).toModelPost();
+        }
+    };
+
+    private final XmlRecruitmentListStorage snapshotStorage;
+    private final OperationJournal<Recruitment> journal;
+
+    public JournalRecruitmentListStorage(Path filePath) {
+        this(filePath, OperationJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalRecruitmentListStorage(Path filePath, long compactionThreshold) {
+        snapshotStorage = new XmlRecruitmentListStorage(filePath);
+        journal = new OperationJournal<>(RECRUITMENT_CONVERTER, compactionThreshold);
+    }
+
+    @Override
+    public Path getRecruitmentListFilePath() {
+        return snapshotStorage.getRecruitmentListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList() throws DataConversionException, IOException {
+        return readRecruitmentList(getRecruitmentListFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyRecruitmentList> readRecruitmentList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Recruitment>> recruitments = journal.read(filePath,
+                snapshotStorage.readRecruitmentList(filePath).map(ReadOnlyRecruitmentList::getRecruitmentList));
+        if (!recruitments.isPresent()) {
+            return Optional.empty();
+        }
+
+        RecruitmentList recruitmentList = new RecruitmentList();
+        for (Recruitment recruitment : recruitments.get()) {
+            if (recruitmentList.hasRecruitment(recruitment)) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_DUPLICATE_RECRUITMENT));
+            }
+            recruitmentList.addRecruitment(recruitment);
+        }
+        return Optional.of(recruitmentList);
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList) throws IOException {
+        saveRecruitmentList(recruitmentList, getRecruitmentListFilePath());
+    }
+
+    @Override
+    public void saveRecruitmentList(ReadOnlyRecruitmentList recruitmentList, Path filePath) throws IOException {
+        requireNonNull(recruitmentList);
+        requireNonNull(filePath);
+
+        journal.save(filePath, recruitmentList.getRecruitmentList(),
+            snapshotFile -> snapshotStorage.saveRecruitmentList(recruitmentList, snapshotFile));
+    }
+
+}
@@ -1,41 +1,52 @@
 package seedu.address.storage.recruitment;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.commons.util.XmlUtil.ElementHandler;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.RecruitmentList;
 
 /**
  * Stores addressbook data in an XML file
  */
 public class XmlRecruitmentFileStorage {
 
-
     /**
-     * Saves the given recruitmentlist data to the specified file.
+     * Saves the given recruitment list data to the specified file, converting one recruitment post at a time.
      */
-    public static void saveDataToFile(Path file, XmlSerializableRecruitmentList recruitmentList)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, ReadOnlyRecruitmentList recruitmentList) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, recruitmentList);
+            XmlUtil.saveElementsToFile(file, XmlSerializableRecruitmentList.ROOT_ELEMENT,
+                    XmlSerializableRecruitmentList.RECRUITMENT_ELEMENT, XmlAdaptedRecruitment.class,
+                    recruitmentList.getRecruitmentList().stream().map(XmlAdaptedRecruitment::new).iterator());
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns recruitment list in the file or an empty recruitment list
+     * Returns the recruitment list in the file, converting each recruitment post as soon as it is read.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableRecruitmentList loadDataFromSaveRecruitmentListFile(Path file)
-            throws DataConversionException, FileNotFoundException {
+    public static RecruitmentList loadDataFromSaveRecruitmentListFile(Path file)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        RecruitmentList recruitmentList = new RecruitmentList();
+        ElementHandler<XmlAdaptedRecruitment, IllegalValueException> handler =
+            adapted -> XmlSerializableRecruitmentList.addToRecruitmentList(recruitmentList, adapted);
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableRecruitmentList.class);
+            XmlUtil.readElementsFromFile(file, XmlSerializableRecruitmentList.class, handler);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return recruitmentList;
     }
 
 }
@@ -51,10 +51,8 @@ public class XmlRecruitmentListStorage implements RecruitmentListStorage {
             return Optional.empty();
         }
 
-        XmlSerializableRecruitmentList
-                xmlRecruitmentList = XmlRecruitmentFileStorage.loadDataFromSaveRecruitmentListFile(filePath);
         try {
-            return Optional.of(xmlRecruitmentList.toModelType());
+            return Optional.of(XmlRecruitmentFileStorage.loadDataFromSaveRecruitmentListFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -75,7 +73,7 @@ public class XmlRecruitmentListStorage implements RecruitmentListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlRecruitmentFileStorage.saveDataToFile(filePath, new XmlSerializableRecruitmentList(recruitmentList));
+        XmlRecruitmentFileStorage.saveDataToFile(filePath, recruitmentList);
     }
 
 }
@@ -8,6 +8,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil.ElementContainer;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.recruitment.RecruitmentList;
@@ -16,12 +17,14 @@ import seedu.address.model.recruitment.RecruitmentList;
 /**
  * An Immutable RecruitmentList that is serializable to XML format
  */
-@XmlRootElement(name = "recruitmentlist")
-public class XmlSerializableRecruitmentList {
+@XmlRootElement(name = XmlSerializableRecruitmentList.ROOT_ELEMENT)
+public class XmlSerializableRecruitmentList implements ElementContainer<XmlAdaptedRecruitment> {
 
     public static final String MESSAGE_DUPLICATE_RECRUITMENT = "RecruitmentLists contain duplicate recruitmentPost(s).";
+    public static final String ROOT_ELEMENT = "recruitmentlist";
+    public static final String RECRUITMENT_ELEMENT = "recruitments";
 
-    @XmlElement
+    @XmlElement(name = RECRUITMENT_ELEMENT)
     private List<XmlAdaptedRecruitment> recruitments;
 
     /**
@@ -50,15 +53,31 @@ public class XmlSerializableRecruitmentList {
     public RecruitmentList toModelType() throws IllegalValueException {
         RecruitmentList recruitmentList = new RecruitmentList();
         for (XmlAdaptedRecruitment p : recruitments) {
-            Recruitment recruitment = p.toModelPost();
-            if (recruitmentList.hasRecruitment(recruitment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RECRUITMENT);
-            }
-            recruitmentList.addRecruitment(recruitment);
+            addToRecruitmentList(recruitmentList, p);
         }
         return recruitmentList;
     }
 
+    /**
+     * Converts {@code adaptedRecruitment} and adds it to {@code recruitmentList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code adaptedRecruitment}, or
+     * {@code recruitmentList} already contains it.
+     */
+    static void addToRecruitmentList(RecruitmentList recruitmentList, XmlAdaptedRecruitment adaptedRecruitment)
+            throws IllegalValueException {
+        Recruitment recruitment = adaptedRecruitment.toModelPost();
+        if (recruitmentList.hasRecruitment(recruitment)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_RECRUITMENT);
+        }
+        recruitmentList.addRecruitment(recruitment);
+    }
+
+    @Override
+    public void readElementsInto(List<XmlAdaptedRecruitment> elements) {
+        recruitments = elements;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
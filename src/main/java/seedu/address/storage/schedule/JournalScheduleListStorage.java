@@ -0,0 +1,95 @@
+package seedu.address.storage.schedule;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.schedule.XmlSerializableScheduleList.MESSAGE_DUPLICATE_SCHEDULE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.storage.OperationJournal;
+import seedu.address.storage.OperationJournal.RecordConverter;
+
+/**
+ * A class to access ScheduleList data stored on the hard disk as an xml snapshot plus a journal of the changes
+ * made since the snapshot was written.
+ */
+public class JournalScheduleListStorage implements ScheduleListStorage {
+
+    private static final RecordConverter<Schedule> SCHEDULE_CONVERTER = new RecordConverter<Schedule>() {
+        @Override
+        public String toRecord(Schedule schedule) throws IOException {
+            return JsonUtil.toCompactJsonString(new XmlAdaptedSchedule(schedule));
+        }
+
+        @Override
+        public Schedule fromRecord(String record) throws IOException, IllegalValueException {
+            return JsonUtil.fromJsonString(record, XmlAdaptedSchedule.class).toModelType();
+        }
+    };
+
+    private final XmlScheduleListStorage snapshotStorage;
+    private final OperationJournal<Schedule> journal;
+
+    public JournalScheduleListStorage(Path filePath) {
+        this(filePath, OperationJournal.DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalScheduleListStorage(Path filePath, long compactionThreshold) {
+        snapshotStorage = new XmlScheduleListStorage(filePath);
+        journal = new OperationJournal<>(SCHEDULE_CONVERTER, compactionThreshold);
+    }
+
+    @Override
+    public Path getScheduleListFilePath() {
+        return snapshotStorage.getScheduleListFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList() throws DataConversionException, IOException {
+        return readScheduleList(getScheduleListFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleList> readScheduleList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<List<Schedule>> schedules = journal.read(filePath,
+                snapshotStorage.readScheduleList(filePath).map(ReadOnlyScheduleList::getScheduleList));
+        if (!schedules.isPresent()) {
+            return Optional.empty();
+        }
+
+        ScheduleList scheduleList = new ScheduleList();
+        for (Schedule schedule : schedules.get()) {
+            if (scheduleList.hasSchedule(schedule)) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE));
+            }
+            scheduleList.addSchedule(schedule);
+        }
+        return Optional.of(scheduleList);
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList) throws IOException {
+        saveScheduleList(scheduleList, getScheduleListFilePath());
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlyScheduleList scheduleList, Path filePath) throws IOException {
+        requireNonNull(scheduleList);
+        requireNonNull(filePath);
+
+        journal.save(filePath, scheduleList.getScheduleList(),
+            snapshotFile -> snapshotStorage.saveScheduleList(scheduleList, snapshotFile));
+    }
+
+}
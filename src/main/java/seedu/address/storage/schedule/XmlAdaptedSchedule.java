@@ -46,7 +46,7 @@ public class XmlAdaptedSchedule {
      */
     public XmlAdaptedSchedule(Schedule source) {
         employeeId = source.getEmployeeId().value;
-        date = source.getScheduleDate().value;
+        date = source.getScheduleDate().toString();
         type = source.getType().value;
     }
 
@@ -72,7 +72,7 @@ public class XmlAdaptedSchedule {
         if (!Type.isValidType(type)) {
             throw new IllegalValueException(Type.MESSAGE_TYPE_CONSTRAINTS);
         }
-        final Type modelType = new Type(type);
+        final Type modelType = Type.of(type);
 
         if (date == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -1,41 +1,52 @@
 package seedu.address.storage.schedule;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.commons.util.XmlUtil.ElementHandler;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.ScheduleList;
 
 /**
  * Stores schedule list data in an XML file
  */
 public class XmlScheduleFileStorage {
 
-
     /**
-     * Saves the given schedule list data to the specified file.
+     * Saves the given schedule list data to the specified file, converting one schedule at a time.
      */
-    public static void saveDataToFile(Path file, XmlSerializableScheduleList scheduleList)
-            throws FileNotFoundException {
+    public static void saveDataToFile(Path file, ReadOnlyScheduleList scheduleList) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, scheduleList);
+            XmlUtil.saveElementsToFile(file, XmlSerializableScheduleList.ROOT_ELEMENT,
+                    XmlSerializableScheduleList.SCHEDULE_ELEMENT, XmlAdaptedSchedule.class,
+                    scheduleList.getScheduleList().stream().map(XmlAdaptedSchedule::new).iterator());
         } catch (JAXBException e) {
             throw new AssertionError("Unexpected exception " + e.getMessage(), e);
         }
     }
 
     /**
-     * Returns schedule list in the file or an empty schedule list
+     * Returns the schedule list in the file, converting each schedule as soon as it is read.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
      */
-    public static XmlSerializableScheduleList loadDataFromSaveScheduleListFile(Path file)
-            throws DataConversionException, FileNotFoundException {
+    public static ScheduleList loadDataFromSaveScheduleListFile(Path file)
+            throws DataConversionException, FileNotFoundException, IllegalValueException {
+        ScheduleList scheduleList = new ScheduleList();
+        ElementHandler<XmlAdaptedSchedule, IllegalValueException> handler =
+            adapted -> XmlSerializableScheduleList.addToScheduleList(scheduleList, adapted);
         try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableScheduleList.class);
+            XmlUtil.readElementsFromFile(file, XmlSerializableScheduleList.class, handler);
         } catch (JAXBException e) {
             throw new DataConversionException(e);
         }
+        return scheduleList;
     }
 
 }
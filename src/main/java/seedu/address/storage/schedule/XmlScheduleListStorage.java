@@ -51,9 +51,8 @@ public class XmlScheduleListStorage implements ScheduleListStorage {
             return Optional.empty();
         }
 
-        XmlSerializableScheduleList xmlScheduleList = XmlScheduleFileStorage.loadDataFromSaveScheduleListFile(filePath);
         try {
-            return Optional.of(xmlScheduleList.toModelType());
+            return Optional.of(XmlScheduleFileStorage.loadDataFromSaveScheduleListFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +73,7 @@ public class XmlScheduleListStorage implements ScheduleListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlScheduleFileStorage.saveDataToFile(filePath, new XmlSerializableScheduleList(scheduleList));
+        XmlScheduleFileStorage.saveDataToFile(filePath, scheduleList);
     }
 
 }
@@ -8,6 +8,7 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil.ElementContainer;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleList;
@@ -16,12 +17,14 @@ import seedu.address.model.schedule.ScheduleList;
 /**
  * An Immutable ScheduleList that is serializable to XML format
  */
-@XmlRootElement(name = "schedulelist")
-public class XmlSerializableScheduleList {
+@XmlRootElement(name = XmlSerializableScheduleList.ROOT_ELEMENT)
+public class XmlSerializableScheduleList implements ElementContainer<XmlAdaptedSchedule> {
 
     public static final String MESSAGE_DUPLICATE_SCHEDULE = "Schedules list contains duplicate schedule(s).";
+    public static final String ROOT_ELEMENT = "schedulelist";
+    public static final String SCHEDULE_ELEMENT = "schedules";
 
-    @XmlElement
+    @XmlElement(name = SCHEDULE_ELEMENT)
     private List<XmlAdaptedSchedule> schedules;
 
     /**
@@ -49,15 +52,31 @@ public class XmlSerializableScheduleList {
     public ScheduleList toModelType() throws IllegalValueException {
         ScheduleList scheduleList = new ScheduleList();
         for (XmlAdaptedSchedule p : schedules) {
-            Schedule schedule = p.toModelType();
-            if (scheduleList.hasSchedule(schedule)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
-            }
-            scheduleList.addSchedule(schedule);
+            addToScheduleList(scheduleList, p);
         }
         return scheduleList;
     }
 
+    /**
+     * Converts {@code adaptedSchedule} and adds it to {@code scheduleList}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code adaptedSchedule}, or
+     * {@code scheduleList} already contains it.
+     */
+    static void addToScheduleList(ScheduleList scheduleList, XmlAdaptedSchedule adaptedSchedule)
+            throws IllegalValueException {
+        Schedule schedule = adaptedSchedule.toModelType();
+        if (scheduleList.hasSchedule(schedule)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
+        }
+        scheduleList.addSchedule(schedule);
+    }
+
+    @Override
+    public void readElementsInto(List<XmlAdaptedSchedule> elements) {
+        schedules = elements;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -31,6 +31,7 @@ public class CommandBox extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    private boolean isCommandRunning;
 
     @FXML
     private TextField commandTextField;
@@ -103,25 +104,45 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command is executed off the JavaFX Application Thread, and the command box is read-only until it is done.
+     * Pressing Enter again while the command runs does nothing, as a read-only text field still fires its action.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
+        if (isCommandRunning) {
+            return;
+        }
+        isCommandRunning = true;
+        String commandText = commandTextField.getText();
+        commandTextField.setEditable(false);
+        logic.executeAsync(commandText).whenComplete((commandResult, error) ->
+                Platform.runLater(() -> handleCommandCompleted(commandText, commandResult, error)));
+    }
+
+    /**
+     * Shows the result of executing {@code commandText}, which is {@code commandResult} if the command succeeded or
+     * {@code error} if it failed.
+     */
+    private void handleCommandCompleted(String commandText, CommandResult commandResult, Throwable error) {
+        isCommandRunning = false;
+        commandTextField.setEditable(true);
+        initHistory();
+        if (error == null) {
             historySnapshot.next();
             // process result of the command
             commandTextField.setText("");
             logger.info("Result: " + commandResult.feedbackToUser);
             raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+            return;
+        }
 
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+        if (!(error instanceof CommandException || error instanceof ParseException)) {
+            throw new IllegalStateException("Unexpected error while executing: " + commandText, error);
         }
+        // handle command failure
+        setStyleToIndicateCommandFailure();
+        logger.info("Invalid command: " + commandText);
+        raise(new NewResultAvailableEvent(error.getMessage()));
     }
 
     /**
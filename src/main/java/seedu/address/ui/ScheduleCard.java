@@ -46,7 +46,7 @@ public class ScheduleCard extends UiPart<Region> {
         typeLabel.setText("Type :");
         type.setText(schedule.getType().value);
         dateOfScheduleLabel.setText("Date: ");
-        dateOfSchedule.setText(schedule.getScheduleDate().value);
+        dateOfSchedule.setText(schedule.getScheduleDate().toString());
     }
 
     @Override
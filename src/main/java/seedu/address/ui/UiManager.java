@@ -12,6 +12,8 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.util.StringUtil;
@@ -38,7 +40,7 @@ public class UiManager extends ComponentManager implements Ui {
     private MainWindow mainWindow;
 
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
+        super(EventsCenter.getInstance(), DispatchPolicy.FX_THREAD);
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
@@ -8,6 +8,7 @@ import java.net.URL;
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
 import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
 import seedu.address.commons.events.BaseEvent;
 
 /**
@@ -69,11 +70,11 @@ public abstract class UiPart<T> {
     }
 
     /**
-     * Registers the object as an event handler at the {@link EventsCenter}
+     * Registers the object as an event handler at the {@link EventsCenter}, to be run on the JavaFX Application Thread
      * @param handler usually {@code this}
      */
     protected void registerAsAnEventHandler(Object handler) {
-        EventsCenter.getInstance().registerHandler(handler);
+        EventsCenter.getInstance().registerHandler(handler, DispatchPolicy.FX_THREAD);
     }
 
     /**
@@ -23,9 +23,17 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
     }
 
     /**
-     * Enters the given command in the Command Box and presses enter.
+     * Enters the given command in the Command Box, presses enter and waits for the command to be executed.
      */
     public void run(String command) {
+        enter(command);
+        guiRobot.waitForEvent(() -> getRootNode().isEditable());
+    }
+
+    /**
+     * Enters the given command in the Command Box and presses enter, without waiting for the command to be executed.
+     */
+    public void enter(String command) {
         click();
         guiRobot.interact(() -> getRootNode().setText(command));
         guiRobot.pauseForHuman();
@@ -48,7 +48,7 @@ public class ScheduleCardHandle extends NodeHandle<Node> {
      */
     public boolean equals(Schedule schedule) {
         return getEmployeeId().equals(schedule.getEmployeeId().value)
-                && getDate().equals(schedule.getScheduleDate().value)
+                && getDate().equals(schedule.getScheduleDate().toString())
                 && getType().equals(schedule.getType().value);
     }
 
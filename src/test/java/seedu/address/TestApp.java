@@ -72,6 +72,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public AddressBook readStorageAddressBook() {
+        storage.flush();
         try {
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
@@ -89,9 +90,10 @@ public class TestApp extends MainApp {
     }
 
     /**
-     * Returns a defensive copy of the model.
+     * Returns a defensive copy of the model, once the lists loaded after the main window are in it.
      */
     public Model getModel() {
+        remainingListsLoaded.join();
         Model copy = new ModelManager((model.getAddressBook()), (model.getExpensesList()), (model.getScheduleList()), (
                 model.getRecruitmentList()), new UserPrefs());
         ModelHelper.setFilteredList(copy, model.getFilteredPersonList());
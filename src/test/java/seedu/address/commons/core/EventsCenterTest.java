@@ -0,0 +1,201 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter.DispatchPolicy;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.events.ui.ShowHelpRequestEvent;
+
+public class EventsCenterTest {
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_synchronousHandler_handledBeforePostReturns() {
+        ThreadRecorder handler = new ThreadRecorder();
+        EventsCenter.getInstance().registerHandler(handler);
+
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("a"));
+        assertEquals(Collections.singletonList(Thread.currentThread()), handler.threads);
+    }
+
+    @Test
+    public void post_dedicatedThreadHandler_handledInOrderOnAnotherThread() {
+        ThreadRecorder handler = new ThreadRecorder();
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(handler, DispatchPolicy.DEDICATED_THREAD);
+
+        for (int i = 0; i < 100; i++) {
+            eventsCenter.post(new NewResultAvailableEvent(String.valueOf(i)));
+        }
+        eventsCenter.awaitDedicatedHandlers();
+
+        assertEquals(100, handler.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), handler.messages.get(i));
+            assertNotSame(Thread.currentThread(), handler.threads.get(i));
+            assertSame(handler.threads.get(0), handler.threads.get(i));
+        }
+
+        EventDispatcher dispatcher = eventsCenter.getDispatchers().get(1);
+        assertEquals(100, dispatcher.getHandledCount());
+        assertEquals(0, dispatcher.getQueueDepth());
+    }
+
+    @Test
+    public void dispatch_queueFull_blocksPosterUntilRoom() throws Exception {
+        CountDownLatch handlerStarted = new CountDownLatch(1);
+        CountDownLatch handlerReleased = new CountDownLatch(1);
+        EventDispatcher dispatcher = EventDispatcher.onDedicatedThread("test", 1);
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void handle(NewResultAvailableEvent event) throws InterruptedException {
+                handlerStarted.countDown();
+                handlerReleased.await();
+            }
+        });
+
+        dispatcher.dispatch(new NewResultAvailableEvent("handled"));
+        handlerStarted.await();
+        dispatcher.dispatch(new NewResultAvailableEvent("queued"));
+
+        Thread poster = new Thread(() -> dispatcher.dispatch(new NewResultAvailableEvent("blocked")));
+        poster.start();
+        poster.join(200);
+        assertTrue(poster.isAlive());
+        assertEquals(2, dispatcher.getQueueDepth());
+
+        handlerReleased.countDown();
+        poster.join(TimeUnit.SECONDS.toMillis(10));
+        dispatcher.awaitDelivery();
+        assertEquals(3, dispatcher.getHandledCount());
+    }
+
+    @Test
+    public void post_noSubscriberForEvent_notQueuedBehindBusyDedicatedThread() throws Exception {
+        CountDownLatch handlerStarted = new CountDownLatch(1);
+        CountDownLatch handlerReleased = new CountDownLatch(1);
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(new Object() {
+            @Subscribe
+            public void handle(NewResultAvailableEvent event) throws InterruptedException {
+                handlerStarted.countDown();
+                handlerReleased.await();
+            }
+        }, DispatchPolicy.DEDICATED_THREAD);
+        EventDispatcher dispatcher = eventsCenter.getDispatchers().get(1);
+
+        // fill the queue of the busy subscriber
+        eventsCenter.post(new NewResultAvailableEvent("handled"));
+        handlerStarted.await();
+        for (int i = 0; i < EventsCenter.DEDICATED_QUEUE_CAPACITY; i++) {
+            eventsCenter.post(new NewResultAvailableEvent("queued"));
+        }
+
+        // an event the busy subscriber does not handle is posted without waiting for it
+        Thread poster = new Thread(() -> eventsCenter.post(new ShowHelpRequestEvent()));
+        poster.start();
+        poster.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(poster.isAlive());
+        assertEquals(EventsCenter.DEDICATED_QUEUE_CAPACITY, dispatcher.getQueueDepth());
+
+        handlerReleased.countDown();
+        eventsCenter.awaitDedicatedHandlers();
+        assertEquals(EventsCenter.DEDICATED_QUEUE_CAPACITY + 1, dispatcher.getHandledCount());
+    }
+
+    @Test(timeout = 10000)
+    public void dispatch_queueFullPostedByOwnSubscriber_queuedWithoutBlocking() {
+        EventDispatcher dispatcher = EventDispatcher.onDedicatedThread("test", 1);
+        List<String> messages = new ArrayList<>();
+        dispatcher.register(new Object() {
+            @Subscribe
+            public void handle(NewResultAvailableEvent event) {
+                messages.add(event.message);
+                if (event.message.equals("first")) {
+                    // would wait for this thread to make room if the subscriber were an ordinary poster
+                    dispatcher.dispatch(new NewResultAvailableEvent("second"));
+                    dispatcher.dispatch(new NewResultAvailableEvent("third"));
+                }
+            }
+        });
+
+        dispatcher.dispatch(new NewResultAvailableEvent("first"));
+        dispatcher.awaitDelivery();
+        dispatcher.awaitDelivery(); // the events posted by the subscriber were queued after the first wait
+        assertEquals(Arrays.asList("first", "second", "third"), messages);
+    }
+
+    @Test
+    public void unregisterHandler_dedicatedThreadHandler_postedEventsHandledThenThreadStops() throws Exception {
+        ThreadRecorder handler = new ThreadRecorder();
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(handler, DispatchPolicy.DEDICATED_THREAD);
+        eventsCenter.post(new NewResultAvailableEvent("a"));
+        eventsCenter.post(new NewResultAvailableEvent("b"));
+
+        eventsCenter.unregisterHandler(handler);
+        eventsCenter.post(new NewResultAvailableEvent("c"));
+        assertEquals(1, eventsCenter.getDispatchers().size());
+
+        Thread dispatchThread = getHandlerThread(handler);
+        dispatchThread.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(dispatchThread.isAlive());
+        assertEquals(Arrays.asList("a", "b"), handler.messages);
+    }
+
+    @Test
+    public void unregisterHandler_synchronousHandler_noLongerHandlesEvents() {
+        ThreadRecorder handler = new ThreadRecorder();
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.post(new NewResultAvailableEvent("a"));
+
+        eventsCenter.unregisterHandler(handler);
+        eventsCenter.post(new NewResultAvailableEvent("b"));
+        assertEquals(Collections.singletonList("a"), handler.messages);
+    }
+
+    /**
+     * Returns the thread {@code handler} handled its first event on, waiting for it to handle one.
+     */
+    private static Thread getHandlerThread(ThreadRecorder handler) throws InterruptedException {
+        handler.firstEventHandled.await(10, TimeUnit.SECONDS);
+        return handler.threads.get(0);
+    }
+
+    /**
+     * Records the messages of the events it handles and the threads it handles them on.
+     */
+    private static class ThreadRecorder {
+        private final List<String> messages = new ArrayList<>();
+        private final List<Thread> threads = new ArrayList<>();
+        private final CountDownLatch firstEventHandled = new CountDownLatch(1);
+
+        @Subscribe
+        public void handle(NewResultAvailableEvent event) {
+            messages.add(event.message);
+            threads.add(Thread.currentThread());
+            firstEventHandled.countDown();
+        }
+    }
+}
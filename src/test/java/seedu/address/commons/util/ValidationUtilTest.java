@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void compile_matchesWholeString() {
+        Predicate<String> validator = ValidationUtil.compile("[a-z]+");
+        assertTrue(validator.test("abc"));
+        assertFalse(validator.test("abc1")); // only part matches
+        assertFalse(validator.test(""));
+        Assert.assertThrows(NullPointerException.class, () -> validator.test(null));
+    }
+
+    @Test
+    public void isDigits() {
+        Assert.assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 1, 1));
+
+        assertTrue(ValidationUtil.isDigits("000123", 6, 6));
+        assertTrue(ValidationUtil.isDigits("123", 3, Integer.MAX_VALUE));
+
+        assertFalse(ValidationUtil.isDigits("12345", 6, 6)); // too short
+        assertFalse(ValidationUtil.isDigits("1234567", 6, 6)); // too long
+        assertFalse(ValidationUtil.isDigits("12a456", 6, 6)); // not a digit
+        assertFalse(ValidationUtil.isDigits("١٢٣", 3, 3)); // digits outside 0 to 9
+    }
+
+    @Test
+    public void isLettersOrSpaces() {
+        assertTrue(ValidationUtil.isLettersOrSpaces("Human Resource", 2, 30));
+        assertTrue(ValidationUtil.isLettersOrSpaces("  ", 2, 30));
+
+        assertFalse(ValidationUtil.isLettersOrSpaces("a", 2, 30)); // too short
+        assertFalse(ValidationUtil.isLettersOrSpaces("IT2", 2, 30)); // digit
+        assertFalse(ValidationUtil.isLettersOrSpaces("Zoë", 2, 30)); // letter outside A to Z
+    }
+
+    @Test
+    public void isAmount() {
+        assertTrue(ValidationUtil.isAmount("0", 6));
+        assertTrue(ValidationUtil.isAmount("-999999.99", 6));
+        assertTrue(ValidationUtil.isAmount("10.5", 6));
+        assertTrue(ValidationUtil.isAmount("%-10.5", 1, 6)); // from an index
+
+        assertFalse(ValidationUtil.isAmount("", 6));
+        assertFalse(ValidationUtil.isAmount("-", 6));
+        assertFalse(ValidationUtil.isAmount("1000000", 6)); // too many whole digits
+        assertFalse(ValidationUtil.isAmount(".5", 6)); // no whole digits
+        assertFalse(ValidationUtil.isAmount("5.", 6)); // no decimal places
+        assertFalse(ValidationUtil.isAmount("5.123", 6)); // 3 decimal places
+        assertFalse(ValidationUtil.isAmount("+5", 6)); // plus sign
+        assertFalse(ValidationUtil.isAmount("5.5.5", 6));
+        assertFalse(ValidationUtil.isAmount("%5", 6));
+    }
+}
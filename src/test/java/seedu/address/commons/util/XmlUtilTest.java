@@ -1,12 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.FileNotFoundException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -15,6 +24,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.storage.addressbook.XmlAdaptedPerson;
 import seedu.address.storage.addressbook.XmlAdaptedTag;
@@ -147,6 +157,85 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void readElementsFromFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.readElementsFromFile(MISSING_FILE, XmlSerializableAddressBook.class, unused -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_emptyFile_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(EMPTY_FILE, XmlSerializableAddressBook.class, unused -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_wrongRootElement_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(VALID_PERSON_FILE, XmlSerializableAddressBook.class, unused -> { });
+    }
+
+    @Test
+    public void readElementsFromFile_handlerFails_handlerExceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlUtil.readElementsFromFile(VALID_FILE, XmlSerializableAddressBook.class, person -> {
+            throw new IllegalValueException(INVALID_PHONE);
+        });
+    }
+
+    @Test
+    public void readElementsFromFile_validFile_sameAsWholeFile() throws Exception {
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        XmlUtil.readElementsFromFile(VALID_FILE, XmlSerializableAddressBook.class, persons::add);
+        assertEquals(9, persons.size());
+
+        AddressBook addressBook = new AddressBook();
+        for (XmlAdaptedPerson person : persons) {
+            addressBook.addPerson(person.toModelType());
+        }
+        assertEquals(XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class).toModelType(), addressBook);
+    }
+
+    @Test
+    public void saveElementsToFile_validFile_readableByBothReaders() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        AddressBook addressBook = getTypicalAddressBook();
+        XmlUtil.saveElementsToFile(TEMP_FILE, XmlSerializableAddressBook.ROOT_ELEMENT,
+                XmlSerializableAddressBook.PERSON_ELEMENT, XmlAdaptedPerson.class,
+                addressBook.getPersonList().stream().map(XmlAdaptedPerson::new).iterator());
+
+        XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class);
+        assertEquals(new XmlSerializableAddressBook(addressBook), dataFromFile);
+
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        XmlUtil.readElementsFromFile(TEMP_FILE, XmlSerializableAddressBook.class, persons::add);
+        assertEquals(addressBook.getPersonList().size(), persons.size());
+    }
+
+    @Test
+    public void saveElementsToFile_failsPartWay_fileUnchanged() throws Exception {
+        FileUtil.createFile(TEMP_FILE);
+        XmlSerializableAddressBook dataToWrite = new XmlSerializableAddressBook(getTypicalAddressBook());
+        XmlUtil.saveDataToFile(TEMP_FILE, dataToWrite);
+        byte[] savedData = Files.readAllBytes(TEMP_FILE);
+
+        Iterator<XmlAdaptedPerson> failingPersons = Stream.of(new XmlAdaptedPerson(ALICE), (XmlAdaptedPerson) null)
+                .map(person -> {
+                    if (person == null) {
+                        throw new IllegalStateException("Conversion failed");
+                    }
+                    return person;
+                }).iterator();
+        try {
+            XmlUtil.saveElementsToFile(TEMP_FILE, XmlSerializableAddressBook.ROOT_ELEMENT,
+                    XmlSerializableAddressBook.PERSON_ELEMENT, XmlAdaptedPerson.class, failingPersons);
+            fail();
+        } catch (IllegalStateException ise) {
+            assertArrayEquals(savedData, Files.readAllBytes(TEMP_FILE));
+            assertFalse(Files.exists(TEMP_FILE.resolveSibling(TEMP_FILE.getFileName() + ".tmp")));
+        }
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to {@code XmlAdaptedPerson}
      * objects.
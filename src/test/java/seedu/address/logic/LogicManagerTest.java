@@ -1,9 +1,23 @@
 package seedu.address.logic;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.GREETING_MESSAGE_NONEWLINE;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRecruitments.getTypicalRecruitmentList;
+import static seedu.address.testutil.expenses.TypicalExpenses.getTypicalExpensesList;
+import static seedu.address.testutil.schedule.TypicalSchedules.getTypicalScheduleList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -18,6 +32,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.addressbook.DayHourGreeting;
+import seedu.address.model.person.Person;
 
 
 public class LogicManagerTest {
@@ -50,6 +65,59 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void executeAsync_validCommand_completesWithResult() throws Exception {
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.executeAsync(ListCommand.COMMAND_WORD).get().feedbackToUser);
+    }
+
+    @Test
+    public void executeAsync_commandExecutionError_completesExceptionally() throws Exception {
+        thrown.expect(ExecutionException.class);
+        thrown.expectCause(instanceOf(CommandException.class));
+        logic.executeAsync("delete 9").get();
+    }
+
+    @Test
+    public void executeAsync_commandThrowsError_completesExceptionally() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw new AssertionError("The person list cannot be filtered.");
+            }
+        };
+        thrown.expect(ExecutionException.class);
+        thrown.expectCause(instanceOf(AssertionError.class));
+        new LogicManager(failingModel).executeAsync(ListCommand.COMMAND_WORD).get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void executeAsync_modelChanged_listsUpdatedThroughUiExecutor() throws Exception {
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), getTypicalExpensesList(),
+                getTypicalScheduleList(), getTypicalRecruitmentList(), new UserPrefs());
+        List<Runnable> uiTasks = Collections.synchronizedList(new ArrayList<>());
+        Logic uiLogic = new LogicManager(typicalModel, uiTasks::add);
+        int personCount = uiLogic.getFilteredPersonList().size();
+
+        uiLogic.executeAsync(HistoryCommand.COMMAND_WORD).get();
+        assertTrue(uiTasks.isEmpty()); // no list changed
+
+        uiLogic.executeAsync("delete 1").get();
+        assertEquals(personCount, uiLogic.getFilteredPersonList().size());
+
+        uiTasks.forEach(Runnable::run);
+        assertEquals(typicalModel.getFilteredPersonList(), uiLogic.getFilteredPersonList());
+        assertEquals(personCount - 1, uiLogic.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void updateModelAsync_loadList_listUpdatedBeforeLaterCommands() throws Exception {
+        logic.updateModelAsync(loadedModel -> loadedModel.loadScheduleList(getTypicalScheduleList()));
+        logic.executeAsync(ListCommand.COMMAND_WORD).get();
+
+        assertEquals(getTypicalScheduleList().getScheduleList(), logic.getFilteredScheduleList());
+        assertFalse(model.canUndoModel());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
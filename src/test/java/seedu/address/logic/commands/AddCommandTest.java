@@ -3,26 +3,39 @@ package seedu.address.logic.commands;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-
 import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.google.common.collect.Range;
+
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.model.Model;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ModelTypes;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryPlan;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.schedule.DateSet;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
+import seedu.address.model.util.Money;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -72,14 +85,6 @@ public class AddCommandTest {
         public boolean canUndoModel() {
             throw new AssertionError("This method should not be called."); }
 
-        @Override
-        public Set<ModelTypes> getNextCommitType() {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public Set<ModelTypes> getLastCommitType() {
-            throw new AssertionError("This method should not be called."); }
-
         @Override
         public void addExpenses(Expenses expenses) {
             throw new AssertionError("This method should not be called."); }
@@ -268,6 +273,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredRecruitmentList(Predicate<Recruitment> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -280,127 +290,155 @@ public class AddCommandTest {
 
         //------------------------------------------------
         @Override
-        public boolean canUndoAddressBook() {
-            throw new AssertionError("This method should "
-                    + "not be called.");
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canUndoExpensesList() {
+        public void commitExpensesList() {
+            throw new AssertionError("This method should not be called."); }
+
+        @Override
+        public void commitRecruitmentPostList() {
             throw new AssertionError("This method should "
                     + "not be called.");
         }
 
         @Override
-        public boolean canUndoRecruitmentList() {
-            throw new AssertionError("This method should "
-                    + "not be called.");
+        public void commitScheduleList() {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canUndoScheduleList() {
-            throw new AssertionError("This method should "
-                    + "not be called.");
+        public void commitMultipleLists(Set<ModelTypes> set) {
+            throw new AssertionError("This method should not be called.");
         }
 
-        //------------------------------------------------
         @Override
-        public boolean canRedoAddressBook() {
+        public void startBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canRedoExpensesList() {
+        public void endBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canRedoRecruitmentList() {
+        public void undoModel() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canRedoScheduleList() {
+        public void redoModel() {
             throw new AssertionError("This method should not be called.");
         }
-        //------------------------------------------------
+
         @Override
-        public void undoAddressBook() {
+        public List<Schedule> getSchedulesOf(EmployeeId employeeId) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void undoExpensesList() {
+        public void removeAllSchedulesOf(EmployeeId employeeId) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void undoRecruitmentList() {
+        public void addSchedules(List<Schedule> schedules) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void undoScheduleList() {
+        public void deleteSchedules(List<Schedule> schedules) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void undoModelList() {
+        public Optional<Expenses> getExpensesOf(EmployeeId employeeId) {
             throw new AssertionError("This method should not be called.");
         }
 
-        //------------------------------------------------
         @Override
-        public void redoAddressBook() {
+        public DateSet getScheduledDates(EmployeeId employeeId, Type type) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void redoExpensesList() {
+        public int getLeaveCount(EmployeeId employeeId, Year year) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void redoRecruitmentList() {
+        public Map<EmployeeId, Integer> getLeaveCounts(Year year) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void redoScheduleList() {
+        public List<Person> findPersonsByName(String keyword) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void redoModelList() {
+        public Map<String, Integer> getDepartmentCounts() {
             throw new AssertionError("This method should not be called.");
         }
 
-        //------------------------------------------------
         @Override
-        public void commitAddressBook() {
+        public Map<String, Integer> getPositionCounts() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void commitExpensesList() {
-            throw new AssertionError("This method should not be called."); }
+        public int getHeadcount(String department, String position) {
+            throw new AssertionError("This method should not be called.");
+        }
 
         @Override
-        public void commitRecruitmentPostList() {
-            throw new AssertionError("This method should "
-                    + "not be called.");
+        public QueryPlan planPersonQuery(PersonQuery query) {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void commitScheduleList() {
+        public List<Person> findPersonsBySalary(Range<Money> range) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void commitMultipleLists(Set<ModelTypes> set) {
+        public List<Person> findPersonsByBonus(Range<Money> range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findHighestPaidPersons(Range<Money> salaryRange, Predicate<String> departmentFilter,
+                                                   Predicate<Person> predicate, int limitPerDepartment) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updatePersons(Map<Person, Person> editedPersons) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadExpensesList(ReadOnlyExpensesList loadedData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadScheduleList(ReadOnlyScheduleList loadedData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadRecruitmentList(ReadOnlyRecruitmentList loadedData) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -12,6 +12,10 @@ import static seedu.address.testutil.schedule.TypicalSchedules.GEORGE_LEAVE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -19,22 +23,32 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.google.common.collect.Range;
+
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ModelSnapshot;
 import seedu.address.model.ModelTypes;
 import seedu.address.model.addressbook.ReadOnlyAddressBook;
 import seedu.address.model.expenses.Expenses;
 import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryPlan;
 import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
 import seedu.address.model.recruitment.Recruitment;
+import seedu.address.model.schedule.DateSet;
 import seedu.address.model.schedule.ReadOnlyScheduleList;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Type;
+import seedu.address.model.schedule.Year;
+import seedu.address.model.util.Money;
 import seedu.address.testutil.Assert;
 import seedu.address.testutil.schedule.ScheduleBuilder;
 
@@ -189,14 +203,6 @@ public class AddScheduleCommandTest {
         public boolean canUndoModel() {
             throw new AssertionError("This method should not be called."); }
 
-        @Override
-        public Set<ModelTypes> getNextCommitType() {
-            throw new AssertionError("This method should not be called."); }
-
-        @Override
-        public Set<ModelTypes> getLastCommitType() {
-            throw new AssertionError("This method should not be called."); }
-
         @Override
         public void addExpenses(Expenses expenses) {
             throw new AssertionError("This method should not be called."); }
@@ -368,6 +374,11 @@ public class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredRecruitmentList(Predicate<Recruitment> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -380,123 +391,154 @@ public class AddScheduleCommandTest {
 
         //------------------------------------------------
         @Override
-        public boolean canUndoAddressBook() {
+        public void commitAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canUndoExpensesList() {
+        public void commitExpensesList() {
+            throw new AssertionError("This method should not be called."); }
+
+        @Override
+        public void commitRecruitmentPostList() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canUndoRecruitmentList() {
+        public void commitScheduleList() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canUndoScheduleList() {
+        public void commitMultipleLists(Set<ModelTypes> set) {
             throw new AssertionError("This method should not be called.");
         }
 
-        //------------------------------------------------
         @Override
-        public boolean canRedoAddressBook() {
+        public void startBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canRedoExpensesList() {
+        public void endBatch() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canRedoRecruitmentList() {
+        public void undoModel() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean canRedoScheduleList() {
+        public void redoModel() {
             throw new AssertionError("This method should not be called.");
         }
 
-        //------------------------------------------------
         @Override
-        public void undoAddressBook() {
+        public List<Schedule> getSchedulesOf(EmployeeId employeeId) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void undoExpensesList() {
+        public void removeAllSchedulesOf(EmployeeId employeeId) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void undoRecruitmentList() {
+        public void addSchedules(List<Schedule> schedules) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void undoScheduleList() {
+        public void deleteSchedules(List<Schedule> schedules) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void undoModelList() {
+        public Optional<Expenses> getExpensesOf(EmployeeId employeeId) {
             throw new AssertionError("This method should not be called.");
         }
 
-        //------------------------------------------------
         @Override
-        public void redoAddressBook() {
+        public DateSet getScheduledDates(EmployeeId employeeId, Type type) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void redoExpensesList() {
+        public int getLeaveCount(EmployeeId employeeId, Year year) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void redoRecruitmentList() {
+        public Map<EmployeeId, Integer> getLeaveCounts(Year year) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void redoScheduleList() {
+        public List<Person> findPersonsByName(String keyword) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void redoModelList() {
+        public Map<String, Integer> getDepartmentCounts() {
             throw new AssertionError("This method should not be called.");
         }
 
-        //------------------------------------------------
         @Override
-        public void commitAddressBook() {
+        public Map<String, Integer> getPositionCounts() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void commitExpensesList() {
-            throw new AssertionError("This method should not be called."); }
+        public int getHeadcount(String department, String position) {
+            throw new AssertionError("This method should not be called.");
+        }
 
         @Override
-        public void commitRecruitmentPostList() {
+        public QueryPlan planPersonQuery(PersonQuery query) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void commitScheduleList() {
+        public List<Person> findPersonsBySalary(Range<Money> range) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void commitMultipleLists(Set<ModelTypes> set) {
+        public List<Person> findPersonsByBonus(Range<Money> range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findHighestPaidPersons(Range<Money> salaryRange, Predicate<String> departmentFilter,
+                                                   Predicate<Person> predicate, int limitPerDepartment) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updatePersons(Map<Person, Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadExpensesList(ReadOnlyExpensesList loadedData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadScheduleList(ReadOnlyScheduleList loadedData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadRecruitmentList(ReadOnlyRecruitmentList loadedData) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -36,7 +36,7 @@ public class ClearCommandTest {
         Model expectedModel = new ModelManager();
         thrown.expect(VersionedModelList.NoRedoableStateException.class);
         thrown.expectMessage(MESSAGE_NO_REDOABLE_STATE_EXCEPTION);
-        expectedModel.redoModelList();
+        expectedModel.redoModel();
     }
 
     @Test
@@ -45,7 +45,7 @@ public class ClearCommandTest {
         // undo -> no more states to undo
         thrown.expect(VersionedModelList.NoUndoableStateException.class);
         thrown.expectMessage(MESSAGE_NO_UNDOABLE_STATE_EXCEPTION);
-        expectedModel.undoModelList();
+        expectedModel.undoModel();
     }
 
 
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -7,8 +8,6 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RECRUITMENT;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
@@ -30,7 +29,11 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ModelTypes;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ScheduleList;
 
 
 /**
@@ -134,32 +137,21 @@ public class DeleteCommandTest {
     public void executeUndoRedo_validIndexUnfilteredList_success() throws Exception {
         Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
-        Model expectedModel = new ModelManager(model.getAddressBook(), model.getExpensesList(), model.getScheduleList(),
-                model.getRecruitmentList(), new UserPrefs());
-        Set<ModelTypes> set = new HashSet<>();
-        set.add(ModelTypes.ADDRESS_BOOK);
-        expectedModel.deletePerson(personToDelete);
-
-        if (deleteCommand.deleteAllSchedulesFromPerson(expectedModel, personToDelete)) {
-            set.add(ModelTypes.SCHEDULES_LIST);
-        }
-        if (deleteCommand.deleteAllExpensesFromPerson(expectedModel, personToDelete)) {
-            set.add(ModelTypes.EXPENSES_LIST);
-        }
-        expectedModel.commitMultipleLists(set);
+        Model modelBeforeDeletion = new ModelManager(model.getAddressBook(), model.getExpensesList(),
+                model.getScheduleList(), model.getRecruitmentList(), new UserPrefs());
+        Model modelAfterDeletion = getModelWithoutPerson(personToDelete);
 
-        // delete -> first person deleted
+        // delete -> first person deleted together with the person's schedules and expenses
         deleteCommand.execute(model, commandHistory);
+        assertEquals(modelAfterDeletion, model);
 
-        // undo -> reverts addressbook back to previous state and filtered person list to show all persons
-        UndoCommand undoCommand = new UndoCommand();
-        undoCommand.execute(expectedModel, commandHistory);
-        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        // undo -> reverts all the lists back to previous state and filtered person list to show all persons
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS,
+                modelBeforeDeletion);
 
         // redo -> same first person deleted again
-        RedoCommand redoCommand = new RedoCommand();
-        redoCommand.execute(expectedModel, commandHistory);
-        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS,
+                modelAfterDeletion);
     }
 
     @Test
@@ -184,117 +176,24 @@ public class DeleteCommandTest {
     @Test
     public void executeUndoRedo_validIndexFilteredList_samePersonDeleted() throws Exception {
         DeleteCommand deleteCommand = new DeleteCommand(INDEX_FIRST_PERSON);
-        Model expectedModel = new ModelManager(model.getAddressBook(), model.getExpensesList(), model.getScheduleList(),
-                model.getRecruitmentList(), new UserPrefs());
+        Model modelBeforeDeletion = new ModelManager(model.getAddressBook(), model.getExpensesList(),
+                model.getScheduleList(), model.getRecruitmentList(), new UserPrefs());
 
         showPersonAtIndex(model, INDEX_SECOND_PERSON);
         Person personToDelete = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-
-        Set<ModelTypes> set = new HashSet<>();
-        set.add(ModelTypes.ADDRESS_BOOK);
-        expectedModel.deletePerson(personToDelete);
-
-        if (deleteCommand.deleteAllSchedulesFromPerson(expectedModel, personToDelete)) {
-            set.add(ModelTypes.SCHEDULES_LIST);
-        }
-        if (deleteCommand.deleteAllExpensesFromPerson(expectedModel, personToDelete)) {
-            set.add(ModelTypes.EXPENSES_LIST);
-        }
-        expectedModel.commitMultipleLists(set);
-        expectedModel.updateFilteredScheduleList(Model.PREDICATE_SHOW_ALL_SCHEDULES);
-        expectedModel.updateFilteredExpensesList(Model.PREDICATE_SHOW_ALL_EXPENSES);
+        Model modelAfterDeletion = getModelWithoutPerson(personToDelete);
 
         // delete -> deletes second person in unfiltered person list / first person in filtered person list
         deleteCommand.execute(model, commandHistory);
 
-        // undo -> reverts addressbook back to previous state and filtered person list to show all persons
-        //expectedModel.undoAddressBook();
-        Set<ModelTypes> myModelUndoSet = expectedModel.getLastCommitType();
-        for (ModelTypes myModel : myModelUndoSet) {
-
-            switch(myModel) {
-            case SCHEDULES_LIST:
-                if (expectedModel.canUndoScheduleList()) {
-                    expectedModel.undoScheduleList();
-                    expectedModel.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
-                }
-                break;
-
-            case EXPENSES_LIST:
-                if (expectedModel.canUndoExpensesList()) {
-                    expectedModel.undoExpensesList();
-                    expectedModel.updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
-                }
-                break;
-
-            case RECRUITMENT_LIST:
-                if (expectedModel.canUndoRecruitmentList()) {
-                    expectedModel.undoRecruitmentList();
-                    expectedModel.updateFilteredRecruitmentList(PREDICATE_SHOW_ALL_RECRUITMENT);
-                }
-                break;
-
-            case ADDRESS_BOOK:
-                if (expectedModel.canUndoAddressBook()) {
-                    expectedModel.undoAddressBook();
-                    expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-                }
-                break;
-
-            default:
-                break;
-            }
-        }
-        expectedModel.undoModelList();
-
-        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        // undo -> reverts all the lists back to previous state and filtered person list to show all persons
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS,
+                modelBeforeDeletion);
 
         assertNotEquals(personToDelete, model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
         // redo -> deletes same second person in unfiltered person list
-        expectedModel.redoAddressBook();
-        //expectedModel.redoScheduleList();
-
-        Set<ModelTypes> myModelRedoSet = expectedModel.getNextCommitType();
-
-        for (ModelTypes myModel : myModelRedoSet) {
-
-            switch (myModel) {
-            case ADDRESS_BOOK:
-                if (expectedModel.canRedoAddressBook()) {
-                    expectedModel.redoAddressBook();
-                    expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-                }
-                break;
-
-            case EXPENSES_LIST:
-                if (expectedModel.canRedoExpensesList()) {
-                    expectedModel.redoExpensesList();
-                    expectedModel.updateFilteredExpensesList(PREDICATE_SHOW_ALL_EXPENSES);
-                }
-
-                break;
-
-            case RECRUITMENT_LIST:
-                if (expectedModel.canRedoRecruitmentList()) {
-                    expectedModel.redoRecruitmentList();
-                    expectedModel.updateFilteredRecruitmentList(PREDICATE_SHOW_ALL_RECRUITMENT);
-                }
-
-                break;
-
-            case SCHEDULES_LIST:
-                if (expectedModel.canRedoScheduleList()) {
-                    expectedModel.redoScheduleList();
-                    expectedModel.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
-                }
-                break;
-
-            default:
-                break;
-            }
-        }
-        expectedModel.redoModelList();
-        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS,
+                modelAfterDeletion);
     }
 
     @Test
@@ -319,6 +218,22 @@ public class DeleteCommandTest {
         assertFalse(deleteFirstCommand.equals(deleteSecondCommand));
     }
 
+    /**
+     * Returns a model of the typical lists without {@code personToDelete} and the person's schedules and expenses.
+     * The lists are changed directly, so the expected state does not depend on the undo history of a model.
+     */
+    private Model getModelWithoutPerson(Person personToDelete) {
+        EmployeeId employeeId = personToDelete.getEmployeeId();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.removePerson(personToDelete);
+        ScheduleList scheduleList = getTypicalScheduleList();
+        scheduleList.removeAllSchedulesOf(employeeId);
+        ExpensesList expensesList = getTypicalExpensesList();
+        expensesList.getExpensesOf(employeeId).ifPresent(expensesList::removeExpenses);
+        return new ModelManager(addressBook, expensesList, scheduleList, getTypicalRecruitmentList(),
+                new UserPrefs());
+    }
+
     /**
      * Updates {@code model}'s filtered list to show no one.
      */
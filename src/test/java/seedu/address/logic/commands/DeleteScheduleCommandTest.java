@@ -123,8 +123,7 @@ public class DeleteScheduleCommandTest {
         // undo -> no more states to undo
         thrown.expect(VersionedModelList.NoUndoableStateException.class);
         thrown.expectMessage(MESSAGE_NO_UNDOABLE_STATE_EXCEPTION);
-        expectedModel.getLastCommitType();
-        expectedModel.undoModelList();
+        expectedModel.undoModel();
     }
 
     @Test
@@ -134,8 +133,7 @@ public class DeleteScheduleCommandTest {
         // redo -> no more states to redo
         thrown.expect(VersionedModelList.NoRedoableStateException.class);
         thrown.expectMessage(MESSAGE_NO_REDOABLE_STATE_EXCEPTION);
-        expectedModel.getNextCommitType();
-        expectedModel.redoModelList();
+        expectedModel.redoModel();
     }
 
     @Test
@@ -201,15 +199,13 @@ public class DeleteScheduleCommandTest {
         deleteScheduleCommand.execute(model, commandHistory);
 
         // undo -> reverts schedule list back to previous state and filtered person list to show all schedules
-        expectedModel.undoScheduleList();
-        expectedModel.undoModelList();
+        expectedModel.undoModel();
 
         assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
 
         assertNotEquals(scheduleToDelete, model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
         // redo -> deletes same second schedule in unfiltered person list
-        expectedModel.redoScheduleList();
-        expectedModel.redoModelList();
+        expectedModel.redoModel();
         assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
@@ -22,6 +22,8 @@ import java.util.Collections;
 
 import org.junit.Test;
 
+import com.google.common.collect.Range;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -31,6 +33,7 @@ import seedu.address.model.expenses.EmployeeIdExpensesContainsKeywordsPredicate;
 import seedu.address.model.person.DepartmentContainsKeywordsPredicate;
 import seedu.address.model.person.PositionContainsKeywordsPredicate;
 import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
+import seedu.address.model.util.Money;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
@@ -292,6 +295,42 @@ public class FilterCommandTest {
         assertEquals(Arrays.asList(ALICE, DANIEL, FIONA, GEORGE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_salaryRange_personsInRangeFoundAscendingOrder() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FilterCommand command = new FilterCommand(prepareDepartmentPredicate(" "), preparePositionPredicate(" "),
+                sortAscOrder);
+        command.setSalaryRange(Range.closed(Money.parse("1000"), Money.parse("5000")));
+        expectedModel.updateFilteredPersonList(Arrays.asList(BENSON, DANIEL, ELLE)::contains, sortAscOrder);
+        expectedModel.updateFilteredScheduleList(prepareSchedulePredicate("000002 000004 000005"));
+        expectedModel.updateFilteredExpensesList(prepareExpensesPredicate("000002 000004 000005"));
+        try {
+            assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        } catch (ParseException pe) {
+            pe.printStackTrace();
+        }
+        assertEquals(Arrays.asList(BENSON, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_highestPaidInternPerDepartment_personsFoundAscendingOrder() {
+        // Benson earns more than Carl in Human Resource, Elle is the only intern in IT
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PositionContainsKeywordsPredicate positionPredicate = preparePositionPredicate("Intern");
+        FilterCommand command = new FilterCommand(prepareDepartmentPredicate(" "), positionPredicate, sortAscOrder);
+        command.setIsPositionPrefixPresent(true);
+        command.setLimitPerDepartment(1);
+        expectedModel.updateFilteredPersonList(Arrays.asList(BENSON, ELLE)::contains, sortAscOrder);
+        expectedModel.updateFilteredScheduleList(prepareSchedulePredicate("000002 000005"));
+        expectedModel.updateFilteredExpensesList(prepareExpensesPredicate("000002 000005"));
+        try {
+            assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        } catch (ParseException pe) {
+            pe.printStackTrace();
+        }
+        assertEquals(Arrays.asList(BENSON, ELLE), model.getFilteredPersonList());
+    }
+
     @Test
     public void execute_multipleKeywordsPositionPredicate_multiplePersonsFoundDescendingOrder() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 6);
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.testutil.BenchmarkUtil.createPersons;
+import static seedu.address.testutil.BenchmarkUtil.measure;
+import static seedu.address.testutil.BenchmarkUtil.toLetters;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.ScheduleList;
+
+/**
+ * Compares finding persons by name through {@code FindCommand}, which filters the person list by the persons the
+ * name index returns, with turning those persons back into a {@code NameContainsKeywordsPredicate} of their names,
+ * as the command used to.
+ *
+ * Not run as part of the tests. Run its {@code main} method with the test classpath, optionally passing the number
+ * of persons.
+ *
+ * @see seedu.address.testutil.BenchmarkUtil
+ */
+public class FindCommandBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100000;
+
+    /**
+     * Creates a model of the given number of persons and measures each way of finding a few and all of them.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        AddressBook addressBook = new AddressBook();
+        createPersons(personCount).forEach(addressBook::addPerson);
+        Model model = new ModelManager(addressBook, new ExpensesList(), new ScheduleList(), new RecruitmentList(),
+                new UserPrefs());
+        System.out.println(personCount + " persons");
+
+        // the names are "Person " followed by the number of the person in base 26, least significant letter first
+        String fewKeyword = toLetters(personCount / 2);
+        String allKeyword = "Person";
+        measure("find a few, names predicate", () -> findThroughNames(model, fewKeyword));
+        measure("find a few, found persons", () -> find(model, fewKeyword));
+        measure("find all, names predicate", () -> findThroughNames(model, allKeyword));
+        measure("find all, found persons", () -> find(model, allKeyword));
+    }
+
+    /**
+     * Finds the persons whose name contains {@code keyword} through {@code FindCommand}.
+     */
+    private static void find(Model model, String keyword) {
+        FindCommand command = new FindCommand(keyword);
+        command.setIsInputName(true);
+        command.execute(model, new CommandHistory());
+    }
+
+    /**
+     * Finds the persons whose name contains {@code keyword} as {@code FindCommand} used to.
+     */
+    private static void findThroughNames(Model model, String keyword) {
+        List<String> matchingNames = model.findPersonsByName(keyword).stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.toList());
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(matchingNames));
+        model.getFilteredPersonList().size();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.schedule.TypicalSchedules.FRIDAY_20_JUN_2025;
+import static seedu.address.testutil.schedule.TypicalSchedules.MONDAY_16_JUN_2025;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Year;
+
+public class LeaveReportCommandTest {
+
+    public static final Year YEAR_2025 = new Year("2025");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void constructor_nullYear_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new LeaveReportCommand(null);
+    }
+
+    @Test
+    public void execute_noLeavesFound_throwsCommandException() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new ExpensesList(),
+                new ScheduleList(), new RecruitmentList(), new UserPrefs());
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(LeaveReportCommand.MESSAGE_NO_LEAVES_FOUND);
+        new LeaveReportCommand(YEAR_2025).execute(model, commandHistory);
+    }
+
+    @Test
+    public void execute_leavesFoundInYear_reportSuccessful() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new ExpensesList(),
+                new ScheduleList(), new RecruitmentList(), new UserPrefs());
+        Set<Date> dates = new HashSet<>();
+        dates.add(MONDAY_16_JUN_2025);
+        dates.add(FRIDAY_20_JUN_2025);
+        new AddLeavesCommand(dates).execute(model, commandHistory);
+        model.deleteSchedule(model.getSchedulesOf(BENSON.getEmployeeId()).get(0));
+        model.commitScheduleList();
+
+        String expectedReport = String.format(LeaveReportCommand.MESSAGE_SUCCESS, YEAR_2025)
+                + "\n" + String.format(LeaveReportCommand.MESSAGE_EMPLOYEE_LEAVES, ALICE.getEmployeeId(), 2)
+                + "\n" + String.format(LeaveReportCommand.MESSAGE_EMPLOYEE_LEAVES, BENSON.getEmployeeId(), 1);
+        CommandResult commandResult = new LeaveReportCommand(YEAR_2025).execute(model, commandHistory);
+        assertTrue(commandResult.feedbackToUser.startsWith(expectedReport + "\n"));
+
+        // undo restores the deleted leave in the report
+        model.undoModel();
+        commandResult = new LeaveReportCommand(YEAR_2025).execute(model, commandHistory);
+        assertTrue(commandResult.feedbackToUser.contains(
+                String.format(LeaveReportCommand.MESSAGE_EMPLOYEE_LEAVES, BENSON.getEmployeeId(), 2)));
+    }
+
+    @Test
+    public void equals() {
+        LeaveReportCommand leaveReport2025 = new LeaveReportCommand(YEAR_2025);
+
+        // same values -> returns true
+        assertEquals(leaveReport2025, new LeaveReportCommand(new Year("2025")));
+
+        // different types -> returns false
+        assertFalse(leaveReport2025.equals(1));
+
+        // null -> returns false
+        assertFalse(leaveReport2025.equals(null));
+
+        // different year -> returns false
+        assertFalse(leaveReport2025.equals(new LeaveReportCommand(new Year("2026"))));
+    }
+}
@@ -38,6 +38,7 @@ import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.person.Bonus;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Salary;
+import seedu.address.model.util.Money;
 import seedu.address.testutil.ModAllSalaryDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -286,6 +287,33 @@ public class ModifyAllPayCommandTest {
         }
     }
 
+    @Test
+    public void execute_manyPersons_allModifiedOrNone() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 2000; i++) {
+            addressBook.addPerson(new PersonBuilder().withEmployeeId(String.format("%06d", i))
+                    .withName("Employee " + (char) ('A' + i % 26) + (char) ('A' + i / 26 % 26) + (char) ('A' + i / 676))
+                    .withPhone(String.valueOf(80000000 + i)).withEmail("employee" + i + "@example.com")
+                    .withSalary(String.valueOf(1000 + i)).build());
+        }
+        Model manyPersonsModel = new ModelManager(addressBook, getTypicalExpensesList(), getTypicalScheduleList(),
+                getTypicalRecruitmentList(), new UserPrefs());
+
+        // one person paid too little to lower by 1000 -> no person modified
+        ModSalaryDescriptor descriptor = new ModSalaryDescriptor();
+        descriptor.setSalary(ParserUtil.parseSalary("-1000"));
+        assertCommandFailure(new ModifyAllPayCommand(descriptor), manyPersonsModel, commandHistory,
+                ModifyPayCommand.MESSAGE_NEGATIVE_PAY);
+
+        descriptor.setSalary(ParserUtil.parseSalary("%10"));
+        new ModifyAllPayCommand(descriptor).execute(manyPersonsModel, commandHistory);
+        for (Person person : manyPersonsModel.getAddressBook().getPersonList()) {
+            int originalSalary = 1000 + Integer.parseInt(person.getEmployeeId().value);
+            assertEquals(Money.parse(String.valueOf(originalSalary)).plusPercent(1000),
+                    person.getSalary().getAmount());
+        }
+    }
+
     /**
      * 1. Modify a {@code Person} from a filtered list.
      * 2. Undo the modification.
@@ -310,7 +338,7 @@ public class ModifyAllPayCommandTest {
         modifyAllPayCommand.execute(model, commandHistory);
 
         // undo -> reverts addressbook back to previous state and filtered person list to show all persons
-        expectedModel.undoAddressBook();
+        expectedModel.undoModel();
         try {
             assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
         } catch (AssertionError ae) {
@@ -319,7 +347,7 @@ public class ModifyAllPayCommandTest {
 
         assertNotEquals(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()), personToModify);
         // redo -> modify same second person in unfiltered person list
-        expectedModel.redoAddressBook();
+        expectedModel.redoModel();
         try {
             assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
         } catch (AssertionError ae) {
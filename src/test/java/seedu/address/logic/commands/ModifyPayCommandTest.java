@@ -312,7 +312,7 @@ public class ModifyPayCommandTest {
         modifyPayCommand.execute(model, commandHistory);
 
         // undo -> reverts addressbook back to previous state and filtered person list to show all persons
-        expectedModel.undoAddressBook();
+        expectedModel.undoModel();
         try {
             assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
         } catch (AssertionError ae) {
@@ -321,7 +321,7 @@ public class ModifyPayCommandTest {
 
         assertNotEquals(model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()), personToModify);
         // redo -> modify same second person in unfiltered person list
-        expectedModel.redoAddressBook();
+        expectedModel.redoModel();
         try {
             assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
         } catch (AssertionError ae) {
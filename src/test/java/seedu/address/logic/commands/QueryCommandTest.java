@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRecruitments.getTypicalRecruitmentList;
+import static seedu.address.testutil.expenses.TypicalExpenses.getTypicalExpensesList;
+import static seedu.address.testutil.schedule.TypicalSchedules.getTypicalScheduleList;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryCondition;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.model.person.query.QueryOperator;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalExpensesList(),
+            getTypicalScheduleList(), getTypicalRecruitmentList(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_conditionsAndSort_matchingPersonsSorted() {
+        PersonQuery query = new PersonQuery(Arrays.asList(
+                new QueryCondition(QueryField.DEPARTMENT, QueryOperator.EQUAL, "Finance"),
+                new QueryCondition(QueryField.SALARY, QueryOperator.GREATER, "4000")), QueryField.SALARY, true);
+
+        CommandResult result = new QueryCommand(query, false).execute(model, commandHistory);
+
+        assertEquals(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), result.feedbackToUser);
+        assertEquals(Arrays.asList(GEORGE, DANIEL), model.getFilteredPersonList());
+        assertTrue(model.getFilteredScheduleList().stream().allMatch(schedule ->
+                schedule.getEmployeeId().equals(GEORGE.getEmployeeId())
+                        || schedule.getEmployeeId().equals(DANIEL.getEmployeeId())));
+    }
+
+    @Test
+    public void execute_bornBeforeYear_matchingPersonsSortedByName() {
+        PersonQuery query = new PersonQuery(Arrays.asList(
+                new QueryCondition(QueryField.DOB, QueryOperator.LESS, "1970")), null, false);
+
+        new QueryCommand(query, false).execute(model, commandHistory);
+
+        assertEquals(Arrays.asList(FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_planShownAndListUnchanged() {
+        PersonQuery query = new PersonQuery(Arrays.asList(
+                new QueryCondition(QueryField.ID, QueryOperator.EQUAL, "000004")), null, false);
+        int personCount = model.getFilteredPersonList().size();
+
+        CommandResult result = new QueryCommand(query, true).execute(model, commandHistory);
+
+        assertEquals(model.planPersonQuery(query).explain(), result.feedbackToUser);
+        assertEquals(personCount, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(Arrays.asList(
+                new QueryCondition(QueryField.ID, QueryOperator.EQUAL, "000004")), null, false);
+        QueryCommand queryCommand = new QueryCommand(query, false);
+
+        // same values -> returns true
+        assertTrue(queryCommand.equals(new QueryCommand(query, false)));
+
+        // different types -> returns false
+        assertFalse(queryCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(queryCommand.equals(null));
+
+        // explain mode -> returns false
+        assertFalse(queryCommand.equals(new QueryCommand(query, true)));
+    }
+}
@@ -30,23 +30,19 @@ public class RedoCommandTest {
         // set up of both models' undo/redo history
         deleteFirstPerson(model);
         deleteFirstPerson(model);
-        model.undoAddressBook();
-        model.undoModelList();
-        model.undoAddressBook();
-        model.undoModelList();
+        model.undoModel();
+        model.undoModel();
 
         deleteFirstPerson(expectedModel);
         deleteFirstPerson(expectedModel);
-        expectedModel.undoAddressBook();
-        expectedModel.undoModelList();
-        expectedModel.undoAddressBook();
-        expectedModel.undoModelList();
+        expectedModel.undoModel();
+        expectedModel.undoModel();
     }
 
     @Test
     public void execute() {
         // multiple redoable states in model
-        expectedModel.redoAddressBook();
+        expectedModel.redoModel();
         try {
             assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
         } catch (ParseException pe) {
@@ -54,7 +50,7 @@ public class RedoCommandTest {
         }
 
         // single redoable state in model
-        expectedModel.redoAddressBook();
+        expectedModel.redoModel();
         try {
             assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
         } catch (ParseException pe) {
@@ -164,15 +164,13 @@ public class RemoveExpensesCommandTest {
         removeExpensesCommand.execute(model, commandHistory);
 
         // undo -> reverts expenses list back to previous state and filtered person list to show all expenses
-        expectedModel.undoExpensesList();
-        expectedModel.undoModelList();
+        expectedModel.undoModel();
 
         assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
 
         assertNotEquals(expensesToDelete, model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased()));
         // redo -> deletes same second expenses in unfiltered person list
-        expectedModel.redoExpensesList();
-        expectedModel.redoModelList();
+        expectedModel.redoModel();
         assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
@@ -38,7 +38,7 @@ public class UndoCommandTest {
     @Test
     public void execute() {
         // multiple undoable states in model
-        expectedModel.undoAddressBook();
+        expectedModel.undoModel();
         try {
             assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
         } catch (ParseException pe) {
@@ -46,7 +46,7 @@ public class UndoCommandTest {
         }
 
         // single undoable state in model
-        expectedModel.undoAddressBook();
+        expectedModel.undoModel();
         try {
             assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
         } catch (ParseException pe) {
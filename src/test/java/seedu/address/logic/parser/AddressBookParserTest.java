@@ -55,9 +55,11 @@ import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.LeaveReportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ModifyAllPayCommand;
 import seedu.address.logic.commands.ModifyPayCommand;
+import seedu.address.logic.commands.QueryCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemoveExpensesCommand;
 import seedu.address.logic.commands.SelectCommand;
@@ -72,6 +74,10 @@ import seedu.address.model.person.DepartmentContainsKeywordsPredicate;
 import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PositionContainsKeywordsPredicate;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryCondition;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.model.person.query.QueryOperator;
 import seedu.address.model.recruitment.Recruitment;
 import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.Schedule;
@@ -267,6 +273,26 @@ public class AddressBookParserTest {
         assertEquals(new CalculateLeavesCommand(new EmployeeId("000001"), new Year("2018")), command);
     }
 
+    @Test
+    public void parseCommand_leaveReport_equals() throws Exception {
+        CliSyntax cliSyntax = new CliSyntax();
+        LeaveReportCommand command = (LeaveReportCommand) parser.parseCommand(
+                LeaveReportCommand.COMMAND_WORD + " " + cliSyntax.PREFIX_SCHEDULE_YEAR + "2018");
+        assertEquals(new LeaveReportCommand(new Year("2018")), command);
+        command = (LeaveReportCommand) parser.parseCommand(
+                LeaveReportCommand.COMMAND_ALIAS + " " + cliSyntax.PREFIX_SCHEDULE_YEAR + "2018");
+        assertEquals(new LeaveReportCommand(new Year("2018")), command);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        PersonQuery query = new PersonQuery(Collections.singletonList(
+                new QueryCondition(QueryField.SALARY, QueryOperator.GREATER, "5000")), null, false);
+        assertEquals(new QueryCommand(query, false), parser.parseCommand(QueryCommand.COMMAND_WORD + " salary>5000"));
+        assertEquals(new QueryCommand(query, true),
+                parser.parseCommand(QueryCommand.COMMAND_ALIAS + " explain salary>5000"));
+    }
+
     @Test
     public void parseCommand_deleteSchedule_equals() throws Exception {
         DeleteScheduleCommand command = (DeleteScheduleCommand) parser.parseCommand(
@@ -15,11 +15,14 @@ import java.util.Collections;
 
 import org.junit.Test;
 
+import com.google.common.collect.Range;
+
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.person.Department;
 import seedu.address.model.person.DepartmentContainsKeywordsPredicate;
 import seedu.address.model.person.Position;
 import seedu.address.model.person.PositionContainsKeywordsPredicate;
+import seedu.address.model.util.Money;
 
 public class FilterCommandParserTest {
 
@@ -62,6 +65,25 @@ public class FilterCommandParserTest {
                 new FilterCommand(expectedDepartmentPredicate, expectedPositionPredicate, SORT_ORDER));
     }
 
+    @Test
+    public void parse_payFieldsPresent_success() {
+        FilterCommand expectedCommand = new FilterCommand(
+                new DepartmentContainsKeywordsPredicate(Collections.singletonList("")),
+                new PositionContainsKeywordsPredicate(Collections.singletonList("")), SORT_ORDER);
+        expectedCommand.setSalaryRange(Range.closed(Money.parse("3000"), Money.parse("6000.50")));
+        expectedCommand.setBonusRange(Range.atMost(Money.parse("100")));
+        expectedCommand.setLimitPerDepartment(2);
+
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + SORT_ORDER + " s/3000 - 6000.50 b/-100 top/2",
+                expectedCommand);
+
+        // top alone keeps the highest paid of every department
+        expectedCommand = new FilterCommand(new DepartmentContainsKeywordsPredicate(Collections.singletonList("")),
+                new PositionContainsKeywordsPredicate(Collections.singletonList("")), SORT_ORDER);
+        expectedCommand.setLimitPerDepartment(1);
+        assertParseSuccess(parser, SORT_ORDER + " top/1", expectedCommand);
+    }
+
     @Test
     public void parse_multipleFields_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
@@ -72,6 +94,9 @@ public class FilterCommandParserTest {
         // multiple positions
         assertParseFailure(parser, SORT_ORDER + POSITION_DESC_AMY + POSITION_DESC_BOB, expectedMessage);
 
+        // multiple salary ranges
+        assertParseFailure(parser, SORT_ORDER + " s/1-2 s/3-4", expectedMessage);
+
         // multiple departments and positions
         assertParseFailure(parser, SORT_ORDER + DEPARTMENT_DESC_AMY + DEPARTMENT_DESC_BOB
                 + POSITION_DESC_AMY + POSITION_DESC_BOB, expectedMessage);
@@ -97,5 +122,17 @@ public class FilterCommandParserTest {
         // invalid position
         assertParseFailure(parser, SORT_ORDER + INVALID_POSITION_DESC,
                 Position.MESSAGE_POSITION_KEYWORD_CONSTRAINTS);
+
+        // range without bounds
+        assertParseFailure(parser, SORT_ORDER + " s/-", FilterCommandParser.MESSAGE_RANGE_CONSTRAINTS);
+
+        // minimum more than maximum
+        assertParseFailure(parser, SORT_ORDER + " b/500-100", FilterCommandParser.MESSAGE_RANGE_CONSTRAINTS);
+
+        // single amount instead of a range
+        assertParseFailure(parser, SORT_ORDER + " s/3000", FilterCommandParser.MESSAGE_RANGE_CONSTRAINTS);
+
+        // non-positive number of employees
+        assertParseFailure(parser, SORT_ORDER + " top/0", FilterCommandParser.MESSAGE_LIMIT_CONSTRAINTS);
     }
 }
@@ -0,0 +1,91 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.QueryCondition;
+import seedu.address.model.person.query.QueryField;
+import seedu.address.model.person.query.QueryOperator;
+
+public class QueryCommandParserTest {
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_conditionsAndSort_success() {
+        PersonQuery query = new PersonQuery(Arrays.asList(
+                new QueryCondition(QueryField.DEPARTMENT, QueryOperator.EQUAL, "Human Resource"),
+                new QueryCondition(QueryField.SALARY, QueryOperator.GREATER_OR_EQUAL, "5000"),
+                new QueryCondition(QueryField.DOB, QueryOperator.LESS, "1980")), QueryField.BONUS, true);
+
+        assertParseSuccess(parser, " department = Human Resource AND salary>=5000 and dob<1980 sort bonus dsc",
+                new QueryCommand(query, false));
+    }
+
+    @Test
+    public void parse_quotedValues_keywordsWithinQuotesKept() {
+        PersonQuery query = new PersonQuery(Arrays.asList(
+                new QueryCondition(QueryField.DEPARTMENT, QueryOperator.EQUAL, "Research and Development"),
+                new QueryCondition(QueryField.POSITION, QueryOperator.CONTAINS, "sort of and")), QueryField.SALARY,
+                false);
+
+        assertParseSuccess(parser, "department=\"Research and Development\" and position ~ \"sort of and\" "
+                + "sort salary asc", new QueryCommand(query, false));
+
+        // quotes around a value without spaces are removed too
+        PersonQuery singleWordQuery = new PersonQuery(Collections.singletonList(
+                new QueryCondition(QueryField.DEPARTMENT, QueryOperator.EQUAL, "Finance")), null, false);
+        assertParseSuccess(parser, "department=\"Finance\"", new QueryCommand(singleWordQuery, false));
+    }
+
+    @Test
+    public void parse_explain_success() {
+        PersonQuery query = new PersonQuery(Collections.singletonList(
+                new QueryCondition(QueryField.NAME, QueryOperator.CONTAINS, "mei")), QueryField.NAME, false);
+
+        assertParseSuccess(parser, "explain name~mei sort name", new QueryCommand(query, true));
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+        // empty query
+        assertParseFailure(parser, "  ", expectedMessage);
+
+        // no operator
+        assertParseFailure(parser, "department Finance", expectedMessage);
+
+        // empty condition
+        assertParseFailure(parser, "salary>5000 and  and bonus>0", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidCondition_failure() {
+        // unknown field
+        assertParseFailure(parser, "age>30", String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "age"));
+
+        // unknown sort field
+        assertParseFailure(parser, "salary>30 sort age",
+                String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "age"));
+
+        // operator not supported by field
+        assertParseFailure(parser, "department>Finance", String.format(
+                QueryCommandParser.MESSAGE_UNSUPPORTED_OPERATOR, QueryField.DEPARTMENT, QueryOperator.GREATER));
+
+        // invalid value
+        assertParseFailure(parser, "salary>lots",
+                String.format(QueryCommandParser.MESSAGE_INVALID_VALUE, QueryField.SALARY, "lots"));
+
+        // unclosed quote
+        assertParseFailure(parser, "department=\"Finance and salary>5000",
+                String.format(QueryCommandParser.MESSAGE_UNCLOSED_QUOTE, "\"Finance and salary>5000"));
+    }
+}
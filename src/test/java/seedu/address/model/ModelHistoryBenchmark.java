@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static seedu.address.testutil.BenchmarkUtil.createPersons;
+import static seedu.address.testutil.BenchmarkUtil.getLiveHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.person.Person;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Compares the heap held by the undo history of {@code ModelManager}, which records each change in a journal and
+ * publishes structure-sharing snapshots, with keeping a full copy of the person list at every commit, as the
+ * versioned address book used to. The copies are only of the list of persons, so they are a lower bound of the
+ * old history, which copied the whole address book.
+ *
+ * Not run as part of the tests. Run its {@code main} method with the test classpath, optionally passing the number
+ * of persons and the number of commits. Each commit edits the address of one person.
+ *
+ * @see seedu.address.testutil.BenchmarkUtil
+ */
+public class ModelHistoryBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 50000;
+    private static final int DEFAULT_COMMIT_COUNT = 1000;
+
+    /**
+     * Makes the given number of commits to an address book of the given number of persons in each way, and prints
+     * the time they took and the heap held by the history afterwards.
+     */
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int commitCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_COMMIT_COUNT;
+        AddressBook addressBook = new AddressBook();
+        createPersons(personCount).forEach(addressBook::addPerson);
+        System.out.println(personCount + " persons, " + commitCount + " commits");
+
+        commitToJournal(addressBook, commitCount);
+        commitFullCopies(addressBook, commitCount);
+    }
+
+    /**
+     * Commits through {@code ModelManager}, which journals the changes for undo and redo.
+     */
+    private static void commitToJournal(AddressBook addressBook, int commitCount) {
+        ModelManager model = new ModelManager(addressBook, new ExpensesList(), new ScheduleList(),
+                new RecruitmentList(), new UserPrefs());
+        long baselineBytes = getLiveHeap();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < commitCount; i++) {
+            Person target = model.getAddressBook().getPersonList().get(i % addressBook.getPersonList().size());
+            model.updatePerson(target, edit(target, i));
+            model.commitAddressBook();
+        }
+        print("change journal", System.nanoTime() - start, getLiveHeap() - baselineBytes, commitCount);
+
+        model.undoModel(); // keeps the history reachable until it is measured
+    }
+
+    /**
+     * Commits by copying the list of persons after every change, as the versioned address book used to.
+     */
+    private static void commitFullCopies(AddressBook original, int commitCount) {
+        AddressBook addressBook = new AddressBook(original);
+        List<List<Person>> history = new ArrayList<>();
+        history.add(new ArrayList<>(addressBook.getPersonList()));
+        long baselineBytes = getLiveHeap();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < commitCount; i++) {
+            Person target = addressBook.getPersonList().get(i % addressBook.getPersonList().size());
+            addressBook.updatePerson(target, edit(target, i));
+            history.add(new ArrayList<>(addressBook.getPersonList()));
+        }
+        print("full copies", System.nanoTime() - start, getLiveHeap() - baselineBytes, commitCount);
+
+        history.clear(); // keeps the history reachable until it is measured
+    }
+
+    /**
+     * Returns {@code person} with an address of the {@code i}-th commit.
+     */
+    private static Person edit(Person person, int i) {
+        return new PersonBuilder(person).withAddress("Block " + i).build();
+    }
+
+    private static void print(String name, long nanos, long historyBytes, int commitCount) {
+        System.out.printf("%-16s %8d ms %8d KB history %6d bytes per commit%n", name, nanos / 1_000_000,
+                historyBytes >> 10, historyBytes / commitCount);
+    }
+}
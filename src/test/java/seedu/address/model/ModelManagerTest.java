@@ -1,35 +1,57 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SCHEDULES;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.expenses.TypicalExpenses.ALICE_CLAIM;
+import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_LEAVE;
 import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.BENSON_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.CARL_WORK;
+import static seedu.address.testutil.schedule.TypicalSchedules.DANIEL_LEAVE;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.ScheduleListChangedEvent;
 import seedu.address.model.addressbook.AddressBook;
 import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleList;
+import seedu.address.model.schedule.Year;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.schedule.ScheduleBuilder;
 import seedu.address.testutil.schedule.ScheduleListBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -96,6 +118,230 @@ public class ModelManagerTest {
         modelManager.getFilteredScheduleList().remove(0);
     }
 
+    @Test
+    public void endBatch_multipleSchedulesAdded_raisesSingleEventAndSorts() {
+        modelManager.startBatch();
+        modelManager.addSchedule(CARL_WORK);
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.addSchedule(BENSON_WORK);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.endBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ScheduleListChangedEvent);
+        assertEquals(Arrays.asList(ALICE_WORK, BENSON_WORK, CARL_WORK), modelManager.getFilteredScheduleList());
+    }
+
+    @Test
+    public void endBatch_nestedBatch_defersUntilOutermostBatchEnds() {
+        modelManager.startBatch();
+        modelManager.startBatch();
+        modelManager.addSchedule(ALICE_WORK);
+        modelManager.endBatch();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.endBatch();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void endBatch_noBatchStarted_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        modelManager.endBatch();
+    }
+
+    @Test
+    public void getSnapshot_changesPublishedOnCommit() {
+        ModelSnapshot initialSnapshot = modelManager.getSnapshot();
+        modelManager.addPerson(ALICE);
+        assertSame(initialSnapshot, modelManager.getSnapshot());
+
+        modelManager.commitAddressBook();
+        ModelSnapshot committedSnapshot = modelManager.getSnapshot();
+        assertEquals(initialSnapshot.getVersion() + 1, committedSnapshot.getVersion());
+        assertEquals(Collections.singletonList(ALICE), committedSnapshot.getPersons());
+        assertSame(initialSnapshot.getSchedules(), committedSnapshot.getSchedules()); // unchanged list is shared
+
+        modelManager.undoModel();
+        assertEquals(Collections.emptyList(), modelManager.getSnapshot().getPersons());
+        assertEquals(Collections.singletonList(ALICE), committedSnapshot.getPersons()); // published snapshot unchanged
+    }
+
+    @Test
+    public void getSnapshotLeaveCounts_leavesChanged_countedAsOfEachSnapshot() {
+        Year year = new Year(ALICE_LEAVE.getScheduleYear());
+        modelManager.addSchedule(ALICE_LEAVE);
+        modelManager.commitScheduleList();
+        ModelSnapshot aliceOnLeave = modelManager.getSnapshot();
+        assertEquals(Collections.singletonMap(ALICE_LEAVE.getEmployeeId(), 1), aliceOnLeave.getLeaveCounts(year));
+
+        // uncommitted leaves are not counted
+        modelManager.addSchedule(DANIEL_LEAVE);
+        assertEquals(1, modelManager.getSnapshot().getLeaveCounts(year).size());
+
+        modelManager.commitScheduleList();
+        assertEquals(2, modelManager.getSnapshot().getLeaveCounts(year).size());
+        assertEquals(1, aliceOnLeave.getLeaveCounts(year).size()); // published snapshot unchanged
+
+        // a commit that leaves the schedules unchanged keeps the counts
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        assertEquals(2, modelManager.getSnapshot().getLeaveCounts(year).size());
+    }
+
+    @Test
+    public void getSnapshot_concurrentReaders_neverSeeTornState() throws Exception {
+        int commitCount = 500;
+        int readerCount = 4;
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < readerCount; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    long lastVersion = -1;
+                    while (isWriting.get()) {
+                        ModelSnapshot snapshot = modelManager.getSnapshot();
+                        assertTrue(snapshot.getVersion() >= lastVersion);
+                        lastVersion = snapshot.getVersion();
+
+                        // every commit adds a person together with a schedule of that person
+                        Set<EmployeeId> employeeIds = new HashSet<>();
+                        snapshot.getPersons().forEach(person -> employeeIds.add(person.getEmployeeId()));
+                        assertEquals(snapshot.getPersons().size(), employeeIds.size());
+                        assertEquals(snapshot.getPersons().size(), snapshot.getSchedules().size());
+                        for (Schedule schedule : snapshot.getSchedules()) {
+                            assertTrue(employeeIds.contains(schedule.getEmployeeId()));
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        try {
+            for (int i = 0; i < commitCount; i++) {
+                String employeeId = String.format("%06d", i);
+                modelManager.startBatch();
+                modelManager.addPerson(new PersonBuilder().withEmployeeId(employeeId)
+                        .withName("Employee " + (char) ('A' + i % 26) + (char) ('A' + i / 26))
+                        .withPhone(String.valueOf(80000000 + i)).withEmail("employee" + i + "@example.com").build());
+                modelManager.addSchedule(new ScheduleBuilder().withEmployeeId(employeeId).build());
+                modelManager.endBatch();
+                modelManager.commitMultipleLists(EnumSet.of(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST));
+                if (i % 10 == 0) {
+                    modelManager.undoModel();
+                    modelManager.redoModel();
+                }
+            }
+        } finally {
+            isWriting.set(false);
+            for (Thread reader : readers) {
+                reader.join();
+            }
+        }
+
+        if (failure.get() != null) {
+            throw new AssertionError("A reader saw an inconsistent snapshot", failure.get());
+        }
+        assertEquals(commitCount, modelManager.getSnapshot().getPersons().size());
+    }
+
+    @Test
+    public void canUndoCanRedoModel_bothEndsOfHistory() {
+        assertFalse(modelManager.canUndoModel());
+        assertFalse(modelManager.canRedoModel());
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.canUndoModel());
+        assertFalse(modelManager.canRedoModel());
+
+        modelManager.undoModel();
+        assertFalse(modelManager.canUndoModel());
+        assertTrue(modelManager.canRedoModel());
+    }
+
+    @Test
+    public void undoRedoModel_deletionCascadingToSchedules_bothListsRestoredAndRemoved() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ScheduleList scheduleList = new ScheduleListBuilder().withSchedule(ALICE_WORK).withSchedule(BENSON_WORK)
+                .build();
+        modelManager = new ModelManager(addressBook, new ExpensesList(), scheduleList, new RecruitmentList(),
+                new UserPrefs());
+
+        // as DeleteCommand deletes a person together with the person's schedules
+        modelManager.deletePerson(ALICE);
+        modelManager.removeAllSchedulesOf(ALICE.getEmployeeId());
+        modelManager.commitMultipleLists(EnumSet.of(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST));
+        modelManager.updateFilteredPersonList(unused -> false);
+
+        modelManager.undoModel();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(ALICE_WORK, BENSON_WORK), modelManager.getScheduleList().getScheduleList());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList()); // filter reset
+
+        modelManager.redoModel();
+        assertEquals(Collections.singletonList(BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(Collections.singletonList(BENSON_WORK), modelManager.getScheduleList().getScheduleList());
+    }
+
+    @Test
+    public void undoRedoModel_schedulesAddedAndDeletedTogether_eachUndoneAsOneChange() {
+        modelManager.addSchedules(Arrays.asList(CARL_WORK, ALICE_WORK, BENSON_WORK));
+        modelManager.commitScheduleList();
+        assertEquals(Arrays.asList(ALICE_WORK, BENSON_WORK, CARL_WORK), modelManager.getFilteredScheduleList());
+
+        modelManager.deleteSchedules(Arrays.asList(ALICE_WORK, CARL_WORK));
+        modelManager.commitScheduleList();
+        assertEquals(Collections.singletonList(BENSON_WORK), modelManager.getFilteredScheduleList());
+
+        modelManager.undoModel();
+        assertEquals(Arrays.asList(ALICE_WORK, BENSON_WORK, CARL_WORK), modelManager.getFilteredScheduleList());
+        modelManager.undoModel();
+        assertEquals(Collections.emptyList(), modelManager.getFilteredScheduleList());
+        assertFalse(modelManager.canUndoModel());
+
+        modelManager.redoModel();
+        modelManager.redoModel();
+        assertEquals(Collections.singletonList(BENSON_WORK), modelManager.getFilteredScheduleList());
+    }
+
+    @Test
+    public void undoModel_uncommittedChanges_discarded() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.addSchedule(BENSON_WORK);
+
+        modelManager.undoModel();
+        assertEquals(Collections.emptyList(), modelManager.getAddressBook().getPersonList());
+        assertEquals(Collections.emptyList(), modelManager.getScheduleList().getScheduleList());
+
+        modelManager.redoModel();
+        assertEquals(Collections.singletonList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertEquals(Collections.emptyList(), modelManager.getScheduleList().getScheduleList());
+    }
+
+    @Test
+    public void commit_afterUndoModel_redoTruncated() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoModel();
+
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoModel());
+
+        modelManager.undoModel();
+        assertEquals(Collections.emptyList(), modelManager.getAddressBook().getPersonList());
+        modelManager.redoModel();
+        assertEquals(Collections.singletonList(BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
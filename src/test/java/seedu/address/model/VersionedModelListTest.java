@@ -0,0 +1,174 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.VersionedModelList.NoRedoableStateException;
+import seedu.address.model.VersionedModelList.NoUndoableStateException;
+
+public class VersionedModelListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> persons = new ArrayList<>();
+    private final List<String> schedules = new ArrayList<>();
+    private final VersionedModelList versionedModelList = new VersionedModelList();
+
+    @Test
+    public void record_nullArguments_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        versionedModelList.record(ModelTypes.ADDRESS_BOOK, null, () -> { });
+    }
+
+    @Test
+    public void canUndoCanRedo_noCommits_returnsFalse() {
+        assertFalse(versionedModelList.canUndoStorage());
+        assertFalse(versionedModelList.canRedoStorage());
+
+        // recorded but uncommitted changes are not undoable
+        add(ModelTypes.ADDRESS_BOOK, persons, "alice");
+        assertFalse(versionedModelList.canUndoStorage());
+    }
+
+    @Test
+    public void canUndoCanRedo_bothEndsOfHistory() {
+        add(ModelTypes.ADDRESS_BOOK, persons, "alice");
+        versionedModelList.commit();
+        add(ModelTypes.ADDRESS_BOOK, persons, "benson");
+        versionedModelList.commit();
+
+        // at the latest entry
+        assertTrue(versionedModelList.canUndoStorage());
+        assertFalse(versionedModelList.canRedoStorage());
+
+        // in the middle
+        versionedModelList.undo();
+        assertTrue(versionedModelList.canUndoStorage());
+        assertTrue(versionedModelList.canRedoStorage());
+
+        // at the start
+        versionedModelList.undo();
+        assertFalse(versionedModelList.canUndoStorage());
+        assertTrue(versionedModelList.canRedoStorage());
+    }
+
+    @Test
+    public void undo_atStartOfHistory_throwsNoUndoableStateException() {
+        thrown.expect(NoUndoableStateException.class);
+        versionedModelList.undo();
+    }
+
+    @Test
+    public void redo_atEndOfHistory_throwsNoRedoableStateException() {
+        add(ModelTypes.ADDRESS_BOOK, persons, "alice");
+        versionedModelList.commit();
+
+        thrown.expect(NoRedoableStateException.class);
+        versionedModelList.redo();
+    }
+
+    @Test
+    public void undoRedo_changesAcrossLists_revertedAndReappliedTogether() {
+        add(ModelTypes.ADDRESS_BOOK, persons, "alice");
+        add(ModelTypes.SCHEDULES_LIST, schedules, "alice work");
+        versionedModelList.commit();
+        add(ModelTypes.ADDRESS_BOOK, persons, "benson");
+        versionedModelList.commit();
+
+        // a deletion cascading from the address book to the schedule list
+        remove(ModelTypes.ADDRESS_BOOK, persons, "alice");
+        remove(ModelTypes.SCHEDULES_LIST, schedules, "alice work");
+        versionedModelList.commit();
+
+        assertEquals(EnumSet.of(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST), versionedModelList.undo());
+        assertEquals(Arrays.asList("benson", "alice"), persons);
+        assertEquals(Collections.singletonList("alice work"), schedules);
+
+        // only the lists the entry touched are reported
+        assertEquals(EnumSet.of(ModelTypes.ADDRESS_BOOK), versionedModelList.undo());
+        assertEquals(Collections.singletonList("alice"), persons);
+
+        versionedModelList.redo();
+        assertEquals(EnumSet.of(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST), versionedModelList.redo());
+        assertEquals(Collections.singletonList("benson"), persons);
+        assertEquals(Collections.emptyList(), schedules);
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardedWithLastEntry() {
+        add(ModelTypes.ADDRESS_BOOK, persons, "alice");
+        versionedModelList.commit();
+        add(ModelTypes.ADDRESS_BOOK, persons, "benson");
+        add(ModelTypes.SCHEDULES_LIST, schedules, "benson work");
+
+        assertEquals(EnumSet.of(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST), versionedModelList.undo());
+        assertEquals(Collections.emptyList(), persons);
+        assertEquals(Collections.emptyList(), schedules);
+
+        // the discarded changes are not redone
+        versionedModelList.redo();
+        assertEquals(Collections.singletonList("alice"), persons);
+        assertEquals(Collections.emptyList(), schedules);
+        assertFalse(versionedModelList.canRedoStorage());
+    }
+
+    @Test
+    public void redo_uncommittedChanges_discardedBeforeRedoing() {
+        add(ModelTypes.ADDRESS_BOOK, persons, "alice");
+        versionedModelList.commit();
+        versionedModelList.undo();
+        add(ModelTypes.SCHEDULES_LIST, schedules, "alice work");
+
+        assertEquals(EnumSet.of(ModelTypes.ADDRESS_BOOK, ModelTypes.SCHEDULES_LIST), versionedModelList.redo());
+        assertEquals(Collections.singletonList("alice"), persons);
+        assertEquals(Collections.emptyList(), schedules);
+    }
+
+    @Test
+    public void commit_afterUndo_truncatesRedo() {
+        add(ModelTypes.ADDRESS_BOOK, persons, "alice");
+        versionedModelList.commit();
+        add(ModelTypes.ADDRESS_BOOK, persons, "benson");
+        versionedModelList.commit();
+        versionedModelList.undo();
+
+        add(ModelTypes.ADDRESS_BOOK, persons, "carl");
+        versionedModelList.commit();
+        assertFalse(versionedModelList.canRedoStorage());
+        assertEquals(Arrays.asList("alice", "carl"), persons);
+
+        // undoing goes back through the new entry, never the truncated one
+        versionedModelList.undo();
+        assertEquals(Collections.singletonList("alice"), persons);
+        versionedModelList.redo();
+        assertEquals(Arrays.asList("alice", "carl"), persons);
+    }
+
+    /**
+     * Adds {@code element} to {@code list}, recording the change as a change of the model of {@code type}.
+     */
+    private void add(ModelTypes type, List<String> list, String element) {
+        list.add(element);
+        versionedModelList.record(type, () -> list.remove(element), () -> list.add(element));
+    }
+
+    /**
+     * Removes {@code element} from {@code list}, recording the change as a change of the model of {@code type}.
+     */
+    private void remove(ModelTypes type, List<String> list, String element) {
+        list.remove(element);
+        versionedModelList.record(type, () -> list.add(element), () -> list.remove(element));
+    }
+}
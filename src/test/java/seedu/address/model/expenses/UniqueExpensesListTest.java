@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -195,6 +196,15 @@ public class UniqueExpensesListTest {
         uniqueExpensesList.asUnmodifiableObservableList().remove(0);
     }
 
+    @Test
+    public void getExpensesOf_employeeWithExpenses_returnsTheirExpenses() {
+        uniqueExpensesList.setMultiExpenses(Arrays.asList(ALICE_CLAIM, BENSON_CLAIM));
+        assertEquals(Optional.of(BENSON_CLAIM), uniqueExpensesList.getExpensesOf(BENSON_CLAIM.getEmployeeId()));
+
+        uniqueExpensesList.remove(BENSON_CLAIM);
+        assertFalse(uniqueExpensesList.getExpensesOf(BENSON_CLAIM.getEmployeeId()).isPresent());
+    }
+
     @Test
     public void hashCode_validExpenses_correctHashCodeRepresentation() {
         uniqueExpensesList.add(ALICE_CLAIM);
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -22,6 +24,13 @@ public class DepartmentTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Department(invalidDepartment));
     }
 
+    @Test
+    public void of_equalDepartments_sameInstance() {
+        assertSame(Department.of("Finance"), Department.of(new String("Finance")));
+        assertNotSame(Department.of("Finance"), Department.of("FINANCE"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> Department.of(""));
+    }
+
     @Test
     public void isValidDepartment() {
         // null department
@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.schedule.EmployeeIdScheduleContainsKeywordsPredicate;
+
+public class EmployeeIdInSetPredicateTest {
+
+    @Test
+    public void equals() {
+        EmployeeIdInSetPredicate<Person> personPredicate =
+                new EmployeeIdInSetPredicate<>(Collections.singletonList("000001"), Person::getEmployeeId);
+
+        // same values -> returns true
+        assertTrue(personPredicate.equals(
+                new EmployeeIdInSetPredicate<>(Collections.singletonList("000001"), Person::getEmployeeId)));
+
+        // different subclasses -> returns false
+        assertFalse(personPredicate.equals(
+                new EmployeeIdScheduleContainsKeywordsPredicate(Collections.singletonList("000001"))));
+
+        // null -> returns false
+        assertFalse(personPredicate.equals(null));
+    }
+
+    @Test
+    public void test_employeeIdInSet_returnsTrue() {
+        EmployeeIdInSetPredicate<Person> predicate =
+                new EmployeeIdInSetPredicate<>(Arrays.asList(" 000002 ", "000001"), Person::getEmployeeId);
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+    }
+
+    @Test
+    public void test_employeeIdNotInSet_returnsFalse() {
+        EmployeeIdInSetPredicate<Person> predicate =
+                new EmployeeIdInSetPredicate<>(Arrays.asList("000002", "00000"), Person::getEmployeeId);
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void employeeIdsOf() {
+        assertEquals(Arrays.asList("000001", "000002"),
+                EmployeeIdInSetPredicate.employeeIdsOf(Arrays.asList(ALICE, BENSON)));
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import static seedu.address.testutil.BenchmarkUtil.createPerson;
+import static seedu.address.testutil.BenchmarkUtil.createPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import seedu.address.model.addressbook.AddressBook;
+
+/**
+ * Compares loading persons into an {@code AddressBook} and adding persons to it, which checks their identity
+ * through the hash indexes of {@code UniquePersonList}, with checking it by going through every person, as the list
+ * used to. Loading checks each person twice, as {@code XmlSerializableAddressBook} calls {@code hasPerson} before
+ * {@code addPerson}.
+ *
+ * Not run as part of the tests. Run its {@code main} method with the test classpath, optionally passing the numbers
+ * of persons. Loading by going through every person takes quadratic time, so it is skipped above
+ * {@value #MAX_SCANNED_LOAD} persons.
+ *
+ * @see seedu.address.testutil.BenchmarkUtil
+ */
+public class UniquePersonListBenchmark {
+
+    private static final int[] DEFAULT_PERSON_COUNTS = {1000, 10000, 100000};
+    private static final int MAX_SCANNED_LOAD = 20000;
+    private static final int ADDED_PERSON_COUNT = 1000;
+    private static final int WARM_UP_RUNS = 2;
+    private static final int MEASURED_RUNS = 3;
+
+    /**
+     * Measures each way of loading and adding persons for each of the given numbers of persons.
+     */
+    public static void main(String[] args) {
+        int[] personCounts = DEFAULT_PERSON_COUNTS;
+        if (args.length > 0) {
+            personCounts = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                personCounts[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%8s %16s %16s %16s %16s%n", "persons", "load, indexed", "load, scanned",
+                "add, indexed", "add, scanned");
+        for (int personCount : personCounts) {
+            List<Person> persons = createPersons(personCount);
+            List<Person> addedPersons = new ArrayList<>();
+            for (int i = 0; i < ADDED_PERSON_COUNT; i++) {
+                addedPersons.add(createPerson(personCount + i));
+            }
+
+            long indexedLoadNanos = time(() -> null, unused -> load(new IndexedPersons(), persons));
+            String scannedLoad = personCount > MAX_SCANNED_LOAD ? "skipped"
+                    : String.format("%.1f ms", time(() -> null, unused -> load(new ScannedPersons(), persons)) / 1e6);
+            Consumer<PersonList> addPersons = loaded -> addedPersons.forEach(loaded::add);
+            long indexedAddNanos = time(() -> load(new IndexedPersons(), persons), addPersons);
+            long scannedAddNanos = time(() -> new ScannedPersons(persons), addPersons);
+
+            System.out.printf("%8d %13.1f ms %16s %13.2f us %13.2f us%n", personCount,
+                    indexedLoadNanos / 1e6, scannedLoad,
+                    indexedAddNanos / 1e3 / ADDED_PERSON_COUNT, scannedAddNanos / 1e3 / ADDED_PERSON_COUNT);
+        }
+    }
+
+    /**
+     * Adds {@code persons} to {@code list}, checking first that each is not already in it.
+     */
+    private static PersonList load(PersonList list, List<Person> persons) {
+        for (Person person : persons) {
+            if (list.contains(person)) {
+                throw new AssertionError("Duplicate person: " + person);
+            }
+            list.add(person);
+        }
+        return list;
+    }
+
+    /**
+     * Returns the fastest time {@code operation} takes on a new result of {@code setUp}, which is not timed.
+     */
+    private static <T> long time(Supplier<T> setUp, Consumer<T> operation) {
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < WARM_UP_RUNS + MEASURED_RUNS; i++) {
+            T subject = setUp.get();
+            long start = System.nanoTime();
+            operation.accept(subject);
+            long nanos = System.nanoTime() - start;
+            if (i >= WARM_UP_RUNS) {
+                bestNanos = Math.min(bestNanos, nanos);
+            }
+        }
+        return bestNanos;
+    }
+
+    /**
+     * The persons being loaded into or added to.
+     */
+    private interface PersonList {
+        boolean contains(Person person);
+
+        /**
+         * Adds {@code person}, which must not be in the list yet.
+         */
+        void add(Person person);
+    }
+
+    /**
+     * Persons in an {@code AddressBook}, whose identity is checked through hash indexes.
+     */
+    private static class IndexedPersons implements PersonList {
+        private final AddressBook addressBook = new AddressBook();
+
+        @Override
+        public boolean contains(Person person) {
+            return addressBook.hasPerson(person);
+        }
+
+        @Override
+        public void add(Person person) {
+            addressBook.addPerson(person);
+        }
+    }
+
+    /**
+     * Persons in a plain list, whose identity is checked by going through every person, as
+     * {@code UniquePersonList} used to.
+     */
+    private static class ScannedPersons implements PersonList {
+        private final List<Person> persons;
+
+        ScannedPersons() {
+            persons = new ArrayList<>();
+        }
+
+        /**
+         * Creates a list of {@code persons}, which are known to be distinct and so are not checked.
+         */
+        ScannedPersons(List<Person> persons) {
+            this.persons = new ArrayList<>(persons);
+        }
+
+        @Override
+        public boolean contains(Person person) {
+            return persons.stream().anyMatch(person::isSamePerson);
+        }
+
+        @Override
+        public void add(Person person) {
+            if (contains(person)) {
+                throw new AssertionError("Duplicate person: " + person);
+            }
+            persons.add(person);
+        }
+    }
+}
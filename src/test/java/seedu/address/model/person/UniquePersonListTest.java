@@ -7,19 +7,35 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import com.google.common.collect.Range;
+
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.Money;
 import seedu.address.testutil.Assert;
 import seedu.address.testutil.PersonBuilder;
 
@@ -54,6 +70,34 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameEmailDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(editedBob));
+    }
+
+    @Test
+    public void contains_personWithSameNameAndDateOfBirth_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedBob = new PersonBuilder(BOB).withName(ALICE.getName().fullName)
+                .withDateOfBirth(ALICE.getDateOfBirth().value).build();
+        assertTrue(uniquePersonList.contains(editedBob));
+    }
+
+    @Test
+    public void contains_personExcludedByPredicate_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE, person -> !person.equals(ALICE)));
+    }
+
+    @Test
+    public void containsEmployeeId_personInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.containsEmployeeId(new Person(ALICE.getEmployeeId())));
+        assertFalse(uniquePersonList.containsEmployeeId(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -112,6 +156,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.containsEmployeeId(ALICE));
     }
 
     @Test
@@ -140,6 +186,8 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.containsEmployeeId(ALICE));
     }
 
     @Test
@@ -171,6 +219,106 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void findByName_personsChanged_matchingPersonsFound() {
+        uniquePersonList.setPersons(Arrays.asList(BENSON, DANIEL, ELLE));
+
+        // substring of several names, ignoring case
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), new HashSet<>(uniquePersonList.findByName("MEIER")));
+
+        // keyword shorter than a trigram
+        assertEquals(new HashSet<>(Arrays.asList(DANIEL, ELLE)), new HashSet<>(uniquePersonList.findByName("el")));
+
+        // trigrams of keyword in name but not keyword
+        assertEquals(Collections.emptyList(), uniquePersonList.findByName("meiermeier"));
+
+        uniquePersonList.remove(DANIEL);
+        uniquePersonList.setPerson(ELLE, new PersonBuilder(ELLE).withName("Elle Meier").build());
+        assertEquals(2, uniquePersonList.findByName("meier").size());
+        assertEquals(Collections.emptyList(), uniquePersonList.findByName("meyer"));
+    }
+
+    @Test
+    public void getDepartmentAndPositionCounts_personsChanged_countsUpdated() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        Map<String, Integer> expectedDepartmentCounts = new TreeMap<>();
+        expectedDepartmentCounts.put("FINANCE", 1);
+        expectedDepartmentCounts.put("HUMAN RESOURCE", 2);
+        assertEquals(expectedDepartmentCounts, uniquePersonList.getDepartmentCounts());
+        assertEquals(1, uniquePersonList.getHeadcount("human resource", "intern"));
+
+        uniquePersonList.setPerson(BENSON, new PersonBuilder(BENSON).withPosition("Director").build());
+        uniquePersonList.remove(DANIEL);
+        assertEquals(Collections.singletonMap("HUMAN RESOURCE", 2), uniquePersonList.getDepartmentCounts());
+        assertEquals(Collections.singletonMap("DIRECTOR", 2), uniquePersonList.getPositionCounts());
+        assertEquals(0, uniquePersonList.getHeadcount("Human Resource", "Intern"));
+        assertEquals(2, uniquePersonList.getHeadcount("Human Resource", "Director"));
+    }
+
+    @Test
+    public void findBySalary_personsChanged_personsInRangeFound() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, ELLE));
+        Range<Money> range = Range.closed(Money.parse("1000"), Money.parse("5000"));
+
+        // lowest salary first, amounts compared by value
+        assertEquals(Arrays.asList(BENSON, ELLE, DANIEL), uniquePersonList.findBySalary(range));
+        assertEquals(1, uniquePersonList.countBySalary(Range.greaterThan(Money.parse("4500.00"))));
+
+        uniquePersonList.setPerson(DANIEL, new PersonBuilder(DANIEL).withSalary("6000").build());
+        uniquePersonList.remove(BENSON);
+        assertEquals(Collections.singletonList(ELLE), uniquePersonList.findBySalary(range));
+        assertEquals(2, uniquePersonList.countBySalary(Range.greaterThan(Money.parse("4500.00"))));
+        assertEquals(3, uniquePersonList.findByBonus(Range.atLeast(Money.ZERO)).size());
+    }
+
+    @Test
+    public void findHighestPaid_limitPerDepartment_highestSalariesFound() {
+        uniquePersonList.setPersons(getTypicalPersons());
+
+        // the director of each department earns the most
+        assertEquals(Arrays.asList(ALICE, FIONA, GEORGE),
+                uniquePersonList.findHighestPaid(Range.all(), unused -> true, unused -> true, 1));
+
+        // Human Resource has 2 persons earning up to 5000, Finance and IT have 1 each
+        Range<Money> atMost5000 = Range.atMost(Money.parse("5000"));
+        assertEquals(Arrays.asList(DANIEL, BENSON, ELLE, CARL),
+                uniquePersonList.findHighestPaid(atMost5000, unused -> true, unused -> true, 2));
+
+        // persons not matching the predicate do not count towards the limit
+        Predicate<Person> salaryStartsWith1 = person -> person.getSalary().value.startsWith("1");
+        assertEquals(Arrays.asList(BENSON, ELLE),
+                uniquePersonList.findHighestPaid(Range.all(), unused -> true, salaryStartsWith1, 1));
+    }
+
+    @Test
+    public void findHighestPaid_departmentFilter_onlyAcceptedDepartmentsFound() {
+        uniquePersonList.setPersons(getTypicalPersons());
+
+        assertEquals(Arrays.asList(GEORGE, DANIEL),
+                uniquePersonList.findHighestPaid(Range.all(), "FINANCE"::equals, unused -> true, 2));
+
+        // departments are passed in upper case
+        assertEquals(Collections.emptyList(),
+                uniquePersonList.findHighestPaid(Range.all(), "Finance"::equals, unused -> true, 2));
+    }
+
+    @Test
+    public void countBySalary_boundsAndSharedAmounts_personsCounted() {
+        uniquePersonList.setPersons(getTypicalPersons());
+
+        assertEquals(7, uniquePersonList.countBySalary(Range.all()));
+        assertEquals(3, uniquePersonList.countBySalary(Range.atLeast(Money.parse("8000"))));
+        assertEquals(0, uniquePersonList.countBySalary(Range.greaterThan(Money.parse("8000"))));
+        assertEquals(3, uniquePersonList.countBySalary(Range.closedOpen(Money.parse("800"), Money.parse("4500"))));
+
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(ELLE);
+        assertEquals(2, uniquePersonList.countBySalary(Range.atLeast(Money.parse("8000"))));
+        assertEquals(2, uniquePersonList.countBySalary(Range.closedOpen(Money.parse("800"), Money.parse("4500"))));
     }
 
     @Test
@@ -180,6 +328,41 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_editedPersons_replacesEditedPersonsOnly() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withSalary("9999").build();
+        Person editedCarl = new PersonBuilder(CARL).withSalary("1").build();
+        Map<Person, Person> editedPersons = new HashMap<>();
+        editedPersons.put(ALICE, editedAlice);
+        editedPersons.put(CARL, editedCarl);
+
+        uniquePersonList.setPersons(editedPersons);
+        assertEquals(Arrays.asList(editedAlice, BENSON, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(editedAlice),
+                uniquePersonList.findBySalary(Range.atLeast(Money.parse("9999"))));
+    }
+
+    @Test
+    public void setPersons_invalidEditedPersons_listUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withSalary("9999").build();
+
+        // edited person is the same person as another person
+        Map<Person, Person> editedPersons = new HashMap<>();
+        editedPersons.put(ALICE, editedAlice);
+        editedPersons.put(BENSON, new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build());
+        Assert.assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(editedPersons));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+
+        // person to edit not in list
+        Map<Person, Person> editedMissingPerson = new HashMap<>();
+        editedMissingPerson.put(ALICE, editedAlice);
+        editedMissingPerson.put(CARL, CARL);
+        Assert.assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(editedMissingPerson));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -209,6 +392,25 @@ public class UniquePersonListTest {
         Assert.assertThrows(NoSuchElementException.class, () -> uniquePersonList.iterator().next());
     }
 
+    @Test
+    public void sortByName_personsChangedAfterSort_sortedAgain() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.sortByName(FilterCommand.ASCENDING);
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.add(BENSON);
+        uniquePersonList.sortByName(FilterCommand.ASCENDING);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.setPerson(ALICE, new PersonBuilder(ALICE).withName("Daisy").build());
+        uniquePersonList.sortByName(FilterCommand.ASCENDING);
+        assertEquals(Arrays.asList(BENSON, CARL), uniquePersonList.asUnmodifiableObservableList().subList(0, 2));
+
+        uniquePersonList.sortByName(FilterCommand.DESCENDING);
+        assertEquals(CARL, uniquePersonList.asUnmodifiableObservableList().get(1));
+    }
+
     @Test
     public void sort_noSuchSortOrder_throwsAssertionError() {
         Assert.assertThrows(AssertionError.class, () -> uniquePersonList.sortByName("ascdsc"));
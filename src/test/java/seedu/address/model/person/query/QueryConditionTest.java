@@ -0,0 +1,64 @@
+package seedu.address.model.person.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class QueryConditionTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_unsupportedOperator_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new QueryCondition(QueryField.DEPARTMENT, QueryOperator.GREATER, "Finance");
+    }
+
+    @Test
+    public void constructor_invalidValue_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new QueryCondition(QueryField.DOB, QueryOperator.LESS, "31/02/1980");
+    }
+
+    @Test
+    public void test_text_comparedIgnoringCase() {
+        assertTrue(new QueryCondition(QueryField.DEPARTMENT, QueryOperator.EQUAL, "human resource").test(ALICE));
+        assertFalse(new QueryCondition(QueryField.DEPARTMENT, QueryOperator.EQUAL, "human").test(ALICE));
+        assertTrue(new QueryCondition(QueryField.NAME, QueryOperator.CONTAINS, "PAUL").test(ALICE));
+    }
+
+    @Test
+    public void test_number_comparedByValue() {
+        // ALICE's salary is 8000.00
+        assertTrue(new QueryCondition(QueryField.SALARY, QueryOperator.EQUAL, "8000").test(ALICE));
+        assertTrue(new QueryCondition(QueryField.SALARY, QueryOperator.GREATER, "999.99").test(ALICE));
+        assertFalse(new QueryCondition(QueryField.SALARY, QueryOperator.LESS, "8000").test(ALICE));
+        assertTrue(new QueryCondition(QueryField.SALARY, QueryOperator.LESS_OR_EQUAL, "8000").test(ALICE));
+    }
+
+    @Test
+    public void test_year_comparedAsWholeYear() {
+        // DANIEL was born on 30/06/1987
+        assertTrue(new QueryCondition(QueryField.DOB, QueryOperator.EQUAL, "1987").test(DANIEL));
+        assertFalse(new QueryCondition(QueryField.DOB, QueryOperator.LESS, "1987").test(DANIEL));
+        assertTrue(new QueryCondition(QueryField.DOB, QueryOperator.LESS_OR_EQUAL, "1987").test(DANIEL));
+        assertFalse(new QueryCondition(QueryField.DOB, QueryOperator.GREATER, "1987").test(DANIEL));
+        assertTrue(new QueryCondition(QueryField.DOB, QueryOperator.GREATER_OR_EQUAL, "1987").test(DANIEL));
+        assertTrue(new QueryCondition(QueryField.DOB, QueryOperator.GREATER, "29/6/1987").test(DANIEL));
+    }
+
+    @Test
+    public void equals() {
+        QueryCondition condition = new QueryCondition(QueryField.NAME, QueryOperator.CONTAINS, "Meier");
+        assertEquals(condition, new QueryCondition(QueryField.NAME, QueryOperator.CONTAINS, "meier"));
+        assertFalse(condition.equals(new QueryCondition(QueryField.NAME, QueryOperator.EQUAL, "Meier")));
+        assertFalse(condition.equals(null));
+    }
+}
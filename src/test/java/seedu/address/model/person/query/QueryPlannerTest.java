@@ -0,0 +1,111 @@
+package seedu.address.model.person.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+public class QueryPlannerTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private QueryPlanner planner;
+
+    @Before
+    public void setUp() {
+        persons.setPersons(getTypicalPersons());
+        planner = new QueryPlanner(persons);
+    }
+
+    @Test
+    public void plan_employeeId_hashLookupChosen() {
+        QueryPlan plan = planner.plan(query(condition(QueryField.SALARY, QueryOperator.GREATER, "0"),
+                condition(QueryField.ID, QueryOperator.EQUAL, "000004")));
+        assertTrue(plan.getChosenPath().getDescription().startsWith("hash lookup"));
+        assertEquals(1, plan.getChosenPath().getEstimatedRows());
+        assertMatchesScan(plan);
+    }
+
+    @Test
+    public void plan_departmentAndPosition_headcountChosen() {
+        // 2 in Finance, 3 directors, 1 director in Finance
+        QueryPlan plan = planner.plan(query(condition(QueryField.DEPARTMENT, QueryOperator.EQUAL, "finance"),
+                condition(QueryField.POSITION, QueryOperator.EQUAL, "Director")));
+        assertEquals("facet lookup on department = finance and position = Director",
+                plan.getChosenPath().getDescription());
+        assertEquals(1, plan.getChosenPath().getEstimatedRows());
+        assertMatchesScan(plan);
+    }
+
+    @Test
+    public void plan_nameContains_nameIndexChosen() {
+        QueryPlan plan = planner.plan(query(condition(QueryField.NAME, QueryOperator.CONTAINS, "mei")));
+        assertTrue(plan.getChosenPath().getDescription().startsWith("name index"));
+        assertEquals(2, plan.getChosenPath().getEstimatedRows());
+        assertMatchesScan(plan);
+    }
+
+    @Test
+    public void plan_salaryBounds_rangeScanChosen() {
+        // Benson and Elle earn 1000, Daniel earns 4500
+        QueryPlan plan = planner.plan(query(condition(QueryField.SALARY, QueryOperator.GREATER_OR_EQUAL, "1000"),
+                condition(QueryField.SALARY, QueryOperator.LESS, "8000"),
+                condition(QueryField.DEPARTMENT, QueryOperator.CONTAINS, "an")));
+        assertEquals("range scan on salary >= 1000 and salary < 8000", plan.getChosenPath().getDescription());
+        assertEquals(3, plan.getChosenPath().getEstimatedRows());
+        assertMatchesScan(plan);
+    }
+
+    @Test
+    public void plan_contradictoryBounds_emptyRangeChosen() {
+        QueryPlan plan = planner.plan(query(condition(QueryField.BONUS, QueryOperator.GREATER, "5000"),
+                condition(QueryField.BONUS, QueryOperator.LESS_OR_EQUAL, "1000")));
+        assertTrue(plan.getChosenPath().getDescription().startsWith("range scan"));
+        assertEquals(0, plan.getChosenPath().getEstimatedRows());
+        assertMatchesScan(plan);
+    }
+
+    @Test
+    public void plan_noIndexedCondition_fullScanChosen() {
+        QueryPlan plan = planner.plan(query(condition(QueryField.DOB, QueryOperator.GREATER, "1990"),
+                condition(QueryField.DEPARTMENT, QueryOperator.CONTAINS, "an")));
+        assertTrue(plan.getChosenPath().isFullScan());
+        assertEquals(persons.size(), plan.getChosenPath().getEstimatedRows());
+        assertMatchesScan(plan);
+    }
+
+    @Test
+    public void explain_chosenPathMarked() {
+        QueryPlan plan = planner.plan(query(condition(QueryField.DEPARTMENT, QueryOperator.EQUAL, "IT")));
+        String explanation = plan.explain();
+        assertTrue(explanation.contains("* facet lookup on department = IT (2)"));
+        assertTrue(explanation.contains("  " + QueryPlanner.FULL_SCAN + " (7)"));
+    }
+
+    private static QueryCondition condition(QueryField field, QueryOperator operator, String value) {
+        return new QueryCondition(field, operator, value);
+    }
+
+    private static PersonQuery query(QueryCondition... conditions) {
+        return new PersonQuery(Arrays.asList(conditions), null, false);
+    }
+
+    /**
+     * Asserts that running {@code plan} finds the same persons as testing every person against its query.
+     */
+    private void assertMatchesScan(QueryPlan plan) {
+        Predicate<Person> result = plan.execute();
+        List<Person> expected = getTypicalPersons().stream().filter(plan.getQuery()).collect(Collectors.toList());
+        List<Person> actual = getTypicalPersons().stream().filter(result).collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.model.schedule;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class DateSetTest {
+
+    private final Date firstDate = new Date("31/12/2099");
+    private final Date secondDate = new Date("01/01/2000");
+    private final Date thirdDate = new Date("29/02/2024");
+
+    @Test
+    public void of_dates_containsDatesInOrder() {
+        DateSet dateSet = DateSet.of(Arrays.asList(firstDate, secondDate, thirdDate));
+        assertEquals(Arrays.asList(secondDate, thirdDate, firstDate), dateSet.toDates());
+        assertEquals(3, dateSet.size());
+        assertTrue(dateSet.contains(thirdDate));
+        assertFalse(dateSet.contains(new Date("01/03/2024")));
+        assertTrue(DateSet.of(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void intersectAndMinus() {
+        DateSet dateSet = DateSet.of(Arrays.asList(firstDate, secondDate));
+        DateSet otherDateSet = DateSet.of(Arrays.asList(secondDate, thirdDate));
+
+        assertEquals(DateSet.of(Arrays.asList(secondDate)), dateSet.intersect(otherDateSet));
+        assertEquals(DateSet.of(Arrays.asList(firstDate)), dateSet.minus(otherDateSet));
+        assertEquals(DateSet.empty(), dateSet.minus(dateSet));
+    }
+}
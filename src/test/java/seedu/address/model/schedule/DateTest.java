@@ -144,10 +144,19 @@ public class DateTest {
         assertTrue(Date.isBeforeTodayDate(formatter.format(yesterday)));
     }
 
+    @Test
+    public void ofEpochDay_validDate_sameDate() {
+        Date expected = new Date("9/9/2099");
+        Date actual = Date.ofEpochDay(expected.toEpochDay());
+        assertEquals(expected, actual);
+        assertEquals("09/09/2099", actual.toString());
+        assertEquals(2099, actual.getYear());
+    }
+
     @Test
     public void dateComparable_validDate_hashCodeIsCorrect() {
         Date expected = new Date("09/09/2099");
-        assertEquals("09/09/2099".hashCode(), expected.hashCode());
+        assertEquals(new Date("9/9/2099").hashCode(), expected.hashCode());
 
     }
 
@@ -3,8 +3,10 @@ package seedu.address.model.schedule;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_LEAVE;
 import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.BENSON_WORK;
+import static seedu.address.testutil.schedule.TypicalSchedules.DANIEL_LEAVE;
 import static seedu.address.testutil.schedule.TypicalSchedules.getTypicalScheduleList;
 
 import java.util.Arrays;
@@ -82,6 +84,54 @@ public class ScheduleListTest {
         assertTrue(scheduleList.hasSchedule(editedAlice));
     }
 
+    @Test
+    public void getScheduledDates_schedulesChanged_datesUpdated() {
+        Type work = new Type(Type.WORK);
+        scheduleList.addSchedule(ALICE_WORK);
+        scheduleList.addSchedule(ALICE_LEAVE);
+        assertEquals(Arrays.asList(ALICE_WORK.getScheduleDate()),
+                scheduleList.getScheduledDates(ALICE_WORK.getEmployeeId(), work).toDates());
+
+        Schedule editedAlice = new ScheduleBuilder(ALICE_WORK).withDate("02/01/2099").build();
+        scheduleList.updateSchedule(ALICE_WORK, editedAlice);
+        assertFalse(scheduleList.hasSchedule(ALICE_WORK));
+        assertTrue(scheduleList.hasSchedule(editedAlice));
+
+        scheduleList.removeAllSchedulesOf(ALICE_WORK.getEmployeeId());
+        assertTrue(scheduleList.getScheduledDates(ALICE_WORK.getEmployeeId(), work).isEmpty());
+        assertFalse(scheduleList.hasSchedule(ALICE_LEAVE));
+    }
+
+    @Test
+    public void addSchedulesRemoveSchedules_schedulesChanged_datesAndLeaveCountsUpdated() {
+        Type leave = new Type(Type.LEAVE);
+        Year year = new Year(ALICE_LEAVE.getScheduleYear());
+        scheduleList.addSchedules(Arrays.asList(ALICE_WORK, ALICE_LEAVE, DANIEL_LEAVE));
+        assertTrue(scheduleList.hasSchedule(ALICE_WORK));
+        assertEquals(Arrays.asList(ALICE_LEAVE.getScheduleDate()),
+                scheduleList.getScheduledDates(ALICE_LEAVE.getEmployeeId(), leave).toDates());
+        assertEquals(2, scheduleList.getLeaveCounts(year).size());
+
+        scheduleList.removeSchedules(Arrays.asList(ALICE_LEAVE, DANIEL_LEAVE));
+        assertEquals(Collections.singletonList(ALICE_WORK), scheduleList.getScheduleList());
+        assertTrue(scheduleList.getScheduledDates(ALICE_LEAVE.getEmployeeId(), leave).isEmpty());
+        assertTrue(scheduleList.getLeaveCounts(year).isEmpty());
+    }
+
+    @Test
+    public void getLeaveCount_leavesChanged_countUpdated() {
+        Year year = new Year(ALICE_LEAVE.getScheduleYear());
+        scheduleList.addSchedule(ALICE_WORK);
+        scheduleList.addSchedule(ALICE_LEAVE);
+        scheduleList.addSchedule(DANIEL_LEAVE);
+        assertEquals(1, scheduleList.getLeaveCount(ALICE_LEAVE.getEmployeeId(), year));
+        assertEquals(2, scheduleList.getLeaveCounts(year).size());
+
+        scheduleList.removeSchedule(ALICE_LEAVE);
+        assertEquals(0, scheduleList.getLeaveCount(ALICE_LEAVE.getEmployeeId(), year));
+        assertEquals(Collections.singletonMap(DANIEL_LEAVE.getEmployeeId(), 1), scheduleList.getLeaveCounts(year));
+    }
+
     @Test
     public void getScheduleList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,82 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.testutil.BenchmarkUtil.measure;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.person.EmployeeId;
+
+/**
+ * Compares sorting schedules by date through {@code DateComparator}, which compares the epoch days of the dates,
+ * with parsing the text of both dates on every comparison, as the comparator used to.
+ *
+ * Not run as part of the tests. Run its {@code main} method with the test classpath, optionally passing the number
+ * of schedules. The schedules are of random employees and dates, and ties in date are ordered by employee id.
+ *
+ * @see seedu.address.testutil.BenchmarkUtil
+ */
+public class ScheduleSortBenchmark {
+
+    private static final int DEFAULT_SCHEDULE_COUNT = 1000000;
+    private static final int EMPLOYEE_COUNT = 10000;
+    private static final int DAY_COUNT = 3650;
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(2019, 1, 1).toEpochDay();
+
+    private static final Comparator<Schedule> EMPLOYEE_ID_ORDER = Comparator.comparing(
+        schedule -> schedule.getEmployeeId().value);
+
+    /**
+     * Creates the given number of schedules and measures each way of sorting them by date.
+     */
+    public static void main(String[] args) throws Exception {
+        int scheduleCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SCHEDULE_COUNT;
+        List<Schedule> schedules = createSchedules(scheduleCount);
+        schedules.forEach(schedule -> schedule.getScheduleDate().toString()); // as the text used to be kept
+        System.out.println(scheduleCount + " schedules");
+
+        Comparator<Date> dateComparator = new DateComparator();
+        measure("sort, parsing dates", () -> sort(schedules, ScheduleSortBenchmark::compareParsed));
+        measure("sort, epoch days", () -> sort(schedules, dateComparator));
+    }
+
+    /**
+     * Returns {@code scheduleCount} schedules of random employees, types and dates.
+     */
+    private static List<Schedule> createSchedules(int scheduleCount) {
+        Random random = new Random(0);
+        Type work = Type.of(Type.WORK);
+        Type leave = Type.of(Type.LEAVE);
+        List<Schedule> schedules = new ArrayList<>(scheduleCount);
+        for (int i = 0; i < scheduleCount; i++) {
+            EmployeeId employeeId = new EmployeeId(String.format("%06d", random.nextInt(EMPLOYEE_COUNT)));
+            Date date = Date.ofEpochDay(FIRST_EPOCH_DAY + random.nextInt(DAY_COUNT));
+            schedules.add(new Schedule(employeeId, random.nextBoolean() ? work : leave, date));
+        }
+        return schedules;
+    }
+
+    /**
+     * Sorts a copy of {@code schedules} by date in the order of {@code dateComparator}, then by employee id.
+     */
+    private static List<Schedule> sort(List<Schedule> schedules, Comparator<Date> dateComparator) {
+        List<Schedule> sortedSchedules = new ArrayList<>(schedules);
+        sortedSchedules.sort(Comparator.comparing(Schedule::getScheduleDate, dateComparator)
+                .thenComparing(EMPLOYEE_ID_ORDER));
+        return sortedSchedules;
+    }
+
+    /**
+     * Compares {@code dateA} with {@code dateB} as {@code DateComparator} used to.
+     */
+    private static int compareParsed(Date dateA, Date dateB) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(Date.DATE_PATTERN);
+        LocalDate localDateA = LocalDate.parse(dateA.toString(), formatter);
+        LocalDate localDateB = LocalDate.parse(dateB.toString(), formatter);
+        return localDateA.compareTo(localDateB);
+    }
+}
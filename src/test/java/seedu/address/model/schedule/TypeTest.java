@@ -2,6 +2,7 @@ package seedu.address.model.schedule;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -21,6 +22,12 @@ public class TypeTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Type(invalidType));
     }
 
+    @Test
+    public void of_sameTypeInAnyCase_sameInstance() {
+        assertSame(Type.of(Type.WORK), Type.of("work"));
+        assertSame(Type.of(Type.LEAVE), Type.of("LeAvE"));
+    }
+
     @Test
     public void isValidType_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> Type.isValidType(null));
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DATE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TYPE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TYPE_CARL;
+import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_LEAVE;
 import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.BENSON_WORK;
 import static seedu.address.testutil.schedule.TypicalSchedules.CARL_WORK;
@@ -189,6 +190,81 @@ public class UniqueScheduleListTest {
         uniqueScheduleList.asUnmodifiableObservableList().remove(0);
     }
 
+    @Test
+    public void getSchedulesOf_employeeWithSchedules_returnsTheirSchedules() {
+        uniqueScheduleList.setSchedules(Arrays.asList(ALICE_WORK, BENSON_WORK, ALICE_LEAVE));
+        List<Schedule> expectedSchedules = Arrays.asList(ALICE_WORK, ALICE_LEAVE);
+        assertEquals(expectedSchedules, uniqueScheduleList.getSchedulesOf(ALICE_WORK.getEmployeeId()));
+        assertTrue(uniqueScheduleList.getSchedulesOf(CARL_WORK.getEmployeeId()).isEmpty());
+    }
+
+    @Test
+    public void removeAll_employeeWithSchedules_removesTheirSchedules() {
+        uniqueScheduleList.setSchedules(Arrays.asList(ALICE_WORK, BENSON_WORK, ALICE_LEAVE));
+        List<Schedule> removedSchedules = uniqueScheduleList.removeAll(ALICE_WORK.getEmployeeId());
+
+        assertEquals(Arrays.asList(ALICE_WORK, ALICE_LEAVE), removedSchedules);
+        UniqueScheduleList expectedUniqueScheduleList = new UniqueScheduleList();
+        expectedUniqueScheduleList.add(BENSON_WORK);
+        assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
+        assertFalse(uniqueScheduleList.contains(ALICE_LEAVE));
+        assertTrue(uniqueScheduleList.removeAll(ALICE_WORK.getEmployeeId()).isEmpty());
+    }
+
+    @Test
+    public void addAll_schedulesNotInList_addsAllSchedules() {
+        uniqueScheduleList.add(BENSON_WORK);
+        uniqueScheduleList.addAll(Arrays.asList(ALICE_WORK, ALICE_LEAVE));
+
+        UniqueScheduleList expectedUniqueScheduleList = new UniqueScheduleList();
+        expectedUniqueScheduleList.setSchedules(Arrays.asList(BENSON_WORK, ALICE_WORK, ALICE_LEAVE));
+        assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
+        assertEquals(Arrays.asList(ALICE_WORK, ALICE_LEAVE),
+                uniqueScheduleList.getSchedulesOf(ALICE_WORK.getEmployeeId()));
+    }
+
+    @Test
+    public void addAll_scheduleAlreadyInList_throwsDuplicateScheduleExceptionAndListUnchanged() {
+        uniqueScheduleList.add(BENSON_WORK);
+        try {
+            uniqueScheduleList.addAll(Arrays.asList(ALICE_WORK, BENSON_WORK));
+            throw new AssertionError("The expected DuplicateScheduleException was not thrown.");
+        } catch (DuplicateScheduleException e) {
+            assertEquals(Collections.singletonList(BENSON_WORK), uniqueScheduleList.asUnmodifiableObservableList());
+            assertFalse(uniqueScheduleList.contains(ALICE_WORK));
+        }
+    }
+
+    @Test
+    public void addAll_duplicateSchedules_throwsDuplicateScheduleException() {
+        thrown.expect(DuplicateScheduleException.class);
+        uniqueScheduleList.addAll(Arrays.asList(ALICE_WORK, ALICE_WORK));
+    }
+
+    @Test
+    public void removeAll_equivalentSchedules_removesTheSchedules() {
+        uniqueScheduleList.setSchedules(Arrays.asList(ALICE_WORK, BENSON_WORK, ALICE_LEAVE, CARL_WORK));
+        uniqueScheduleList.removeAll(Arrays.asList(new ScheduleBuilder(ALICE_WORK).build(), CARL_WORK));
+
+        UniqueScheduleList expectedUniqueScheduleList = new UniqueScheduleList();
+        expectedUniqueScheduleList.setSchedules(Arrays.asList(BENSON_WORK, ALICE_LEAVE));
+        assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
+        assertEquals(Collections.singletonList(ALICE_LEAVE),
+                uniqueScheduleList.getSchedulesOf(ALICE_WORK.getEmployeeId()));
+    }
+
+    @Test
+    public void removeAll_scheduleNotInList_throwsScheduleNotFoundExceptionAndListUnchanged() {
+        uniqueScheduleList.setSchedules(Arrays.asList(ALICE_WORK, BENSON_WORK));
+        try {
+            uniqueScheduleList.removeAll(Arrays.asList(ALICE_WORK, CARL_WORK));
+            throw new AssertionError("The expected ScheduleNotFoundException was not thrown.");
+        } catch (ScheduleNotFoundException e) {
+            assertEquals(Arrays.asList(ALICE_WORK, BENSON_WORK), uniqueScheduleList.asUnmodifiableObservableList());
+            assertTrue(uniqueScheduleList.contains(ALICE_WORK));
+        }
+    }
+
     @Test
     public void hashCode_validSchedule_correctHashCodeRepresentation() {
         uniqueScheduleList.add(ALICE_WORK);
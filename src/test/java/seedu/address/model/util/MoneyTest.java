@@ -0,0 +1,73 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class MoneyTest {
+
+    @Test
+    public void parse_validAmount_success() {
+        assertEquals(1050, Money.parse("10.5").toCents());
+        assertEquals(1005, Money.parse("10.05").toCents());
+        assertEquals(-300, Money.parse("-3").toCents());
+        assertEquals(Money.ZERO, Money.parse("00.00"));
+        assertEquals(Money.parse("8000"), Money.parse("8000.00"));
+    }
+
+    @Test
+    public void parse_invalidAmount_throwsNumberFormatException() {
+        Assert.assertThrows(NullPointerException.class, () -> Money.parse(null));
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parse("")); // empty string
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parse("-")); // sign only
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parse(".5")); // no whole number
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parse("5.")); // no decimal places
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parse("1.234")); // 3 decimal places
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parse("%10")); // not a number
+        Assert.assertThrows(NumberFormatException.class, () -> Money.parse("99999999999999999999")); // too large
+    }
+
+    @Test
+    public void arithmetic_exactInCents() {
+        // 0.1 + 0.2 is not 0.3 in floating point
+        assertEquals(Money.parse("0.30"), Money.parse("0.1").plus(Money.parse("0.2")));
+        assertEquals(Money.parse("-0.50"), Money.parse("1").minus(Money.parse("1.5")));
+
+        // 1.5 months of salary, 1500.015 rounded
+        assertEquals(Money.parse("1500.02"), Money.parse("1000.01").times(150));
+
+        // rounded half away from zero
+        assertEquals(Money.parse("0.01"), Money.parse("0.01").times(50));
+        assertEquals(Money.parse("-0.01"), Money.parse("-0.01").times(50));
+    }
+
+    @Test
+    public void plusPercent() {
+        assertEquals(Money.parse("1105"), Money.parse("1000").plusPercent(1050));
+        assertEquals(Money.parse("900"), Money.parse("1000").plusPercent(-1000));
+
+        // the change is a percentage of the size of a negative amount
+        assertEquals(Money.parse("-90"), Money.parse("-100").plusPercent(1000));
+
+        // 33.33% of 0.10 is 0.0333, rounded to 0.03
+        assertEquals(Money.parse("0.13"), Money.parse("0.10").plusPercent(3333));
+    }
+
+    @Test
+    public void toString_twoDecimalPlaces() {
+        assertEquals("10.50", Money.parse("10.5").toString());
+        assertEquals("0.05", Money.ofCents(5).toString());
+        assertEquals("-0.05", Money.ofCents(-5).toString());
+        assertEquals("8000.00", Money.parse("8000").toString());
+    }
+
+    @Test
+    public void compareTo() {
+        assertTrue(Money.parse("2").compareTo(Money.parse("10")) < 0);
+        assertTrue(Money.parse("-1").signum() < 0);
+        assertEquals(0, Money.parse("10.00").compareTo(Money.parse("10")));
+    }
+}
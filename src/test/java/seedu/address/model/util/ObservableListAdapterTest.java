@@ -0,0 +1,86 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ObservableListAdapterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> source = new ArrayList<>(Arrays.asList("b", "d", "f"));
+    private final ObservableListAdapter<String> adapter = new ObservableListAdapter<>(source);
+
+    @Test
+    public void asUnmodifiableObservableList_notObservedBeforeChange_hasLatestContents() {
+        source.add("a");
+        adapter.publish();
+        assertEquals(Arrays.asList("b", "d", "f", "a"), adapter.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void publish_addThenSort_singleAddChange() {
+        ObservableList<String> observableList = adapter.asUnmodifiableObservableList();
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        observableList.addListener((ListChangeListener<String>) changes::add);
+
+        source.add("c");
+        Collections.sort(source);
+        adapter.publish();
+
+        assertEquals(Arrays.asList("b", "c", "d", "f"), observableList);
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasAdded());
+        assertFalse(change.wasRemoved());
+        assertEquals(Collections.singletonList("c"), change.getAddedSubList());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void publish_replaceAndRemove_singleChangeOverDifferingRange() {
+        ObservableList<String> observableList = adapter.asUnmodifiableObservableList();
+        List<List<String>> removedLists = new ArrayList<>();
+        observableList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                removedLists.add(new ArrayList<>(change.getRemoved()));
+            }
+        });
+
+        source.remove("d");
+        source.set(0, "a");
+        adapter.publish();
+
+        assertEquals(Arrays.asList("a", "f"), observableList);
+        assertEquals(Collections.singletonList(Arrays.asList("b", "d")), removedLists);
+    }
+
+    @Test
+    public void publish_unchanged_noChange() {
+        ObservableList<String> observableList = adapter.asUnmodifiableObservableList();
+        observableList.addListener((ListChangeListener<String>) unused -> {
+            throw new AssertionError("No change should be fired.");
+        });
+        adapter.publish();
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modify_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        adapter.asUnmodifiableObservableList().remove(0);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        List<Integer> elements = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list);
+        assertEquals(elements, new ArrayList<>(list));
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList(1, 2)).get(2);
+    }
+
+    @Test
+    public void splice_randomChanges_matchesArrayList() {
+        Random random = new Random(2113);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(Math.min(3, expected.size() - from) + 1);
+            List<Integer> replacement = new ArrayList<>();
+            for (int j = random.nextInt(4); j > 0; j--) {
+                replacement.add(random.nextInt());
+            }
+
+            PersistentList<Integer> previous = list;
+            List<Integer> previousExpected = new ArrayList<>(expected);
+            list = list.splice(from, to, replacement);
+            expected.subList(from, to).clear();
+            expected.addAll(from, replacement);
+
+            assertEquals(expected, list);
+            assertEquals(previousExpected, previous);
+        }
+    }
+
+    @Test
+    public void update_unchangedList_returnsSameVersion() {
+        List<Integer> elements = new ArrayList<>(Arrays.asList(1, 2, 3));
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertSame(list, list.update(elements));
+    }
+
+    @Test
+    public void update_changedList_sameElementsAsTarget() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(elements);
+
+        elements.add(500, -1);
+        elements.remove(900);
+        assertEquals(elements, list.update(elements));
+
+        Collections.reverse(elements);
+        assertEquals(elements, list.update(elements));
+
+        assertEquals(Collections.emptyList(), list.update(Collections.emptyList()));
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength() {
+        Integer first = 1000;
+        Integer second = 2000;
+        Integer third = 3000;
+        List<Integer> list = Arrays.asList(first, second, third);
+
+        assertEquals(3, PersistentList.commonPrefixLength(list, PersistentList.of(list)));
+        assertEquals(1, PersistentList.commonPrefixLength(list, Arrays.asList(first, third)));
+        assertEquals(1, PersistentList.commonSuffixLength(list, Arrays.asList(first, third), 1));
+        assertEquals(0, PersistentList.commonSuffixLength(list, Arrays.asList(first), 1));
+        assertEquals(2, PersistentList.commonSuffixLength(PersistentList.of(list), Arrays.asList(second, third), 0));
+    }
+
+    @Test
+    public void descendingIterator_elementsFromLastToFirst() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i);
+        }
+        List<Integer> descending = new ArrayList<>();
+        PersistentList.of(elements).descendingIterator().forEachRemaining(descending::add);
+
+        Collections.reverse(elements);
+        assertEquals(elements, descending);
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.model.addressbook.ReadOnlyAddressBook;
+import seedu.address.storage.addressbook.JournalAddressBookStorage;
+import seedu.address.storage.addressbook.XmlAddressBookStorage;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        journalFilePath = OperationJournal.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalAddressBookStorage(filePath).readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalAddressBookStorage = new JournalAddressBookStorage(filePath);
+
+        //Save in new file and read back
+        journalAddressBookStorage.saveAddressBook(original, filePath);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        ReadOnlyAddressBook readBack = journalAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Modify data, journal the changes, and read back
+        byte[] snapshot = Files.readAllBytes(filePath);
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        journalAddressBookStorage.saveAddressBook(original, filePath);
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(new String(snapshot, UTF_8), new String(Files.readAllBytes(filePath), UTF_8));
+        readBack = new JournalAddressBookStorage(filePath).readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Save and read without specifying file path
+        original.addPerson(IDA);
+        journalAddressBookStorage.saveAddressBook(original); //file path not specified
+        readBack = journalAddressBookStorage.readAddressBook().get(); //file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_snapshotRewritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalAddressBookStorage = new JournalAddressBookStorage(filePath, 0);
+        journalAddressBookStorage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        journalAddressBookStorage.saveAddressBook(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_partiallyWrittenRecord_recordIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalAddressBookStorage = new JournalAddressBookStorage(filePath);
+        journalAddressBookStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalAddressBookStorage.saveAddressBook(original);
+
+        Files.write(journalFilePath, "+{\"employeeId\":".getBytes(UTF_8), StandardOpenOption.APPEND);
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_afterPartiallyWrittenRecordRead_changesReadBack() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalAddressBookStorage = new JournalAddressBookStorage(filePath);
+        journalAddressBookStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalAddressBookStorage.saveAddressBook(original);
+        Files.write(journalFilePath, "+{\"employeeId\":".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        journalAddressBookStorage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(journalAddressBookStorage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        journalAddressBookStorage.saveAddressBook(readBack);
+
+        original.addPerson(IDA);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unknownOperation_throwsDataConversionException() throws Exception {
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalFilePath, "*{}\n".getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalAddressBookStorage(filePath).saveAddressBook(null, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalAddressBookStorage(filePath).saveAddressBook(new AddressBook(), null);
+    }
+
+}
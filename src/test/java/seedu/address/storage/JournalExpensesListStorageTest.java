@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.expenses.TypicalExpenses.ALICE_CLAIM;
+import static seedu.address.testutil.expenses.TypicalExpenses.AMY_CLAIM;
+import static seedu.address.testutil.expenses.TypicalExpenses.BOB_CLAIM;
+import static seedu.address.testutil.expenses.TypicalExpenses.getTypicalExpensesList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.expenses.ExpensesList;
+import seedu.address.model.expenses.ReadOnlyExpensesList;
+import seedu.address.storage.expenses.JournalExpensesListStorage;
+import seedu.address.storage.expenses.XmlExpensesListStorage;
+
+public class JournalExpensesListStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempExpensesList.xml");
+        journalFilePath = OperationJournal.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readExpensesList_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalExpensesListStorage(filePath).readExpensesList(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalExpensesListStorage(filePath).readExpensesList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveExpensesList_allInOrder_success() throws Exception {
+        ExpensesList original = getTypicalExpensesList();
+        JournalExpensesListStorage journalExpensesListStorage = new JournalExpensesListStorage(filePath);
+
+        //Save in new file and read back
+        journalExpensesListStorage.saveExpensesList(original, filePath);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        ReadOnlyExpensesList readBack = journalExpensesListStorage.readExpensesList(filePath).get();
+        assertEquals(original, new ExpensesList(readBack));
+
+        //Modify data, journal the changes, and read back
+        byte[] snapshot = Files.readAllBytes(filePath);
+        original.addExpenses(BOB_CLAIM);
+        original.removeExpenses(ALICE_CLAIM);
+        journalExpensesListStorage.saveExpensesList(original, filePath);
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(new String(snapshot, UTF_8), new String(Files.readAllBytes(filePath), UTF_8));
+        readBack = new JournalExpensesListStorage(filePath).readExpensesList(filePath).get();
+        assertEquals(original, new ExpensesList(readBack));
+
+        //Save and read without specifying file path
+        original.addExpenses(AMY_CLAIM);
+        journalExpensesListStorage.saveExpensesList(original); //file path not specified
+        readBack = journalExpensesListStorage.readExpensesList().get(); //file path not specified
+        assertEquals(original, new ExpensesList(readBack));
+    }
+
+    @Test
+    public void saveExpensesList_journalPastThreshold_snapshotRewritten() throws Exception {
+        ExpensesList original = getTypicalExpensesList();
+        JournalExpensesListStorage journalExpensesListStorage = new JournalExpensesListStorage(filePath, 0);
+        journalExpensesListStorage.saveExpensesList(original);
+
+        original.addExpenses(BOB_CLAIM);
+        journalExpensesListStorage.saveExpensesList(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new ExpensesList(new XmlExpensesListStorage(filePath).readExpensesList().get()));
+    }
+
+    @Test
+    public void saveExpensesList_afterPartiallyWrittenRecordRead_changesReadBack() throws Exception {
+        ExpensesList original = getTypicalExpensesList();
+        JournalExpensesListStorage journalExpensesListStorage = new JournalExpensesListStorage(filePath);
+        journalExpensesListStorage.saveExpensesList(original);
+        original.addExpenses(BOB_CLAIM);
+        journalExpensesListStorage.saveExpensesList(original);
+        Files.write(journalFilePath, "+{\"".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        journalExpensesListStorage = new JournalExpensesListStorage(filePath);
+        ExpensesList readBack = new ExpensesList(journalExpensesListStorage.readExpensesList().get());
+        assertEquals(original, readBack);
+        readBack.addExpenses(AMY_CLAIM);
+        journalExpensesListStorage.saveExpensesList(readBack);
+
+        original.addExpenses(AMY_CLAIM);
+        assertEquals(original, new ExpensesList(new JournalExpensesListStorage(filePath).readExpensesList().get()));
+    }
+
+    @Test
+    public void readExpensesList_unknownOperation_throwsDataConversionException() throws Exception {
+        new JournalExpensesListStorage(filePath).saveExpensesList(getTypicalExpensesList());
+        Files.write(journalFilePath, "*{}\n".getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalExpensesListStorage(filePath).readExpensesList();
+    }
+
+    @Test
+    public void saveExpensesList_nullExpensesList_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalExpensesListStorage(filePath).saveExpensesList(null, filePath);
+    }
+
+    @Test
+    public void saveExpensesList_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalExpensesListStorage(filePath).saveExpensesList(new ExpensesList(), null);
+    }
+
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalRecruitments.RECRUITMENT_EXAMPLE;
+import static seedu.address.testutil.TypicalRecruitments.RECRUITMENT_EXAMPLE3;
+import static seedu.address.testutil.TypicalRecruitments.RECRUITMENT_EXAMPLE4;
+import static seedu.address.testutil.TypicalRecruitments.getTypicalRecruitmentList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.recruitment.ReadOnlyRecruitmentList;
+import seedu.address.model.recruitment.RecruitmentList;
+import seedu.address.storage.recruitment.JournalRecruitmentListStorage;
+import seedu.address.storage.recruitment.XmlRecruitmentListStorage;
+
+public class JournalRecruitmentListStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempRecruitmentList.xml");
+        journalFilePath = OperationJournal.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readRecruitmentList_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalRecruitmentListStorage(filePath).readRecruitmentList(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalRecruitmentListStorage(filePath).readRecruitmentList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveRecruitmentList_allInOrder_success() throws Exception {
+        RecruitmentList original = getTypicalRecruitmentList();
+        JournalRecruitmentListStorage journalRecruitmentListStorage = new JournalRecruitmentListStorage(filePath);
+
+        //Save in new file and read back
+        journalRecruitmentListStorage.saveRecruitmentList(original, filePath);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        ReadOnlyRecruitmentList readBack = journalRecruitmentListStorage.readRecruitmentList(filePath).get();
+        assertEquals(original, new RecruitmentList(readBack));
+
+        //Modify data, journal the changes, and read back
+        byte[] snapshot = Files.readAllBytes(filePath);
+        original.addRecruitment(RECRUITMENT_EXAMPLE3);
+        original.removeRecruitment(RECRUITMENT_EXAMPLE);
+        journalRecruitmentListStorage.saveRecruitmentList(original, filePath);
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(new String(snapshot, UTF_8), new String(Files.readAllBytes(filePath), UTF_8));
+        readBack = new JournalRecruitmentListStorage(filePath).readRecruitmentList(filePath).get();
+        assertEquals(original, new RecruitmentList(readBack));
+
+        //Save and read without specifying file path
+        original.addRecruitment(RECRUITMENT_EXAMPLE4);
+        journalRecruitmentListStorage.saveRecruitmentList(original); //file path not specified
+        readBack = journalRecruitmentListStorage.readRecruitmentList().get(); //file path not specified
+        assertEquals(original, new RecruitmentList(readBack));
+    }
+
+    @Test
+    public void saveRecruitmentList_journalPastThreshold_snapshotRewritten() throws Exception {
+        RecruitmentList original = getTypicalRecruitmentList();
+        JournalRecruitmentListStorage journalRecruitmentListStorage = new JournalRecruitmentListStorage(filePath, 0);
+        journalRecruitmentListStorage.saveRecruitmentList(original);
+
+        original.addRecruitment(RECRUITMENT_EXAMPLE3);
+        journalRecruitmentListStorage.saveRecruitmentList(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original,
+                new RecruitmentList(new XmlRecruitmentListStorage(filePath).readRecruitmentList().get()));
+    }
+
+    @Test
+    public void saveRecruitmentList_afterPartiallyWrittenRecordRead_changesReadBack() throws Exception {
+        RecruitmentList original = getTypicalRecruitmentList();
+        JournalRecruitmentListStorage journalRecruitmentListStorage = new JournalRecruitmentListStorage(filePath);
+        journalRecruitmentListStorage.saveRecruitmentList(original);
+        original.addRecruitment(RECRUITMENT_EXAMPLE3);
+        journalRecruitmentListStorage.saveRecruitmentList(original);
+        Files.write(journalFilePath, "+{\"".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        journalRecruitmentListStorage = new JournalRecruitmentListStorage(filePath);
+        RecruitmentList readBack = new RecruitmentList(journalRecruitmentListStorage.readRecruitmentList().get());
+        assertEquals(original, readBack);
+        readBack.addRecruitment(RECRUITMENT_EXAMPLE4);
+        journalRecruitmentListStorage.saveRecruitmentList(readBack);
+
+        original.addRecruitment(RECRUITMENT_EXAMPLE4);
+        assertEquals(original,
+                new RecruitmentList(new JournalRecruitmentListStorage(filePath).readRecruitmentList().get()));
+    }
+
+    @Test
+    public void readRecruitmentList_unknownOperation_throwsDataConversionException() throws Exception {
+        new JournalRecruitmentListStorage(filePath).saveRecruitmentList(getTypicalRecruitmentList());
+        Files.write(journalFilePath, "*{}\n".getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalRecruitmentListStorage(filePath).readRecruitmentList();
+    }
+
+    @Test
+    public void saveRecruitmentList_nullRecruitmentList_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalRecruitmentListStorage(filePath).saveRecruitmentList(null, filePath);
+    }
+
+    @Test
+    public void saveRecruitmentList_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalRecruitmentListStorage(filePath).saveRecruitmentList(new RecruitmentList(), null);
+    }
+
+}
@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.schedule.TypicalSchedules.ALICE_WORK;
+import static seedu.address.testutil.schedule.TypicalSchedules.AMY;
+import static seedu.address.testutil.schedule.TypicalSchedules.BOB;
+import static seedu.address.testutil.schedule.TypicalSchedules.getTypicalScheduleList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.schedule.ReadOnlyScheduleList;
+import seedu.address.model.schedule.ScheduleList;
+import seedu.address.storage.schedule.JournalScheduleListStorage;
+import seedu.address.storage.schedule.XmlScheduleListStorage;
+
+public class JournalScheduleListStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempScheduleList.xml");
+        journalFilePath = OperationJournal.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readScheduleList_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalScheduleListStorage(filePath).readScheduleList(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalScheduleListStorage(filePath).readScheduleList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveScheduleList_allInOrder_success() throws Exception {
+        ScheduleList original = getTypicalScheduleList();
+        JournalScheduleListStorage journalScheduleListStorage = new JournalScheduleListStorage(filePath);
+
+        //Save in new file and read back
+        journalScheduleListStorage.saveScheduleList(original, filePath);
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        ReadOnlyScheduleList readBack = journalScheduleListStorage.readScheduleList(filePath).get();
+        assertEquals(original, new ScheduleList(readBack));
+
+        //Modify data, journal the changes, and read back
+        byte[] snapshot = Files.readAllBytes(filePath);
+        original.addSchedule(AMY);
+        original.removeSchedule(ALICE_WORK);
+        journalScheduleListStorage.saveScheduleList(original, filePath);
+        assertTrue(Files.exists(journalFilePath));
+        assertEquals(new String(snapshot, UTF_8), new String(Files.readAllBytes(filePath), UTF_8));
+        readBack = new JournalScheduleListStorage(filePath).readScheduleList(filePath).get();
+        assertEquals(original, new ScheduleList(readBack));
+
+        //Save and read without specifying file path
+        original.addSchedule(BOB);
+        journalScheduleListStorage.saveScheduleList(original); //file path not specified
+        readBack = journalScheduleListStorage.readScheduleList().get(); //file path not specified
+        assertEquals(original, new ScheduleList(readBack));
+    }
+
+    @Test
+    public void saveScheduleList_journalPastThreshold_snapshotRewritten() throws Exception {
+        ScheduleList original = getTypicalScheduleList();
+        JournalScheduleListStorage journalScheduleListStorage = new JournalScheduleListStorage(filePath, 0);
+        journalScheduleListStorage.saveScheduleList(original);
+
+        original.addSchedule(AMY);
+        journalScheduleListStorage.saveScheduleList(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new ScheduleList(new XmlScheduleListStorage(filePath).readScheduleList().get()));
+    }
+
+    @Test
+    public void saveScheduleList_afterPartiallyWrittenRecordRead_changesReadBack() throws Exception {
+        ScheduleList original = getTypicalScheduleList();
+        JournalScheduleListStorage journalScheduleListStorage = new JournalScheduleListStorage(filePath);
+        journalScheduleListStorage.saveScheduleList(original);
+        original.addSchedule(AMY);
+        journalScheduleListStorage.saveScheduleList(original);
+        Files.write(journalFilePath, "+{\"".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        journalScheduleListStorage = new JournalScheduleListStorage(filePath);
+        ScheduleList readBack = new ScheduleList(journalScheduleListStorage.readScheduleList().get());
+        assertEquals(original, readBack);
+        readBack.addSchedule(BOB);
+        journalScheduleListStorage.saveScheduleList(readBack);
+
+        original.addSchedule(BOB);
+        assertEquals(original, new ScheduleList(new JournalScheduleListStorage(filePath).readScheduleList().get()));
+    }
+
+    @Test
+    public void readScheduleList_unknownOperation_throwsDataConversionException() throws Exception {
+        new JournalScheduleListStorage(filePath).saveScheduleList(getTypicalScheduleList());
+        Files.write(journalFilePath, "*{}\n".getBytes(UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalScheduleListStorage(filePath).readScheduleList();
+    }
+
+    @Test
+    public void saveScheduleList_nullScheduleList_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalScheduleListStorage(filePath).saveScheduleList(null, filePath);
+    }
+
+    @Test
+    public void saveScheduleList_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalScheduleListStorage(filePath).saveScheduleList(new ScheduleList(), null);
+    }
+
+}
@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.storage.OperationJournal.RecordConverter;
+import seedu.address.storage.OperationJournal.SnapshotWriter;
+
+public class OperationJournalTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final CountingConverter converter = new CountingConverter();
+    private final OperationJournal<String> journal =
+            new OperationJournal<>(converter, OperationJournal.DEFAULT_COMPACTION_THRESHOLD);
+    private Path filePath;
+    private Path journalFilePath;
+    private SnapshotWriter snapshotWriter;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempList.txt");
+        journalFilePath = OperationJournal.getJournalFilePath(filePath);
+        snapshotWriter = file -> Files.write(file, new byte[0]);
+    }
+
+    @Test
+    public void save_unchangedElements_notConvertedAgain() throws Exception {
+        List<String> elements = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        journal.save(filePath, elements, snapshotWriter);
+        assertEquals(3, converter.toRecordCount);
+
+        elements.remove(1);
+        elements.add("d");
+        journal.save(filePath, elements, snapshotWriter);
+        assertEquals(4, converter.toRecordCount);
+        assertEquals("-b\n+d\n", new String(Files.readAllBytes(journalFilePath), UTF_8));
+    }
+
+    @Test
+    public void save_equalElementReplaced_journaledAsRemovalThenAddition() throws Exception {
+        List<String> elements = new ArrayList<>(Arrays.asList("a", "b"));
+        journal.save(filePath, elements, snapshotWriter);
+
+        // an equal but distinct element, as made by editing an element without changing it
+        elements.set(0, new String("a"));
+        journal.save(filePath, elements, snapshotWriter);
+        assertEquals("-a\n+a\n", new String(Files.readAllBytes(journalFilePath), UTF_8));
+
+        Optional<List<String>> readBack = new OperationJournal<>(converter, 0)
+                .read(filePath, Optional.of(Arrays.asList("a", "b")));
+        assertEquals(Arrays.asList("b", "a"), readBack.get());
+    }
+
+    @Test
+    public void read_snapshotElements_notConvertedFromRecords() throws Exception {
+        List<String> snapshot = Arrays.asList("a", "b");
+        journal.save(filePath, snapshot, snapshotWriter);
+        journal.save(filePath, Arrays.asList("a", "b", "c"), snapshotWriter);
+
+        converter.fromRecordCount = 0;
+        Optional<List<String>> readBack = new OperationJournal<>(converter, 0).read(filePath, Optional.of(snapshot));
+        assertEquals(Arrays.asList("a", "b", "c"), readBack.get());
+        assertEquals(1, converter.fromRecordCount);
+    }
+
+    /**
+     * Records strings as they are, counting the conversions made.
+     */
+    private static class CountingConverter implements RecordConverter<String> {
+        private int toRecordCount;
+        private int fromRecordCount;
+
+        @Override
+        public String toRecord(String element) {
+            toRecordCount++;
+            return element;
+        }
+
+        @Override
+        public String fromRecord(String record) {
+            fromRecordCount++;
+            return record;
+        }
+    }
+}
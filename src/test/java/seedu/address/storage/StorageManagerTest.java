@@ -17,6 +17,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ExpensesListChangedEvent;
 import seedu.address.commons.events.model.RecruitmentListChangedEvent;
@@ -129,6 +130,17 @@ public class StorageManagerTest {
         assertEquals(original, new RecruitmentList(retrieved));
     }
 
+    @Test
+    public void close_changesWaitingToBeSaved_savedAndEventsNoLongerHandled() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(original));
+        storageManager.close();
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+
+        EventsCenter.getInstance().post(new AddressBookChangedEvent(new AddressBook()));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
     @Test
     public void getUserPrefsFilePath() {
         assertNotNull(storageManager.getUserPrefsFilePath());
@@ -163,6 +175,7 @@ public class StorageManagerTest {
                 new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy")),
                 new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -175,6 +188,7 @@ public class StorageManagerTest {
                 new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy"))),
                 new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleScheduleListChangedEvent(new ScheduleListChangedEvent(new ScheduleList()));
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -187,6 +201,7 @@ public class StorageManagerTest {
                 new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy"))),
                 new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleRecruitmentListChangedEvent(new RecruitmentListChangedEvent(new RecruitmentList()));
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -199,6 +214,7 @@ public class StorageManagerTest {
                 new XmlRecruitmentListStorageExceptionThrowingStub(Paths.get("dummy"))),
                 new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleExpensesListChangedEvent(new ExpensesListChangedEvent(new ExpensesList()));
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_SAVE_DELAY = 60000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> savedData = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void save_nullData_throwsNullPointerException() {
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>("test", LONG_SAVE_DELAY, savedData::add,
+                failures::add);
+        thrown.expect(NullPointerException.class);
+        saver.save(null);
+    }
+
+    @Test
+    public void flush_nothingToSave_nothingSaved() {
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>("test", LONG_SAVE_DELAY, savedData::add,
+                failures::add);
+        saver.flush();
+        assertTrue(savedData.isEmpty());
+    }
+
+    @Test
+    public void flush_multipleSaves_onlyLatestDataSaved() {
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>("test", LONG_SAVE_DELAY, savedData::add,
+                failures::add);
+        saver.save("first");
+        saver.save("second");
+        saver.save("third");
+        assertTrue(savedData.isEmpty());
+
+        saver.flush();
+        assertEquals(Collections.singletonList("third"), savedData);
+
+        // nothing left to save
+        saver.flush();
+        assertEquals(1, savedData.size());
+    }
+
+    @Test
+    public void flush_saveFails_failureHandlerNotified() {
+        IOException exception = new IOException("stub");
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>("test", LONG_SAVE_DELAY, data -> {
+            throw exception;
+        }, failures::add);
+        saver.save("data");
+        saver.flush();
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+
+    @Test
+    public void disable_dataWaitingAndSavedAfterwards_nothingSaved() {
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>("test", LONG_SAVE_DELAY, savedData::add,
+                failures::add);
+        saver.save("before");
+        saver.disable();
+        saver.save("after");
+        saver.flush();
+        assertTrue(savedData.isEmpty());
+    }
+
+    @Test
+    public void save_noDelay_savedInBackground() throws Exception {
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>("test", 0, savedData::add, failures::add);
+        saver.save("data");
+        for (int i = 0; i < 100 && savedData.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(Collections.singletonList("data"), savedData);
+    }
+}
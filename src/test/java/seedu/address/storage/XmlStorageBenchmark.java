@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static seedu.address.testutil.BenchmarkUtil.createPersons;
+import static seedu.address.testutil.BenchmarkUtil.measure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.model.addressbook.AddressBook;
+import seedu.address.storage.addressbook.XmlAddressBookFileStorage;
+import seedu.address.storage.addressbook.XmlSerializableAddressBook;
+
+/**
+ * Compares loading and saving an address book through {@code XmlAddressBookFileStorage}, which streams the persons
+ * one at a time, with unmarshalling and marshalling the whole {@code XmlSerializableAddressBook} through a new
+ * {@code JAXBContext} each time, as the storage used to.
+ *
+ * Not run as part of the tests. Run its {@code main} method with the test classpath, optionally passing the number
+ * of persons.
+ *
+ * @see seedu.address.testutil.BenchmarkUtil
+ */
+public class XmlStorageBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 20000;
+
+    /**
+     * Saves an address book of the given number of persons and measures each way of loading and saving it.
+     */
+    public static void main(String[] args) throws Exception {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        AddressBook addressBook = createAddressBook(personCount);
+        Path file = Files.createTempFile("benchmark", ".xml");
+        file.toFile().deleteOnExit();
+        XmlAddressBookFileStorage.saveDataToFile(file, addressBook);
+        System.out.println(personCount + " persons, " + Files.size(file) / 1024 + " KB");
+
+        measure("load, whole document", () -> loadWholeDocument(file));
+        measure("load, streamed", () -> XmlAddressBookFileStorage.loadDataFromSaveFile(file));
+        measure("save, whole document", () -> saveWholeDocument(file, addressBook));
+        measure("save, streamed", () -> XmlAddressBookFileStorage.saveDataToFile(file, addressBook));
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons with distinct identity fields.
+     */
+    private static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        createPersons(personCount).forEach(addressBook::addPerson);
+        return addressBook;
+    }
+
+    /**
+     * Loads the address book in {@code file} as the storage used to, converting it once it is read completely.
+     */
+    private static AddressBook loadWholeDocument(Path file) throws Exception {
+        JAXBContext context = JAXBContext.newInstance(XmlSerializableAddressBook.class);
+        return ((XmlSerializableAddressBook) context.createUnmarshaller().unmarshal(file.toFile())).toModelType();
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code file} as the storage used to, converting it completely before writing.
+     */
+    private static void saveWholeDocument(Path file, AddressBook addressBook) throws Exception {
+        JAXBContext context = JAXBContext.newInstance(XmlSerializableAddressBook.class);
+        Marshaller marshaller = context.createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.marshal(new XmlSerializableAddressBook(addressBook), file.toFile());
+    }
+}
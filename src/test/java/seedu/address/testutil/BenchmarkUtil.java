@@ -0,0 +1,114 @@
+package seedu.address.testutil;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A utility class for the benchmarks, which are not run as part of the tests but through their own {@code main}
+ * methods with the test classpath.
+ *
+ * Peak heap is the most heap in use above the heap in use before each run; run the benchmarks with a small young
+ * generation (e.g. {@code -XX:+UseSerialGC -Xmn8m}) for it to reflect live data rather than uncollected garbage.
+ */
+public class BenchmarkUtil {
+
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .collect(Collectors.toList());
+
+    /**
+     * Returns {@code personCount} persons with distinct identity fields.
+     */
+    public static List<Person> createPersons(int personCount) {
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            persons.add(createPerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the {@code i}-th of the persons returned by {@link #createPersons(int)}.
+     */
+    public static Person createPerson(int i) {
+        return new PersonBuilder()
+                .withEmployeeId(String.format("%06d", i))
+                .withName("Person " + toLetters(i))
+                .withPhone(String.format("9%07d", i))
+                .withEmail("person" + i + "@example.com")
+                .withTags("benchmark")
+                .build();
+    }
+
+    /**
+     * Returns {@code number} written in base 26 with the letters a to z as digits, as names cannot hold digits.
+     */
+    public static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    /**
+     * Runs {@code operation} a few times to warm up, then prints its fastest time and its largest peak heap over
+     * the measured runs.
+     * @return the fastest time in nanoseconds.
+     */
+    public static long measure(String name, Operation operation) throws Exception {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            operation.run();
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long peakBytes = 0;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long baselineBytes = getLiveHeap();
+            HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            long start = System.nanoTime();
+            operation.run();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            peakBytes = Math.max(peakBytes, getHeapPeak() - baselineBytes);
+        }
+        System.out.printf("%-36s %9.3f ms %6d MB peak heap%n", name, bestNanos / 1e6, peakBytes >> 20);
+        return bestNanos;
+    }
+
+    /**
+     * Returns the heap in use once garbage collections stop freeing any, which is the heap taken by live objects.
+     */
+    public static long getLiveHeap() {
+        long usedBytes = Long.MAX_VALUE;
+        long previousUsedBytes;
+        do {
+            previousUsedBytes = usedBytes;
+            System.gc();
+            usedBytes = HEAP_POOLS.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        } while (usedBytes < previousUsedBytes);
+        return usedBytes;
+    }
+
+    private static long getHeapPeak() {
+        return HEAP_POOLS.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    /**
+     * An operation being measured.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        void run() throws Exception;
+    }
+}
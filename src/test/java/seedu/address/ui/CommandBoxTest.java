@@ -3,14 +3,17 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import guitests.guihandles.CommandBoxHandle;
 import javafx.scene.input.KeyCode;
-import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -24,11 +27,12 @@ public class CommandBoxTest extends GuiUnitTest {
     private ArrayList<String> errorStyleOfCommandBox;
 
     private CommandBoxHandle commandBoxHandle;
+    private HoldingLogicManager logic;
 
     @Before
     public void setUp() {
         Model model = new ModelManager();
-        Logic logic = new LogicManager(model);
+        logic = new HoldingLogicManager(model);
 
         CommandBox commandBox = new CommandBox(logic);
         commandBoxHandle = new CommandBoxHandle(getChildNode(commandBox.getRoot(),
@@ -58,6 +62,20 @@ public class CommandBoxTest extends GuiUnitTest {
         assertBehaviorForFailedCommand();
     }
 
+    @Test
+    public void handleCommandEntered_previousCommandRunning_notExecutedAgain() {
+        logic.isHolding = true;
+        commandBoxHandle.enter(COMMAND_THAT_SUCCEEDS);
+        guiRobot.type(KeyCode.ENTER);
+        guiRobot.type(KeyCode.ENTER);
+        assertEquals(1, logic.executedCount.get());
+
+        guiRobot.interact(logic::releaseHeldCommands);
+        guiRobot.waitForEvent(() -> commandBoxHandle.getInput().isEmpty());
+        assertBehaviorForSuccessfulCommand();
+        assertEquals(2, logic.executedCount.get());
+    }
+
     @Test
     public void commandBox_handleKeyPress() {
         commandBoxHandle.run(COMMAND_THAT_FAILS);
@@ -147,6 +165,51 @@ public class CommandBoxTest extends GuiUnitTest {
         assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
     }
 
+    /**
+     * A {@code LogicManager} that can hold the commands given to it, only executing them when released.
+     */
+    private static class HoldingLogicManager extends LogicManager {
+        private final AtomicInteger executedCount = new AtomicInteger();
+        private final List<String> heldCommands = new ArrayList<>();
+        private final List<CompletableFuture<CommandResult>> heldResults = new ArrayList<>();
+        private volatile boolean isHolding;
+
+        HoldingLogicManager(Model model) {
+            super(model);
+        }
+
+        @Override
+        public CompletableFuture<CommandResult> executeAsync(String commandText) {
+            executedCount.incrementAndGet();
+            if (!isHolding) {
+                return super.executeAsync(commandText);
+            }
+            CompletableFuture<CommandResult> result = new CompletableFuture<>();
+            heldCommands.add(commandText);
+            heldResults.add(result);
+            return result;
+        }
+
+        /**
+         * Stops holding commands and executes the held ones.
+         */
+        void releaseHeldCommands() {
+            isHolding = false;
+            for (int i = 0; i < heldCommands.size(); i++) {
+                CompletableFuture<CommandResult> heldResult = heldResults.get(i);
+                super.executeAsync(heldCommands.get(i)).whenComplete((commandResult, error) -> {
+                    if (error == null) {
+                        heldResult.complete(commandResult);
+                    } else {
+                        heldResult.completeExceptionally(error);
+                    }
+                });
+            }
+            heldCommands.clear();
+            heldResults.clear();
+        }
+    }
+
     /**
      * Pushes {@code keycode} and checks that the input in the {@code commandBox} equals to {@code expectedCommand}.
      */
@@ -88,7 +88,7 @@ public class GuiTestAssert {
      */
     public static void assertCardDisplaysSchedule(Schedule expectedSchedule, ScheduleCardHandle actualCard) {
         assertEquals(expectedSchedule.getEmployeeId().value, actualCard.getEmployeeId());
-        assertEquals(expectedSchedule.getScheduleDate().value, actualCard.getDate());
+        assertEquals(expectedSchedule.getScheduleDate().toString(), actualCard.getDate());
         assertEquals(expectedSchedule.getType().value, expectedSchedule.getType().value);
     }
 